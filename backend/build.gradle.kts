@@ -5,6 +5,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.7"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
     jacoco
 }
 
@@ -76,9 +77,34 @@ tasks.withType<JavaCompile> {
     options.compilerArgs.add("--enable-preview")
 }
 
+// Vector API(incubator)는 NanoBanana 스크리너의 VectorizedNanoBananaKernel 전용이다.
+// 이 모듈을 추가하면 javac·JVM이 incubator 경고를 출력하므로, 그 클래스만 vector 소스셋(src/vector/java)으로 분리해
+// 이 소스셋 컴파일과 SIMD 경로를 실제로 실행하는 곳(테스트, bootRun)에만 모듈을 추가한다.
+// main은 모듈 없이 컴파일되고, 커널은 런타임 클래스패스(bootJar 포함)에서 이름으로 로드된다.
+// 런타임에 모듈이 없으면 스크리너는 스칼라 커널로 동작한다.
+val incubatorVector = listOf("--add-modules", "jdk.incubator.vector")
+
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    options.compilerArgs.addAll(incubatorVector)
+}
+
+dependencies {
+    runtimeOnly(files(vector.output))
+}
+
+tasks.bootRun {
+    jvmArgs("--enable-preview")
+    jvmArgs(incubatorVector)
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
     jvmArgs("--enable-preview") // 테스트 실행 시 JVM 옵션 추가
+    jvmArgs(incubatorVector) // NanoBananaScreenerTest가 SIMD 커널을 검증하도록
     testLogging {
         events(TestLogEvent.PASSED, TestLogEvent.SKIPPED, TestLogEvent.FAILED)
         exceptionFormat = TestExceptionFormat.FULL
@@ -86,6 +112,19 @@ tasks.withType<Test> {
     }
 }
 
+// JMH 마이크로벤치마크 (src/jmh/java)
+// 실행: ./gradlew jmh -Pjmh.includes=KiwoomRealtimeDecoderBenchmark
+jmh {
+    jvmArgsAppend.add("--enable-preview")
+    (findProperty("jmh.includes") as String?)?.let { includes.add(it) }
+    warmupIterations = 3
+    warmup = "1s"
+    iterations = 5
+    timeOnIteration = "1s"
+    fork = 1
+    profilers.add("gc")
+}
+
 // JaCoCo 설정
 jacoco {
     toolVersion = "0.8.12"
@@ -0,0 +1,103 @@
+package com.kairos.trading.common.marketdata;
+
+import com.kairos.trading.common.event.TickDataEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 샤드 디스패처 처리량 벤치마크.
+ * 
+ * 500개 종목 체결 이벤트 10,000건을 적재하고 모두 처리될 때까지 측정한다.
+ * 핸들러는 종목당 전략 연산을 흉내 내는 CPU 작업(tokens)을 수행한다.
+ * 샤드 수를 늘릴 때 코어 수까지 처리량이 비례해 증가하는지 확인.
+ * 
+ * handler=FRAME: 프레임 핸들러 (링 슬롯 그대로, 할당 없음)
+ * handler=EVENT: 이벤트 핸들러 (슬롯 → TickDataEvent 복사 어댑터)
+ * gc 프로파일러의 gc.alloc.rate.norm으로 이벤트당 할당량 비교.
+ * 
+ * 실행: ./gradlew jmh -Pjmh.includes=MarketDataDispatcherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MarketDataDispatcherBenchmark {
+
+    private static final int SYMBOLS = 500;
+    private static final int BATCH = 10_000;
+
+    @Param({"1", "2", "4"})
+    private int shards;
+
+    @Param({"500"})
+    private int tokens;
+
+    @Param({"FRAME", "EVENT"})
+    private String handler;
+
+    private MarketDataDispatcher dispatcher;
+    private MarketDataFrame[] frames;
+    private final LongAdder handled = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        dispatcher = new MarketDataDispatcher(shards, 16_384, new SymbolRegistry(SYMBOLS), new SimpleMeterRegistry());
+        if ("FRAME".equals(handler)) {
+            dispatcher.register(MarketDataType.TICK, f -> {
+                Blackhole.consumeCPU(tokens);
+                handled.increment();
+            });
+        } else {
+            dispatcher.register(TickDataEvent.class, e -> {
+                Blackhole.consumeCPU(tokens);
+                handled.increment();
+            });
+        }
+        dispatcher.start();
+
+        String[] codes = new String[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            codes[i] = String.format("%06d", i * 7 + 100);
+        }
+        frames = new MarketDataFrame[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            MarketDataFrame frame = new MarketDataFrame();
+            frame.clear();
+            frame.setType(MarketDataType.TICK);
+            frame.setStockCode(codes[i % SYMBOLS]);
+            frame.setPrice(10_000 + i);
+            frame.setVolume(1);
+            frame.setAccVolume(i);
+            frames[i] = frame;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void publishAndDrain() {
+        long target = handled.sum() + BATCH;
+        for (MarketDataFrame frame : frames) {
+            dispatcher.publish(frame);
+        }
+        while (handled.sum() < target) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.kairos.trading.common.marketdata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 캡처 저널 기록 비용 벤치마크 (수신 스레드에 추가되는 지연).
+ * 
+ * 체결(00) 프레임 크기의 페이로드를 DataBuffer 그대로 기록한다.
+ * 
+ * 실행: ./gradlew jmh -Pjmh.includes=MarketDataJournalBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MarketDataJournalBenchmark {
+
+    private static final String TICK_FRAME = """
+            {"trnm":"REAL","data":[{"type":"00","name":"주식체결","item":"005930","values":\
+            {"20":"093015","10":"+71500","11":"+500","12":"+0.70","13":"12345678","15":"+150","14":"882345"}}]}""";
+
+    private Path dir;
+    private MarketDataJournal journal;
+    private DataBuffer payload;
+    private long nanos;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("journal-bench");
+        journal = MarketDataJournal.create(dir.resolve("session.journal"), 64 * 1024 * 1024);
+        payload = DefaultDataBufferFactory.sharedInstance.wrap(TICK_FRAME.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long append() throws IOException {
+        journal.append(++nanos, "00", payload);
+        return journal.getRecordCount();
+    }
+}
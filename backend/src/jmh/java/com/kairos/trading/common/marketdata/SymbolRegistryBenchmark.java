@@ -0,0 +1,91 @@
+package com.kairos.trading.common.marketdata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 종목별 상태 조회/갱신 벤치마크 (2,500 종목).
+ * 
+ * map: 기존 방식 (ConcurrentHashMap&lt;String, Long&gt; 현재가 캐시, 체결마다 박싱)
+ * registry: 종목코드 → SymbolRegistry ID → primitive 배열
+ * registryById: 프레임에 이미 ID가 있는 경우 (디스패처가 적재 시 부여)
+ * 
+ * 실행: ./gradlew jmh -Pjmh.includes=SymbolRegistryBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SymbolRegistryBenchmark {
+
+    private static final int SYMBOLS = 2_500;
+    private static final int STREAM = 1 << 16;
+
+    private final Map<String, Long> currentPrices = new ConcurrentHashMap<>();
+    private final SymbolRegistry registry = new SymbolRegistry(SYMBOLS);
+    private final AtomicLongArray prices = new AtomicLongArray(SYMBOLS);
+
+    private String[] codeStream;
+    private int[] idStream;
+    private long[] priceStream;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        String[] codes = new String[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            codes[i] = String.format("%06d", 100 + i * 37);
+            registry.register(codes[i]);
+            currentPrices.put(codes[i], 10_000L);
+        }
+
+        // 체결 스트림 (종목/가격 무작위, 가격은 Long 캐시 범위 밖)
+        var random = new SplittableRandom(42);
+        codeStream = new String[STREAM];
+        idStream = new int[STREAM];
+        priceStream = new long[STREAM];
+        for (int i = 0; i < STREAM; i++) {
+            int symbol = random.nextInt(SYMBOLS);
+            codeStream[i] = codes[symbol];
+            idStream[i] = symbol;
+            priceStream[i] = 1_000 + random.nextInt(500_000);
+        }
+    }
+
+    @Benchmark
+    public Long map() {
+        int i = next();
+        currentPrices.put(codeStream[i], priceStream[i]);
+        return currentPrices.get(codeStream[(i + 7) & (STREAM - 1)]);
+    }
+
+    @Benchmark
+    public long registry() {
+        int i = next();
+        prices.lazySet(registry.idOf(codeStream[i]), priceStream[i]);
+        return prices.get(registry.idOf(codeStream[(i + 7) & (STREAM - 1)]));
+    }
+
+    @Benchmark
+    public long registryById() {
+        int i = next();
+        prices.lazySet(idStream[i], priceStream[i]);
+        return prices.get(idStream[(i + 7) & (STREAM - 1)]);
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (i + 1) & (STREAM - 1);
+        return i;
+    }
+}
@@ -0,0 +1,114 @@
+package com.kairos.trading.common.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kairos.trading.common.event.OrderBookEvent;
+import com.kairos.trading.common.event.TickDataEvent;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 프레임 디코딩 벤치마크.
+ * 
+ * legacyTree: 기존 경로 (getPayloadAsText → readTree → JsonNode.path)
+ * streamingHeap / streamingDirect: KiwoomRealtimeDecoder (힙 / Netty 다이렉트 버퍼)
+ * 
+ * 실행: ./gradlew jmh -Pjmh.includes=KiwoomRealtimeDecoderBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KiwoomRealtimeDecoderBenchmark {
+
+    private static final String TICK = """
+            {"tr_cd":"00","stk_cd":"005930","cur_prc":"+71200","trd_vol":"152","acc_vol":"8123456","chg_rate":"+1.42"}""";
+
+    private static final String ORDER_BOOK = """
+            {"tr_cd":"0D","stk_cd":"005930","stk_nm":"삼성전자","sell_hoga1":"71300","sell_qty1":"18234",\
+            "buy_hoga1":"71200","buy_qty1":"25310","tot_sell_qty":"512034","tot_buy_qty":"623401"}""";
+
+    @Param({"TICK", "ORDER_BOOK"})
+    private String frameType;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KiwoomRealtimeDecoder decoder = new KiwoomRealtimeDecoder();
+    private final MarketDataFrame frame = new MarketDataFrame();
+
+    private DataBuffer heapBuffer;
+    private DataBuffer directBuffer;
+    private ByteBuf nettyBuf;
+
+    @Setup
+    public void setUp() {
+        byte[] bytes = ("TICK".equals(frameType) ? TICK : ORDER_BOOK).getBytes(StandardCharsets.UTF_8);
+        heapBuffer = DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+        nettyBuf = PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length);
+        nettyBuf.writeBytes(bytes);
+        directBuffer = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT).wrap(nettyBuf);
+    }
+
+    @TearDown
+    public void tearDown() {
+        nettyBuf.release();
+    }
+
+    @Benchmark
+    public Object legacyTree() throws Exception {
+        String text = directBuffer.toString(directBuffer.readPosition(), directBuffer.readableByteCount(),
+                StandardCharsets.UTF_8);
+        JsonNode node = objectMapper.readTree(text);
+        return switch (node.path("tr_cd").asText()) {
+            case "00" -> new TickDataEvent(this,
+                    node.path("stk_cd").asText(),
+                    node.path("cur_prc").asLong(),
+                    node.path("trd_vol").asLong(),
+                    node.path("acc_vol").asLong(),
+                    node.path("chg_rate").asDouble());
+            case "0D" -> new OrderBookEvent(this,
+                    node.path("stk_cd").asText(),
+                    node.path("stk_nm").asText(),
+                    node.path("sell_hoga1").asLong(),
+                    node.path("sell_qty1").asLong(),
+                    node.path("buy_hoga1").asLong(),
+                    node.path("buy_qty1").asLong(),
+                    node.path("tot_sell_qty").asLong(),
+                    node.path("tot_buy_qty").asLong());
+            default -> null;
+        };
+    }
+
+    @Benchmark
+    public Object streamingHeap() throws Exception {
+        decoder.decode(heapBuffer, frame);
+        return frame.toEvent(this);
+    }
+
+    @Benchmark
+    public Object streamingDirect() throws Exception {
+        decoder.decode(directBuffer, frame);
+        return frame.toEvent(this);
+    }
+
+    @Benchmark
+    public void streamingDirectFrameOnly(Blackhole bh) throws Exception {
+        decoder.decode(directBuffer, frame);
+        bh.consume(frame.getPrice());
+    }
+}
@@ -0,0 +1,111 @@
+package com.kairos.trading.domain.technical.indicator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 증분 지표 갱신 1회 비용 벤치마크.
+ *
+ * 봉 갱신(onBar)과 장중 조회(valueAt)를 지표별로 측정한다. gc 프로파일러로 할당 0을 확인한다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BarIndicatorBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BarIndicatorBenchmark {
+
+    private static final int STREAM = 1 << 12;
+
+    private final AverageTrueRange atr = new AverageTrueRange(14);
+    private final RelativeStrengthIndex rsi = new RelativeStrengthIndex(14);
+    private final BollingerBands bollinger = new BollingerBands(20, 2.0);
+    private final OnBalanceVolume obv = new OnBalanceVolume();
+    private final VolumeWeightedAveragePrice vwap = new VolumeWeightedAveragePrice();
+
+    private long[] high;
+    private long[] low;
+    private long[] close;
+    private long[] volume;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        high = new long[STREAM];
+        low = new long[STREAM];
+        close = new long[STREAM];
+        volume = new long[STREAM];
+        long price = 50_000;
+        for (int i = 0; i < STREAM; i++) {
+            price = Math.max(1_000, price + random.nextInt(-500, 501));
+            close[i] = price;
+            high[i] = price + random.nextInt(300);
+            low[i] = price - random.nextInt(300);
+            volume[i] = random.nextInt(1, 10_000);
+        }
+        for (int i = 0; i < 100; i++) {
+            atr.onBar(high[i], low[i], close[i], volume[i]);
+            rsi.onBar(high[i], low[i], close[i], volume[i]);
+            bollinger.onBar(high[i], low[i], close[i], volume[i]);
+            obv.onBar(high[i], low[i], close[i], volume[i]);
+        }
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (STREAM - 1);
+    }
+
+    @Benchmark
+    public double atrOnBar() {
+        int i = next();
+        atr.onBar(high[i], low[i], close[i], volume[i]);
+        return atr.value();
+    }
+
+    @Benchmark
+    public double rsiOnBar() {
+        int i = next();
+        rsi.onBar(high[i], low[i], close[i], volume[i]);
+        return rsi.value();
+    }
+
+    @Benchmark
+    public double rsiValueAt() {
+        return rsi.valueAt(close[next()]);
+    }
+
+    @Benchmark
+    public double bollingerOnBar() {
+        int i = next();
+        bollinger.onBar(high[i], low[i], close[i], volume[i]);
+        return bollinger.upper();
+    }
+
+    @Benchmark
+    public boolean bollingerOverextended() {
+        return bollinger.isOverextended(close[next()]);
+    }
+
+    @Benchmark
+    public double vwapOnTrade() {
+        int i = next();
+        vwap.onTrade(close[i], volume[i]);
+        return vwap.value();
+    }
+
+    @Benchmark
+    public long obvOnBar() {
+        int i = next();
+        obv.onBar(high[i], low[i], close[i], volume[i]);
+        return obv.value();
+    }
+}
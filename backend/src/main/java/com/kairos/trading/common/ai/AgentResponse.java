@@ -1,5 +1,6 @@
 package com.kairos.trading.common.ai;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -8,7 +9,7 @@ import java.util.Map;
  * 
  * @param agentName 에이전트 이름 (Sentinel, Axiom 등)
  * @param score     분석 점수 (0~100)
- * @param decision  판단 결과 (BUY, WATCH, REJECT, ALERT)
+ * @param decision  판단 결과 (BUY, WATCH, REJECT, ALERT, MISSING)
  * @param reason    판단 근거 (요약)
  * @param metadata  추가 데이터 (에이전트별 상세 정보)
  */
@@ -18,6 +19,65 @@ public record AgentResponse(
         String decision,
         String reason,
         Map<String, Object> metadata) {
+    /**
+     * 기한 내 도착하지 않은 에이전트 자리표시 리포트 (MISSING).
+     *
+     * @param outcome 누락 사유 (TIMEOUT, FAILED 등)
+     */
+    public static AgentResponse missing(String agentName, String outcome) {
+        return new AgentResponse(agentName, 0, "MISSING", "리포트 없음 (" + outcome + ")",
+                Map.of("missing", true, "outcome", outcome));
+    }
+
+    /**
+     * 규칙(순수 Java) 계층 리포트.
+     *
+     * @param confidence 판단 확신도 (0~1, 임계값 근처이거나 입력이 부족하면 낮음)
+     */
+    public static AgentResponse ruleBased(String agentName, int score, String decision, String reason,
+            double confidence) {
+        return new AgentResponse(agentName, score, decision, reason,
+                Map.of("tier", "RULE", "confidence", confidence));
+    }
+
+    /**
+     * 규칙 계층에서 결론을 내지 못한 리포트 (확신도 0, LLM 분석 필요).
+     */
+    public static AgentResponse inconclusive(String agentName, String reason) {
+        return ruleBased(agentName, 50, "WATCH", reason, 0.0);
+    }
+
+    /**
+     * 다른 계층의 결과(캐시 등)를 확신도와 함께 재사용.
+     *
+     * @param tier 결과 출처 (RULE, CACHE 등)
+     */
+    public AgentResponse withConfidence(String tier, double confidence) {
+        var merged = new HashMap<String, Object>();
+        if (metadata != null) {
+            merged.putAll(metadata);
+        }
+        merged.put("tier", tier);
+        merged.put("confidence", confidence);
+        return new AgentResponse(agentName, score, decision, reason, Map.copyOf(merged));
+    }
+
+    /**
+     * 규칙 계층 확신도 (LLM 리포트는 0).
+     */
+    public double confidence() {
+        return metadata != null && metadata.get("confidence") instanceof Number number
+                ? number.doubleValue()
+                : 0.0;
+    }
+
+    /**
+     * 누락된 리포트인지 확인 (MISSING)
+     */
+    public boolean isMissing() {
+        return "MISSING".equals(decision);
+    }
+
     /**
      * 긍정적 판단인지 확인 (BUY)
      */
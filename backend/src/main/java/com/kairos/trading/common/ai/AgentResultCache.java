@@ -0,0 +1,312 @@
+package com.kairos.trading.common.ai;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 에이전트 분석 결과 캐시 (에이전트별 TTL, 메모리 → DB 2단계).
+ *
+ * Axiom(펀더멘털)은 분기 단위로만 바뀌고 Resonance(시장 심리)는 시장 전체 값이라, 매번 Gemini를 다시 부를 필요가 없다.
+ * - 키: 에이전트 + 범위(종목코드 또는 {@link #MARKET})
+ * - TTL: {@code kairos.agent-cache.agents.<이름>.ttl-minutes} (0이면 캐시하지 않음)
+ * - 1단계: 최근 사용 순 메모리 캐시 ({@code kairos.agent-cache.max-entries}개 초과 시 가장 오래 안 쓴 항목 제거)
+ * - 2단계: 에이전트별 {@link AgentResultStore} (분석 테이블, 재시작 후에도 TTL 안이면 재사용)
+ * - 오류 대체 응답과 MISSING 리포트는 저장하지 않는다.
+ * - 적중률, 절약한 지연시간·호출 수·비용({@code kairos.agent-cache.cost-per-call})을 Micrometer로 노출한다.
+ */
+@Slf4j
+@Component
+public class AgentResultCache {
+
+    /** 시장 전체 범위 */
+    public static final String MARKET = "MARKET";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AgentResultStore> stores;
+    private final int maxEntries;
+    private final double costPerCall;
+    private final Clock clock;
+
+    // 접근 순서 LRU (this로 동기화)
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final Map<String, AgentStats> stats = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AgentResultCache(Environment environment, MeterRegistry meterRegistry, List<AgentResultStore> stores,
+            @Value("${kairos.agent-cache.max-entries:2048}") int maxEntries,
+            @Value("${kairos.agent-cache.cost-per-call:0}") double costPerCall) {
+        this(environment, meterRegistry, stores, maxEntries, costPerCall, Clock.systemDefaultZone());
+    }
+
+    AgentResultCache(Environment environment, MeterRegistry meterRegistry, List<AgentResultStore> stores,
+            int maxEntries, double costPerCall, Clock clock) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.stores = stores.stream()
+                .collect(Collectors.toUnmodifiableMap(AgentResultStore::agentName, Function.identity()));
+        this.maxEntries = maxEntries;
+        this.costPerCall = costPerCall;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > AgentResultCache.this.maxEntries;
+            }
+        };
+
+        Gauge.builder("kairos.agent.cache.size", this, AgentResultCache::size)
+                .description("메모리 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과 조회, 없으면 계산 후 저장.
+     *
+     * @param scope     종목코드 또는 {@link #MARKET}
+     * @param stockName DB 계층 기록용 종목명
+     * @param loader    실제 에이전트 호출
+     */
+    public AgentResponse getOrCompute(String agentName, String scope, String stockName,
+            Supplier<AgentResponse> loader) {
+        long ttlMillis = ttlOf(agentName);
+        if (ttlMillis <= 0) {
+            return loader.get();
+        }
+        var agentStats = statsOf(agentName);
+        var key = new Key(agentName, scope);
+        long now = clock.millis();
+
+        // 1. 메모리
+        var cached = getFresh(key, now);
+        if (cached != null) {
+            agentStats.hit(agentStats.memoryHits);
+            return cached;
+        }
+
+        // 2. DB
+        var stored = loadStored(key, ttlMillis, now);
+        if (stored != null) {
+            agentStats.hit(agentStats.storeHits);
+            return stored;
+        }
+
+        // 3. 에이전트 호출
+        agentStats.misses.increment();
+        long start = System.nanoTime();
+        var response = loader.get();
+        agentStats.recordLoad(System.nanoTime() - start);
+
+        if (isCacheable(response)) {
+            put(key, response, now + ttlMillis);
+            save(agentName, scope, stockName, response);
+        }
+        return response;
+    }
+
+    /**
+     * 메모리에 있는 유효한 결과만 조회 (에이전트 호출·DB 조회 없음, 통계에 반영하지 않음).
+     */
+    public AgentResponse peek(String agentName, String scope) {
+        return getFresh(new Key(agentName, scope), clock.millis());
+    }
+
+    /**
+     * 캐시 무효화 (공시 등으로 결과가 바뀌었을 때).
+     */
+    public synchronized void invalidate(String agentName, String scope) {
+        entries.remove(new Key(agentName, scope));
+    }
+
+    /**
+     * 에이전트 TTL (ms, 0 = 캐시 안 함).
+     */
+    public long ttlOf(String agentName) {
+        long minutes = environment.getProperty(
+                "kairos.agent-cache.agents." + agentName.toLowerCase(Locale.ROOT) + ".ttl-minutes",
+                Long.class, 0L);
+        return TimeUnit.MINUTES.toMillis(minutes);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 에이전트별 적중/절약 통계.
+     */
+    public Map<String, CacheStatsSummary> getStats() {
+        Map<String, CacheStatsSummary> summary = new LinkedHashMap<>();
+        stats.forEach((agentName, agentStats) -> summary.put(agentName, agentStats.summary(costPerCall)));
+        return summary;
+    }
+
+    /**
+     * 에이전트별 캐시 통계 요약.
+     *
+     * @param savedMillis 적중으로 아낀 에이전트 호출 시간 (평균 호출 시간 기준 추정)
+     * @param savedCost   적중 수 × 호출당 비용
+     */
+    public record CacheStatsSummary(long memoryHits, long storeHits, long misses, double hitRatio,
+            long savedMillis, double savedCost) {
+    }
+
+    private synchronized AgentResponse getFresh(Key key, long now) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now >= entry.expiresAtMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.response();
+    }
+
+    private synchronized void put(Key key, AgentResponse response, long expiresAtMillis) {
+        entries.put(key, new Entry(response, expiresAtMillis));
+    }
+
+    private AgentResponse loadStored(Key key, long ttlMillis, long now) {
+        var store = stores.get(key.agentName());
+        if (store == null) {
+            return null;
+        }
+        try {
+            var stored = store.findLatest(key.scope()).orElse(null);
+            if (stored == null || stored.analyzedAt() == null) {
+                return null;
+            }
+            long ageMillis = Duration.between(stored.analyzedAt(), LocalDateTime.now(clock)).toMillis();
+            if (ageMillis >= ttlMillis) {
+                return null;
+            }
+            // 남은 TTL만큼만 메모리에 올림
+            put(key, stored.response(), now + ttlMillis - Math.max(ageMillis, 0));
+            return stored.response();
+        } catch (RuntimeException e) {
+            log.warn("[AgentCache] {} DB 조회 실패 ({}): {}", key.agentName(), key.scope(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(String agentName, String scope, String stockName, AgentResponse response) {
+        var store = stores.get(agentName);
+        if (store == null) {
+            return;
+        }
+        try {
+            store.save(scope, stockName, response);
+        } catch (RuntimeException e) {
+            log.warn("[AgentCache] {} DB 기록 실패 ({}): {}", agentName, scope, e.getMessage());
+        }
+    }
+
+    private static boolean isCacheable(AgentResponse response) {
+        return response != null
+                && !response.isMissing()
+                && (response.metadata() == null || !response.metadata().containsKey("error"));
+    }
+
+    private AgentStats statsOf(String agentName) {
+        return stats.computeIfAbsent(agentName, this::registerStats);
+    }
+
+    private AgentStats registerStats(String agentName) {
+        var agentStats = new AgentStats();
+        for (var tier : List.of("memory", "store")) {
+            FunctionCounter.builder("kairos.agent.cache.hits", agentStats,
+                            s -> (tier.equals("memory") ? s.memoryHits : s.storeHits).sum())
+                    .description("캐시 적중 건수")
+                    .tag("agent", agentName)
+                    .tag("tier", tier)
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("kairos.agent.cache.misses", agentStats, s -> s.misses.sum())
+                .description("캐시 미스로 에이전트를 호출한 건수")
+                .tag("agent", agentName)
+                .register(meterRegistry);
+        Gauge.builder("kairos.agent.cache.hit.ratio", agentStats, AgentStats::hitRatio)
+                .description("캐시 적중률")
+                .tag("agent", agentName)
+                .register(meterRegistry);
+        FunctionCounter.builder("kairos.agent.cache.saved.latency", agentStats,
+                        s -> s.savedNanos.sum() / 1_000_000_000.0)
+                .description("캐시 적중으로 아낀 에이전트 호출 시간 (평균 호출 시간 기준 추정)")
+                .baseUnit("seconds")
+                .tag("agent", agentName)
+                .register(meterRegistry);
+        FunctionCounter.builder("kairos.agent.cache.saved.cost", agentStats,
+                        s -> s.hits() * costPerCall)
+                .description("캐시 적중으로 아낀 호출 비용 (적중 수 × 호출당 비용)")
+                .tag("agent", agentName)
+                .register(meterRegistry);
+        return agentStats;
+    }
+
+    private record Key(String agentName, String scope) {
+    }
+
+    private record Entry(AgentResponse response, long expiresAtMillis) {
+    }
+
+    private static final class AgentStats {
+        final LongAdder memoryHits = new LongAdder();
+        final LongAdder storeHits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder loadNanos = new LongAdder();
+        final LongAdder loads = new LongAdder();
+        final LongAdder savedNanos = new LongAdder();
+
+        void hit(LongAdder tier) {
+            tier.increment();
+            savedNanos.add(meanLoadNanos());
+        }
+
+        void recordLoad(long nanos) {
+            loadNanos.add(nanos);
+            loads.increment();
+        }
+
+        long meanLoadNanos() {
+            long count = loads.sum();
+            return count == 0 ? 0 : loadNanos.sum() / count;
+        }
+
+        long hits() {
+            return memoryHits.sum() + storeHits.sum();
+        }
+
+        double hitRatio() {
+            long hits = hits();
+            long total = hits + misses.sum();
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        CacheStatsSummary summary(double costPerCall) {
+            return new CacheStatsSummary(memoryHits.sum(), storeHits.sum(), misses.sum(), hitRatio(),
+                    TimeUnit.NANOSECONDS.toMillis(savedNanos.sum()), hits() * costPerCall);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.kairos.trading.common.ai;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 에이전트 결과 2차 저장소 (재시작 후에도 유지되는 DB 계층).
+ * {@link AgentResultCache}가 메모리 미스일 때 조회하고, 새로 계산한 결과를 기록한다.
+ */
+public interface AgentResultStore {
+
+    /**
+     * 담당 에이전트 이름 (AgentResponse.agentName과 동일).
+     */
+    String agentName();
+
+    /**
+     * 범위(종목코드 또는 MARKET)의 최신 결과.
+     */
+    Optional<StoredResult> findLatest(String scope);
+
+    /**
+     * 결과 기록.
+     */
+    void save(String scope, String stockName, AgentResponse response);
+
+    /**
+     * 저장된 결과와 분석 시각.
+     */
+    record StoredResult(AgentResponse response, LocalDateTime analyzedAt) {
+    }
+}
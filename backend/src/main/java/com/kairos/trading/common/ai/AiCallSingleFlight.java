@@ -0,0 +1,238 @@
+package com.kairos.trading.common.ai;
+
+import dev.langchain4j.service.TokenStream;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LLM 클라이언트 호출 단일 비행(single-flight).
+ *
+ * 같은 종목의 분석 완료 이벤트가 겹치면 Sentinel/Axiom/Sonar/Nexus가 같은 입력으로 동시에 호출된다.
+ * 에이전트 + 메서드 + 정규화한 입력(문자열 앞뒤 공백 제거, 연속 공백 하나로)이 같은 호출이 진행 중이면
+ * 새로 Gemini를 부르지 않고 진행 중인 호출에 붙어 같은 결과(또는 같은 예외)를 받는다.
+ * 단, 먼저 부른 호출자가 인터럽트·취소로 중단된 경우(예: 팬아웃 의사결정 기한 초과)는 그 호출자 사정이므로
+ * 합류한 호출자에게 넘기지 않고, 키를 비운 뒤 합류자 중 하나가 다시 호출한다.
+ *
+ * - 결과는 저장하지 않는다. 호출이 끝나면 바로 키를 지우므로 이후 호출은 다시 LLM을 부른다 (결과 재사용은 {@link AgentResultCache}).
+ * - {@link AiClientConfig}가 만드는 모든 LangChain4j 클라이언트를 {@link #wrap}으로 감싼다.
+ *   스트리밍({@link TokenStream}) 메서드는 호출자마다 따로 소비해야 하므로 그대로 통과시킨다.
+ * - 에이전트별 실제 호출 수와 합류(coalesced) 수를 Micrometer로 노출한다.
+ */
+@Slf4j
+@Component
+public class AiCallSingleFlight {
+
+    private static final String CLIENT_SUFFIX = "AiClient";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, AgentStats> stats = new ConcurrentHashMap<>();
+
+    public AiCallSingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 클라이언트 인터페이스의 모든 호출을 단일 비행으로 감싼다.
+     * 에이전트 이름은 인터페이스 이름에서 {@code AiClient}를 뺀 것 (SentinelAiClient → Sentinel).
+     */
+    public <T> T wrap(Class<T> clientType, T client) {
+        String simpleName = clientType.getSimpleName();
+        String agentName = simpleName.endsWith(CLIENT_SUFFIX)
+                ? simpleName.substring(0, simpleName.length() - CLIENT_SUFFIX.length())
+                : simpleName;
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            // 스트리밍 응답은 한 번만 소비할 수 있어 합치지 않음
+            if (method.getDeclaringClass() == Object.class || method.getReturnType() == TokenStream.class) {
+                return invoke(client, method, args);
+            }
+            return execute(new CallKey(agentName, method.getName(), normalize(args)),
+                    () -> invoke(client, method, args));
+        };
+        return clientType.cast(Proxy.newProxyInstance(
+                clientType.getClassLoader(), new Class<?>[] { clientType }, handler));
+    }
+
+    /**
+     * 같은 키의 호출이 진행 중이면 합류, 아니면 직접 호출.
+     */
+    Object execute(CallKey key, ThrowingSupplier call) throws Throwable {
+        var agentStats = statsOf(key.agentName());
+        while (true) {
+            var future = new CompletableFuture<Object>();
+            var existing = inFlight.putIfAbsent(key, future);
+            if (existing == null) {
+                return lead(key, future, call, agentStats);
+            }
+
+            agentStats.coalesced.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("[SingleFlight] {}.{} 진행 중인 호출에 합류", key.agentName(), key.method());
+            }
+            try {
+                return await(existing);
+            } catch (LeaderAborted e) {
+                log.debug("[SingleFlight] {}.{} 선행 호출 중단 → 다시 시도", key.agentName(), key.method());
+            }
+        }
+    }
+
+    /**
+     * 직접 호출하고 결과를 합류한 호출자에게 전달.
+     * 키는 결과를 알리기 전에 지워, 재시도하는 합류자가 끝난 호출에 다시 붙지 않게 한다.
+     */
+    private Object lead(CallKey key, CompletableFuture<Object> future, ThrowingSupplier call,
+            AgentStats agentStats) throws Throwable {
+        agentStats.calls.increment();
+        Object result;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(isAborted(e) ? new LeaderAborted() : e);
+            throw e;
+        }
+        inFlight.remove(key, future);
+        future.complete(result);
+        return result;
+    }
+
+    /**
+     * 합류한 호출 수 합계.
+     */
+    public long coalescedCount() {
+        return stats.values().stream().mapToLong(s -> s.coalesced.sum()).sum();
+    }
+
+    /**
+     * 에이전트별 실제 호출/합류 수.
+     */
+    public Map<String, CallStats> getStats() {
+        Map<String, CallStats> summary = new LinkedHashMap<>();
+        stats.forEach((agentName, agentStats) -> summary.put(agentName,
+                new CallStats(agentStats.calls.sum(), agentStats.coalesced.sum())));
+        return summary;
+    }
+
+    /**
+     * 에이전트별 호출 통계.
+     *
+     * @param calls     실제 LLM 호출 수
+     * @param coalesced 진행 중인 호출에 합류해 LLM을 부르지 않은 수
+     */
+    public record CallStats(long calls, long coalesced) {
+    }
+
+    /**
+     * 호출 키 (에이전트 + 메서드 + 정규화한 인자).
+     */
+    record CallKey(String agentName, String method, List<Object> args) {
+    }
+
+    @FunctionalInterface
+    interface ThrowingSupplier {
+        Object get() throws Throwable;
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (CancellationException e) {
+            throw new LeaderAborted();
+        }
+    }
+
+    /**
+     * 호출 실패가 호출자 스레드의 인터럽트·취소 때문인지 (LLM 자체의 실패가 아님).
+     */
+    private static boolean isAborted(Throwable e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof InterruptedIOException
+                    || cause instanceof CancellationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object invoke(Object client, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<Object> normalize(Object[] args) {
+        if (args == null) {
+            return List.of();
+        }
+        List<Object> normalized = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            if (arg instanceof String text) {
+                normalized.add(text.strip().replaceAll("\\s+", " "));
+            } else if (arg instanceof Object[] array) {
+                normalized.add(Arrays.asList(array));
+            } else {
+                normalized.add(arg);
+            }
+        }
+        return normalized;
+    }
+
+    private AgentStats statsOf(String agentName) {
+        return stats.computeIfAbsent(agentName, this::registerStats);
+    }
+
+    private AgentStats registerStats(String agentName) {
+        var agentStats = new AgentStats();
+        FunctionCounter.builder("kairos.ai.singleflight.calls", agentStats, s -> s.calls.sum())
+                .description("실제 LLM 호출 수")
+                .tag("agent", agentName)
+                .register(meterRegistry);
+        FunctionCounter.builder("kairos.ai.singleflight.coalesced", agentStats, s -> s.coalesced.sum())
+                .description("진행 중인 동일 호출에 합류해 생략한 LLM 호출 수")
+                .tag("agent", agentName)
+                .register(meterRegistry);
+        return agentStats;
+    }
+
+    /**
+     * 선행 호출자가 중단되어 합류자가 다시 시도해야 함 (합류자 내부에서만 쓰고 밖으로 던지지 않는다).
+     */
+    private static final class LeaderAborted extends RuntimeException {
+        LeaderAborted() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class AgentStats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+    }
+}
@@ -8,34 +8,56 @@ import com.kairos.trading.domain.sentiment.agent.ResonanceAiClient;
 import com.kairos.trading.domain.strategy.agent.NexusAiClient;
 import com.kairos.trading.domain.technical.agent.VectorAiClient;
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.service.AiServices;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 /**
  * AI 에이전트 클라이언트 Bean 등록.
  * 
  * 각 에이전트는 전용 모델(Temperature 차등 적용)을 사용한다.
+ * 모든 클라이언트는 {@link AiCallSingleFlight}로 감싸 동일 입력의 동시 호출을 한 번으로 합치고,
+ * 모델 호출은 {@link GeminiScheduler}의 토큰 예산·우선순위를 거친다.
  * 
  * @see GeminiConfig
  * @see PROJECT-Specification.md §4
  */
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class AiClientConfig {
 
+    private final AiCallSingleFlight singleFlight;
+    private final GeminiScheduler geminiScheduler;
+
     /**
      * Sentinel AI 클라이언트 (뉴스 분석)
      * Temperature: 0.1
      */
     @Bean
+    @Primary
     public SentinelAiClient sentinelAiClient(@Qualifier("sentinelModel") ChatLanguageModel model) {
         log.info("SentinelAiClient 생성 (temp=0.1)");
-        return AiServices.builder(SentinelAiClient.class)
-                .chatLanguageModel(model)
-                .build();
+        return singleFlight.wrap(SentinelAiClient.class, AiServices.builder(SentinelAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("Sentinel", model))
+                .build());
+    }
+
+    /**
+     * Sentinel 배치 분류 클라이언트 (장전 대량 뉴스 분류)
+     * 같은 모델을 쓰되 스케줄러에는 "SentinelBatch"로 등록해 단건 Kill Switch 확인보다 낮은 우선순위로 나간다.
+     */
+    @Bean
+    public SentinelAiClient sentinelBatchAiClient(@Qualifier("sentinelModel") ChatLanguageModel model) {
+        log.info("SentinelBatchAiClient 생성 (temp=0.1, 배치 분류 우선순위)");
+        return singleFlight.wrap(SentinelAiClient.class, AiServices.builder(SentinelAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("SentinelBatch", model))
+                .build());
     }
 
     /**
@@ -45,9 +67,9 @@ public class AiClientConfig {
     @Bean
     public AxiomAiClient axiomAiClient(@Qualifier("axiomModel") ChatLanguageModel model) {
         log.info("AxiomAiClient 생성 (temp=0.0)");
-        return AiServices.builder(AxiomAiClient.class)
-                .chatLanguageModel(model)
-                .build();
+        return singleFlight.wrap(AxiomAiClient.class, AiServices.builder(AxiomAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("Axiom", model))
+                .build());
     }
 
     /**
@@ -57,9 +79,9 @@ public class AiClientConfig {
     @Bean
     public VectorAiClient vectorAiClient(@Qualifier("vectorModel") ChatLanguageModel model) {
         log.info("VectorAiClient 생성 (temp=0.2)");
-        return AiServices.builder(VectorAiClient.class)
-                .chatLanguageModel(model)
-                .build();
+        return singleFlight.wrap(VectorAiClient.class, AiServices.builder(VectorAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("Vector", model))
+                .build());
     }
 
     /**
@@ -69,9 +91,9 @@ public class AiClientConfig {
     @Bean
     public ResonanceAiClient resonanceAiClient(@Qualifier("resonanceModel") ChatLanguageModel model) {
         log.info("ResonanceAiClient 생성 (temp=0.6)");
-        return AiServices.builder(ResonanceAiClient.class)
-                .chatLanguageModel(model)
-                .build();
+        return singleFlight.wrap(ResonanceAiClient.class, AiServices.builder(ResonanceAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("Resonance", model))
+                .build());
     }
 
     /**
@@ -81,9 +103,9 @@ public class AiClientConfig {
     @Bean
     public SonarAiClient sonarAiClient(@Qualifier("sonarModel") ChatLanguageModel model) {
         log.info("SonarAiClient 생성 (temp=0.1)");
-        return AiServices.builder(SonarAiClient.class)
-                .chatLanguageModel(model)
-                .build();
+        return singleFlight.wrap(SonarAiClient.class, AiServices.builder(SonarAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("Sonar", model))
+                .build());
     }
 
     /**
@@ -91,11 +113,13 @@ public class AiClientConfig {
      * Temperature: 0.2 (신중한 결정)
      */
     @Bean
-    public NexusAiClient nexusAiClient(@Qualifier("nexusModel") ChatLanguageModel model) {
-        log.info("NexusAiClient 생성 (gemini-2.5-pro, temp=0.2)");
-        return AiServices.builder(NexusAiClient.class)
-                .chatLanguageModel(model)
-                .build();
+    public NexusAiClient nexusAiClient(@Qualifier("nexusModel") ChatLanguageModel model,
+            @Qualifier("nexusStreamingModel") StreamingChatLanguageModel streamingModel) {
+        log.info("NexusAiClient 생성 (gemini-2.5-pro, temp=0.2, 스트리밍 포함)");
+        return singleFlight.wrap(NexusAiClient.class, AiServices.builder(NexusAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("Nexus", model))
+                .streamingChatLanguageModel(geminiScheduler.wrapStreaming("Nexus", streamingModel))
+                .build());
     }
 
     /**
@@ -105,8 +129,8 @@ public class AiClientConfig {
     @Bean
     public AegisReviewAiClient aegisReviewAiClient(@Qualifier("aegisReviewModel") ChatLanguageModel model) {
         log.info("AegisReviewAiClient 생성 (temp=0.1)");
-        return AiServices.builder(AegisReviewAiClient.class)
-                .chatLanguageModel(model)
-                .build();
+        return singleFlight.wrap(AegisReviewAiClient.class, AiServices.builder(AegisReviewAiClient.class)
+                .chatLanguageModel(geminiScheduler.wrap("AegisReview", model))
+                .build());
     }
 }
@@ -1,7 +1,9 @@
 package com.kairos.trading.common.ai;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
+import dev.langchain4j.model.googleai.GoogleAiGeminiStreamingChatModel;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -114,6 +116,20 @@ public class GeminiConfig {
                 .build();
     }
 
+    // ===== Nexus 스트리밍 (의사결정 필드 조기 추출) - 동기 모델과 같은 설정 =====
+    @Bean(name = "nexusStreamingModel")
+    public StreamingChatLanguageModel nexusStreamingModel() {
+        log.info("Nexus 스트리밍 모델 초기화 (gemini-2.5-pro, temp=0.2)");
+        return GoogleAiGeminiStreamingChatModel.builder()
+                .apiKey(apiKey)
+                .modelName("gemini-2.5-pro")
+                .temperature(0.2)
+                .topP(0.9)
+                .maxOutputTokens(8192)
+
+                .build();
+    }
+
     // ===== Aegis Review (장후 분석) - Temp: 0.1 =====
     @Bean(name = "aegisReviewModel")
     public ChatLanguageModel aegisReviewModel() {
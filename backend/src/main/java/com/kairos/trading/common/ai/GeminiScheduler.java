@@ -0,0 +1,523 @@
+package com.kairos.trading.common.ai;
+
+import com.kairos.trading.common.gateway.ApiGatekeeper;
+import com.kairos.trading.common.gateway.ApiType;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 토큰 예산 스케줄러.
+ *
+ * {@link ApiGatekeeper}의 GEMINI 버킷은 요청 수만 세지만, 비용과 제공자 스로틀링은 토큰 기준이다.
+ * 모든 에이전트 모델 호출을 {@link #wrap}(스트리밍은 {@link #wrapStreaming})으로 감싸 응답의 사용량(입력/출력 토큰)을 집계하고,
+ * 전체·에이전트별 분당/일일 토큰 예산 안에서만 호출을 내보낸다.
+ *
+ * - 호출 전에는 에이전트별 최근 사용량 평균만큼 예약하고, 응답을 받으면 실제 사용량으로 정산한다.
+ * - 예산을 기다리는 호출은 우선순위 순으로 나간다:
+ *   Nexus 의사결정 > Sentinel(단건 Kill Switch 확인) > 그 외 분석가 > Sentinel 배치 뉴스 분류 > Aegis 장후 리뷰.
+ *   전체 예산이 모자라면 뒤 순위가 앞지르지 못하고, 에이전트 자체 예산에 걸린 호출만 건너뛴다.
+ * - 요청 수 제한은 기존 GEMINI 버킷을 그대로 거친다.
+ * - 대기 시간, 토큰 사용량, 예산 소진량을 Micrometer로 노출한다.
+ */
+@Slf4j
+@Component
+public class GeminiScheduler {
+
+    /**
+     * 호출 우선순위 (선언 순서가 높은 순).
+     */
+    public enum Priority {
+        /** Nexus 의사결정 */
+        DECISION,
+        /** Sentinel 단건 뉴스/공시 (Kill Switch 확인) */
+        KILL_SWITCH,
+        /** 그 외 분석가 */
+        ANALYST,
+        /** Sentinel 배치 뉴스 분류 (장전 대량 분류) */
+        TRIAGE,
+        /** Aegis 장후 리뷰 */
+        REVIEW
+    }
+
+    // 분 경계를 놓치지 않도록 대기 중 재확인 간격
+    private static final long RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ApiGatekeeper apiGatekeeper;
+    private final long defaultEstimateTokens;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // 대기 중인 호출 (우선순위 → 도착 순, lock으로 보호)
+    private final TreeSet<Ticket> waiting = new TreeSet<>(
+            Comparator.comparing(Ticket::priority).thenComparingLong(Ticket::sequence));
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Budget global;
+    private final Map<String, AgentState> agents = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GeminiScheduler(Environment environment, MeterRegistry meterRegistry, ApiGatekeeper apiGatekeeper,
+            @Value("${kairos.gemini.tokens-per-minute:1000000}") long tokensPerMinute,
+            @Value("${kairos.gemini.tokens-per-day:30000000}") long tokensPerDay,
+            @Value("${kairos.gemini.default-estimate-tokens:3000}") long defaultEstimateTokens) {
+        this(environment, meterRegistry, apiGatekeeper, tokensPerMinute, tokensPerDay, defaultEstimateTokens,
+                Clock.systemDefaultZone());
+    }
+
+    GeminiScheduler(Environment environment, MeterRegistry meterRegistry, ApiGatekeeper apiGatekeeper,
+            long tokensPerMinute, long tokensPerDay, long defaultEstimateTokens, Clock clock) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.apiGatekeeper = apiGatekeeper;
+        this.defaultEstimateTokens = defaultEstimateTokens;
+        this.clock = clock;
+        this.global = new Budget(tokensPerMinute, tokensPerDay);
+
+        Gauge.builder("kairos.gemini.queue.depth", this, scheduler -> scheduler.waiting.size())
+                .description("토큰 예산을 기다리는 Gemini 호출 수")
+                .register(meterRegistry);
+        for (var window : List.of("minute", "day")) {
+            Gauge.builder("kairos.gemini.budget.used", global, budget -> budget.window(window).used)
+                    .description("현재 구간에 사용(예약 포함)한 전체 토큰")
+                    .tag("window", window)
+                    .register(meterRegistry);
+            Gauge.builder("kairos.gemini.budget.limit", global, budget -> budget.window(window).limit)
+                    .description("전체 토큰 예산 (0 = 무제한)")
+                    .tag("window", window)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 에이전트 모델을 토큰 예산 스케줄링으로 감싼다.
+     */
+    public ChatLanguageModel wrap(String agentName, ChatLanguageModel model) {
+        return new ScheduledChatModel(agentOf(agentName), model);
+    }
+
+    /**
+     * 스트리밍 모델을 토큰 예산 스케줄링으로 감싼다 (같은 에이전트 예산 공유).
+     */
+    public StreamingChatLanguageModel wrapStreaming(String agentName, StreamingChatLanguageModel model) {
+        return new ScheduledStreamingChatModel(agentOf(agentName), model);
+    }
+
+    /**
+     * 에이전트 이름 → 우선순위.
+     */
+    public static Priority priorityOf(String agentName) {
+        return switch (agentName) {
+            case "Nexus" -> Priority.DECISION;
+            case "Sentinel" -> Priority.KILL_SWITCH;
+            case "SentinelBatch" -> Priority.TRIAGE;
+            case "AegisReview" -> Priority.REVIEW;
+            default -> Priority.ANALYST;
+        };
+    }
+
+    /**
+     * 전체 예산 현황.
+     */
+    public BudgetStatus getBudgetStatus() {
+        lock.lock();
+        try {
+            roll();
+            return new BudgetStatus(global.minute.used, global.minute.limit, global.day.used, global.day.limit,
+                    waiting.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 예산 현황 (토큰, limit 0 = 무제한).
+     */
+    public record BudgetStatus(long minuteUsed, long minuteLimit, long dayUsed, long dayLimit, int waiting) {
+    }
+
+    /**
+     * 예산 확보 → 호출 → 실제 사용량 정산.
+     */
+    <T> T call(AgentState agent, Supplier<T> request, Function<T, TokenUsage> usageOf) {
+        var reservation = reserve(agent);
+
+        T result;
+        try {
+            result = apiGatekeeper.execute(ApiType.GEMINI, request);
+        } catch (RuntimeException e) {
+            settle(agent, reservation, null);
+            throw e;
+        }
+        settle(agent, reservation, result == null ? null : usageOf.apply(result));
+        return result;
+    }
+
+    /**
+     * 예산 확보 → 스트리밍 시작, 완료(또는 오류) 콜백에서 실제 사용량 정산.
+     */
+    void stream(AgentState agent, StreamingResponseHandler<AiMessage> handler,
+            Consumer<StreamingResponseHandler<AiMessage>> request) {
+        var reservation = reserve(agent);
+        var settled = new AtomicBoolean();
+        var settling = new StreamingResponseHandler<AiMessage>() {
+            @Override
+            public void onNext(String token) {
+                handler.onNext(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                if (settled.compareAndSet(false, true)) {
+                    settle(agent, reservation, response == null ? null : response.tokenUsage());
+                }
+                handler.onComplete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                if (settled.compareAndSet(false, true)) {
+                    settle(agent, reservation, null);
+                }
+                handler.onError(error);
+            }
+        };
+
+        try {
+            apiGatekeeper.execute(ApiType.GEMINI, () -> {
+                request.accept(settling);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            if (settled.compareAndSet(false, true)) {
+                settle(agent, reservation, null);
+            }
+            throw e;
+        }
+    }
+
+    private Reservation reserve(AgentState agent) {
+        try {
+            return acquire(agent);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Gemini 토큰 예산 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private Reservation acquire(AgentState agent) throws InterruptedException {
+        var ticket = new Ticket(agent.priority, sequence.incrementAndGet(), agent);
+        long start = System.nanoTime();
+        lock.lockInterruptibly();
+        try {
+            waiting.add(ticket);
+            try {
+                while (true) {
+                    roll();
+                    if (firstAdmissible() == ticket) {
+                        break;
+                    }
+                    changed.awaitNanos(RECHECK_NANOS);
+                }
+            } finally {
+                waiting.remove(ticket);
+                changed.signalAll();
+            }
+            long estimate = agent.estimateTokens;
+            global.charge(estimate);
+            agent.budget.charge(estimate);
+            return new Reservation(estimate, global.minute.key, global.day.key);
+        } finally {
+            lock.unlock();
+            agent.queueWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 예약분을 실제 사용량으로 정산 (실패한 호출은 예약 반환).
+     */
+    private void settle(AgentState agent, Reservation reservation, TokenUsage usage) {
+        long input = usage == null || usage.inputTokenCount() == null ? 0 : usage.inputTokenCount();
+        long output = usage == null || usage.outputTokenCount() == null ? 0 : usage.outputTokenCount();
+        long actual = usage == null ? 0 : input + output;
+        if (usage != null && actual == 0) {
+            // 사용량 메타데이터 없음 → 예약분을 실제 사용량으로 간주
+            actual = reservation.tokens();
+        }
+        agent.inputTokens.add(input);
+        agent.outputTokens.add(output);
+
+        lock.lock();
+        try {
+            roll();
+            long delta = actual - reservation.tokens();
+            global.adjust(reservation, delta);
+            agent.budget.adjust(reservation, delta);
+            if (usage != null) {
+                agent.estimateTokens = Math.max(1, (agent.estimateTokens * 3 + actual) / 4);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금 나갈 수 있는 가장 높은 순위의 호출 (lock 안에서).
+     * 전체 예산이 모자라면 아무도 나가지 않고, 에이전트 예산에 걸린 호출은 건너뛴다.
+     */
+    private Ticket firstAdmissible() {
+        for (var ticket : waiting) {
+            long estimate = ticket.agent().estimateTokens;
+            if (!global.fits(estimate)) {
+                return null;
+            }
+            if (ticket.agent().budget.fits(estimate)) {
+                return ticket;
+            }
+        }
+        return null;
+    }
+
+    private void roll() {
+        long minuteKey = TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+        long dayKey = LocalDate.now(clock).toEpochDay();
+        global.roll(minuteKey, dayKey);
+        agents.values().forEach(agent -> agent.budget.roll(minuteKey, dayKey));
+    }
+
+    private AgentState agentOf(String agentName) {
+        return agents.computeIfAbsent(agentName, this::registerAgent);
+    }
+
+    private AgentState registerAgent(String agentName) {
+        String prefix = "kairos.gemini.agents." + agentName.toLowerCase(Locale.ROOT) + ".";
+        var agent = new AgentState(agentName, priorityOf(agentName),
+                new Budget(environment.getProperty(prefix + "tokens-per-minute", Long.class, 0L),
+                        environment.getProperty(prefix + "tokens-per-day", Long.class, 0L)),
+                defaultEstimateTokens,
+                Timer.builder("kairos.gemini.queue.wait")
+                        .description("토큰 예산 대기 시간")
+                        .tag("agent", agentName)
+                        .tag("priority", priorityOf(agentName).name())
+                        .register(meterRegistry));
+        for (var direction : List.of("input", "output")) {
+            FunctionCounter.builder("kairos.gemini.tokens", agent,
+                            state -> (direction.equals("input") ? state.inputTokens : state.outputTokens).sum())
+                    .description("Gemini 응답 사용량 기준 토큰")
+                    .tag("agent", agentName)
+                    .tag("direction", direction)
+                    .register(meterRegistry);
+        }
+        return agent;
+    }
+
+    /**
+     * 에이전트별 상태 (예산·예상 토큰은 lock으로 보호).
+     */
+    static final class AgentState {
+        final String name;
+        final Priority priority;
+        final Budget budget;
+        final Timer queueWait;
+        final LongAdder inputTokens = new LongAdder();
+        final LongAdder outputTokens = new LongAdder();
+
+        // 호출당 예상 토큰 (실제 사용량 이동평균)
+        long estimateTokens;
+
+        AgentState(String name, Priority priority, Budget budget, long estimateTokens, Timer queueWait) {
+            this.name = name;
+            this.priority = priority;
+            this.budget = budget;
+            this.estimateTokens = estimateTokens;
+            this.queueWait = queueWait;
+        }
+    }
+
+    /**
+     * 분/일 토큰 예산.
+     */
+    static final class Budget {
+        final Window minute;
+        final Window day;
+
+        Budget(long perMinute, long perDay) {
+            this.minute = new Window(perMinute);
+            this.day = new Window(perDay);
+        }
+
+        Window window(String name) {
+            return "minute".equals(name) ? minute : day;
+        }
+
+        void roll(long minuteKey, long dayKey) {
+            minute.roll(minuteKey);
+            day.roll(dayKey);
+        }
+
+        boolean fits(long tokens) {
+            return minute.fits(tokens) && day.fits(tokens);
+        }
+
+        void charge(long tokens) {
+            minute.used += tokens;
+            day.used += tokens;
+        }
+
+        /**
+         * 예약한 구간이 아직 현재 구간일 때만 정산.
+         */
+        void adjust(Reservation reservation, long delta) {
+            if (minute.key == reservation.minuteKey()) {
+                minute.used = Math.max(0, minute.used + delta);
+            }
+            if (day.key == reservation.dayKey()) {
+                day.used = Math.max(0, day.used + delta);
+            }
+        }
+    }
+
+    /**
+     * 고정 구간 토큰 카운터 (limit 0 = 무제한).
+     */
+    static final class Window {
+        final long limit;
+        long key = Long.MIN_VALUE;
+        volatile long used;
+
+        Window(long limit) {
+            this.limit = limit;
+        }
+
+        void roll(long currentKey) {
+            if (key != currentKey) {
+                key = currentKey;
+                used = 0;
+            }
+        }
+
+        /**
+         * 예산 안이면 true. 구간 첫 호출은 예상치가 예산보다 커도 보낸다 (영구 대기 방지).
+         */
+        boolean fits(long tokens) {
+            return limit <= 0 || used == 0 || used + tokens <= limit;
+        }
+    }
+
+    private record Ticket(Priority priority, long sequence, AgentState agent) {
+    }
+
+    private record Reservation(long tokens, long minuteKey, long dayKey) {
+    }
+
+    /**
+     * 토큰 예산을 거쳐 호출하는 모델.
+     */
+    private final class ScheduledChatModel implements ChatLanguageModel {
+
+        private final AgentState agent;
+        private final ChatLanguageModel delegate;
+
+        ScheduledChatModel(AgentState agent, ChatLanguageModel delegate) {
+            this.agent = agent;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            return call(agent, () -> delegate.generate(messages), Response::tokenUsage);
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+            return call(agent, () -> delegate.generate(messages, toolSpecifications), Response::tokenUsage);
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+            return call(agent, () -> delegate.generate(messages, toolSpecification), Response::tokenUsage);
+        }
+
+        @Override
+        public ChatResponse chat(ChatRequest request) {
+            return call(agent, () -> delegate.chat(request), ChatResponse::tokenUsage);
+        }
+
+        @Override
+        public Set<Capability> supportedCapabilities() {
+            return delegate.supportedCapabilities();
+        }
+    }
+
+    /**
+     * 토큰 예산을 거쳐 호출하는 스트리밍 모델.
+     */
+    private final class ScheduledStreamingChatModel implements StreamingChatLanguageModel {
+
+        private final AgentState agent;
+        private final StreamingChatLanguageModel delegate;
+
+        ScheduledStreamingChatModel(AgentState agent, StreamingChatLanguageModel delegate) {
+            this.agent = agent;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+            stream(agent, handler, settling -> delegate.generate(messages, settling));
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+                StreamingResponseHandler<AiMessage> handler) {
+            stream(agent, handler, settling -> delegate.generate(messages, toolSpecifications, settling));
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+                StreamingResponseHandler<AiMessage> handler) {
+            stream(agent, handler, settling -> delegate.generate(messages, toolSpecification, settling));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.kairos.trading.common.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 스트리밍 JSON 응답의 최상위 필드 점진 추출기.
+ *
+ * LLM이 JSON을 토큰 단위로 생성하는 동안 청크를 그대로 {@link #feed}하면,
+ * 최상위 객체의 필드 값이 끝나는 즉시(다음 {@code ,} 또는 닫는 {@code }}) 값을 읽을 수 있다.
+ * - 첫 {@code {} 전의 텍스트(마크다운 코드 펜스 등)는 무시한다.
+ * - 값은 Jackson으로 해석한다 (문자열, 숫자, true/false, null, 중첩 객체/배열은 Map/List).
+ * - 스트림 콜백 스레드 하나에서만 호출한다 (동기화 없음).
+ */
+public class StreamingJsonFieldExtractor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private enum State { BEFORE_OBJECT, KEY, IN_KEY, COLON, VALUE, DONE }
+
+    private final Map<String, Object> fields = new LinkedHashMap<>();
+    private final StringBuilder buffer = new StringBuilder();
+
+    private State state = State.BEFORE_OBJECT;
+    private String key;
+    private int depth;
+    private boolean inString;
+    private boolean escape;
+
+    /**
+     * 다음 청크 입력.
+     */
+    public void feed(CharSequence chunk) {
+        if (chunk == null) {
+            return;
+        }
+        for (int i = 0; i < chunk.length() && state != State.DONE; i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    /**
+     * 값이 끝난 필드인지.
+     */
+    public boolean has(String field) {
+        return fields.containsKey(field);
+    }
+
+    public boolean hasAll(Collection<String> names) {
+        return fields.keySet().containsAll(names);
+    }
+
+    /**
+     * 최상위 객체가 닫혔는지.
+     */
+    public boolean isComplete() {
+        return state == State.DONE;
+    }
+
+    public Object get(String field) {
+        return fields.get(field);
+    }
+
+    /**
+     * 문자열 값 (없거나 null이면 null, 문자열이 아니면 문자열로 변환).
+     */
+    public String text(String field) {
+        Object value = fields.get(field);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * 정수 값 (문자열 숫자 "75000", "75,000"도 변환, 숫자가 아니면 기본값).
+     */
+    public long longValue(String field, long defaultValue) {
+        double value = doubleValue(field, Double.NaN);
+        return Double.isNaN(value) ? defaultValue : Math.round(value);
+    }
+
+    /**
+     * 실수 값 (문자열 숫자도 변환, 숫자가 아니면 기본값).
+     */
+    public double doubleValue(String field, double defaultValue) {
+        Object value = fields.get(field);
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Double.parseDouble(text.replace(",", "").strip());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * 지금까지 끝난 필드 (입력 순서).
+     */
+    public Map<String, Object> fields() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case BEFORE_OBJECT -> {
+                if (c == '{') {
+                    state = State.KEY;
+                }
+            }
+            case KEY -> {
+                if (c == '"') {
+                    buffer.setLength(0);
+                    buffer.append(c);
+                    escape = false;
+                    state = State.IN_KEY;
+                } else if (c == '}') {
+                    state = State.DONE;
+                }
+            }
+            case IN_KEY -> {
+                buffer.append(c);
+                if (escape) {
+                    escape = false;
+                } else if (c == '\\') {
+                    escape = true;
+                } else if (c == '"') {
+                    key = String.valueOf(parse(buffer.toString()));
+                    state = State.COLON;
+                }
+            }
+            case COLON -> {
+                if (c == ':') {
+                    buffer.setLength(0);
+                    depth = 0;
+                    inString = false;
+                    escape = false;
+                    state = State.VALUE;
+                }
+            }
+            case VALUE -> acceptValue(c);
+            case DONE -> {
+            }
+        }
+    }
+
+    private void acceptValue(char c) {
+        if (inString) {
+            buffer.append(c);
+            if (escape) {
+                escape = false;
+            } else if (c == '\\') {
+                escape = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                buffer.append(c);
+            }
+            case '{', '[' -> {
+                depth++;
+                buffer.append(c);
+            }
+            case '}', ']' -> {
+                if (depth == 0) {
+                    // 최상위 객체 닫힘
+                    finishValue();
+                    state = State.DONE;
+                } else {
+                    depth--;
+                    buffer.append(c);
+                }
+            }
+            case ',' -> {
+                if (depth == 0) {
+                    finishValue();
+                    state = State.KEY;
+                } else {
+                    buffer.append(c);
+                }
+            }
+            default -> buffer.append(c);
+        }
+    }
+
+    private void finishValue() {
+        String raw = buffer.toString().strip();
+        if (!raw.isEmpty()) {
+            fields.put(key, parse(raw));
+        }
+    }
+
+    private static Object parse(String raw) {
+        try {
+            return MAPPER.readValue(raw, Object.class);
+        } catch (JsonProcessingException e) {
+            // JSON이 아닌 값 (따옴표 없는 문자열 등)은 원문 그대로
+            return raw;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.kairos.trading.common.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 가격 트리거 이벤트.
+ * 목표가/손절가/사용자 알림 가격을 체결가가 넘었을 때 가격 트리거 인덱스가 발행한다.
+ */
+public class PriceTriggerEvent extends ApplicationEvent {
+
+    public enum Type {
+        /** 목표가 도달 (체결가 ≥ 목표가) */
+        TARGET_PRICE,
+        /** 손절가 도달 (체결가 ≤ 손절가) */
+        STOP_LOSS,
+        /** 알림 가격 상향 돌파 (체결가 ≥ 알림가) */
+        ALERT_ABOVE,
+        /** 알림 가격 하향 돌파 (체결가 ≤ 알림가) */
+        ALERT_BELOW
+    }
+
+    private final int symbolId;
+    private final String stockCode;
+    private final Type type;
+    private final long level;
+    private final long price;
+    private final long alertId;
+
+    public PriceTriggerEvent(Object source, int symbolId, String stockCode, Type type, long level, long price,
+            long alertId) {
+        super(source);
+        this.symbolId = symbolId;
+        this.stockCode = stockCode;
+        this.type = type;
+        this.level = level;
+        this.price = price;
+        this.alertId = alertId;
+    }
+
+    public int getSymbolId() {
+        return symbolId;
+    }
+
+    public String getStockCode() {
+        return stockCode;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 넘어선 트리거 가격.
+     */
+    public long getLevel() {
+        return level;
+    }
+
+    /**
+     * 트리거를 넘은 체결가.
+     */
+    public long getPrice() {
+        return price;
+    }
+
+    /**
+     * 사용자 알림 ID (알림이 아니면 0).
+     */
+    public long getAlertId() {
+        return alertId;
+    }
+
+    public boolean isAlert() {
+        return type == Type.ALERT_ABOVE || type == Type.ALERT_BELOW;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PriceTriggerEvent[%s %s level=%d price=%d]", stockCode, type, level, price);
+    }
+}
@@ -51,6 +51,13 @@ public class ProgramTradeEvent extends org.springframework.context.ApplicationEv
      * 프로그램 매도 우세인지 확인 (설거지 패턴 감지용)
      */
     public boolean isDistributionPattern() {
+        return isDistributionPattern(programNet);
+    }
+
+    /**
+     * 설거지 패턴 판정 (프레임 등 이벤트 생성 없이 사용).
+     */
+    public static boolean isDistributionPattern(long programNet) {
         return programNet < -10_000_000_000L; // 100억 이상 순매도
     }
 }
@@ -67,13 +67,27 @@ public class StockQuoteEvent extends ApplicationEvent {
      * 갭 상승 여부 (시가 > 전일종가 * 1.02).
      */
     public boolean isGapUp() {
-        return basePrice > 0 && openPrice > basePrice * 1.02;
+        return isGapUp(openPrice, basePrice);
     }
 
     /**
      * 신고가 돌파 여부.
      */
     public boolean isNewHigh() {
+        return isNewHigh(currentPrice, highPrice, changeRate);
+    }
+
+    /**
+     * 갭 상승 판정 (프레임 등 이벤트 생성 없이 사용).
+     */
+    public static boolean isGapUp(long openPrice, long basePrice) {
+        return basePrice > 0 && openPrice > basePrice * 1.02;
+    }
+
+    /**
+     * 신고가 돌파 판정 (프레임 등 이벤트 생성 없이 사용).
+     */
+    public static boolean isNewHigh(long currentPrice, long highPrice, double changeRate) {
         return currentPrice == highPrice && changeRate > 3.0;
     }
 }
@@ -67,6 +67,13 @@ public class StockTradeEvent extends ApplicationEvent {
      * 대량 체결 여부 (1억원 이상).
      */
     public boolean isLargeTrade() {
+        return isLargeTrade(price, volume);
+    }
+
+    /**
+     * 대량 체결 판정 (프레임 등 이벤트 생성 없이 사용).
+     */
+    public static boolean isLargeTrade(long price, long volume) {
         return price * volume >= 100_000_000;
     }
 
@@ -1,11 +1,25 @@
 package com.kairos.trading.common.event;
 
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.common.ai.AgentResultCache;
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataType;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
 import com.kairos.trading.domain.execution.service.TradeExecutionService;
 import com.kairos.trading.domain.flow.agent.SonarAgent;
+import com.kairos.trading.domain.news.service.RecentNewsBuffer;
 import com.kairos.trading.domain.strategy.dto.ExecutionOrder;
-import com.kairos.trading.domain.strategy.service.NexusService;
+import com.kairos.trading.domain.strategy.service.AnalystFanOutCoordinator;
+import com.kairos.trading.domain.strategy.service.AnalystFanOutCoordinator.AnalystCall;
+import com.kairos.trading.domain.strategy.service.AnalystRuleTier;
+import com.kairos.trading.domain.strategy.service.NexusStreamingService;
+import com.kairos.trading.domain.technical.service.IntradayIndicatorEngine;
 import com.kairos.trading.domain.technical.service.NanoBananaCalculator;
+import com.kairos.trading.domain.technical.service.NanoBananaScreener;
+import com.kairos.trading.domain.technical.service.SignalStateMachine;
 import com.kairos.trading.domain.technical.service.VectorService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -13,8 +27,10 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
 
 /**
  * 실시간 트레이딩 이벤트 리스너.
@@ -27,49 +43,81 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class TradingEventListener {
 
+    // 의사결정 전략 모드
+    private static final String STRATEGY_MODE = "AGGRESSIVE";
+
     private final NanoBananaCalculator nanoBananaCalculator;
     private final VectorService vectorService;
-    private final NexusService nexusService;
+    private final NexusStreamingService nexusStreamingService;
     private final TradeExecutionService executionService;
     private final ApplicationEventPublisher eventPublisher;
+    private final MarketDataDispatcher marketDataDispatcher;
+    private final SymbolRegistry symbolRegistry;
+    private final IntradayIndicatorEngine indicatorEngine;
+    private final NanoBananaScreener screener;
+    private final SignalStateMachine signalStateMachine;
+
+    /**
+     * 시세 디스패처에 핸들러 등록.
+     * 시세 이벤트는 종목별 샤드 스레드에서 순서대로 처리된다.
+     */
+    @PostConstruct
+    public void init() {
+        marketDataDispatcher.register(MarketDataType.TICK, this::onTick);
+        marketDataDispatcher.register(ProgramTradeEvent.class, this::onProgramTrade);
+        marketDataDispatcher.register(ViEvent.class, this::onViEvent);
+    }
 
-    // 종목별 이평선 캐시 (실시간 업데이트)
-    private final Map<String, MovingAverageCache> maCache = new ConcurrentHashMap<>();
+    /**
+     * 체결 프레임 처리 (핫패스, 이벤트 객체 없음).
+     */
+    public void onTick(MarketDataFrame frame) {
+        checkNanoBanana(frame.getSymbolId(), frame.getStockCode(),
+                frame.getPrice(), frame.getAccVolume(), frame.getChangeRate());
+    }
 
     /**
      * 체결가 이벤트 처리.
      * NanoBanana 패턴 감지 시 분석 완료 이벤트 발행.
      */
-    @Async
-    @EventListener
     public void onTickData(TickDataEvent event) {
-        String stockCode = event.getStockCode();
-        log.trace("[EventListener] 체결: {} @ {} ({}%)",
-                stockCode, event.getPrice(), event.getChangeRate());
+        checkNanoBanana(symbolRegistry.idOf(event.getStockCode()), event.getStockCode(),
+                event.getPrice(), event.getAccVolume(), event.getChangeRate());
+    }
 
-        // 캐시에서 이평선 조회 (없으면 스킵)
-        var cache = maCache.get(stockCode);
-        if (cache == null) {
-            log.debug("[EventListener] MA 캐시 미존재: {}", stockCode);
+    private void checkNanoBanana(int symbolId, String stockCode, long price, long accVolume, double changeRate) {
+        if (log.isTraceEnabled()) {
+            log.trace("[EventListener] 체결: {} @ {} ({}%)", stockCode, price, changeRate);
+        }
+
+        // 오늘 봉을 포함한 이평선 증분 갱신 (시드 전이면 스킵)
+        var indicators = indicatorEngine.onTick(symbolId, price, accVolume);
+        if (indicators == null) {
+            log.debug("[EventListener] 이평선 미시드: {}", stockCode);
             return;
         }
 
+        // 전 종목 스크리너 입력 갱신 (배열 기록만)
+        screener.update(symbolId, indicators.ma5(), indicators.ma20(), indicators.ma60(),
+                accVolume, indicators.avgVolume());
+
         // NanoBanana 패턴 체크 (Pure Java, 실시간)
         boolean isPattern = vectorService.detectNanoBananaPattern(
-                cache.ma5, cache.ma20, cache.ma60,
-                event.getAccVolume(), cache.avgVolume);
+                indicators.ma5(), indicators.ma20(), indicators.ma60(),
+                accVolume, indicators.avgVolume());
 
-        if (isPattern) {
-            log.info("[EventListener] 🍌 NanoBanana 감지: {} @ {}", stockCode, event.getPrice());
+        // 상승 에지에서만 발화 (조건 유지·쿨다운 중 반복 감지는 억제)
+        if (signalStateMachine.evaluate(symbolId, isPattern, System.nanoTime())) {
+            log.info("[EventListener] 🍌 NanoBanana 감지: {} @ {}", stockCode, price);
 
             // 분석 완료 이벤트 발행 → Nexus로 전달
             eventPublisher.publishEvent(new AnalysisCompleteEvent(
                     this,
                     stockCode,
-                    cache.stockName,
+                    indicators.stockName(),
                     "NANO_BANANA",
                     85, // 패턴 점수
-                    event.getPrice(),
+                    price,
                     "NanoBanana 패턴 감지 - 이평선 수렴 후 거래량 폭발"));
         }
     }
@@ -78,10 +126,9 @@ public class TradingEventListener {
      * 프로그램 매매 이벤트 처리.
      * 설거지 패턴(대량 프로그램 매도) 감지 시 경고.
      */
-    @Async
-    @EventListener
     public void onProgramTrade(ProgramTradeEvent event) {
         String stockCode = event.getStockCode();
+        ruleTier.recordProgramTrade(symbolRegistry.idOf(stockCode), event.getProgramNet());
 
         // 설거지 패턴 체크 (주가 상승 중 프로그램 순매도)
         if (event.isDistributionPattern()) {
@@ -96,8 +143,6 @@ public class TradingEventListener {
      * VI 발동 이벤트 처리.
      * 보유 종목 VI 발동 시 Kill Switch 검토.
      */
-    @Async
-    @EventListener
     public void onViEvent(ViEvent event) {
         log.warn("[EventListener] 🚨 VI 발동: {} ({}) @ {}",
                 event.getStockName(), event.getViType(), event.getTriggerPrice());
@@ -122,6 +167,10 @@ public class TradingEventListener {
     private final com.kairos.trading.domain.fundamental.agent.AxiomAgent axiomAgent;
     private final com.kairos.trading.domain.flow.agent.SonarAgent sonarAgent;
     private final com.kairos.trading.domain.sentiment.agent.ResonanceAgent resonanceAgent;
+    private final AnalystFanOutCoordinator fanOutCoordinator;
+    private final AgentResultCache agentResultCache;
+    private final AnalystRuleTier ruleTier;
+    private final RecentNewsBuffer recentNews;
 
     /**
      * 분석 완료 이벤트 처리.
@@ -140,34 +189,75 @@ public class TradingEventListener {
             String stockCode = event.getStockCode();
             String stockName = event.getStockName();
 
-            // 1. 5인 분석가 리포트 수집 (Structured Concurrency - Parallel Execution)
-            try (var scope = new java.util.concurrent.StructuredTaskScope.ShutdownOnFailure()) {
-                // Fork tasks (Virtual Threads)
-                // Fix: Hardcoded "Simulated" strings replaced with empty context or specific
-                // request parameters
-                var sentinelTask = scope.fork(() -> sentinelAgent.analyze(stockCode, stockName, "{}"));
-                var axiomTask = scope.fork(() -> axiomAgent.analyze(stockCode, stockName, "{}"));
-                var vectorTask = scope.fork(() -> vectorService.analyzeAndGetResponse(
-                        stockCode, stockName, event.getPrice(),
-                        0, 0, 0, 0, 0, "{}"));
-                var sonarTask = scope.fork(() -> sonarAgent.analyze(stockCode, stockName, "{}", "{}"));
-                var resonanceTask = scope.fork(() -> resonanceAgent.analyze(0, 0, 0, 0, 0, "{}"));
-
-                // Join implementation (Wait for all or fail fast)
-                scope.join();
-                scope.throwIfFailed();
-
-                var reports = java.util.List.of(
-                        sentinelTask.get(),
-                        axiomTask.get(),
-                        vectorTask.get(),
-                        sonarTask.get(),
-                        resonanceTask.get());
-
-                // 2. Nexus에게 의사결정 요청
-                var decision = nexusService.decide(reports, "AGGRESSIVE", stockCode, stockName);
-
-                // 3. BUY 승인 시 주문 생성 및 Aegis 전달
+            // 1. 규칙 계층 (순수 Java, 분명한 경우 Nexus 없이 결정)
+            // 외인·기관 순매수는 장중 수신 경로가 아직 없어 비워 두고, 프로그램 순매수는 규칙 계층이 직접 보관한다
+            long startNanos = System.nanoTime();
+            var indicators = indicatorEngine.get(stockCode);
+            String newsText = recentNews.find(stockCode, stockName);
+            var ruleReports = ruleTier.evaluate(new AnalystRuleTier.Inputs(stockCode, stockName,
+                    event.getPrice(), indicators, newsText, null, null, STRATEGY_MODE));
+            var ruleDecision = ruleTier.decide(ruleReports);
+            if (ruleDecision.isPresent()) {
+                ruleTier.recordDecision(true, ruleReports.size(), System.nanoTime() - startNanos);
+                log.info("[EventListener] 규칙 계층 결정 → Nexus 생략: {} {} ({})",
+                        stockCode, ruleDecision.get().decision(), ruleDecision.get().reasoning());
+                return;
+            }
+
+            // 2. 규칙으로 결론 나지 않은 분석가만 LLM 호출 (의사결정 기한까지 도착한 리포트만, 누락 에이전트는 MISSING 표시)
+            try {
+                Map<String, AnalystCall> llmCalls = Map.of(
+                        "Sentinel", new AnalystCall("Sentinel", () -> sentinelAgent.analyze(stockCode, stockName,
+                                newsText == null ? "{}" : newsText)),
+                        "Axiom", new AnalystCall("Axiom", () -> agentResultCache.getOrCompute("Axiom", stockCode,
+                                stockName, () -> axiomAgent.analyze(stockCode, stockName, "{}"))),
+                        "Vector", new AnalystCall("Vector", () -> indicators == null
+                                ? vectorService.analyzeAndGetResponse(stockCode, stockName, event.getPrice(),
+                                        0, 0, 0, 0, 0, "{}")
+                                : vectorService.analyzeAndGetResponse(stockCode, stockName, event.getPrice(),
+                                        indicators.ma5(), indicators.ma20(), indicators.ma60(),
+                                        indicators.accVolume(), indicators.avgVolume(), "{}")),
+                        "Sonar", new AnalystCall("Sonar", () -> sonarAgent.analyze(stockCode, stockName, "{}", "{}")),
+                        "Resonance", new AnalystCall("Resonance", () -> agentResultCache.getOrCompute("Resonance",
+                                AgentResultCache.MARKET, AgentResultCache.MARKET,
+                                () -> resonanceAgent.analyze(0, 0, 0, 0, 0, "{}"))));
+
+                var pending = new ArrayList<AnalystCall>();
+                ruleReports.forEach((name, report) -> {
+                    if (!ruleTier.isConclusive(report)) {
+                        pending.add(llmCalls.get(name));
+                    }
+                });
+                Map<String, AgentResponse> llmReports = new HashMap<>();
+                if (!pending.isEmpty()) {
+                    var fanOut = fanOutCoordinator.fanOut(pending);
+                    if (fanOut.receivedCount() == 0) {
+                        log.warn("[EventListener] 기한 내 도착한 분석 리포트 없음 → 의사결정 생략: {}", stockCode);
+                        return;
+                    }
+                    fanOut.reports().forEach(report -> llmReports.put(report.agentName(), report));
+                }
+                var reports = AnalystRuleTier.ANALYSTS.stream()
+                        .map(name -> llmReports.getOrDefault(name, ruleReports.get(name)))
+                        .toList();
+
+                // 3. Nexus에게 의사결정 요청 (스트리밍: 결정 필드가 끝나는 즉시 진행, 서술 필드는 비동기 기록)
+                var streaming = nexusStreamingService.decide(reports, STRATEGY_MODE, stockCode, stockName);
+                var decision = nexusStreamingService.awaitActionable(streaming);
+                if (decision == null) {
+                    log.warn("[EventListener] Nexus 의사결정 없음 → 주문 생략: {}", stockCode);
+                    return;
+                }
+                ruleTier.recordDecision(false, AnalystRuleTier.ANALYSTS.size() - pending.size(),
+                        System.nanoTime() - startNanos);
+                streaming.complete().whenComplete((full, error) -> {
+                    if (full != null) {
+                        log.info("[EventListener] Nexus 의사결정 근거: {} {} - {} (반대 의견: {})",
+                                stockCode, full.decision(), full.reasoning(), full.dissent());
+                    }
+                });
+
+                // 4. BUY 승인 시 주문 생성 및 Aegis 전달
                 if ("BUY".equals(decision.decision())) {
                     var order = ExecutionOrder.newBuy(
                             stockCode,
@@ -177,38 +267,28 @@ public class TradingEventListener {
                             java.math.BigDecimal.valueOf(decision.targetPrice()),
                             java.math.BigDecimal.valueOf(decision.stopLossPrice()),
                             decision.riskLevel(),
-                            decision.reasoning());
+                            Objects.requireNonNullElse(decision.reasoning(), "Nexus " + decision.decision()));
                     executionService.submitOrder(order);
                     executionService.processNextOrder();
                 }
 
-            } catch (java.util.concurrent.ExecutionException | InterruptedException e) {
-                log.error("[EventListener] 에이전트 분석 중 오류 발생: {}", e.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("[EventListener] 에이전트 분석 중 인터럽트: {}", stockCode);
                 // Async 메서드이므로 예외 전파 대신 로그 처리
             }
         }
     }
 
     /**
-     * 종목 이평선 캐시 업데이트.
-     * 장 시작 시 또는 주기적으로 호출.
+     * 종목 이평선 시드 (일봉 없이 이평선 값만 있을 때).
+     * 이후 체결마다 오늘 봉을 포함해 증분 갱신된다.
      */
     public void updateMovingAverageCache(String stockCode, String stockName,
             double ma5, double ma20, double ma60,
             long avgVolume) {
-        maCache.put(stockCode, new MovingAverageCache(stockName, ma5, ma20, ma60, avgVolume));
-        log.debug("[EventListener] MA 캐시 업데이트: {} (MA5={}, MA20={}, MA60={})",
+        indicatorEngine.seedAverages(stockCode, stockName, ma5, ma20, ma60, avgVolume);
+        log.debug("[EventListener] 이평선 시드: {} (MA5={}, MA20={}, MA60={})",
                 stockCode, ma5, ma20, ma60);
     }
-
-    /**
-     * 이동평균 캐시 레코드.
-     */
-    private record MovingAverageCache(
-            String stockName,
-            double ma5,
-            double ma20,
-            double ma60,
-            long avgVolume) {
-    }
 }
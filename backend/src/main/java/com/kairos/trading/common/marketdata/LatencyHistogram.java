@@ -0,0 +1,130 @@
+package com.kairos.trading.common.marketdata;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연시간(ns) 로그-선형 히스토그램.
+ *
+ * 2의 거듭제곱 구간마다 {@value #SUB_BUCKETS}개 하위 구간으로 나눠 상대 오차 약 6% 이내로 기록한다.
+ * 기록은 할당 없이 배열 원소 하나만 갱신하며, {@link #record}는 쓰기 스레드 하나(샤드 스레드)를 전제로 한다.
+ * 다른 스레드는 {@link #snapshot()}으로 복사본을 떠서 백분위를 계산한다.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * 지연시간 기록 (단일 쓰기 스레드).
+     */
+    public void record(long nanos) {
+        int index = indexOf(Math.max(0L, nanos));
+        counts.lazySet(index, counts.get(index) + 1);
+    }
+
+    /**
+     * 지연시간 기록 (여러 스레드가 동시에 기록할 때, 원자적 증가).
+     */
+    public void recordConcurrent(long nanos) {
+        counts.incrementAndGet(indexOf(Math.max(0L, nanos)));
+    }
+
+    /**
+     * 현재 값 복사본.
+     */
+    public LatencyHistogram snapshot() {
+        LatencyHistogram copy = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            copy.counts.lazySet(i, counts.get(i));
+        }
+        return copy;
+    }
+
+    /**
+     * 다른 히스토그램 누적 (스냅샷 병합용).
+     */
+    public LatencyHistogram add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.lazySet(i, counts.get(i) + other.counts.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * 이전 스냅샷 이후 기록분 (구간 측정용).
+     */
+    public LatencyHistogram minus(LatencyHistogram earlier) {
+        LatencyHistogram delta = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            delta.counts.lazySet(i, counts.get(i) - earlier.counts.get(i));
+        }
+        return delta;
+    }
+
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 백분위 값 (해당 구간 상한, 기록이 없으면 0).
+     *
+     * @param percentile 0 ~ 100
+     */
+    public long percentile(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     * 주요 백분위 요약.
+     */
+    public Summary summary() {
+        return new Summary(count(), percentile(50), percentile(99), percentile(99.9), percentile(100));
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        if (shift >= 64 - SUB_BUCKET_BITS - 1) {
+            return Long.MAX_VALUE;
+        }
+        long sub = index % SUB_BUCKETS;
+        long lower = (SUB_BUCKETS + sub) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * 지연시간 요약 (ns).
+     */
+    public record Summary(long count, long p50, long p99, long p999, long max) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.kairos.trading.common.marketdata;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 실시간 원본 프레임 캡처 설정.
+ *
+ * WebSocket 세션마다 {@code <directory>/<yyyyMMdd>/session-<HHmmss.SSS>-<세션 번호>.journal} 저널을 연다.
+ * 장애 재현·실데이터 벤치마크용이며, 저널을 열지 못해도 시세 수신은 계속된다.
+ */
+@Slf4j
+@Component
+public class MarketDataCapture {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmmss.SSS");
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+
+    public MarketDataCapture(
+            @Value("${kairos.market-data.capture.enabled:true}") boolean enabled,
+            @Value("${kairos.market-data.capture.directory:data/journal}") String directory,
+            @Value("${kairos.market-data.capture.segment-size-mb:64}") int segmentSizeMb) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * 세션 저널 생성.
+     *
+     * @param sessionIndex WebSocket 세션 번호 (동시에 열리는 세션끼리 파일명 구분)
+     * @return 저널, 비활성 또는 생성 실패 시 null
+     */
+    public MarketDataJournal openSession(int sessionIndex) {
+        if (!enabled) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Path file = directory.resolve(now.format(DAY)).resolve("session-" + now.format(TIME) + "-" + sessionIndex + ".journal");
+        try {
+            MarketDataJournal journal = MarketDataJournal.create(file, segmentSize);
+            log.info("[MarketData] 캡처 저널 시작: {}", file);
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            log.error("[MarketData] 캡처 저널 생성 실패 - 캡처 없이 진행: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * 세션 저널 닫기.
+     */
+    public void closeSession(MarketDataJournal journal) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+            log.info("[MarketData] 캡처 저널 종료: {} ({}건, 초과 크기 제외 {}건)",
+                    journal.getFile(), journal.getRecordCount(), journal.getDroppedCount());
+        } catch (IOException e) {
+            log.warn("[MarketData] 캡처 저널 닫기 실패: {}", journal.getFile(), e);
+        }
+    }
+}
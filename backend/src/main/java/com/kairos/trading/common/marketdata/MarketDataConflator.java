@@ -0,0 +1,133 @@
+package com.kairos.trading.common.marketdata;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최신값 병합(conflation) 테이블.
+ *
+ * 호가(0D)·주식시세(0A)는 최신 스냅샷만 의미가 있으므로 (종목, 타입)마다 최신 프레임 하나만 보관한다.
+ * - 소비되지 않은 스냅샷이 있으면 새 프레임으로 덮어쓰고 링에는 적재하지 않는다 (병합 건수 증가).
+ * - 없으면 스냅샷을 기록하고 링에 자리표시 프레임을 적재한다. 샤드 스레드는 그 자리에서 최신 스냅샷을 꺼낸다.
+ * → 소비가 느려도 링에 쌓이는 호가/시세는 종목·타입당 최대 1건이다.
+ *
+ * 체결(00)·VI(1h) 등 나머지 타입은 병합하지 않는다.
+ */
+final class MarketDataConflator {
+
+    private static final int LANES = 2;
+
+    // (종목 ID * LANES + 레인) → 스냅샷 (처음 사용할 때 생성)
+    private final AtomicReferenceArray<Snapshot> snapshots;
+
+    // 종목 ID → 병합(버려진) 건수
+    private final AtomicLongArray conflatedBySymbol;
+
+    // 레인 → 병합 건수 합계 (메트릭)
+    private final AtomicLong[] conflatedByLane = { new AtomicLong(), new AtomicLong() };
+
+    MarketDataConflator(int symbolCapacity) {
+        this.snapshots = new AtomicReferenceArray<>(symbolCapacity * LANES);
+        this.conflatedBySymbol = new AtomicLongArray(symbolCapacity);
+    }
+
+    /**
+     * 병합 대상 타입 여부.
+     */
+    static boolean isConflatable(MarketDataType type) {
+        return lane(type) >= 0;
+    }
+
+    /**
+     * 최신 스냅샷 기록.
+     *
+     * @return 소비 대기 중인 스냅샷에 병합되어 링 적재가 필요 없으면 true
+     */
+    boolean offer(MarketDataFrame frame, int symbolId) {
+        int lane = lane(frame.getType());
+        Snapshot snapshot = snapshot(symbolId, lane);
+        synchronized (snapshot) {
+            snapshot.latest.copyFrom(frame);
+            snapshot.latest.setSymbolId(symbolId);
+            if (snapshot.pending) {
+                conflatedBySymbol.incrementAndGet(symbolId);
+                conflatedByLane[lane].incrementAndGet();
+                return true;
+            }
+            snapshot.pending = true;
+            return false;
+        }
+    }
+
+    /**
+     * 자리표시 프레임을 적재하지 못했을 때 대기 상태 해제 (다음 프레임이 다시 자리표시를 적재하도록).
+     */
+    void release(int symbolId, MarketDataType type) {
+        Snapshot snapshot = snapshots.get(symbolId * LANES + lane(type));
+        if (snapshot != null) {
+            synchronized (snapshot) {
+                snapshot.pending = false;
+            }
+        }
+    }
+
+    /**
+     * 자리표시 프레임을 최신 스냅샷으로 교체 (샤드 스레드).
+     */
+    void takeLatest(MarketDataFrame frame) {
+        Snapshot snapshot = snapshots.get(frame.getSymbolId() * LANES + lane(frame.getType()));
+        if (snapshot == null) {
+            return;
+        }
+        synchronized (snapshot) {
+            frame.copyFrom(snapshot.latest);
+            snapshot.pending = false;
+        }
+    }
+
+    /**
+     * 종목별 병합 건수.
+     */
+    long conflatedCount(int symbolId) {
+        return conflatedBySymbol.get(symbolId);
+    }
+
+    /**
+     * 타입별 병합 건수 합계.
+     */
+    long conflatedCount(MarketDataType type) {
+        return conflatedByLane[lane(type)].get();
+    }
+
+    private Snapshot snapshot(int symbolId, int lane) {
+        int index = symbolId * LANES + lane;
+        Snapshot snapshot = snapshots.get(index);
+        if (snapshot == null) {
+            Snapshot created = new Snapshot();
+            snapshot = snapshots.compareAndExchange(index, null, created);
+            if (snapshot == null) {
+                snapshot = created;
+            }
+        }
+        return snapshot;
+    }
+
+    private static int lane(MarketDataType type) {
+        if (type == MarketDataType.ORDER_BOOK) {
+            return 0;
+        }
+        if (type == MarketDataType.STOCK_QUOTE) {
+            return 1;
+        }
+        return -1;
+    }
+
+    /**
+     * (종목, 타입)별 최신 스냅샷.
+     */
+    private static final class Snapshot {
+        final MarketDataFrame latest = new MarketDataFrame();
+        boolean pending;
+    }
+}
@@ -0,0 +1,510 @@
+package com.kairos.trading.common.marketdata;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 시세 디스패처.
+ * 
+ * 종목코드 해시로 샤드를 선택해 샤드별 링 버퍼에 적재하고,
+ * 샤드마다 전용 스레드 하나가 순서대로 핸들러를 실행한다.
+ * → 같은 종목은 항상 같은 샤드에서 처리되어 순서가 보장되고, 샤드끼리는 병렬로 동작한다.
+ * 
+ * 샤드 안에는 {@link MarketDataLane}별 링이 따로 있고 샤드 스레드는 항상 앞선 레인부터 비운다.
+ * - CRITICAL(VI/잔고) → TICK(체결/프로그램) → BULK(호가/시세) 순으로 처리해 호가 폭주가 Kill Switch를 늦추지 않는다.
+ * - CRITICAL/TICK은 가득 차면 생산자가 대기하고(유실 없음), BULK는 대기하지 않고 버린다(레인별 버림 건수 집계).
+ * - 순서는 같은 종목·같은 레인 안에서 보장된다.
+ * 
+ * WebSocket 수신 스레드는 publish()로 적재만 하고 즉시 반환한다.
+ * 링 슬롯은 미리 할당된 {@link MarketDataFrame}이며 값만 복사되므로 정상 상태에서 할당이 없다.
+ * 적재 시 프레임에 {@link SymbolRegistry} 종목 ID를 채워 핸들러가 ID로 상태 배열을 조회하게 한다.
+ * 샤드마다 대기 지연(수신 → 처리 시작)과 처리 시간(핸들러 전체)을 {@link LatencyHistogram}에 기록한다.
+ * 호가(0D)·주식시세(0A)는 {@link MarketDataConflator}로 종목별 최신값만 전달한다 (등록 종목 한정).
+ * 
+ * 핸들러 등록 방식:
+ * - {@link #register(MarketDataType, MarketDataHandler)}: 프레임을 그대로 받는 핫패스 핸들러
+ * - {@link #register(Class, Consumer)}: 기존 불변 이벤트를 받는 핸들러 (해당 타입 핸들러가 있을 때만 이벤트 생성)
+ */
+@Slf4j
+@Component
+public class MarketDataDispatcher {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final MarketDataLane[] LANES = MarketDataLane.values();
+
+    private final Shard[] shards;
+    private final SymbolRegistry symbolRegistry;
+    private final MarketDataConflator conflator;
+    private final MeterRegistry meterRegistry;
+
+    // 레인 → 버린 건수 (BULK 포화)
+    private final AtomicLong[] dropped = new AtomicLong[LANES.length];
+
+    private static final MarketDataType[] TYPES = MarketDataType.values();
+
+    // 타입(ordinal) → 핸들러 (등록 시 통째로 교체하는 copy-on-write)
+    private volatile MarketDataHandler[][] frameHandlers = new MarketDataHandler[TYPES.length][0];
+    @SuppressWarnings("unchecked")
+    private volatile Consumer<Object>[][] eventHandlers = new Consumer[TYPES.length][0];
+
+    private volatile boolean running;
+
+    public MarketDataDispatcher(
+            @Value("${kairos.market-data.shards:0}") int shardCount,
+            @Value("${kairos.market-data.ring-size:8192}") int ringSize,
+            SymbolRegistry symbolRegistry,
+            MeterRegistry meterRegistry) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            MarketDataRing[] rings = new MarketDataRing[LANES.length];
+            for (MarketDataLane lane : LANES) {
+                rings[lane.ordinal()] = new MarketDataRing(laneCapacity(lane, ringSize));
+            }
+            shards[i] = new Shard(i, rings);
+        }
+        for (MarketDataLane lane : LANES) {
+            dropped[lane.ordinal()] = new AtomicLong();
+        }
+        this.symbolRegistry = symbolRegistry;
+        this.conflator = new MarketDataConflator(symbolRegistry.capacity());
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        registerConflationMetrics();
+        registerLaneMetrics();
+        for (Shard shard : shards) {
+            registerMetrics(shard);
+            shard.thread = Thread.ofPlatform()
+                    .name("md-shard-" + shard.index)
+                    .daemon(true)
+                    .start(() -> runShard(shard));
+        }
+        log.info("[MarketData] 디스패처 시작: 샤드 {}개, 링 크기 {}", shards.length,
+                shards[0].rings[MarketDataLane.TICK.ordinal()].capacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Shard shard : shards) {
+            if (shard.thread != null) {
+                LockSupport.unpark(shard.thread);
+            }
+        }
+        for (Shard shard : shards) {
+            if (shard.thread != null) {
+                try {
+                    shard.thread.join(TimeUnit.SECONDS.toMillis(1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        log.info("[MarketData] 디스패처 종료");
+    }
+
+    /**
+     * 프레임 핸들러 등록 (핫패스).
+     * 핸들러는 해당 종목의 샤드 스레드에서 호출되므로 블로킹 작업을 하면 안 된다.
+     */
+    public synchronized void register(MarketDataType type, MarketDataHandler handler) {
+        var updated = frameHandlers.clone();
+        var current = updated[type.ordinal()];
+        var next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = handler;
+        updated[type.ordinal()] = next;
+        frameHandlers = updated;
+        log.debug("[MarketData] 프레임 핸들러 등록: {} ({}개)", type, next.length);
+    }
+
+    /**
+     * 이벤트 타입별 핸들러 등록.
+     * 프레임을 불변 이벤트로 복사해 전달하므로 이벤트를 보관하거나 비동기로 넘겨도 된다.
+     * 샤드 스레드에서 호출되므로 블로킹 작업을 하면 안 된다.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <E extends ApplicationEvent> void register(Class<E> type, Consumer<? super E> handler) {
+        MarketDataType marketDataType = MarketDataType.ofEvent(type);
+        if (marketDataType == null) {
+            throw new IllegalArgumentException("시세 이벤트 타입이 아닙니다: " + type.getName());
+        }
+        var updated = eventHandlers.clone();
+        var current = updated[marketDataType.ordinal()];
+        var next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = (Consumer<Object>) handler;
+        updated[marketDataType.ordinal()] = next;
+        eventHandlers = updated;
+        log.debug("[MarketData] 이벤트 핸들러 등록: {} ({}개)", type.getSimpleName(), next.length);
+    }
+
+    /**
+     * 프레임 적재 (핫패스). 프레임 내용은 링 슬롯으로 복사되므로 호출 후 재사용해도 된다.
+     * CRITICAL/TICK 레인은 링이 가득 차면 자리가 날 때까지 대기한다 (시세 유실 방지).
+     * 호가/시세는 아직 소비되지 않은 이전 스냅샷이 있으면 덮어쓰고, 링이 가득 차면 버리고 바로 반환한다.
+     */
+    public void publish(MarketDataFrame frame) {
+        MarketDataType type = frame.getType();
+        if (type == null) {
+            return;
+        }
+        int symbolId = frame.getSymbolId();
+        if (symbolId == MarketDataFrame.NO_SYMBOL) {
+            symbolId = symbolRegistry.idOf(frame.getStockCode());
+        }
+        boolean conflatable = symbolId != MarketDataFrame.NO_SYMBOL && MarketDataConflator.isConflatable(type);
+        if (conflatable && conflator.offer(frame, symbolId)) {
+            return;
+        }
+
+        MarketDataLane lane = type.lane();
+        Shard shard = shards[shardOf(frame.getStockCode())];
+        MarketDataRing ring = shard.rings[lane.ordinal()];
+        long sequence = lane.isSheddable() ? ring.tryClaim() : claim(shard, ring);
+        if (sequence < 0) {
+            if (lane.isSheddable()) {
+                dropped[lane.ordinal()].incrementAndGet();
+                if (conflatable) {
+                    conflator.release(symbolId, type);
+                }
+            }
+            return;
+        }
+        MarketDataFrame slot = ring.slot(sequence);
+        slot.copyFrom(frame);
+        slot.setSymbolId(symbolId);
+        ring.publish(sequence);
+    }
+
+    /**
+     * 불변 이벤트 적재 (시뮬레이터/테스트 등 비실시간 경로).
+     * 이벤트 내용을 프레임으로 복사해 {@link #publish(MarketDataFrame)}와 같은 경로로 적재한다.
+     */
+    public void publish(ApplicationEvent event) {
+        MarketDataFrame frame = new MarketDataFrame();
+        if (!frame.copyFrom(event)) {
+            log.warn("[MarketData] 시세 이벤트가 아니므로 무시: {}", event.getClass().getSimpleName());
+            return;
+        }
+        frame.setReceiveNanos(System.nanoTime());
+        publish(frame);
+    }
+
+    /**
+     * 링 시퀀스 선점. 가득 차면 대기하며, 디스패처가 중지되면 -1.
+     */
+    private long claim(Shard shard, MarketDataRing ring) {
+        int attempts = 0;
+        long sequence;
+        while ((sequence = ring.tryClaim()) < 0) {
+            if (attempts++ == 0) {
+                shard.fullWaits.incrementAndGet();
+            }
+            if (!running) {
+                log.warn("[MarketData] 디스패처 중지 상태 - 시세 폐기 (shard {})", shard.index);
+                return -1L;
+            }
+            backoff(attempts);
+        }
+        return sequence;
+    }
+
+    /**
+     * 종목코드 → 샤드 번호.
+     */
+    public int shardOf(String stockCode) {
+        int h = stockCode == null ? 0 : stockCode.hashCode();
+        h ^= (h >>> 16);
+        return Math.floorMod(h, shards.length);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 샤드 대기열 깊이 (전 레인 합계).
+     */
+    public int getQueueDepth(int shard) {
+        return shards[shard].size();
+    }
+
+    /**
+     * 레인 대기열 깊이 (전 샤드 합계).
+     */
+    public int getQueueDepth(MarketDataLane lane) {
+        int depth = 0;
+        for (Shard shard : shards) {
+            depth += shard.rings[lane.ordinal()].size();
+        }
+        return depth;
+    }
+
+    /**
+     * 레인에서 가장 오래 대기 중인 시세의 대기 시간 (전 샤드 최대, 비었으면 0).
+     */
+    public long getLagNanos(MarketDataLane lane) {
+        long now = System.nanoTime();
+        long lag = 0;
+        for (Shard shard : shards) {
+            lag = Math.max(lag, shard.rings[lane.ordinal()].headAgeNanos(now));
+        }
+        return lag;
+    }
+
+    /**
+     * 레인 포화로 버린 건수.
+     */
+    public long getDroppedCount(MarketDataLane lane) {
+        return dropped[lane.ordinal()].get();
+    }
+
+    /**
+     * 샤드 누적 처리 건수.
+     */
+    public long getProcessedCount(int shard) {
+        return shards[shard].processed.get();
+    }
+
+    /**
+     * 전 샤드 대기 지연 (프레임 수신 시각 → 샤드 처리 시작) 스냅샷.
+     */
+    public LatencyHistogram getQueueLatency() {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (MarketDataLane lane : LANES) {
+            merged.add(getQueueLatency(lane));
+        }
+        return merged;
+    }
+
+    /**
+     * 레인별 대기 지연 스냅샷.
+     */
+    public LatencyHistogram getQueueLatency(MarketDataLane lane) {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (Shard shard : shards) {
+            merged.add(shard.queueLatency[lane.ordinal()]);
+        }
+        return merged;
+    }
+
+    /**
+     * 전 샤드 처리 시간 (프레임 하나의 핸들러 전체 실행) 스냅샷.
+     */
+    public LatencyHistogram getServiceLatency() {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (Shard shard : shards) {
+            merged.add(shard.serviceLatency);
+        }
+        return merged;
+    }
+
+    /**
+     * 종목별 병합 건수 (최신값으로 덮어써져 전달되지 않은 호가/시세 수, 미등록 종목이면 0).
+     */
+    public long getConflatedCount(String stockCode) {
+        int id = symbolRegistry.idOf(stockCode);
+        return id == SymbolRegistry.NO_SYMBOL ? 0L : conflator.conflatedCount(id);
+    }
+
+    private void runShard(Shard shard) {
+        int idle = 0;
+        while (running) {
+            if (processNext(shard)) {
+                idle = 0;
+            } else {
+                backoff(++idle);
+            }
+        }
+        // 종료 시 남은 시세 처리
+        while (processNext(shard)) {
+            // 소진될 때까지 반복
+        }
+    }
+
+    /**
+     * 우선순위가 가장 높은 비어 있지 않은 레인에서 한 건 처리.
+     *
+     * @return 처리한 시세가 있으면 true
+     */
+    private boolean processNext(Shard shard) {
+        for (int lane = 0; lane < LANES.length; lane++) {
+            MarketDataRing ring = shard.rings[lane];
+            MarketDataFrame frame = ring.peek();
+            if (frame == null) {
+                continue;
+            }
+            long start = System.nanoTime();
+            if (frame.getReceiveNanos() != 0L) {
+                shard.queueLatency[lane].record(start - frame.getReceiveNanos());
+            }
+            dispatch(frame);
+            shard.serviceLatency.record(System.nanoTime() - start);
+            ring.advance();
+            shard.processed.lazySet(shard.processed.get() + 1);
+            return true;
+        }
+        return false;
+    }
+
+    private void dispatch(MarketDataFrame frame) {
+        MarketDataType type = frame.getType();
+        if (type == null) {
+            return;
+        }
+        if (frame.getSymbolId() != MarketDataFrame.NO_SYMBOL && MarketDataConflator.isConflatable(type)) {
+            // 자리표시 프레임 → 그 사이 들어온 최신 스냅샷
+            conflator.takeLatest(frame);
+        }
+        for (MarketDataHandler handler : frameHandlers[type.ordinal()]) {
+            try {
+                handler.onFrame(frame);
+            } catch (Exception e) {
+                // 핸들러 오류가 샤드 스레드를 멈추지 않도록 로그만 남긴다
+                log.error("[MarketData] 핸들러 오류 ({}): {}", type, e.getMessage(), e);
+            }
+        }
+
+        Consumer<Object>[] targets = eventHandlers[type.ordinal()];
+        if (targets.length == 0) {
+            return;
+        }
+        // 이벤트 핸들러가 있는 타입만 불변 이벤트로 복사
+        ApplicationEvent event = frame.toEvent(this);
+        for (Consumer<Object> handler : targets) {
+            try {
+                handler.accept(event);
+            } catch (Exception e) {
+                log.error("[MarketData] 핸들러 오류 ({}): {}", type, e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void backoff(int attempts) {
+        if (attempts < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempts < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private void registerConflationMetrics() {
+        for (MarketDataType type : TYPES) {
+            if (MarketDataConflator.isConflatable(type)) {
+                FunctionCounter.builder("kairos.marketdata.conflated", conflator, c -> c.conflatedCount(type))
+                        .description("최신값으로 덮어써져 병합된 시세 건수")
+                        .tag("type", type.code())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    private void registerLaneMetrics() {
+        for (MarketDataLane lane : LANES) {
+            String tag = lane.name();
+            Gauge.builder("kairos.marketdata.lane.depth", this, d -> d.getQueueDepth(lane))
+                    .description("레인 대기열 깊이 (전 샤드 합계)")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("kairos.marketdata.lane.lag", this, d -> d.getLagNanos(lane) / 1e9)
+                    .description("레인에서 가장 오래 대기 중인 시세의 대기 시간")
+                    .baseUnit("seconds")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("kairos.marketdata.lane.dropped", dropped[lane.ordinal()], AtomicLong::get)
+                    .description("레인 포화로 버린 시세 건수")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    private void registerMetrics(Shard shard) {
+        String tag = String.valueOf(shard.index);
+        Gauge.builder("kairos.marketdata.queue.depth", shard, Shard::size)
+                .description("샤드 대기열 깊이")
+                .tag("shard", tag)
+                .register(meterRegistry);
+        FunctionCounter.builder("kairos.marketdata.published", shard, Shard::publishedCount)
+                .description("샤드 적재 건수")
+                .tag("shard", tag)
+                .register(meterRegistry);
+        FunctionCounter.builder("kairos.marketdata.processed", shard.processed, AtomicLong::get)
+                .description("샤드 처리 건수")
+                .tag("shard", tag)
+                .register(meterRegistry);
+        FunctionCounter.builder("kairos.marketdata.full.waits", shard.fullWaits, AtomicLong::get)
+                .description("링 포화로 적재 대기한 횟수")
+                .tag("shard", tag)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레인별 링 크기. TICK은 설정값 그대로, CRITICAL/BULK는 1/4 (최소 64).
+     * BULK는 종목·타입당 최대 1건만 적재되므로 작아도 된다.
+     */
+    private static int laneCapacity(MarketDataLane lane, int ringSize) {
+        if (lane == MarketDataLane.TICK) {
+            return ringSize;
+        }
+        return Math.max(Math.min(ringSize, 64), ringSize / 4);
+    }
+
+    /**
+     * 샤드 (레인별 링 버퍼 + 전용 소비 스레드).
+     */
+    private static final class Shard {
+        final int index;
+        final MarketDataRing[] rings;
+        final AtomicLong processed = new AtomicLong();
+        final AtomicLong fullWaits = new AtomicLong();
+        final LatencyHistogram[] queueLatency = new LatencyHistogram[LANES.length];
+        final LatencyHistogram serviceLatency = new LatencyHistogram();
+        Thread thread;
+
+        Shard(int index, MarketDataRing[] rings) {
+            this.index = index;
+            this.rings = rings;
+            for (int i = 0; i < queueLatency.length; i++) {
+                queueLatency[i] = new LatencyHistogram();
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (MarketDataRing ring : rings) {
+                size += ring.size();
+            }
+            return size;
+        }
+
+        long publishedCount() {
+            long count = 0;
+            for (MarketDataRing ring : rings) {
+                count += ring.publishedCount();
+            }
+            return count;
+        }
+    }
+}
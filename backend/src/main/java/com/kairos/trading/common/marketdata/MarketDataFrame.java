@@ -0,0 +1,295 @@
+package com.kairos.trading.common.marketdata;
+
+import com.kairos.trading.common.event.BalanceUpdateEvent;
+import com.kairos.trading.common.event.OrderBookEvent;
+import com.kairos.trading.common.event.ProgramTradeEvent;
+import com.kairos.trading.common.event.StockQuoteEvent;
+import com.kairos.trading.common.event.StockTradeEvent;
+import com.kairos.trading.common.event.TickDataEvent;
+import com.kairos.trading.common.event.ViEvent;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 실시간 시세 프레임 (가변, 재사용되는 flyweight).
+ * 
+ * 디코더가 JSON 필드를 primitive 그대로 채워 넣는 스크래치 객체이자,
+ * 디스패처 링 버퍼에 미리 할당된 슬롯이다. 수신 → 샤드 핸들러 구간에서 이벤트 객체를 만들지 않는다.
+ * 모든 TR 타입의 필드를 합집합으로 보유하며, 같은 의미의 필드는 하나의 슬롯을 공유한다.
+ * (예: `cur_prc`/`cntr_prc` → price, `chg_rate`/`flu_rt` → changeRate)
+ * 
+ * 핸들러는 호출 중에만 프레임을 읽을 수 있고 참조를 보관하면 안 된다.
+ * 보관이 필요하면 {@link #toEvent(Object)}로 불변 이벤트를 만든다.
+ */
+@Getter
+@Setter
+public class MarketDataFrame {
+
+    /** 종목 ID 미할당 */
+    public static final int NO_SYMBOL = -1;
+
+    private MarketDataType type;
+
+    // 식별/시각
+    private int symbolId = NO_SYMBOL; // SymbolRegistry 종목 ID
+    private long receiveNanos; // 수신 시각 (System.nanoTime, 단조 증가)
+    private int exchangeTime; // 거래소 체결시간 (HHmmss, 없으면 0)
+
+    // 텍스트 필드 (디코더가 intern한 인스턴스를 재사용)
+    private String stockCode;
+    private String stockName;
+    private String accountNo;
+    private String tradeType; // 매도/매수 구분
+    private String viType;
+
+    // 체결/시세 공통
+    private long price; // cur_prc, cntr_prc
+    private long volume; // trd_vol, cntr_qty
+    private long accVolume; // acc_vol, acc_trde_qty
+    private long accAmount; // acc_trde_amt
+    private double changeRate; // chg_rate, flu_rt
+
+    // 기세 (0A)
+    private long openPrice;
+    private long highPrice;
+    private long lowPrice;
+    private long basePrice;
+
+    // 호가잔량 (0D)
+    private long askPrice1;
+    private long askQty1;
+    private long bidPrice1;
+    private long bidQty1;
+    private long totalAskQty;
+    private long totalBidQty;
+
+    // 프로그램 매매 (0w)
+    private long programBuy;
+    private long programSell;
+
+    // VI (1h)
+    private long triggerPrice;
+
+    // 잔고 (04)
+    private int holdQty;
+    private long avgPrice;
+    private long evalAmount;
+    private long pnlAmount;
+    private double pnlRate;
+
+    /**
+     * 모든 필드 초기화 (다음 프레임 디코딩 전 호출).
+     */
+    public void clear() {
+        type = null;
+        symbolId = NO_SYMBOL;
+        receiveNanos = 0;
+        exchangeTime = 0;
+        stockCode = "";
+        stockName = "";
+        accountNo = "";
+        tradeType = "";
+        viType = "";
+        price = 0;
+        volume = 0;
+        accVolume = 0;
+        accAmount = 0;
+        changeRate = 0;
+        openPrice = 0;
+        highPrice = 0;
+        lowPrice = 0;
+        basePrice = 0;
+        askPrice1 = 0;
+        askQty1 = 0;
+        bidPrice1 = 0;
+        bidQty1 = 0;
+        totalAskQty = 0;
+        totalBidQty = 0;
+        programBuy = 0;
+        programSell = 0;
+        triggerPrice = 0;
+        holdQty = 0;
+        avgPrice = 0;
+        evalAmount = 0;
+        pnlAmount = 0;
+        pnlRate = 0;
+    }
+
+    /**
+     * 다른 프레임의 내용을 그대로 복사한다 (링 슬롯 적재용, 할당 없음).
+     */
+    public void copyFrom(MarketDataFrame other) {
+        type = other.type;
+        symbolId = other.symbolId;
+        receiveNanos = other.receiveNanos;
+        exchangeTime = other.exchangeTime;
+        stockCode = other.stockCode;
+        stockName = other.stockName;
+        accountNo = other.accountNo;
+        tradeType = other.tradeType;
+        viType = other.viType;
+        price = other.price;
+        volume = other.volume;
+        accVolume = other.accVolume;
+        accAmount = other.accAmount;
+        changeRate = other.changeRate;
+        openPrice = other.openPrice;
+        highPrice = other.highPrice;
+        lowPrice = other.lowPrice;
+        basePrice = other.basePrice;
+        askPrice1 = other.askPrice1;
+        askQty1 = other.askQty1;
+        bidPrice1 = other.bidPrice1;
+        bidQty1 = other.bidQty1;
+        totalAskQty = other.totalAskQty;
+        totalBidQty = other.totalBidQty;
+        programBuy = other.programBuy;
+        programSell = other.programSell;
+        triggerPrice = other.triggerPrice;
+        holdQty = other.holdQty;
+        avgPrice = other.avgPrice;
+        evalAmount = other.evalAmount;
+        pnlAmount = other.pnlAmount;
+        pnlRate = other.pnlRate;
+    }
+
+    /**
+     * 불변 이벤트 내용을 프레임으로 복사한다 (시뮬레이터 등 비실시간 발행 경로용).
+     * 
+     * @return 시세 이벤트면 true, 그 외 이벤트면 false (프레임은 비워진 상태)
+     */
+    public boolean copyFrom(ApplicationEvent event) {
+        clear();
+        switch (event) {
+            case TickDataEvent e -> {
+                type = MarketDataType.TICK;
+                stockCode = e.getStockCode();
+                price = e.getPrice();
+                volume = e.getVolume();
+                accVolume = e.getAccVolume();
+                changeRate = e.getChangeRate();
+            }
+            case BalanceUpdateEvent e -> {
+                type = MarketDataType.BALANCE;
+                accountNo = e.getAccountNo();
+                stockCode = e.getStockCode();
+                stockName = e.getStockName();
+                holdQty = e.getHoldQty();
+                avgPrice = e.getAvgPrice();
+                price = e.getCurrentPrice();
+                evalAmount = e.getEvalAmount();
+                pnlAmount = e.getPnlAmount();
+                pnlRate = e.getPnlRate();
+            }
+            case StockQuoteEvent e -> {
+                type = MarketDataType.STOCK_QUOTE;
+                stockCode = e.getStockCode();
+                stockName = e.getStockName();
+                openPrice = e.getOpenPrice();
+                highPrice = e.getHighPrice();
+                lowPrice = e.getLowPrice();
+                price = e.getCurrentPrice();
+                basePrice = e.getBasePrice();
+                changeRate = e.getChangeRate();
+            }
+            case StockTradeEvent e -> {
+                type = MarketDataType.STOCK_TRADE;
+                stockCode = e.getStockCode();
+                stockName = e.getStockName();
+                price = e.getPrice();
+                volume = e.getVolume();
+                accVolume = e.getAccVolume();
+                accAmount = e.getAccAmount();
+                exchangeTime = parseTime(e.getTradeTime());
+                tradeType = e.getTradeType();
+            }
+            case OrderBookEvent e -> {
+                type = MarketDataType.ORDER_BOOK;
+                stockCode = e.getStockCode();
+                stockName = e.getStockName();
+                askPrice1 = e.getAskPrice1();
+                askQty1 = e.getAskQty1();
+                bidPrice1 = e.getBidPrice1();
+                bidQty1 = e.getBidQty1();
+                totalAskQty = e.getTotalAskQty();
+                totalBidQty = e.getTotalBidQty();
+            }
+            case ProgramTradeEvent e -> {
+                type = MarketDataType.PROGRAM_TRADE;
+                stockCode = e.getStockCode();
+                programBuy = e.getProgramBuy();
+                programSell = e.getProgramSell();
+            }
+            case ViEvent e -> {
+                type = MarketDataType.VI;
+                stockCode = e.getStockCode();
+                stockName = e.getStockName();
+                viType = e.getViType();
+                triggerPrice = e.getTriggerPrice();
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 프레임 내용을 기존 불변 이벤트로 복사한다.
+     * 
+     * @param source 이벤트 발행 주체
+     * @return 타입에 맞는 이벤트, 타입 미확인 시 null
+     */
+    public ApplicationEvent toEvent(Object source) {
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+            case TICK -> new TickDataEvent(source, stockCode, price, volume, accVolume, changeRate);
+            case BALANCE -> new BalanceUpdateEvent(source, accountNo, stockCode, stockName,
+                    holdQty, avgPrice, price, evalAmount, pnlAmount, pnlRate);
+            case STOCK_QUOTE -> new StockQuoteEvent(source, stockCode, stockName,
+                    openPrice, highPrice, lowPrice, price, basePrice, changeRate);
+            case STOCK_TRADE -> new StockTradeEvent(source, stockCode, stockName,
+                    price, volume, accVolume, accAmount, formatTime(exchangeTime), tradeType);
+            case ORDER_BOOK -> new OrderBookEvent(source, stockCode, stockName,
+                    askPrice1, askQty1, bidPrice1, bidQty1, totalAskQty, totalBidQty);
+            case PROGRAM_TRADE -> new ProgramTradeEvent(source, stockCode, programBuy, programSell);
+            case VI -> new ViEvent(source, stockCode, stockName, viType, triggerPrice);
+        };
+    }
+
+    /**
+     * HHmmss 문자열 → 정수 (형식이 다르면 0).
+     */
+    static int parseTime(String time) {
+        if (time == null || time.length() != 6) {
+            return 0;
+        }
+        int value = 0;
+        for (int i = 0; i < 6; i++) {
+            char c = time.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 정수 HHmmss → 6자리 문자열 (0이면 빈 문자열).
+     */
+    static String formatTime(int time) {
+        if (time <= 0) {
+            return "";
+        }
+        char[] digits = new char[6];
+        for (int i = 5; i >= 0; i--) {
+            digits[i] = (char) ('0' + time % 10);
+            time /= 10;
+        }
+        return new String(digits);
+    }
+}
@@ -0,0 +1,13 @@
+package com.kairos.trading.common.marketdata;
+
+/**
+ * 실시간 시세 프레임 핸들러 (핫패스).
+ * 
+ * 종목 샤드 스레드에서 호출된다. 전달된 프레임은 링 슬롯이므로
+ * 호출이 끝난 뒤에는 다른 시세로 덮어쓰인다 — 참조를 보관하지 않는다.
+ */
+@FunctionalInterface
+public interface MarketDataHandler {
+
+    void onFrame(MarketDataFrame frame);
+}
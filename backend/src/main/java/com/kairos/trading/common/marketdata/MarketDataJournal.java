@@ -0,0 +1,182 @@
+package com.kairos.trading.common.marketdata;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 실시간 원본 프레임 캡처 저널 (쓰기).
+ *
+ * WebSocket 세션 하나당 파일 하나에 수신 프레임을 그대로 이어 쓴다.
+ * 파일은 고정 크기 세그먼트 단위로 메모리 매핑되며, 쓰기는 매핑된 버퍼로의 복사뿐이다 (fsync 없음, 종료 시에만 force).
+ *
+ * 파일 구조 (little-endian):
+ * - 헤더 {@value #HEADER_SIZE}B: magic, version, segmentSize, 생성 시각(epoch ms)
+ * - 레코드: [int 페이로드 길이][long 수신 nanoTime][byte×2 TR 코드][페이로드]
+ * - 세그먼트 끝에 레코드가 들어가지 않으면 {@link #PADDING}을 쓰고 다음 세그먼트로 넘어간다.
+ * - 길이 0은 데이터 끝. 길이는 레코드 본문을 쓴 뒤 마지막에 기록하므로 중단되더라도 반쯤 쓴 레코드는 보이지 않는다.
+ *
+ * 단일 쓰기 스레드(세션 수신 스레드) 전용이며 스레드 안전하지 않다.
+ */
+public final class MarketDataJournal implements AutoCloseable {
+
+    static final int MAGIC = 0x4C4E4A4B; // "KJNL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES + 2;
+    static final int PADDING = -1;
+
+    /** TR 코드를 알 수 없는 프레임 (로그인/응답/파싱 실패 등) */
+    public static final String UNKNOWN_TR = "--";
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int segmentSize;
+
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+
+    private long recordCount;
+    private long droppedCount;
+
+    private MarketDataJournal(Path file, FileChannel channel, int segmentSize) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.segmentSize = segmentSize;
+        this.segment = map(0);
+        segment.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(segmentSize)
+                .putLong(System.currentTimeMillis());
+        segment.position(HEADER_SIZE);
+    }
+
+    /**
+     * 새 저널 파일 생성. 이미 있으면 실패한다.
+     *
+     * @param segmentSize 세그먼트(매핑 단위) 크기
+     */
+    public static MarketDataJournal create(Path file, int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다: " + segmentSize);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MarketDataJournal(file, channel, segmentSize);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 수신 버퍼 기록. 버퍼의 읽기 위치는 변경하지 않는다.
+     *
+     * @param trCode TR 코드 두 글자 (모르면 {@link #UNKNOWN_TR})
+     */
+    public void append(long receiveNanos, String trCode, DataBuffer payload) throws IOException {
+        int length = payload.readableByteCount();
+        if (!reserve(length)) {
+            return;
+        }
+        int start = writeRecordHeader(receiveNanos, trCode);
+        try (var buffers = payload.readableByteBuffers()) {
+            while (buffers.hasNext()) {
+                segment.put(buffers.next());
+            }
+        }
+        segment.putInt(start, length);
+        recordCount++;
+    }
+
+    /**
+     * NIO 버퍼 기록. 버퍼의 position은 변경하지 않는다.
+     */
+    public void append(long receiveNanos, String trCode, ByteBuffer payload) throws IOException {
+        int length = payload.remaining();
+        if (!reserve(length)) {
+            return;
+        }
+        int start = writeRecordHeader(receiveNanos, trCode);
+        segment.put(payload.duplicate());
+        segment.putInt(start, length);
+        recordCount++;
+    }
+
+    /**
+     * 현재 세그먼트에 레코드가 들어갈 자리 확보 (필요 시 다음 세그먼트로 이동).
+     *
+     * @return 세그먼트보다 큰 레코드라 기록할 수 없으면 false
+     */
+    private boolean reserve(int length) throws IOException {
+        int required = RECORD_HEADER_SIZE + length;
+        if (required + Integer.BYTES > segmentSize - HEADER_SIZE) {
+            droppedCount++;
+            return false;
+        }
+        // 다음 레코드의 길이 자리(0 = 데이터 끝)까지 남도록 확보
+        if (segment.remaining() < required + Integer.BYTES) {
+            if (segment.remaining() >= Integer.BYTES) {
+                segment.putInt(segment.position(), PADDING);
+            }
+            segment = map(++segmentIndex);
+        }
+        return true;
+    }
+
+    private int writeRecordHeader(long receiveNanos, String trCode) {
+        int start = segment.position();
+        segment.position(start + Integer.BYTES);
+        segment.putLong(receiveNanos)
+                .put((byte) trCode.charAt(0))
+                .put((byte) trCode.charAt(1));
+        return start;
+    }
+
+    private MappedByteBuffer map(int index) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, (long) index * segmentSize, segmentSize);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 기록한 레코드 수.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 세그먼트보다 커서 기록하지 못한 레코드 수.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * 디스크 반영 후 닫기 (장 종료/세션 종료 시).
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            segment.force();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.kairos.trading.common.marketdata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 캡처 저널 읽기.
+ *
+ * 파일을 세그먼트 단위로 읽기 전용 매핑해 레코드를 순서대로 순회한다 (파일 전체를 힙에 올리지 않음).
+ * 커서 방식이라 {@link #next()}가 true를 반환한 뒤의 getter는 현재 레코드를 가리키며,
+ * {@link #payload()}는 매핑 영역의 뷰이므로 다음 레코드로 넘어가기 전까지만 유효하다.
+ *
+ * <pre>
+ * try (var reader = MarketDataJournalReader.open(path)) {
+ *     while (reader.next()) {
+ *         decoder.decode(reader.payload(), frame);
+ *     }
+ * }
+ * </pre>
+ */
+public final class MarketDataJournalReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final long createdAtMillis;
+
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private boolean finished;
+
+    // 현재 레코드
+    private long receiveNanos;
+    private char tr0;
+    private char tr1;
+    private ByteBuffer payload;
+
+    private MarketDataJournalReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = ByteBuffer.allocate(MarketDataJournal.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < MarketDataJournal.HEADER_SIZE || header.getInt() != MarketDataJournal.MAGIC) {
+            throw new IOException("캡처 저널 파일이 아닙니다");
+        }
+        int version = header.getInt();
+        if (version != MarketDataJournal.VERSION) {
+            throw new IOException("지원하지 않는 저널 버전: " + version);
+        }
+        this.segmentSize = header.getInt();
+        this.createdAtMillis = header.getLong();
+        this.segment = map(0);
+        segment.position(MarketDataJournal.HEADER_SIZE);
+    }
+
+    public static MarketDataJournalReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new MarketDataJournalReader(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 레코드로 이동.
+     *
+     * @return 레코드가 있으면 true, 데이터 끝이면 false
+     */
+    public boolean next() throws IOException {
+        while (!finished) {
+            if (segment == null || segment.remaining() < Integer.BYTES) {
+                if (!nextSegment()) {
+                    break;
+                }
+                continue;
+            }
+            int length = segment.getInt();
+            if (length == 0) {
+                finished = true;
+                break;
+            }
+            if (length == MarketDataJournal.PADDING) {
+                segment.position(segment.limit());
+                continue;
+            }
+            receiveNanos = segment.getLong();
+            tr0 = (char) segment.get();
+            tr1 = (char) segment.get();
+            int start = segment.position();
+            payload = segment.slice(start, length).asReadOnlyBuffer();
+            segment.position(start + length);
+            return true;
+        }
+        payload = null;
+        return false;
+    }
+
+    /**
+     * 수신 시각 (System.nanoTime, 같은 세션 안에서만 비교 가능).
+     */
+    public long receiveNanos() {
+        return receiveNanos;
+    }
+
+    /**
+     * TR 코드 문자열 (알 수 없으면 {@link MarketDataJournal#UNKNOWN_TR}).
+     */
+    public String trCode() {
+        return String.valueOf(new char[] { tr0, tr1 });
+    }
+
+    /**
+     * TR 타입 (할당 없음, 알 수 없으면 null).
+     */
+    public MarketDataType type() {
+        return MarketDataType.of(tr0, tr1);
+    }
+
+    /**
+     * 원본 페이로드 (읽기 전용 뷰, 다음 레코드로 넘어가기 전까지 유효).
+     */
+    public ByteBuffer payload() {
+        return payload;
+    }
+
+    /**
+     * 저널 생성 시각 (epoch ms).
+     */
+    public long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+
+    private boolean nextSegment() throws IOException {
+        if (segment != null) {
+            segmentIndex++;
+        }
+        long offset = (long) segmentIndex * segmentSize;
+        if (offset >= channel.size()) {
+            finished = true;
+            return false;
+        }
+        segment = map(segmentIndex);
+        return true;
+    }
+
+    private MappedByteBuffer map(int index) throws IOException {
+        long offset = (long) index * segmentSize;
+        long size = Math.min(segmentSize, channel.size() - offset);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+}
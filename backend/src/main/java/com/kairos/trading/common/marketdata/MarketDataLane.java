@@ -0,0 +1,32 @@
+package com.kairos.trading.common.marketdata;
+
+/**
+ * 디스패처 우선순위 레인.
+ *
+ * 샤드 스레드는 항상 앞선 레인부터 비운다. 레인마다 링이 따로 있어
+ * 호가 폭주가 VI/잔고 처리를 지연시키지 않는다.
+ */
+public enum MarketDataLane {
+
+    /** VI(1h)·잔고(04): Kill Switch와 포지션 상태를 움직이므로 최우선, 유실 없음 (가득 차면 대기) */
+    CRITICAL(false),
+
+    /** 체결(00)·체결 상세(0B)·프로그램(0w): 유실 없음 (가득 차면 대기) */
+    TICK(false),
+
+    /** 호가(0D)·주식시세(0A): 종목별 최신값 병합, 가득 차면 버림 */
+    BULK(true);
+
+    private final boolean sheddable;
+
+    MarketDataLane(boolean sheddable) {
+        this.sheddable = sheddable;
+    }
+
+    /**
+     * 링이 가득 찼을 때 대기하지 않고 버리는 레인인지.
+     */
+    public boolean isSheddable() {
+        return sheddable;
+    }
+}
@@ -0,0 +1,121 @@
+package com.kairos.trading.common.marketdata;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고정 크기 링 버퍼 (Multi-Producer / Single-Consumer).
+ * 
+ * 슬롯은 생성 시 {@link MarketDataFrame}으로 미리 할당되며 재사용된다.
+ * 생산자는 CAS로 시퀀스를 선점 → 슬롯에 값 복사 → 슬롯별 시퀀스를 release로 게시한다.
+ * 소비자(샤드 스레드 하나)는 게시된 시퀀스를 acquire로 확인하며 순서대로 읽는다.
+ * 락과 요소 할당이 없다.
+ */
+final class MarketDataRing {
+
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final MarketDataFrame[] slots;
+    private final long[] published;
+    private final int mask;
+
+    private final AtomicLong claimSequence = new AtomicLong();
+    private final AtomicLong consumeSequence = new AtomicLong();
+
+    MarketDataRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new MarketDataFrame[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new MarketDataFrame();
+            slots[i].clear();
+        }
+        this.published = new long[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(published, -1L);
+    }
+
+    /**
+     * 쓰기 시퀀스 선점. 링이 가득 차면 -1.
+     * 선점한 시퀀스는 반드시 {@link #publish(long)}로 게시해야 한다.
+     */
+    long tryClaim() {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if (sequence - consumeSequence.get() >= slots.length) {
+                return -1L;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+
+    /**
+     * 선점한 시퀀스의 슬롯.
+     */
+    MarketDataFrame slot(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * 슬롯 기록 완료 게시.
+     */
+    void publish(long sequence) {
+        PUBLISHED.setRelease(published, (int) sequence & mask, sequence);
+    }
+
+    /**
+     * 다음 슬롯 조회 (소비자 스레드 전용). 게시된 슬롯이 없으면 null.
+     * 처리 후 {@link #advance()}를 호출해야 슬롯이 생산자에게 반환된다.
+     */
+    MarketDataFrame peek() {
+        long sequence = consumeSequence.get();
+        int index = (int) sequence & mask;
+        if ((long) PUBLISHED.getAcquire(published, index) != sequence) {
+            return null;
+        }
+        return slots[index];
+    }
+
+    /**
+     * 현재 슬롯 처리 완료.
+     */
+    void advance() {
+        consumeSequence.lazySet(consumeSequence.get() + 1);
+    }
+
+    /**
+     * 현재 대기 중인 요소 수 (근사치).
+     */
+    int size() {
+        long size = claimSequence.get() - consumeSequence.get();
+        return (int) Math.max(0, Math.min(size, slots.length));
+    }
+
+    /**
+     * 가장 오래 대기 중인 요소의 대기 시간 (비었으면 0).
+     * 소비자 외 스레드에서 메트릭용으로 읽는 근사치다.
+     */
+    long headAgeNanos(long nowNanos) {
+        MarketDataFrame head = peek();
+        if (head == null) {
+            return 0L;
+        }
+        long receiveNanos = head.getReceiveNanos();
+        return receiveNanos == 0L ? 0L : Math.max(0L, nowNanos - receiveNanos);
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * 누적 게시(선점) 건수.
+     */
+    long publishedCount() {
+        return claimSequence.get();
+    }
+}
@@ -0,0 +1,122 @@
+package com.kairos.trading.common.marketdata;
+
+import com.kairos.trading.common.event.BalanceUpdateEvent;
+import com.kairos.trading.common.event.OrderBookEvent;
+import com.kairos.trading.common.event.ProgramTradeEvent;
+import com.kairos.trading.common.event.StockQuoteEvent;
+import com.kairos.trading.common.event.StockTradeEvent;
+import com.kairos.trading.common.event.TickDataEvent;
+import com.kairos.trading.common.event.ViEvent;
+import com.kairos.trading.common.websocket.KiwoomWebSocketClient.RealType;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 실시간 시세 TR 타입.
+ * 
+ * 키움 WebSocket `tr_cd` 값과 1:1 대응하며,
+ * 디코더가 문자열 할당 없이 두 글자만으로 타입을 식별할 때 사용한다.
+ */
+public enum MarketDataType {
+
+    TICK(RealType.TICK_DATA, TickDataEvent.class, MarketDataLane.TICK),
+    BALANCE(RealType.BALANCE, BalanceUpdateEvent.class, MarketDataLane.CRITICAL),
+    STOCK_QUOTE(RealType.STOCK_QUOTE, StockQuoteEvent.class, MarketDataLane.BULK),
+    STOCK_TRADE(RealType.STOCK_TRADE, StockTradeEvent.class, MarketDataLane.TICK),
+    ORDER_BOOK(RealType.ORDER_BOOK, OrderBookEvent.class, MarketDataLane.BULK),
+    PROGRAM_TRADE(RealType.PROGRAM_TRADE, ProgramTradeEvent.class, MarketDataLane.TICK),
+    VI(RealType.VI_EVENT, ViEvent.class, MarketDataLane.CRITICAL);
+
+    private static final MarketDataType[] VALUES = values();
+
+    private final String code;
+    private final Class<? extends ApplicationEvent> eventType;
+    private final MarketDataLane lane;
+
+    MarketDataType(String code, Class<? extends ApplicationEvent> eventType, MarketDataLane lane) {
+        this.code = code;
+        this.eventType = eventType;
+        this.lane = lane;
+    }
+
+    /**
+     * 키움 TR 코드 (예: "00", "0D").
+     */
+    public String code() {
+        return code;
+    }
+
+    /**
+     * 이 타입에 대응하는 불변 이벤트 클래스.
+     */
+    public Class<? extends ApplicationEvent> eventType() {
+        return eventType;
+    }
+
+    /**
+     * 디스패처 우선순위 레인.
+     */
+    public MarketDataLane lane() {
+        return lane;
+    }
+
+    /**
+     * 이벤트 클래스로 타입 조회.
+     * 
+     * @return 매칭되는 타입, 시세 이벤트가 아니면 null
+     */
+    public static MarketDataType ofEvent(Class<?> eventType) {
+        for (MarketDataType type : VALUES) {
+            if (type.eventType == eventType) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * TR 코드 문자 배열 구간으로 타입 조회 (할당 없음).
+     * 
+     * @return 매칭되는 타입, 알 수 없으면 null
+     */
+    public static MarketDataType of(char[] buf, int offset, int length) {
+        if (length != 2) {
+            return null;
+        }
+        return of(buf[offset], buf[offset + 1]);
+    }
+
+    /**
+     * TR 코드 문자열로 타입 조회.
+     * 
+     * @return 매칭되는 타입, 알 수 없으면 null
+     */
+    public static MarketDataType of(String code) {
+        if (code == null || code.length() != 2) {
+            return null;
+        }
+        return of(code.charAt(0), code.charAt(1));
+    }
+
+    /**
+     * TR 코드 두 글자로 타입 조회.
+     * 
+     * @return 매칭되는 타입, 알 수 없으면 null
+     */
+    public static MarketDataType of(char c0, char c1) {
+        if (c0 == '0') {
+            return switch (c1) {
+                case '0' -> TICK;
+                case '4' -> BALANCE;
+                case 'A' -> STOCK_QUOTE;
+                case 'B' -> STOCK_TRADE;
+                case 'D' -> ORDER_BOOK;
+                case 'w' -> PROGRAM_TRADE;
+                default -> null;
+            };
+        }
+        if (c0 == '1' && c1 == 'h') {
+            return VI;
+        }
+        return null;
+    }
+}
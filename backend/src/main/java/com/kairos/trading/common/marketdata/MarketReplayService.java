@@ -0,0 +1,166 @@
+package com.kairos.trading.common.marketdata;
+
+import com.kairos.trading.common.websocket.KiwoomRealtimeDecoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 캡처 저널 재생기.
+ *
+ * {@link MarketDataJournal}로 기록한 세션을 실시간 소켓과 같은 경로(디코딩 → {@link MarketDataDispatcher} →
+ * 등록된 핸들러 → 주문)로 다시 흘려보낸다.
+ * - 배속 1: 원래 수신 간격 그대로, N: N배 빠르게, {@link #MAX_SPEED}: 대기 없이 최대 속도
+ * - 디코딩/적재 시간은 재생 스레드에서, 대기 지연/처리 시간은 디스패처 샤드에서 측정해 {@link ReplayReport}로 반환한다.
+ *
+ * 재생 중에는 실시간 소켓을 연결하지 않는다 (같은 핸들러로 시세가 섞임). 한 번에 하나의 재생만 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketReplayService {
+
+    /** 대기 없이 최대 속도로 재생 */
+    public static final double MAX_SPEED = 0;
+
+    private static final long PARK_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final MarketDataDispatcher dispatcher;
+
+    /**
+     * 저널 재생 (완료 및 디스패처 소진까지 블로킹).
+     *
+     * @param speed 배속 (1 = 실시간, {@link #MAX_SPEED} 또는 무한대 = 최대 속도)
+     */
+    public synchronized ReplayReport replay(Path journal, double speed) throws IOException {
+        boolean paced = speed > 0 && Double.isFinite(speed);
+        var decoder = new KiwoomRealtimeDecoder();
+        var frame = new MarketDataFrame();
+        var decodeLatency = new LatencyHistogram();
+        var publishLatency = new LatencyHistogram();
+        var queueBefore = dispatcher.getQueueLatency();
+        var serviceBefore = dispatcher.getServiceLatency();
+
+        log.info("[Replay] 재생 시작: {} (배속 {})", journal, paced ? speed : "MAX");
+
+        long records = 0;
+        long published = 0;
+        long startNanos = System.nanoTime();
+        try (var reader = MarketDataJournalReader.open(journal)) {
+            long origin = 0;
+            while (reader.next()) {
+                if (records++ == 0) {
+                    origin = reader.receiveNanos();
+                }
+                if (paced) {
+                    waitUntil(startNanos + (long) ((reader.receiveNanos() - origin) / speed));
+                }
+
+                long received = System.nanoTime();
+                if (!decode(decoder, reader, frame)) {
+                    continue;
+                }
+                long decoded = System.nanoTime();
+                decodeLatency.record(decoded - received);
+
+                frame.setReceiveNanos(received);
+                dispatcher.publish(frame);
+                publishLatency.record(System.nanoTime() - decoded);
+                published++;
+            }
+        }
+        awaitDrain();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        var report = new ReplayReport(records, published, elapsedNanos,
+                decodeLatency.summary(),
+                publishLatency.summary(),
+                dispatcher.getQueueLatency().minus(queueBefore).summary(),
+                dispatcher.getServiceLatency().minus(serviceBefore).summary());
+        log.info("[Replay] 재생 완료: {}건 중 {}건 적재, {}ms, {}건/s, 대기 p99 {}µs, 처리 p99 {}µs",
+                records, published, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                (long) report.throughputPerSecond(),
+                report.queue().p99() / 1_000, report.service().p99() / 1_000);
+        return report;
+    }
+
+    private boolean decode(KiwoomRealtimeDecoder decoder, MarketDataJournalReader reader, MarketDataFrame frame) {
+        if (reader.type() == null) {
+            // 로그인/응답 등 시세가 아닌 프레임
+            return false;
+        }
+        try {
+            return decoder.decode(reader.payload(), frame);
+        } catch (IOException e) {
+            log.warn("[Replay] 프레임 디코딩 실패 (건너뜀): {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 디스패처 대기열이 빌 때까지 대기 (마지막 프레임의 핸들러 실행 완료까지).
+     */
+    private void awaitDrain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (totalQueueDepth() > 0) {
+            if (System.nanoTime() > deadline) {
+                log.warn("[Replay] 디스패처 소진 대기 시간 초과 (남은 {}건)", totalQueueDepth());
+                return;
+            }
+            LockSupport.parkNanos(PARK_THRESHOLD_NANOS);
+        }
+    }
+
+    private int totalQueueDepth() {
+        int depth = 0;
+        for (int i = 0; i < dispatcher.getShardCount(); i++) {
+            depth += dispatcher.getQueueDepth(i);
+        }
+        return depth;
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > PARK_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - PARK_THRESHOLD_NANOS / 2);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * 재생 결과.
+     *
+     * @param records     저널 레코드 수
+     * @param published   디스패처에 적재한 시세 수 (비시세/디코딩 실패 제외)
+     * @param elapsedNanos 재생 시작 ~ 디스패처 소진까지
+     * @param decode      디코딩 시간 (재생 스레드)
+     * @param publish     디스패처 적재 시간 (링 포화 대기 포함)
+     * @param queue       대기 지연 (적재 → 샤드 처리 시작)
+     * @param service     처리 시간 (프레임당 핸들러 전체)
+     */
+    public record ReplayReport(
+            long records,
+            long published,
+            long elapsedNanos,
+            LatencyHistogram.Summary decode,
+            LatencyHistogram.Summary publish,
+            LatencyHistogram.Summary queue,
+            LatencyHistogram.Summary service) {
+
+        /**
+         * 초당 처리 시세 수.
+         */
+        public double throughputPerSecond() {
+            return elapsedNanos == 0 ? 0 : published * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.kairos.trading.common.marketdata;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+
+/**
+ * 종목 레지스트리 (종목코드 → 0부터 시작하는 dense int ID).
+ * 
+ * 장전에 관심 종목(KOSPI/KOSDAQ)을 한 번 등록해 ID를 부여하고,
+ * 이후 종목별 핫패스 상태는 ID로 인덱싱되는 primitive 배열에 둔다.
+ * 
+ * 종목코드(최대 8자 ASCII)를 long 하나로 pack해 open addressing 테이블에 저장하므로
+ * 조회 시 String 해시/equals/박싱이 없다. 등록은 동기화, 조회는 lock-free.
+ * 한 번 부여한 ID는 재사용하지 않는다 (세션 중 해제 없음).
+ */
+@Slf4j
+@Component
+public class SymbolRegistry {
+
+    public static final int NO_SYMBOL = MarketDataFrame.NO_SYMBOL;
+
+    private static final int MAX_CODE_LENGTH = 8;
+    private static final long EMPTY = 0L;
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int capacity;
+    private final long[] keys; // pack된 종목코드 (0 = 빈 슬롯)
+    private final int[] ids;
+    private final int mask;
+    private final int shift;
+    private final String[] codes; // ID → 종목코드
+
+    private volatile int size;
+
+    public SymbolRegistry(@Value("${kairos.market-data.max-symbols:4096}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("종목 수 상한은 양수여야 합니다: " + capacity);
+        }
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+        this.capacity = capacity;
+        this.keys = new long[tableSize];
+        this.ids = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(tableSize);
+        this.codes = new String[capacity];
+    }
+
+    /**
+     * 종목 등록 (이미 등록되어 있으면 기존 ID 반환).
+     * 
+     * @throws IllegalArgumentException 종목코드 형식 오류
+     * @throws IllegalStateException    등록 가능 종목 수 초과
+     */
+    public synchronized int register(String stockCode) {
+        long key = pack(stockCode);
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("잘못된 종목코드: " + stockCode);
+        }
+
+        int index = indexOf(key);
+        while (true) {
+            long current = keys[index];
+            if (current == key) {
+                return ids[index];
+            }
+            if (current == EMPTY) {
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+
+        int id = size;
+        if (id == capacity) {
+            throw new IllegalStateException("등록 가능한 종목 수를 초과했습니다: " + capacity);
+        }
+        codes[id] = stockCode;
+        ids[index] = id;
+        KEYS.setRelease(keys, index, key);
+        size = id + 1;
+        return id;
+    }
+
+    /**
+     * 종목 일괄 등록 (장전 준비).
+     * 
+     * @return 등록 후 전체 종목 수
+     */
+    public int registerAll(Collection<String> stockCodes) {
+        for (String stockCode : stockCodes) {
+            register(stockCode);
+        }
+        log.info("[SymbolRegistry] 종목 등록 완료: {}개 (상한 {})", size, capacity);
+        return size;
+    }
+
+    /**
+     * 종목코드 → ID. 미등록이면 {@link #NO_SYMBOL}.
+     */
+    public int idOf(String stockCode) {
+        return find(pack(stockCode));
+    }
+
+    /**
+     * 문자 배열 구간 → ID (할당 없음). 미등록이면 {@link #NO_SYMBOL}.
+     */
+    public int idOf(char[] buf, int offset, int length) {
+        return find(pack(buf, offset, length));
+    }
+
+    /**
+     * ID → 종목코드.
+     */
+    public String codeOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("미등록 종목 ID: " + id);
+        }
+        return codes[id];
+    }
+
+    /**
+     * 등록된 종목 수.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 등록 가능한 최대 종목 수 (종목별 상태 배열 크기).
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    private int find(long key) {
+        if (key == EMPTY) {
+            return NO_SYMBOL;
+        }
+        int index = indexOf(key);
+        while (true) {
+            long current = (long) KEYS.getAcquire(keys, index);
+            if (current == key) {
+                return ids[index];
+            }
+            if (current == EMPTY) {
+                return NO_SYMBOL;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int indexOf(long key) {
+        // Fibonacci hashing
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    /**
+     * 종목코드를 long으로 pack (문자당 8비트). 형식이 맞지 않으면 0.
+     */
+    static long pack(String code) {
+        if (code == null || code.isEmpty() || code.length() > MAX_CODE_LENGTH) {
+            return EMPTY;
+        }
+        long key = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c == 0 || c > 0x7F) {
+                return EMPTY;
+            }
+            key = (key << 8) | c;
+        }
+        return key;
+    }
+
+    static long pack(char[] buf, int offset, int length) {
+        if (length <= 0 || length > MAX_CODE_LENGTH) {
+            return EMPTY;
+        }
+        long key = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = buf[i];
+            if (c == 0 || c > 0x7F) {
+                return EMPTY;
+            }
+            key = (key << 8) | c;
+        }
+        return key;
+    }
+}
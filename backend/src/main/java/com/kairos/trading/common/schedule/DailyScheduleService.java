@@ -1,14 +1,32 @@
 package com.kairos.trading.common.schedule;
 
 import com.kairos.trading.common.client.KiwoomClient;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
 import com.kairos.trading.common.websocket.KiwoomWebSocketClient;
+import com.kairos.trading.common.websocket.KiwoomWebSocketClient.RealType;
 import com.kairos.trading.domain.execution.service.TradingLoopService;
 import com.kairos.trading.domain.news.service.RssMonitoringService;
+import com.kairos.trading.domain.strategy.entity.TargetStock;
+import com.kairos.trading.domain.strategy.repository.TargetStockRepository;
+import com.kairos.trading.domain.technical.dto.ScreenerHit;
+import com.kairos.trading.domain.technical.service.IntradayIndicatorEngine;
+import com.kairos.trading.domain.technical.service.NanoBananaScreener;
+import com.kairos.trading.domain.technical.service.SignalStateMachine;
+import com.kairos.trading.domain.technical.store.DailyCandleStore;
+import com.kairos.trading.domain.technical.store.DailyCandleSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 일별 스케줄 서비스.
  * 장 시작/종료에 맞춰 시스템을 제어한다.
@@ -22,6 +40,20 @@ public class DailyScheduleService {
     private final KiwoomWebSocketClient webSocketClient;
     private final TradingLoopService tradingLoopService;
     private final RssMonitoringService rssMonitoringService;
+    private final TargetStockRepository targetStockRepository;
+    private final SymbolRegistry symbolRegistry;
+    private final IntradayIndicatorEngine indicatorEngine;
+    private final SignalStateMachine signalStateMachine;
+    private final NanoBananaScreener screener;
+    private final DailyCandleStore candleStore;
+    private final DailyCandleSyncService candleSyncService;
+
+    // 장전 스크리너 상위 중 구독 대상에 추가할 종목 수
+    @Value("${kairos.screener.promote-count:5}")
+    private int promoteCount = 5;
+
+    // 오늘 실시간 구독 대상 (08:30 준비, 09:00 일괄 구독)
+    private List<String> todayTargetCodes = List.of();
 
     private String currentToken;
     private boolean isMarketOpen = false;
@@ -43,7 +75,22 @@ public class DailyScheduleService {
             // 2. RSS 캐시 초기화
             rssMonitoringService.cleanupProcessedIds();
 
-            // 3. TODO: 에이전트 분석 트리거
+            // 3. 오늘의 타겟 종목 ID 부여 (장중 조회는 ID 기반 배열 사용)
+            var targets = targetStockRepository.findByBaseDateOrderByNexusScoreDesc(LocalDate.now());
+            todayTargetCodes = targets.stream()
+                    .map(TargetStock::getStockCode)
+                    .toList();
+            symbolRegistry.registerAll(todayTargetCodes);
+
+            // 3-1. 로컬 일봉 증분 동기화 후 이평선 시드 (장중에는 체결마다 증분 갱신, REST 호출 없음)
+            candleSyncService.sync(todayTargetCodes, LocalDate.now(), currentToken);
+            seedIndicators(targets);
+
+            // 3-2. 저장소 전 종목 NanoBanana 스크리닝 → 상위 종목을 오늘 구독 대상으로 승격
+            screener.seedUniverse();
+            promoteScreenerHits();
+
+            // 4. TODO: 에이전트 분석 트리거
             log.info("[스케줄] 장전 분석 시작...");
 
         } catch (Exception e) {
@@ -60,10 +107,12 @@ public class DailyScheduleService {
         log.info("========== [스케줄] 09:00 장 시작 ==========");
 
         try {
-            // 1. WebSocket 연결
+            // 1. WebSocket 연결 + 타겟 종목 일괄 구독 (연결 시 묶음 REG로 등록됨)
             if (currentToken != null) {
+                webSocketClient.subscribeAll(todayTargetCodes,
+                        List.of(RealType.TICK_DATA, RealType.PROGRAM_TRADE));
                 webSocketClient.connect(currentToken);
-                log.info("[스케줄] WebSocket 연결됨");
+                log.info("[스케줄] WebSocket 연결됨 (구독 {}종목)", todayTargetCodes.size());
             }
 
             // 2. Trading Loop 활성화
@@ -109,10 +158,14 @@ public class DailyScheduleService {
             webSocketClient.disconnect();
             log.info("[스케줄] WebSocket 연결 해제");
 
-            // 2. TODO: Journal 저장
+            // 2. 오늘 봉을 일봉으로 편입 (다음 날 시드 실패 시에도 이평선 유지), 신호 상태 초기화
+            indicatorEngine.rollover();
+            signalStateMachine.reset();
+
+            // 3. TODO: Journal 저장
             log.info("[스케줄] 매매일지 저장 완료");
 
-            // 3. 토큰 초기화
+            // 4. 토큰 초기화
             currentToken = null;
 
         } catch (Exception e) {
@@ -120,6 +173,85 @@ public class DailyScheduleService {
         }
     }
 
+    /**
+     * 타겟 종목 이평선 시드 (로컬 일봉).
+     * 동기화 후에도 일봉이 없는 종목은 ka10081로 다시 받아 저장소에 기록한 뒤 시드하고,
+     * 그래도 실패한 종목은 건너뛰고 시세 수신은 계속한다.
+     */
+    private void seedIndicators(List<TargetStock> targets) {
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        int seeded = 0;
+        for (TargetStock target : targets) {
+            String stockCode = target.getStockCode();
+            try {
+                var candles = candleStore.get(stockCode);
+                if (candles == null || candles.size() == 0) {
+                    var chart = kiwoomClient.getDailyChart(stockCode, today, true, currentToken);
+                    try {
+                        candleStore.append(stockCode, chart.candles(), Integer.parseInt(today));
+                    } catch (IOException | UncheckedIOException e) {
+                        // 저장 실패 시 받은 일봉으로 이평선만 시드
+                        log.warn("[스케줄] 일봉 저장 실패 → REST 일봉으로 시드: {} - {}", stockCode, e.getMessage());
+                        indicatorEngine.seed(stockCode, target.getStockName(), chart.candles(), today);
+                        seeded++;
+                        continue;
+                    }
+                    candles = candleStore.get(stockCode);
+                    if (candles == null || candles.size() == 0) {
+                        log.warn("[스케줄] 이평선 시드 실패 (일봉 없음): {}", stockCode);
+                        continue;
+                    }
+                    log.info("[스케줄] 일봉 REST 보충 후 저장: {} ({}일봉)", stockCode, candles.size());
+                }
+                indicatorEngine.seed(stockCode, target.getStockName(), candles);
+                seeded++;
+            } catch (Exception e) {
+                log.warn("[스케줄] 이평선 시드 실패: {} - {}", stockCode, e.getMessage());
+            }
+        }
+        log.info("[스케줄] 이평선 시드 완료: {}/{}종목", seeded, targets.size());
+    }
+
+    /**
+     * 스크리너 상위 종목 중 타겟이 아닌 종목을 오늘 구독 대상에 추가하고 이평선을 시드한다.
+     * 장중 체결이 들어오면 NanoBanana 감지 → 분석 파이프라인으로 이어진다.
+     */
+    private void promoteScreenerHits() {
+        if (promoteCount <= 0) {
+            return;
+        }
+        // 타겟과 겹치는 종목을 건너뛰어도 승격 수를 채울 만큼 조회
+        var promoted = new ArrayList<String>();
+        for (ScreenerHit hit : screener.scan(promoteCount + todayTargetCodes.size())) {
+            if (promoted.size() == promoteCount) {
+                break;
+            }
+            String stockCode = hit.stockCode();
+            var candles = candleStore.get(stockCode);
+            if (todayTargetCodes.contains(stockCode) || candles == null) {
+                continue;
+            }
+            indicatorEngine.seed(stockCode, stockNameOf(stockCode), candles);
+            promoted.add(stockCode);
+        }
+        if (promoted.isEmpty()) {
+            return;
+        }
+        var codes = new ArrayList<>(todayTargetCodes);
+        codes.addAll(promoted);
+        todayTargetCodes = List.copyOf(codes);
+        log.info("[스케줄] 스크리너 상위 종목 구독 추가: {}", promoted);
+    }
+
+    private String stockNameOf(String stockCode) {
+        try {
+            return kiwoomClient.getStockInfo(stockCode, currentToken).stockName();
+        } catch (Exception e) {
+            log.debug("[스케줄] 종목명 조회 실패: {} - {}", stockCode, e.getMessage());
+            return stockCode;
+        }
+    }
+
     /**
      * 장이 열려 있는지 확인.
      */
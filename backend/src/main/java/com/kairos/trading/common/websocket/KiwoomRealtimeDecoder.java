@@ -0,0 +1,340 @@
+package com.kairos.trading.common.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataType;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * 키움 실시간 프레임 스트리밍 디코더.
+ * 
+ * WebSocket 수신 버퍼(DataBuffer)의 바이트를 Jackson {@link JsonParser}로 직접 읽어
+ * {@link MarketDataFrame}의 primitive 필드를 채운다.
+ * JsonNode 트리와 페이로드 String을 만들지 않으며, 숫자 문자열("+71000")도 문자 배열에서 바로 파싱한다.
+ * 
+ * 하나의 Non-blocking ByteBuffer 파서를 프레임마다 이어서 공급(feed)하므로
+ * 프레임당 파서/IOContext/심볼 테이블 생성 비용이 없고, 다이렉트 버퍼도 복사 없이 읽는다.
+ * 파서를 재사용하므로 인스턴스는 수신 스레드(세션)마다 하나씩 사용한다.
+ * 
+ * 종목코드 등 텍스트 필드는 {@link TextInterner}로 재사용하고, 체결시간은 정수(HHmmss)로 읽어
+ * 정상 상태에서는 프레임당 힙 할당이 없다.
+ */
+public class KiwoomRealtimeDecoder {
+
+    private static final int TEXT_CACHE_SIZE = 8192;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final TextInterner texts = new TextInterner(TEXT_CACHE_SIZE);
+
+    private JsonParser parser;
+    private ByteBufferFeeder feeder;
+
+    /**
+     * WebSocket 수신 버퍼를 디코딩한다. 버퍼의 읽기 위치는 변경하지 않는다.
+     * 
+     * @param buffer 수신 버퍼
+     * @param frame  결과를 채울 프레임
+     * @return 알려진 TR 타입이면 true
+     */
+    public boolean decode(DataBuffer buffer, MarketDataFrame frame) throws IOException {
+        try (var buffers = buffer.readableByteBuffers()) {
+            if (!buffers.hasNext()) {
+                frame.clear();
+                return false;
+            }
+            return decode(buffers.next(), buffers, frame);
+        }
+    }
+
+    /**
+     * NIO 버퍼를 디코딩한다. 버퍼의 position은 변경하지 않는다.
+     */
+    public boolean decode(ByteBuffer buffer, MarketDataFrame frame) throws IOException {
+        return decode(buffer.duplicate(), null, frame);
+    }
+
+    /**
+     * 바이트 배열 구간을 디코딩한다.
+     */
+    public boolean decode(byte[] bytes, int offset, int length, MarketDataFrame frame) throws IOException {
+        return decode(ByteBuffer.wrap(bytes, offset, length), null, frame);
+    }
+
+    private boolean decode(ByteBuffer first, Iterator<ByteBuffer> rest, MarketDataFrame frame)
+            throws IOException {
+        if (parser == null) {
+            parser = jsonFactory.createNonBlockingByteBufferParser();
+            feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+        try {
+            drainTrailingInput();
+            feeder.feedInput(first);
+            return readFrame(rest, frame);
+        } catch (IOException | RuntimeException e) {
+            // 파서 상태가 깨졌으므로 다음 프레임은 새 파서로 시작
+            resetParser();
+            throw e;
+        }
+    }
+
+    /**
+     * 직전 프레임 뒤에 남은 공백 등을 소비한다. 값이 더 남아 있으면 파서를 새로 만든다.
+     */
+    private void drainTrailingInput() throws IOException {
+        if (feeder.needMoreInput()) {
+            return;
+        }
+        if (parser.nextToken() != JsonToken.NOT_AVAILABLE) {
+            resetParser();
+            parser = jsonFactory.createNonBlockingByteBufferParser();
+            feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+    }
+
+    private void resetParser() {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 닫기 실패는 무시
+            }
+        }
+        parser = null;
+        feeder = null;
+    }
+
+    private boolean readFrame(Iterator<ByteBuffer> rest, MarketDataFrame frame) throws IOException {
+        frame.clear();
+        if (nextToken(rest) != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "프레임이 JSON 객체가 아닙니다");
+        }
+
+        JsonToken token;
+        while ((token = nextToken(rest)) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = nextToken(rest);
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                skipNested(rest);
+                continue;
+            }
+            readField(field, parser, value, frame);
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "프레임 종료가 올바르지 않습니다: " + token);
+        }
+        return frame.getType() != null;
+    }
+
+    /**
+     * 필드명 → 프레임 슬롯 매핑.
+     * Jackson이 필드명을 심볼 테이블로 canonicalize하므로 필드명 자체는 새로 할당되지 않는다.
+     */
+    private void readField(String field, JsonParser parser, JsonToken value, MarketDataFrame frame)
+            throws IOException {
+        switch (field) {
+            case "tr_cd" -> frame.setType(value == JsonToken.VALUE_STRING
+                    ? MarketDataType.of(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                    : null);
+
+            case "stk_cd" -> frame.setStockCode(readText(parser, value));
+            case "stk_nm" -> frame.setStockName(readText(parser, value));
+            case "acnt_no" -> frame.setAccountNo(readText(parser, value));
+            case "cntr_tm" -> frame.setExchangeTime((int) readLong(parser, value));
+            case "trde_tp" -> frame.setTradeType(readText(parser, value));
+            case "vi_tp" -> frame.setViType(readText(parser, value));
+
+            case "cur_prc", "cntr_prc" -> frame.setPrice(readLong(parser, value));
+            case "trd_vol", "cntr_qty" -> frame.setVolume(readLong(parser, value));
+            case "acc_vol", "acc_trde_qty" -> frame.setAccVolume(readLong(parser, value));
+            case "acc_trde_amt" -> frame.setAccAmount(readLong(parser, value));
+            case "chg_rate", "flu_rt" -> frame.setChangeRate(readDouble(parser, value));
+
+            case "open_prc" -> frame.setOpenPrice(readLong(parser, value));
+            case "hgh_prc" -> frame.setHighPrice(readLong(parser, value));
+            case "low_prc" -> frame.setLowPrice(readLong(parser, value));
+            case "base_prc" -> frame.setBasePrice(readLong(parser, value));
+
+            case "sell_hoga1" -> frame.setAskPrice1(readLong(parser, value));
+            case "sell_qty1" -> frame.setAskQty1(readLong(parser, value));
+            case "buy_hoga1" -> frame.setBidPrice1(readLong(parser, value));
+            case "buy_qty1" -> frame.setBidQty1(readLong(parser, value));
+            case "tot_sell_qty" -> frame.setTotalAskQty(readLong(parser, value));
+            case "tot_buy_qty" -> frame.setTotalBidQty(readLong(parser, value));
+
+            case "pgm_buy" -> frame.setProgramBuy(readLong(parser, value));
+            case "pgm_sell" -> frame.setProgramSell(readLong(parser, value));
+            case "trig_prc" -> frame.setTriggerPrice(readLong(parser, value));
+
+            case "hold_qty" -> frame.setHoldQty((int) readLong(parser, value));
+            case "avg_prc" -> frame.setAvgPrice(readLong(parser, value));
+            case "eval_amt" -> frame.setEvalAmount(readLong(parser, value));
+            case "pnl_amt" -> frame.setPnlAmount(readLong(parser, value));
+            case "pnl_rt" -> frame.setPnlRate(readDouble(parser, value));
+
+            default -> {
+                // 사용하지 않는 필드는 무시
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰 조회. 현재 버퍼를 다 읽으면 같은 프레임의 다음 버퍼를 공급한다.
+     */
+    private JsonToken nextToken(Iterator<ByteBuffer> rest) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token == JsonToken.NOT_AVAILABLE) {
+            if (rest == null || !rest.hasNext()) {
+                throw new JsonParseException(parser, "프레임이 중간에 끝났습니다");
+            }
+            feeder.feedInput(rest.next());
+            token = parser.nextToken();
+        }
+        return token;
+    }
+
+    private void skipNested(Iterator<ByteBuffer> rest) throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            JsonToken token = nextToken(rest);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        }
+    }
+
+    private String readText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return "";
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            String text = parser.getText();
+            return text != null ? text : "";
+        }
+        return texts.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /**
+     * 숫자 또는 숫자 문자열을 long으로 읽는다. 형식이 잘못되면 0 (JsonNode.asLong과 동일).
+     */
+    static long readLong(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_NUMBER_FLOAT -> (long) parser.getDoubleValue();
+            case VALUE_STRING -> parseLong(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            default -> 0L;
+        };
+    }
+
+    /**
+     * 숫자 또는 숫자 문자열을 double로 읽는다. 형식이 잘못되면 0.
+     */
+    static double readDouble(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_STRING ->
+                parseDouble(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            default -> 0.0;
+        };
+    }
+
+    /**
+     * 부호(+/-)가 붙은 정수 문자열 파싱. 소수부는 버린다.
+     */
+    static long parseLong(char[] buf, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && buf[i] == ' ') {
+            i++;
+        }
+        if (i == end) {
+            return 0L;
+        }
+
+        boolean negative = false;
+        if (buf[i] == '+' || buf[i] == '-') {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long result = 0;
+        boolean hasDigit = false;
+        for (; i < end; i++) {
+            char c = buf[i];
+            if (c >= '0' && c <= '9') {
+                result = result * 10 + (c - '0');
+                hasDigit = true;
+            } else if (c == '.') {
+                break;
+            } else if (c == ' ') {
+                break;
+            } else {
+                return 0L;
+            }
+        }
+        if (!hasDigit) {
+            return 0L;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * 부호(+/-)가 붙은 소수 문자열 파싱 (예: "-1.25").
+     */
+    static double parseDouble(char[] buf, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && buf[i] == ' ') {
+            i++;
+        }
+        if (i == end) {
+            return 0.0;
+        }
+
+        boolean negative = false;
+        if (buf[i] == '+' || buf[i] == '-') {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int scale = 0;
+        boolean fraction = false;
+        boolean hasDigit = false;
+        for (; i < end; i++) {
+            char c = buf[i];
+            if (c >= '0' && c <= '9') {
+                if (mantissa < 100_000_000_000_000_000L) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (fraction) {
+                        scale++;
+                    }
+                } else if (!fraction) {
+                    scale--;
+                }
+                hasDigit = true;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if (c == ' ') {
+                break;
+            } else {
+                return 0.0;
+            }
+        }
+        if (!hasDigit) {
+            return 0.0;
+        }
+
+        double result = scale >= 0 ? mantissa / Math.pow(10, scale) : mantissa * Math.pow(10, -scale);
+        return negative ? -result : result;
+    }
+}
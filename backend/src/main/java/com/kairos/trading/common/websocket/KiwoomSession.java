@@ -0,0 +1,345 @@
+package com.kairos.trading.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kairos.trading.common.event.BalanceUpdateEvent;
+import com.kairos.trading.common.event.OrderBookEvent;
+import com.kairos.trading.common.event.ProgramTradeEvent;
+import com.kairos.trading.common.event.StockQuoteEvent;
+import com.kairos.trading.common.event.StockTradeEvent;
+import com.kairos.trading.common.event.TickDataEvent;
+import com.kairos.trading.common.event.ViEvent;
+import com.kairos.trading.common.marketdata.MarketDataCapture;
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키움 실시간 WebSocket 세션 하나.
+ *
+ * 세션마다 구독 상태, 디코더, 송신 Sink, 캡처 저널, 재연결을 따로 가진다.
+ * 수신 프레임은 모든 세션이 같은 {@link MarketDataDispatcher}로 적재하며,
+ * 한 종목은 항상 한 세션에만 구독되므로 종목별 순서가 유지된다.
+ *
+ * 수신 스레드는 세션당 하나라 디코딩 프레임/저널은 동기화 없이 사용한다.
+ */
+@Slf4j
+class KiwoomSession {
+
+    // 송신 버퍼 크기 (구독 메시지는 묶음 전송되므로 재등록 전체도 이 안에 들어간다)
+    private static final int OUTBOUND_BUFFER_SIZE = 256;
+
+    /**
+     * 세션 연결 상태.
+     */
+    enum State {
+        DISCONNECTED, CONNECTING, CONNECTED
+    }
+
+    private final int index;
+    private final MarketDataDispatcher dispatcher;
+    private final MarketDataCapture capture;
+    private final KiwoomRealtimeDecoder decoder = new KiwoomRealtimeDecoder();
+
+    // 구독 상태 (원하는 상태 ↔ 등록 상태 diff, 재연결 시 재등록)
+    private final KiwoomSubscriptionManager subscriptions;
+
+    // 수신 스레드 전용 디코딩 프레임
+    private final MarketDataFrame frame = new MarketDataFrame();
+
+    private Disposable connection;
+
+    // 현재 연결 캡처 저널 (수신 스레드만 기록, 캡처 비활성/실패 시 null)
+    private volatile MarketDataJournal journal;
+
+    // 메시지 전송을 위한 Sink (연결마다 새로 생성, subscriptions 락 안에서만 접근)
+    private Sinks.Many<String> outboundSink;
+
+    // 상태 추적 (수신 스레드 단일 쓰기)
+    private volatile State state = State.DISCONNECTED;
+    private volatile long lastReceiveNanos;
+    private volatile long receivedCount;
+    private volatile long reconnectCount;
+
+    KiwoomSession(int index, MarketDataDispatcher dispatcher, MarketDataCapture capture,
+            ObjectMapper objectMapper, int maxItemsPerMessage) {
+        this.index = index;
+        this.dispatcher = dispatcher;
+        this.capture = capture;
+        this.subscriptions = new KiwoomSubscriptionManager(objectMapper, maxItemsPerMessage);
+    }
+
+    /**
+     * 연결 시작. 끊기면 이 세션만 재연결한다.
+     */
+    synchronized void connect(WebSocketClient client, URI uri) {
+        if (connection != null && !connection.isDisposed()) {
+            log.warn("[세션 {}] 이미 WebSocket 연결이 활성화되어 있습니다.", index);
+            return;
+        }
+        state = State.CONNECTING;
+
+        connection = client.execute(uri, session -> {
+            // 연결마다 송신 Sink를 새로 만들고 원하는 구독 상태 전체를 재등록 (재연결 포함)
+            Sinks.Many<String> sink = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<String>get(OUTBOUND_BUFFER_SIZE).get());
+            synchronized (subscriptions) {
+                outboundSink = sink;
+                var replay = subscriptions.resync();
+                replay.forEach(this::emit);
+                if (!replay.isEmpty()) {
+                    log.info("[세션 {}] 실시간 구독 재등록: {}종목 ({}개 메시지)",
+                            index, subscriptions.getSubscribedCount(), replay.size());
+                }
+            }
+            state = State.CONNECTED;
+            lastReceiveNanos = System.nanoTime();
+
+            // 연결마다 캡처 저널을 새로 연다
+            MarketDataJournal connectionJournal = capture.openSession(index);
+            journal = connectionJournal;
+
+            // 수신 스트림
+            var inbound = session.receive()
+                    .doOnNext(this::handleFrame)
+                    .doOnError(e -> log.error("[세션 {}] WebSocket 수신 에러", index, e));
+
+            // 송신 스트림
+            var outbound = session.send(
+                    sink.asFlux()
+                            .map(session::textMessage)
+                            .doOnNext(msg -> log.debug("[세션 {}] WebSocket 송신: {}", index, msg.getPayloadAsText())));
+
+            // 양방향 병합
+            return Mono.zip(inbound.then(), outbound).then()
+                    .doFinally(signal -> {
+                        state = State.DISCONNECTED;
+                        closeJournal(connectionJournal);
+                    });
+        })
+                .retryWhen(Retry.fixedDelay(5, Duration.ofSeconds(5))
+                        .doBeforeRetry(signal -> {
+                            reconnectCount++;
+                            state = State.CONNECTING;
+                            log.warn("[세션 {}] WebSocket 재연결 시도: {}", index, signal.totalRetries());
+                        }))
+                .doFinally(signal -> state = State.DISCONNECTED)
+                .subscribe();
+    }
+
+    /**
+     * 연결 종료 및 구독 상태 초기화.
+     */
+    synchronized void disconnect() {
+        if (connection != null && !connection.isDisposed()) {
+            connection.dispose();
+            log.info("[세션 {}] WebSocket 연결 해제됨", index);
+        }
+        state = State.DISCONNECTED;
+        synchronized (subscriptions) {
+            outboundSink = null;
+            subscriptions.clear();
+        }
+    }
+
+    boolean isConnected() {
+        return connection != null && !connection.isDisposed();
+    }
+
+    void subscribeAll(Collection<String> stockCodes, List<String> realTypes) {
+        synchronized (subscriptions) {
+            stockCodes.forEach(stockCode -> subscriptions.subscribe(stockCode, realTypes));
+            flushSubscriptions();
+        }
+    }
+
+    void replaceAll(Map<String, List<String>> watchList) {
+        synchronized (subscriptions) {
+            subscriptions.replaceAll(watchList);
+            flushSubscriptions();
+        }
+    }
+
+    void unsubscribe(String stockCode) {
+        synchronized (subscriptions) {
+            subscriptions.unsubscribe(stockCode);
+            flushSubscriptions();
+        }
+    }
+
+    int getSubscribedCount() {
+        return subscriptions.getSubscribedCount();
+    }
+
+    /**
+     * 세션 상태 요약.
+     */
+    KiwoomWebSocketClient.SessionHealth health() {
+        long last = lastReceiveNanos;
+        long idleMillis = state == State.CONNECTED && last != 0L
+                ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - last)
+                : -1L;
+        return new KiwoomWebSocketClient.SessionHealth(index, state.name(), getSubscribedCount(),
+                receivedCount, reconnectCount, idleMillis);
+    }
+
+    /**
+     * 구독 변경분 전송 (subscriptions 락 안에서 호출).
+     * 연결이 없으면 보류하고, 다음 연결 시 resync로 전체 등록된다.
+     */
+    private void flushSubscriptions() {
+        if (outboundSink == null) {
+            log.debug("[세션 {}] 미연결 상태. 구독 변경은 연결 시 등록됩니다.", index);
+            return;
+        }
+        subscriptions.drainChanges().forEach(this::emit);
+    }
+
+    /**
+     * 송신 Sink에 메시지 적재 (subscriptions 락 안에서 호출).
+     * 송신 버퍼가 가득 차거나 연결 종료 중이면 버리고, 재연결 시 resync로 복구된다.
+     */
+    private void emit(String message) {
+        var result = outboundSink.tryEmitNext(message);
+        if (result.isFailure()) {
+            log.warn("[세션 {}] 구독 메시지 전송 실패 ({}): {}", index, result, message);
+        }
+    }
+
+    /**
+     * 수신 프레임 핸들링.
+     * 페이로드를 String/JsonNode로 변환하지 않고 DataBuffer에서 바로 디코딩한다.
+     */
+    private void handleFrame(WebSocketMessage message) {
+        long receiveNanos = System.nanoTime();
+        lastReceiveNanos = receiveNanos;
+        receivedCount = receivedCount + 1;
+        var payload = message.getPayload();
+        boolean known;
+        try {
+            known = decoder.decode(payload, frame);
+        } catch (Exception e) {
+            capture(receiveNanos, MarketDataJournal.UNKNOWN_TR, payload);
+            log.error("[세션 {}] 메시지 파싱 실패: {}", index,
+                    payload.toString(payload.readPosition(), payload.readableByteCount(), StandardCharsets.UTF_8), e);
+            return;
+        }
+        capture(receiveNanos, known ? frame.getType().code() : MarketDataJournal.UNKNOWN_TR, payload);
+        if (!known) {
+            log.debug("[세션 {}] 알 수 없는 TR 코드 프레임 무시", index);
+            return;
+        }
+        try {
+            frame.setReceiveNanos(receiveNanos);
+            dispatcher.publish(frame);
+            if (isLoggable(frame)) {
+                logEvent(frame.toEvent(this));
+            }
+        } catch (Exception e) {
+            log.error("[세션 {}] 시세 처리 실패: {} {}", index, frame.getType(), frame.getStockCode(), e);
+        }
+    }
+
+    /**
+     * 수신 원본 프레임을 캡처 저널에 기록 (매핑 버퍼로 복사만, fsync 없음).
+     * 기록에 실패하면 이 연결의 캡처를 중단하고 시세 처리는 계속한다.
+     */
+    private void capture(long receiveNanos, String trCode, DataBuffer payload) {
+        MarketDataJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.append(receiveNanos, trCode, payload);
+        } catch (IOException | RuntimeException e) {
+            log.error("[세션 {}] 캡처 저널 기록 실패 - 이 연결의 캡처 중단: {}", index, current.getFile(), e);
+            closeJournal(current);
+        }
+    }
+
+    private void closeJournal(MarketDataJournal connectionJournal) {
+        if (connectionJournal == null) {
+            return;
+        }
+        if (journal == connectionJournal) {
+            journal = null;
+        }
+        capture.closeSession(connectionJournal);
+    }
+
+    /**
+     * 로깅 대상 프레임인지 확인 (이벤트 생성 없이 판정).
+     * 수신 스레드에서는 전략 로직을 실행하지 않고, 로그가 필요한 경우에만 이벤트로 복사한다.
+     */
+    private boolean isLoggable(MarketDataFrame f) {
+        return switch (f.getType()) {
+            case TICK -> log.isTraceEnabled();
+            case ORDER_BOOK -> log.isDebugEnabled();
+            case PROGRAM_TRADE -> ProgramTradeEvent.isDistributionPattern(f.getProgramBuy() - f.getProgramSell());
+            case STOCK_QUOTE -> StockQuoteEvent.isGapUp(f.getOpenPrice(), f.getBasePrice())
+                    || StockQuoteEvent.isNewHigh(f.getPrice(), f.getHighPrice(), f.getChangeRate());
+            case STOCK_TRADE -> StockTradeEvent.isLargeTrade(f.getPrice(), f.getVolume());
+            case VI, BALANCE -> true;
+        };
+    }
+
+    /**
+     * 타입별 로깅.
+     */
+    private void logEvent(ApplicationEvent event) {
+        switch (event) {
+            case TickDataEvent e ->
+                log.trace("체결: {} @ {} ({}%)", e.getStockCode(), e.getPrice(), e.getChangeRate());
+            case ProgramTradeEvent e -> {
+                if (e.isDistributionPattern()) {
+                    log.warn("⚠️ 프로그램 순매도 급증: {} ({}억)",
+                            e.getStockCode(), e.getProgramNet() / 100_000_000);
+                }
+            }
+            case ViEvent e ->
+                log.warn("🚨 VI 발동: {} ({}) @ {}", e.getStockName(), e.getViType(), e.getTriggerPrice());
+            case StockQuoteEvent e -> {
+                if (e.isGapUp()) {
+                    log.info("📈 갭 상승: {} {} ({}%)", e.getStockCode(), e.getStockName(), e.getChangeRate());
+                }
+                if (e.isNewHigh()) {
+                    log.info("🔥 신고가 돌파: {} @ {}", e.getStockName(), e.getHighPrice());
+                }
+            }
+            case StockTradeEvent e -> {
+                if (e.isLargeTrade()) {
+                    log.info("💰 대량 체결: {} {} @ {} ({}주)",
+                            e.isBuySide() ? "매수" : "매도",
+                            e.getStockName(), e.getPrice(), e.getVolume());
+                }
+            }
+            case BalanceUpdateEvent e ->
+                log.info("💰 잔고 업데이트: {} {} 주 @ {} (손익: {})",
+                        e.getStockName(), e.getHoldQty(), e.getCurrentPrice(), e.getPnlAmount());
+            case OrderBookEvent e ->
+                log.debug("📊 호가 변동: {} 매도1: {}@{} 매수1: {}@{}",
+                        e.getStockCode(), e.getAskPrice1(), e.getAskQty1(),
+                        e.getBidPrice1(), e.getBidQty1());
+            default -> {
+            }
+        }
+    }
+}
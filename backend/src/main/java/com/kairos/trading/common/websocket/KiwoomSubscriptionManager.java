@@ -0,0 +1,279 @@
+package com.kairos.trading.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 실시간 구독 상태 관리자.
+ *
+ * 원하는 구독 상태(desired: 종목 → 실시간 타입, 그룹)와 브로커에 실제 등록된 상태(active)를 따로 관리하고,
+ * 변경 시 두 상태의 차이만 REG/REMOVE 메시지로 만든다.
+ * - 같은 그룹 · 같은 타입 조합의 종목은 하나의 data 항목으로 묶고, 메시지당 종목 수 상한까지 채운다.
+ * - 신규 종목은 종목 수가 가장 적은 그룹(1~4)에 배정하고 해제 전까지 유지한다.
+ * - 재연결 시 {@link #resync()}로 원하는 상태 전체를 최소 메시지로 다시 등록한다.
+ *
+ * 메시지 생성만 담당하며 전송은 호출 측(KiwoomWebSocketClient)이 한다. 모든 메서드는 동기화된다.
+ */
+public class KiwoomSubscriptionManager {
+
+    /** 키움 실시간 그룹 수 (grp_no 1~4) */
+    public static final int GROUP_COUNT = 4;
+
+    /** 메시지당 종목 수 상한 기본값 */
+    public static final int DEFAULT_MAX_ITEMS_PER_MESSAGE = 100;
+
+    private final ObjectMapper objectMapper;
+    private final int maxItemsPerMessage;
+
+    // 종목코드 → 구독 (삽입 순서 유지: 메시지 내 종목 순서가 요청 순서를 따름)
+    private final Map<String, Subscription> desired = new LinkedHashMap<>();
+    private final Map<String, Subscription> active = new LinkedHashMap<>();
+
+    // 그룹별 배정 종목 수 (index 1~4 사용)
+    private final int[] groupLoad = new int[GROUP_COUNT + 1];
+
+    public KiwoomSubscriptionManager(ObjectMapper objectMapper, int maxItemsPerMessage) {
+        if (maxItemsPerMessage <= 0) {
+            throw new IllegalArgumentException("메시지당 종목 수 상한은 양수여야 합니다: " + maxItemsPerMessage);
+        }
+        this.objectMapper = objectMapper;
+        this.maxItemsPerMessage = maxItemsPerMessage;
+    }
+
+    /**
+     * 구독 추가 (기존 타입에 합집합).
+     */
+    public synchronized void subscribe(String stockCode, Collection<String> realTypes) {
+        var current = desired.get(stockCode);
+        if (current == null) {
+            desired.put(stockCode, new Subscription(stockCode, new TreeSet<>(realTypes), assignGroup()));
+        } else {
+            current.realTypes().addAll(realTypes);
+        }
+    }
+
+    /**
+     * 구독 해제 (등록된 모든 타입).
+     */
+    public synchronized void unsubscribe(String stockCode) {
+        var removed = desired.remove(stockCode);
+        if (removed != null) {
+            groupLoad[removed.group()]--;
+        }
+    }
+
+    /**
+     * 감시 목록 전체 교체. 기존에 있던 종목은 그룹을 유지한다.
+     *
+     * @param watchList 종목코드 → 실시간 타입
+     */
+    public synchronized void replaceAll(Map<String, ? extends Collection<String>> watchList) {
+        for (String stockCode : List.copyOf(desired.keySet())) {
+            if (!watchList.containsKey(stockCode)) {
+                unsubscribe(stockCode);
+            }
+        }
+        watchList.forEach((stockCode, realTypes) -> {
+            var current = desired.get(stockCode);
+            if (current == null) {
+                subscribe(stockCode, realTypes);
+            } else {
+                current.realTypes().clear();
+                current.realTypes().addAll(realTypes);
+            }
+        });
+    }
+
+    /**
+     * 원하는 상태와 등록 상태의 차이를 메시지로 만들고, 등록 상태를 원하는 상태로 갱신한다.
+     * REMOVE가 REG보다 먼저 온다.
+     *
+     * @return 전송할 메시지 (변경 없으면 빈 목록)
+     */
+    public synchronized List<String> drainChanges() {
+        // 그룹 → 타입 조합 → 종목
+        Map<Integer, Map<Set<String>, List<String>>> removes = new LinkedHashMap<>();
+        Map<Integer, Map<Set<String>, List<String>>> regs = new LinkedHashMap<>();
+
+        for (var registered : active.values()) {
+            var wanted = desired.get(registered.stockCode());
+            if (wanted == null || wanted.group() != registered.group()) {
+                collect(removes, registered.group(), registered.realTypes(), registered.stockCode());
+                continue;
+            }
+            var stale = new TreeSet<>(registered.realTypes());
+            stale.removeAll(wanted.realTypes());
+            if (!stale.isEmpty()) {
+                collect(removes, registered.group(), stale, registered.stockCode());
+            }
+        }
+
+        for (var wanted : desired.values()) {
+            var registered = active.get(wanted.stockCode());
+            var missing = new TreeSet<>(wanted.realTypes());
+            if (registered != null && registered.group() == wanted.group()) {
+                missing.removeAll(registered.realTypes());
+            }
+            if (!missing.isEmpty()) {
+                collect(regs, wanted.group(), missing, wanted.stockCode());
+            }
+        }
+
+        List<String> messages = new ArrayList<>();
+        removes.forEach((group, entries) -> messages.addAll(pack("REMOVE", group, entries)));
+        regs.forEach((group, entries) -> messages.addAll(pack("REG", group, entries)));
+
+        active.clear();
+        desired.forEach((stockCode, subscription) -> active.put(stockCode, subscription.copy()));
+        return messages;
+    }
+
+    /**
+     * 재연결 후 전체 재등록. 브로커 측 등록 상태가 초기화되었다고 보고 원하는 상태 전체를 REG로 만든다.
+     */
+    public synchronized List<String> resync() {
+        active.clear();
+        return drainChanges();
+    }
+
+    /**
+     * 모든 구독 상태 초기화 (연결 종료 시).
+     */
+    public synchronized void clear() {
+        desired.clear();
+        active.clear();
+        Arrays.fill(groupLoad, 0);
+    }
+
+    /**
+     * 구독 중인(원하는 상태) 종목 수.
+     */
+    public synchronized int getSubscribedCount() {
+        return desired.size();
+    }
+
+    /**
+     * 종목의 구독 타입 (미구독이면 빈 집합).
+     */
+    public synchronized Set<String> getRealTypes(String stockCode) {
+        var subscription = desired.get(stockCode);
+        return subscription == null ? Set.of() : Collections.unmodifiableSet(new TreeSet<>(subscription.realTypes()));
+    }
+
+    /**
+     * 종목이 배정된 그룹 (미구독이면 0).
+     */
+    public synchronized int getGroup(String stockCode) {
+        var subscription = desired.get(stockCode);
+        return subscription == null ? 0 : subscription.group();
+    }
+
+    /**
+     * REG/REMOVE 메시지 생성.
+     *
+     * @param trnm    REG 또는 REMOVE
+     * @param groupNo 그룹번호
+     * @param refresh REG의 기존 등록 유지 여부 (REMOVE는 null)
+     * @param entries 타입 조합 → 종목 리스트 (각각 하나의 data 항목)
+     */
+    public String buildMessage(String trnm, String groupNo, Boolean refresh,
+            Map<? extends Collection<String>, ? extends Collection<String>> entries) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("trnm", trnm);
+        root.put("grp_no", groupNo);
+        if (refresh != null) {
+            root.put("refresh", refresh ? "1" : "0");
+        }
+
+        ArrayNode dataArray = root.putArray("data");
+        entries.forEach((realTypes, stockCodes) -> {
+            ObjectNode dataItem = dataArray.addObject();
+            ArrayNode itemArray = dataItem.putArray("item");
+            stockCodes.forEach(itemArray::add);
+            ArrayNode typeArray = dataItem.putArray("type");
+            realTypes.forEach(typeArray::add);
+        });
+
+        try {
+            return objectMapper.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(trnm + " 메시지 생성 실패", e);
+        }
+    }
+
+    /**
+     * 한 그룹의 (타입 조합 → 종목) 목록을 메시지당 종목 수 상한에 맞춰 나눈다.
+     */
+    private List<String> pack(String trnm, int group, Map<Set<String>, List<String>> entries) {
+        List<String> messages = new ArrayList<>();
+        Map<Set<String>, List<String>> batch = new LinkedHashMap<>();
+        int itemCount = 0;
+
+        for (var entry : entries.entrySet()) {
+            List<String> stockCodes = entry.getValue();
+            int offset = 0;
+            while (offset < stockCodes.size()) {
+                int take = Math.min(stockCodes.size() - offset, maxItemsPerMessage - itemCount);
+                batch.put(entry.getKey(), stockCodes.subList(offset, offset + take));
+                offset += take;
+                itemCount += take;
+                if (itemCount == maxItemsPerMessage) {
+                    messages.add(buildMessage(trnm, group, batch));
+                    batch = new LinkedHashMap<>();
+                    itemCount = 0;
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            messages.add(buildMessage(trnm, group, batch));
+        }
+        return messages;
+    }
+
+    private String buildMessage(String trnm, int group, Map<Set<String>, List<String>> batch) {
+        return buildMessage(trnm, String.valueOf(group), "REG".equals(trnm) ? Boolean.TRUE : null, batch);
+    }
+
+    private static void collect(Map<Integer, Map<Set<String>, List<String>>> target, int group,
+            Set<String> realTypes, String stockCode) {
+        target.computeIfAbsent(group, g -> new LinkedHashMap<>())
+                .computeIfAbsent(new TreeSet<>(realTypes), t -> new ArrayList<>())
+                .add(stockCode);
+    }
+
+    /**
+     * 종목 수가 가장 적은 그룹 배정.
+     */
+    private int assignGroup() {
+        int group = 1;
+        for (int g = 2; g <= GROUP_COUNT; g++) {
+            if (groupLoad[g] < groupLoad[group]) {
+                group = g;
+            }
+        }
+        groupLoad[group]++;
+        return group;
+    }
+
+    /**
+     * 종목 구독 상태.
+     */
+    private record Subscription(String stockCode, Set<String> realTypes, int group) {
+
+        Subscription copy() {
+            return new Subscription(stockCode, new TreeSet<>(realTypes), group);
+        }
+    }
+}
@@ -1,35 +1,23 @@
 package com.kairos.trading.common.websocket;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.kairos.trading.common.event.BalanceUpdateEvent;
-import com.kairos.trading.common.event.OrderBookEvent;
-import com.kairos.trading.common.event.ProgramTradeEvent;
-import reactor.util.retry.Retry;
-import com.kairos.trading.common.event.TickDataEvent;
-import com.kairos.trading.common.event.ViEvent;
-import com.kairos.trading.common.event.StockQuoteEvent;
-import com.kairos.trading.common.event.StockTradeEvent;
+import com.kairos.trading.common.marketdata.MarketDataCapture;
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
-import reactor.core.Disposable;
-import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
 import java.net.URI;
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 
 /**
  * 키움증권 WebSocket 클라이언트.
@@ -39,6 +27,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * - 0A: 주식 기세
  * - 0w: 프로그램 매매
  * - 1h: VI 발동
+ *
+ * 감시 종목이 많으면 {@code kairos.market-data.sessions}개 세션으로 나눠 구독한다.
+ * - 종목은 코드 해시로 한 세션에만 배정되어 종목별 수신 순서가 유지된다.
+ * - 세션마다 재연결/상태 추적을 따로 하고, 수신 프레임은 모두 같은 디스패처로 합류한다.
  */
 @Slf4j
 @Component
@@ -58,28 +50,36 @@ public class KiwoomWebSocketClient {
         public static final String VI_EVENT = "1h"; // VI 발동/해제
     }
 
-    private final ApplicationEventPublisher eventPublisher;
+    private final MarketDataDispatcher dispatcher;
+    private final SymbolRegistry symbolRegistry;
+    private final MarketDataCapture capture;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // 메시지 생성 전용 (세션 구독 상태와 무관)
+    private final KiwoomSubscriptionManager messages =
+            new KiwoomSubscriptionManager(objectMapper, KiwoomSubscriptionManager.DEFAULT_MAX_ITEMS_PER_MESSAGE);
+
     @Value("${kiwoom.websocket.url:wss://openapi.koreainvestment.com:21000}")
     private String websocketUrl;
 
-    private ReactorNettyWebSocketClient client;
-    private Disposable connection;
-
-    // 구독 중인 종목
-    private final Set<String> subscribedStocks = ConcurrentHashMap.newKeySet();
+    @Value("${kairos.market-data.sessions:1}")
+    private int sessionCount = 1;
 
-    // 메시지 전송을 위한 Sink (양방향 통신)
-    private Sinks.Many<String> outboundSink;
-
-    // 기본 그룹번호
-    private static final String DEFAULT_GROUP_NO = "1";
+    private ReactorNettyWebSocketClient client;
+    private KiwoomSession[] sessions;
 
     @PostConstruct
     public void init() {
         client = new ReactorNettyWebSocketClient();
-        log.info("KiwoomWebSocketClient 초기화 완료");
+        if (sessionCount <= 0) {
+            throw new IllegalArgumentException("WebSocket 세션 수는 양수여야 합니다: " + sessionCount);
+        }
+        sessions = new KiwoomSession[sessionCount];
+        for (int i = 0; i < sessionCount; i++) {
+            sessions[i] = new KiwoomSession(i, dispatcher, capture, objectMapper,
+                    KiwoomSubscriptionManager.DEFAULT_MAX_ITEMS_PER_MESSAGE);
+        }
+        log.info("KiwoomWebSocketClient 초기화 완료 (세션 {}개)", sessionCount);
     }
 
     @PreDestroy
@@ -88,75 +88,34 @@ public class KiwoomWebSocketClient {
     }
 
     /**
-     * WebSocket 연결 시작.
+     * WebSocket 연결 시작 (모든 세션).
      */
     public void connect(String token) {
-        if (connection != null && !connection.isDisposed()) {
-            log.warn("이미 WebSocket 연결이 활성화되어 있습니다.");
-            return;
+        log.info("WebSocket 연결 시작: {} (세션 {}개)", websocketUrl, sessions.length);
+        URI uri = URI.create(websocketUrl + "?token=" + token);
+        for (KiwoomSession session : sessions) {
+            session.connect(client, uri);
         }
-
-        log.info("WebSocket 연결 시작: {}", websocketUrl);
-
-        // 메시지 전송용 Sink 초기화
-        outboundSink = Sinks.many().unicast().onBackpressureBuffer();
-
-        connection = client.execute(
-                URI.create(websocketUrl + "?token=" + token),
-                session -> {
-                    // 수신 스트림
-                    var inbound = session.receive()
-                            .map(WebSocketMessage::getPayloadAsText)
-                            .doOnNext(this::handleMessage)
-                            .doOnError(e -> log.error("WebSocket 수신 에러", e));
-
-                    // 송신 스트림
-                    var outbound = session.send(
-                            outboundSink.asFlux()
-                                    .map(session::textMessage)
-                                    .doOnNext(msg -> log.debug("WebSocket 송신: {}", msg.getPayloadAsText())));
-
-                    // 양방향 병합
-                    return Mono.zip(inbound.then(), outbound).then();
-                })
-                .retryWhen(Retry.fixedDelay(5, Duration.ofSeconds(5))
-                        .doBeforeRetry(signal -> log.warn("WebSocket 재연결 시도: {}", signal.totalRetries())))
-                .subscribe();
     }
 
     /**
-     * WebSocket 연결 종료.
+     * WebSocket 연결 종료 (모든 세션).
      */
     public void disconnect() {
-        if (connection != null && !connection.isDisposed()) {
-            connection.dispose();
-            log.info("WebSocket 연결 해제됨");
+        for (KiwoomSession session : sessions) {
+            session.disconnect();
         }
-        subscribedStocks.clear();
     }
 
     /**
      * 종목 실시간 구독 등록.
+     * 미연결 상태면 원하는 상태에만 기록하고 연결 시 일괄 등록한다.
      * 
      * @param stockCode 종목코드
      * @param realTypes 실시간 타입 목록 (기본: 체결가)
      */
     public void subscribe(String stockCode, List<String> realTypes) {
-        if (!isConnected()) {
-            log.warn("WebSocket 미연결 상태. 구독 불가: {}", stockCode);
-            return;
-        }
-
-        subscribedStocks.add(stockCode);
-
-        String message = buildSubscribeMessage(
-                List.of(stockCode),
-                realTypes.isEmpty() ? List.of(RealType.TICK_DATA) : realTypes,
-                DEFAULT_GROUP_NO,
-                true);
-
-        sendMessage(message);
-        log.info("실시간 구독 등록: {} (types: {})", stockCode, realTypes);
+        subscribeAll(List.of(stockCode), realTypes);
     }
 
     /**
@@ -167,215 +126,95 @@ public class KiwoomWebSocketClient {
     }
 
     /**
-     * 종목 실시간 구독 해제.
+     * 여러 종목 일괄 구독. 그룹/타입별로 묶어 최소 개수의 REG 메시지로 전송한다.
      */
-    public void unsubscribe(String stockCode) {
-        if (!isConnected()) {
-            log.warn("WebSocket 미연결 상태. 해제 불가: {}", stockCode);
-            return;
+    public void subscribeAll(Collection<String> stockCodes, List<String> realTypes) {
+        var types = realTypes.isEmpty() ? List.of(RealType.TICK_DATA) : realTypes;
+        List<List<String>> partitions = new ArrayList<>(sessions.length);
+        for (int i = 0; i < sessions.length; i++) {
+            partitions.add(new ArrayList<>());
         }
-
-        subscribedStocks.remove(stockCode);
-
-        String message = buildUnsubscribeMessage(
-                List.of(stockCode),
-                List.of(RealType.TICK_DATA, RealType.PROGRAM_TRADE),
-                DEFAULT_GROUP_NO);
-
-        sendMessage(message);
-        log.info("실시간 구독 해제: {}", stockCode);
-    }
-
-    /**
-     * 메시지 전송.
-     */
-    private void sendMessage(String message) {
-        if (outboundSink != null) {
-            outboundSink.tryEmitNext(message);
-        } else {
-            log.error("outboundSink가 null입니다. WebSocket이 연결되지 않았습니다.");
+        for (String stockCode : stockCodes) {
+            symbolRegistry.register(stockCode);
+            partitions.get(sessionOf(stockCode)).add(stockCode);
         }
-    }
-
-    /**
-     * 메시지 핸들링.
-     */
-    private void handleMessage(String message) {
-        try {
-            JsonNode node = objectMapper.readTree(message);
-            String trCode = node.path("tr_cd").asText();
-
-            switch (trCode) {
-                case "00" -> handleTickData(node);
-                case "04" -> handleBalance(node);
-                case "0A" -> handleStockQuote(node);
-                case "0B" -> handleStockTrade(node);
-                case "0D" -> handleOrderBook(node);
-                case "0w" -> handleProgramTrade(node);
-                case "1h" -> handleViEvent(node);
-                default -> log.debug("알 수 없는 TR 코드: {}", trCode);
+        for (int i = 0; i < sessions.length; i++) {
+            if (!partitions.get(i).isEmpty()) {
+                sessions[i].subscribeAll(partitions.get(i), types);
             }
-        } catch (Exception e) {
-            log.error("메시지 파싱 실패: {}", message, e);
         }
+        log.info("실시간 구독 등록: {}종목 (types: {})", stockCodes.size(), types);
     }
 
     /**
-     * 체결가 데이터 처리 (00).
-     */
-    private void handleTickData(JsonNode node) {
-        var event = new TickDataEvent(
-                this,
-                node.path("stk_cd").asText(),
-                node.path("cur_prc").asLong(),
-                node.path("trd_vol").asLong(),
-                node.path("acc_vol").asLong(),
-                node.path("chg_rate").asDouble());
-
-        eventPublisher.publishEvent(event);
-        log.trace("체결: {} @ {} ({}%)", event.getStockCode(), event.getPrice(), event.getChangeRate());
-    }
-
-    /**
-     * 프로그램 매매 데이터 처리 (0w).
-     */
-    private void handleProgramTrade(JsonNode node) {
-        var event = new ProgramTradeEvent(
-                this,
-                node.path("stk_cd").asText(),
-                node.path("pgm_buy").asLong(),
-                node.path("pgm_sell").asLong());
-
-        eventPublisher.publishEvent(event);
-
-        if (event.isDistributionPattern()) {
-            log.warn("⚠️ 프로그램 순매도 급증: {} ({}억)",
-                    event.getStockCode(), event.getProgramNet() / 100_000_000);
-        }
-    }
-
-    /**
-     * VI 발동 처리 (1h).
-     */
-    private void handleViEvent(JsonNode node) {
-        var event = new ViEvent(
-                this,
-                node.path("stk_cd").asText(),
-                node.path("stk_nm").asText(),
-                node.path("vi_tp").asText(),
-                node.path("trig_prc").asLong());
-
-        eventPublisher.publishEvent(event);
-        log.warn("🚨 VI 발동: {} ({}) @ {}", event.getStockName(), event.getViType(), event.getTriggerPrice());
-    }
-
-    /**
-     * 주식기세 처리 (0A).
-     * Vector 에이전트가 시가/고가/저가 분석에 활용.
+     * 감시 목록 전체 교체. 이전 목록과의 차이만 REG/REMOVE로 전송한다.
+     * 
+     * @param watchList 종목코드 → 실시간 타입
      */
-    private void handleStockQuote(JsonNode node) {
-        var event = new StockQuoteEvent(
-                this,
-                node.path("stk_cd").asText(),
-                node.path("stk_nm").asText(),
-                node.path("open_prc").asLong(),
-                node.path("hgh_prc").asLong(),
-                node.path("low_prc").asLong(),
-                node.path("cur_prc").asLong(),
-                node.path("base_prc").asLong(),
-                node.path("flu_rt").asDouble());
-
-        eventPublisher.publishEvent(event);
-
-        if (event.isGapUp()) {
-            log.info("📈 갭 상승: {} {} ({}%)", event.getStockCode(), event.getStockName(), event.getChangeRate());
+    public void updateWatchList(Map<String, List<String>> watchList) {
+        List<Map<String, List<String>>> partitions = new ArrayList<>(sessions.length);
+        for (int i = 0; i < sessions.length; i++) {
+            partitions.add(new HashMap<>());
         }
-        if (event.isNewHigh()) {
-            log.info("🔥 신고가 돌파: {} @ {}", event.getStockName(), event.getHighPrice());
+        watchList.forEach((stockCode, realTypes) -> {
+            symbolRegistry.register(stockCode);
+            partitions.get(sessionOf(stockCode)).put(stockCode, realTypes);
+        });
+        // 빈 파티션도 교체해야 해당 세션에서 빠진 종목이 해제된다
+        for (int i = 0; i < sessions.length; i++) {
+            sessions[i].replaceAll(partitions.get(i));
         }
+        log.info("감시 목록 갱신: {}종목", watchList.size());
     }
 
     /**
-     * 주식체결 처리 (0B).
-     * Vector 에이전트가 실시간 체결 분석에 활용.
+     * 종목 실시간 구독 해제 (등록된 모든 타입).
      */
-    private void handleStockTrade(JsonNode node) {
-        var event = new StockTradeEvent(
-                this,
-                node.path("stk_cd").asText(),
-                node.path("stk_nm").asText(),
-                node.path("cntr_prc").asLong(),
-                node.path("cntr_qty").asLong(),
-                node.path("acc_trde_qty").asLong(),
-                node.path("acc_trde_amt").asLong(),
-                node.path("cntr_tm").asText(),
-                node.path("trde_tp").asText());
-
-        eventPublisher.publishEvent(event);
-
-        if (event.isLargeTrade()) {
-            log.info("💰 대량 체결: {} {} @ {} ({}주)",
-                    event.isBuySide() ? "매수" : "매도",
-                    event.getStockName(), event.getPrice(), event.getVolume());
-        }
+    public void unsubscribe(String stockCode) {
+        sessions[sessionOf(stockCode)].unsubscribe(stockCode);
+        log.info("실시간 구독 해제: {}", stockCode);
     }
 
     /**
-     * 실시간 잔고 처리 (04).
-     * 체결 후 잔고 자동 동기화.
+     * 종목이 배정된 세션 번호 (코드 해시, 같은 종목은 항상 같은 세션).
      */
-    private void handleBalance(JsonNode node) {
-        var event = new BalanceUpdateEvent(
-                this,
-                node.path("acnt_no").asText(),
-                node.path("stk_cd").asText(),
-                node.path("stk_nm").asText(),
-                node.path("hold_qty").asInt(),
-                node.path("avg_prc").asLong(),
-                node.path("cur_prc").asLong(),
-                node.path("eval_amt").asLong(),
-                node.path("pnl_amt").asLong(),
-                node.path("pnl_rt").asDouble());
-
-        eventPublisher.publishEvent(event);
-        log.info("💰 잔고 업데이트: {} {} 주 @ {} (손익: {})",
-                event.getStockName(), event.getHoldQty(), event.getCurrentPrice(), event.getPnlAmount());
+    int sessionOf(String stockCode) {
+        int h = stockCode.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), sessions.length);
     }
 
     /**
-     * 실시간 호가잔량 처리 (0D).
-     * Vector 에이전트가 호가창 변동 감지에 활용.
+     * 구독 중인 종목 수 반환.
      */
-    private void handleOrderBook(JsonNode node) {
-        var event = new OrderBookEvent(
-                this,
-                node.path("stk_cd").asText(),
-                node.path("stk_nm").asText(),
-                node.path("sell_hoga1").asLong(),
-                node.path("sell_qty1").asLong(),
-                node.path("buy_hoga1").asLong(),
-                node.path("buy_qty1").asLong(),
-                node.path("tot_sell_qty").asLong(),
-                node.path("tot_buy_qty").asLong());
-
-        eventPublisher.publishEvent(event);
-        log.debug("📊 호가 변동: {} 매도1: {}@{} 매수1: {}@{}",
-                event.getStockCode(), event.getAskPrice1(), event.getAskQty1(),
-                event.getBidPrice1(), event.getBidQty1());
+    public int getSubscribedCount() {
+        int count = 0;
+        for (KiwoomSession session : sessions) {
+            count += session.getSubscribedCount();
+        }
+        return count;
     }
 
     /**
-     * 구독 중인 종목 수 반환.
+     * 연결 상태 확인 (하나 이상의 세션이 연결되어 있으면 true).
      */
-    public int getSubscribedCount() {
-        return subscribedStocks.size();
+    public boolean isConnected() {
+        for (KiwoomSession session : sessions) {
+            if (session.isConnected()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * 연결 상태 확인.
+     * 세션별 상태.
      */
-    public boolean isConnected() {
-        return connection != null && !connection.isDisposed();
+    public List<SessionHealth> getSessionHealth() {
+        List<SessionHealth> health = new ArrayList<>(sessions.length);
+        for (KiwoomSession session : sessions) {
+            health.add(session.health());
+        }
+        return health;
     }
 
     /**
@@ -389,26 +228,7 @@ public class KiwoomWebSocketClient {
      */
     public String buildSubscribeMessage(List<String> stockCodes, List<String> realTypes,
             String groupNo, boolean keepExisting) {
-        ObjectNode root = objectMapper.createObjectNode();
-        root.put("trnm", "REG");
-        root.put("grp_no", groupNo);
-        root.put("refresh", keepExisting ? "1" : "0");
-
-        ArrayNode dataArray = root.putArray("data");
-        ObjectNode dataItem = dataArray.addObject();
-
-        ArrayNode itemArray = dataItem.putArray("item");
-        stockCodes.forEach(itemArray::add);
-
-        ArrayNode typeArray = dataItem.putArray("type");
-        realTypes.forEach(typeArray::add);
-
-        try {
-            return objectMapper.writeValueAsString(root);
-        } catch (Exception e) {
-            log.error("구독 메시지 생성 실패", e);
-            throw new RuntimeException("구독 메시지 생성 실패", e);
-        }
+        return messages.buildMessage("REG", groupNo, keepExisting, Map.of(realTypes, stockCodes));
     }
 
     /**
@@ -421,24 +241,25 @@ public class KiwoomWebSocketClient {
      */
     public String buildUnsubscribeMessage(List<String> stockCodes, List<String> realTypes,
             String groupNo) {
-        ObjectNode root = objectMapper.createObjectNode();
-        root.put("trnm", "REMOVE");
-        root.put("grp_no", groupNo);
-
-        ArrayNode dataArray = root.putArray("data");
-        ObjectNode dataItem = dataArray.addObject();
-
-        ArrayNode itemArray = dataItem.putArray("item");
-        stockCodes.forEach(itemArray::add);
-
-        ArrayNode typeArray = dataItem.putArray("type");
-        realTypes.forEach(typeArray::add);
+        return messages.buildMessage("REMOVE", groupNo, null, Map.of(realTypes, stockCodes));
+    }
 
-        try {
-            return objectMapper.writeValueAsString(root);
-        } catch (Exception e) {
-            log.error("해제 메시지 생성 실패", e);
-            throw new RuntimeException("해제 메시지 생성 실패", e);
-        }
+    /**
+     * WebSocket 세션 상태.
+     *
+     * @param index           세션 번호
+     * @param state           연결 상태 (DISCONNECTED, CONNECTING, CONNECTED)
+     * @param subscribedCount 구독 종목 수
+     * @param receivedCount   누적 수신 프레임 수
+     * @param reconnectCount  누적 재연결 시도 수
+     * @param idleMillis      마지막 수신 이후 경과 (미연결 시 -1)
+     */
+    public record SessionHealth(
+            int index,
+            String state,
+            int subscribedCount,
+            long receivedCount,
+            long reconnectCount,
+            long idleMillis) {
     }
 }
@@ -0,0 +1,54 @@
+package com.kairos.trading.common.websocket;
+
+/**
+ * 문자 배열 구간 → String 캐시 (direct-mapped).
+ * 
+ * 종목코드/종목명/매매구분처럼 값의 종류가 한정된 필드를 프레임마다 새 String으로 만들지 않도록
+ * 같은 내용이면 이전에 만든 인스턴스를 그대로 돌려준다.
+ * 해시 충돌 시 덮어쓰므로 정확성에는 영향이 없고 적중률만 달라진다.
+ * 수신 스레드 전용 (동기화 없음).
+ */
+final class TextInterner {
+
+    private final String[] table;
+    private final int mask;
+
+    TextInterner(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("캐시 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.table = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    String intern(char[] buf, int offset, int length) {
+        if (length == 0) {
+            return "";
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buf[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        String cached = table[index];
+        if (cached != null && matches(cached, buf, offset, length)) {
+            return cached;
+        }
+        String text = new String(buf, offset, length);
+        table[index] = text;
+        return text;
+    }
+
+    private static boolean matches(String text, char[] buf, int offset, int length) {
+        if (text.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
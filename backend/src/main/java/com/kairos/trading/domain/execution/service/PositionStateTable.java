@@ -0,0 +1,209 @@
+package com.kairos.trading.domain.execution.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 실시간 포지션 상태 테이블.
+ *
+ * 모니터링 중인 종목의 진입가·목표가·손절가·고점·수량을 종목 ID로 인덱싱한 원시 배열에 둔다.
+ * JPA 엔티티({@code TargetStock})는 등록 시 한 번 복사할 뿐 체결 경로에서 만지지 않는다.
+ *
+ * - 등록/해제는 아무 스레드에서나 하고, 값을 모두 기록한 뒤 {@code open}(volatile)으로 게시한다.
+ * - 게시 이후 고점/손절가 갱신은 종목이 배정된 샤드 스레드만 한다 (잠금·할당 없음).
+ * - 손절가가 바뀌면 dirty 표시만 하고, {@link PositionWriteBehind}가 주기적으로 모아 DB에 반영한다
+ *   (그 사이 여러 번 올라가도 마지막 값 한 번만 기록).
+ */
+@Component
+public class PositionStateTable {
+
+    private static final long NO_PRICE = 0L;
+
+    // 고점 추적을 하지 않는 종목 (어떤 체결가도 고점을 넘지 않음)
+    private static final long NOT_TRACKED = Long.MAX_VALUE;
+
+    private final SymbolRegistry symbolRegistry;
+
+    // 종목 ID → 등록 여부 (게시용, 1 = 모니터링 중)
+    private final AtomicIntegerArray open;
+
+    // 종목 ID → 상태 (원)
+    private final long[] entityIds;
+    private final String[] stockNames;
+    private final long[] entryPrices;
+    private final long[] targetPrices;
+    private final long[] originalTargetPrices;
+    private final long[] originalStopLosses;
+    private final long[] highWaterMarks;
+    private final int[] quantities;
+
+    // 샤드 스레드가 올리고 write-behind가 읽는 값
+    private final AtomicLongArray stopLosses;
+    private final AtomicIntegerArray dirty;
+
+    public PositionStateTable(SymbolRegistry symbolRegistry) {
+        this.symbolRegistry = symbolRegistry;
+
+        int capacity = symbolRegistry.capacity();
+        this.open = new AtomicIntegerArray(capacity);
+        this.entityIds = new long[capacity];
+        this.stockNames = new String[capacity];
+        this.entryPrices = new long[capacity];
+        this.targetPrices = new long[capacity];
+        this.originalTargetPrices = new long[capacity];
+        this.originalStopLosses = new long[capacity];
+        this.highWaterMarks = new long[capacity];
+        this.quantities = new int[capacity];
+        this.stopLosses = new AtomicLongArray(capacity);
+        this.dirty = new AtomicIntegerArray(capacity);
+    }
+
+    /**
+     * 포지션 등록 (값을 모두 기록한 뒤 게시).
+     *
+     * @param entityId target_stock ID (저장 전이면 0, DB 반영 안 함)
+     * @param quantity 보유 수량 (0 = 전량)
+     * @return 새로 등록되었으면 true, 기존 포지션을 덮어썼으면 false
+     */
+    public boolean open(int symbolId, long entityId, String stockName, long entryPrice, long targetPrice,
+            long stopLoss, long originalTargetPrice, long originalStopLoss, int quantity) {
+        entityIds[symbolId] = entityId;
+        stockNames[symbolId] = stockName;
+        entryPrices[symbolId] = entryPrice;
+        targetPrices[symbolId] = targetPrice;
+        originalTargetPrices[symbolId] = originalTargetPrice;
+        originalStopLosses[symbolId] = originalStopLoss;
+        quantities[symbolId] = quantity;
+        highWaterMarks[symbolId] = isTrailing(symbolId) ? NO_PRICE : NOT_TRACKED;
+        stopLosses.set(symbolId, stopLoss);
+        dirty.set(symbolId, 0);
+        return open.getAndSet(symbolId, 1) == 0;
+    }
+
+    /**
+     * 포지션 해제.
+     * 고점은 샤드 스레드만 쓰므로 여기서 지우지 않는다 (해제 후에는 {@code open} 확인에서 걸러지고,
+     * 재등록 시 {@link #open}이 게시 전에 다시 초기화한다).
+     *
+     * @return 모니터링 중이었으면 true
+     */
+    public boolean close(int symbolId) {
+        return open.getAndSet(symbolId, 0) == 1;
+    }
+
+    public boolean isOpen(int symbolId) {
+        return symbolId != SymbolRegistry.NO_SYMBOL && open.get(symbolId) == 1;
+    }
+
+    /**
+     * 고점 갱신 (샤드 스레드).
+     * 미등록·트레일링 대상이 아니거나 고점 이하면 false.
+     */
+    public boolean raiseHighWaterMark(int symbolId, long price) {
+        if (open.get(symbolId) == 0 || price <= highWaterMarks[symbolId]) {
+            return false;
+        }
+        highWaterMarks[symbolId] = price;
+        return true;
+    }
+
+    /**
+     * 손절가 상향 (샤드 스레드). 올라갔을 때만 DB 반영 대상으로 표시한다.
+     *
+     * @return 기존보다 높아 반영되었으면 true
+     */
+    public boolean raiseStopLoss(int symbolId, long stopLoss) {
+        if (stopLoss <= stopLosses.get(symbolId)) {
+            return false;
+        }
+        stopLosses.set(symbolId, stopLoss);
+        dirty.set(symbolId, 1);
+        return true;
+    }
+
+    public String stockNameOf(int symbolId) {
+        return stockNames[symbolId];
+    }
+
+    public long entryPriceOf(int symbolId) {
+        return entryPrices[symbolId];
+    }
+
+    public long targetPriceOf(int symbolId) {
+        return targetPrices[symbolId];
+    }
+
+    public long stopLossOf(int symbolId) {
+        return stopLosses.get(symbolId);
+    }
+
+    public long originalTargetPriceOf(int symbolId) {
+        return originalTargetPrices[symbolId];
+    }
+
+    public long originalStopLossOf(int symbolId) {
+        return originalStopLosses[symbolId];
+    }
+
+    public long highWaterMarkOf(int symbolId) {
+        if (open.get(symbolId) == 0) {
+            return NO_PRICE;
+        }
+        long high = highWaterMarks[symbolId];
+        return high == NOT_TRACKED ? NO_PRICE : high;
+    }
+
+    public int quantityOf(int symbolId) {
+        return quantities[symbolId];
+    }
+
+    /**
+     * 종목코드로 현재 손절가 조회 (미등록이면 0).
+     */
+    public long stopLossOf(String stockCode) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        return isOpen(symbolId) ? stopLosses.get(symbolId) : NO_PRICE;
+    }
+
+    /**
+     * DB 반영 대기 중인 변경을 꺼낸다 (write-behind 스레드).
+     * 종목별로 마지막 값 하나만 나오며, 꺼낸 종목은 dirty가 해제된다.
+     */
+    public List<PositionChange> drainChanges() {
+        List<PositionChange> changes = new ArrayList<>();
+        int size = symbolRegistry.size();
+        for (int id = 0; id < size; id++) {
+            if (dirty.get(id) == 0 || !dirty.compareAndSet(id, 1, 0)) {
+                continue;
+            }
+            if (entityIds[id] != 0) {
+                changes.add(new PositionChange(id, entityIds[id], targetPrices[id], stopLosses.get(id)));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 반영 실패한 변경 재표시 (다음 주기에 최신 값으로 다시 시도).
+     */
+    public void markDirty(int symbolId) {
+        dirty.set(symbolId, 1);
+    }
+
+    private boolean isTrailing(int symbolId) {
+        return targetPrices[symbolId] != NO_PRICE
+                && originalStopLosses[symbolId] != NO_PRICE
+                && originalTargetPrices[symbolId] != NO_PRICE;
+    }
+
+    /**
+     * DB 반영할 포지션 변경.
+     */
+    public record PositionChange(int symbolId, long entityId, long targetPrice, long stopLoss) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.kairos.trading.domain.execution.service;
+
+import com.kairos.trading.domain.strategy.repository.TargetStockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * 포지션 상태 write-behind.
+ *
+ * {@link PositionStateTable}에서 바뀐 종목만 주기적으로 꺼내 target_stock의 현재 목표가/손절가를 갱신한다.
+ * 체결 경로는 DB를 기다리지 않으며, 한 주기 안의 연속된 손절가 상향은 마지막 값 한 번으로 합쳐진다.
+ * 실패한 종목은 다시 dirty로 표시해 다음 주기에 최신 값으로 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PositionWriteBehind {
+
+    private final PositionStateTable positions;
+    private final TargetStockRepository targetStockRepository;
+
+    @Scheduled(fixedDelayString = "${kairos.position.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 대기 중인 변경 반영.
+     *
+     * @return 반영한 종목 수
+     */
+    public int flush() {
+        var changes = positions.drainChanges();
+        int written = 0;
+        for (var change : changes) {
+            try {
+                targetStockRepository.updateCurrentPrices(change.entityId(),
+                        change.targetPrice() == 0 ? null : BigDecimal.valueOf(change.targetPrice()),
+                        BigDecimal.valueOf(change.stopLoss()));
+                written++;
+            } catch (RuntimeException e) {
+                positions.markDirty(change.symbolId());
+                log.warn("[Position] 손절가 저장 실패 (다음 주기 재시도): target_stock#{} - {}",
+                        change.entityId(), e.getMessage());
+            }
+        }
+        if (written > 0) {
+            log.debug("[Position] 포지션 {}건 저장", written);
+        }
+        return written;
+    }
+
+    /**
+     * 종료 전 남은 변경 반영.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,311 @@
+package com.kairos.trading.domain.execution.service;
+
+import com.kairos.trading.common.event.PriceTriggerEvent;
+import com.kairos.trading.common.event.PriceTriggerEvent.Type;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 종목별 가격 트리거 인덱스.
+ *
+ * 목표가·손절가·사용자 알림 가격을 종목마다 가장 가까운 상단/하단 트리거 가격 두 개로 접어 둔다.
+ * 체결마다 {@code lower < price < upper} 두 번의 비교만 하고, 트리거를 넘었을 때만 종목 잠금을 잡고
+ * 넘어선 레벨을 찾아 {@link PriceTriggerEvent}를 발행한 뒤 상단/하단을 다시 계산한다.
+ *
+ * - 알림은 종목별 가격순 정렬 맵에 두며 한 번 발화하면 제거된다 (수천 건이어도 체결 비용은 그대로).
+ * - 리스너는 트리거를 넘긴 체결을 처리하는 샤드 스레드에서 잠금 밖에서 호출된다.
+ * - 알림 이벤트는 {@link ApplicationEventPublisher}로도 발행한다.
+ * - 트레일링 스탑의 손절가 상향({@link #raiseStopLoss})은 샤드 스레드에서 잠금 없이 하단만 끌어올린다.
+ */
+@Slf4j
+@Component
+public class PriceTriggerIndex {
+
+    private static final long NO_PRICE = 0L;
+
+    private final SymbolRegistry symbolRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 종목 ID → 가장 가까운 상단/하단 트리거 (없으면 Long.MAX_VALUE / Long.MIN_VALUE)
+    private final AtomicLongArray upper;
+    private final AtomicLongArray lower;
+
+    // 종목 ID → 손절가 (0 = 없음, 잠금 없이 상향 가능하도록 트리거 상세와 분리)
+    private final AtomicLongArray stopLosses;
+
+    // 종목 ID → 트리거 상세 (처음 설정할 때 생성)
+    private final AtomicReferenceArray<Triggers> triggers;
+
+    // 알림 ID → 위치 (해제용, 발화/해제 시 먼저 제거한 쪽만 처리)
+    private final Map<Long, AlertRef> alerts = new ConcurrentHashMap<>();
+    private final AtomicLong alertSequence = new AtomicLong();
+
+    private final List<Consumer<PriceTriggerEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public PriceTriggerIndex(SymbolRegistry symbolRegistry, ApplicationEventPublisher eventPublisher) {
+        this.symbolRegistry = symbolRegistry;
+        this.eventPublisher = eventPublisher;
+
+        int capacity = symbolRegistry.capacity();
+        this.upper = new AtomicLongArray(capacity);
+        this.lower = new AtomicLongArray(capacity);
+        this.stopLosses = new AtomicLongArray(capacity);
+        this.triggers = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            upper.set(i, Long.MAX_VALUE);
+            lower.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * 트리거 리스너 등록.
+     */
+    public void addListener(Consumer<PriceTriggerEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 체결가 확인 (핫패스).
+     * 트리거를 넘지 않았으면 비교 두 번으로 끝난다.
+     */
+    public void onPrice(int symbolId, long price) {
+        if (price < upper.get(symbolId) && price > lower.get(symbolId)) {
+            return;
+        }
+        var symbol = triggers.get(symbolId);
+        if (symbol == null) {
+            return;
+        }
+
+        List<PriceTriggerEvent> fired = new ArrayList<>(2);
+        synchronized (symbol) {
+            symbol.collect(this, symbolId, price, fired);
+            refresh(symbolId, symbol);
+        }
+        for (var event : fired) {
+            publish(event);
+        }
+    }
+
+    /**
+     * 목표가/손절가 설정 (0이면 해당 방향 없음).
+     */
+    public void setBand(int symbolId, long targetPrice, long stopLoss) {
+        var symbol = triggersOf(symbolId);
+        synchronized (symbol) {
+            symbol.targetPrice = targetPrice;
+            stopLosses.set(symbolId, stopLoss);
+            refresh(symbolId, symbol);
+        }
+    }
+
+    /**
+     * 손절가 상향 (트레일링 스탑, 샤드 스레드, 잠금·할당 없음).
+     * 하단은 올리기만 하므로 다른 스레드의 재계산과 겹쳐도 손절가 아래로 내려가지 않는다.
+     */
+    public void raiseStopLoss(int symbolId, long stopLoss) {
+        stopLosses.set(symbolId, stopLoss);
+        lower.accumulateAndGet(symbolId, stopLoss, Math::max);
+    }
+
+    /**
+     * 목표가/손절가 해제 (알림은 유지).
+     */
+    public void clearBand(int symbolId) {
+        var symbol = triggers.get(symbolId);
+        if (symbol == null) {
+            return;
+        }
+        synchronized (symbol) {
+            symbol.targetPrice = NO_PRICE;
+            stopLosses.set(symbolId, NO_PRICE);
+            refresh(symbolId, symbol);
+        }
+    }
+
+    /**
+     * 상향 돌파 알림 등록 (체결가 ≥ 알림가에서 한 번 발화).
+     *
+     * @return 알림 ID
+     */
+    public long addAlertAbove(String stockCode, long level) {
+        return addAlert(stockCode, level, true);
+    }
+
+    /**
+     * 하향 돌파 알림 등록 (체결가 ≤ 알림가에서 한 번 발화).
+     *
+     * @return 알림 ID
+     */
+    public long addAlertBelow(String stockCode, long level) {
+        return addAlert(stockCode, level, false);
+    }
+
+    /**
+     * 알림 해제.
+     *
+     * @return 발화 전이라 해제되었으면 true
+     */
+    public boolean removeAlert(long alertId) {
+        var ref = alerts.remove(alertId);
+        if (ref == null) {
+            return false;
+        }
+        var symbol = triggers.get(ref.symbolId());
+        synchronized (symbol) {
+            var byLevel = ref.above() ? symbol.alertsAbove : symbol.alertsBelow;
+            var ids = byLevel.get(ref.level());
+            if (ids != null && ids.remove(Long.valueOf(alertId)) && ids.isEmpty()) {
+                byLevel.remove(ref.level());
+            }
+            refresh(ref.symbolId(), symbol);
+        }
+        return true;
+    }
+
+    /**
+     * 발화 대기 중인 알림 수.
+     */
+    public int getAlertCount() {
+        return alerts.size();
+    }
+
+    /**
+     * 현재 상단/하단 트리거 가격 (모니터링/테스트용).
+     */
+    public long upperOf(String stockCode) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        return symbolId == SymbolRegistry.NO_SYMBOL ? Long.MAX_VALUE : upper.get(symbolId);
+    }
+
+    public long lowerOf(String stockCode) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        return symbolId == SymbolRegistry.NO_SYMBOL ? Long.MIN_VALUE : lower.get(symbolId);
+    }
+
+    private long addAlert(String stockCode, long level, boolean above) {
+        int symbolId = symbolRegistry.register(stockCode);
+        long alertId = alertSequence.incrementAndGet();
+        var symbol = triggersOf(symbolId);
+        synchronized (symbol) {
+            (above ? symbol.alertsAbove : symbol.alertsBelow)
+                    .computeIfAbsent(level, key -> new ArrayList<>(1))
+                    .add(alertId);
+            alerts.put(alertId, new AlertRef(symbolId, level, above));
+            refresh(symbolId, symbol);
+        }
+        return alertId;
+    }
+
+    private void publish(PriceTriggerEvent event) {
+        for (var listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.error("[PriceTrigger] 리스너 처리 실패: {}", event, e);
+            }
+        }
+        if (event.isAlert()) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private Triggers triggersOf(int symbolId) {
+        var symbol = triggers.get(symbolId);
+        if (symbol == null) {
+            var created = new Triggers();
+            symbol = triggers.compareAndExchange(symbolId, null, created);
+            if (symbol == null) {
+                symbol = created;
+            }
+        }
+        return symbol;
+    }
+
+    /**
+     * 가장 가까운 상단/하단 재계산 (종목 잠금 안에서).
+     */
+    private void refresh(int symbolId, Triggers symbol) {
+        long up = Long.MAX_VALUE;
+        long down = Long.MIN_VALUE;
+        if (symbol.targetPrice != NO_PRICE) {
+            up = symbol.targetPrice;
+        }
+        if (!symbol.alertsAbove.isEmpty()) {
+            up = Math.min(up, symbol.alertsAbove.firstKey());
+        }
+        if (!symbol.alertsBelow.isEmpty()) {
+            down = symbol.alertsBelow.lastKey();
+        }
+        upper.set(symbolId, up);
+        lower.set(symbolId, down);
+
+        // 기록 후 손절가를 다시 읽어 반영 (그 사이 샤드 스레드가 올린 손절가를 덮어쓰지 않도록)
+        long stopLoss = stopLosses.get(symbolId);
+        if (stopLoss != NO_PRICE) {
+            lower.accumulateAndGet(symbolId, stopLoss, Math::max);
+        }
+    }
+
+    /**
+     * 종목별 트리거 상세 (자신을 잠금으로 사용).
+     */
+    private static final class Triggers {
+        long targetPrice = NO_PRICE;
+
+        // 알림가 → 알림 ID 목록
+        final NavigableMap<Long, List<Long>> alertsAbove = new TreeMap<>();
+        final NavigableMap<Long, List<Long>> alertsBelow = new TreeMap<>();
+
+        /**
+         * 체결가가 넘은 트리거 수집 (목표가/손절가 → 알림 순).
+         * 목표가/손절가가 발화하면 해당 종목 밴드는 해제된다.
+         */
+        void collect(PriceTriggerIndex index, int symbolId, long price, List<PriceTriggerEvent> fired) {
+            String stockCode = index.symbolRegistry.codeOf(symbolId);
+            long stopLoss = index.stopLosses.get(symbolId);
+            if (targetPrice != NO_PRICE && price >= targetPrice) {
+                fired.add(new PriceTriggerEvent(index, symbolId, stockCode, Type.TARGET_PRICE, targetPrice, price, 0));
+                targetPrice = NO_PRICE;
+                index.stopLosses.set(symbolId, NO_PRICE);
+            } else if (stopLoss != NO_PRICE && price <= stopLoss) {
+                fired.add(new PriceTriggerEvent(index, symbolId, stockCode, Type.STOP_LOSS, stopLoss, price, 0));
+                targetPrice = NO_PRICE;
+                index.stopLosses.set(symbolId, NO_PRICE);
+            }
+
+            drain(index, alertsAbove.headMap(price, true), symbolId, stockCode, Type.ALERT_ABOVE, price, fired);
+            drain(index, alertsBelow.tailMap(price, true), symbolId, stockCode, Type.ALERT_BELOW, price, fired);
+        }
+
+        private static void drain(PriceTriggerIndex index, NavigableMap<Long, List<Long>> crossed,
+                int symbolId, String stockCode, Type type, long price, List<PriceTriggerEvent> fired) {
+            for (var entry : crossed.entrySet()) {
+                for (long alertId : entry.getValue()) {
+                    if (index.alerts.remove(alertId) != null) {
+                        fired.add(new PriceTriggerEvent(index, symbolId, stockCode, type, entry.getKey(), price,
+                                alertId));
+                    }
+                }
+            }
+            crossed.clear();
+        }
+    }
+
+    private record AlertRef(int symbolId, long level, boolean above) {
+    }
+}
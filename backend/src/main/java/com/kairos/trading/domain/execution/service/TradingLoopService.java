@@ -1,45 +1,112 @@
 package com.kairos.trading.domain.execution.service;
 
 import com.kairos.trading.common.event.KillSwitchEvent;
+import com.kairos.trading.common.event.PriceTriggerEvent;
 import com.kairos.trading.common.event.TickDataEvent;
 import com.kairos.trading.common.event.ViEvent;
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataType;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
 import com.kairos.trading.domain.strategy.dto.ExecutionOrder;
 import com.kairos.trading.domain.strategy.entity.TargetStock;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * 실시간 매매 루프 서비스.
- * 
+ *
  * 체결가 수신 → 목표가/손절가 도달 확인 → 주문 생성
+ *
+ * 포지션 상태(진입가/목표가/손절가/고점/수량)는 {@link PositionStateTable}의 원시 배열에 두고,
+ * TargetStock(JPA 엔티티)은 등록 시 한 번 복사만 한다. 손절가 변경은 {@link PositionWriteBehind}가 DB에 반영한다.
+ * 목표가·손절가 도달은 {@link PriceTriggerIndex}가 발행하는 {@link PriceTriggerEvent}로 처리하고,
+ * 트레일링 스탑은 신고가일 때만 다시 계산한다 (잠금·할당 없음).
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TradingLoopService {
 
+    // 가격 미설정
+    private static final long NO_PRICE = 0L;
+
     private final TradeExecutionService executionService;
     private final TrailingStopService trailingStopService;
     private final ApplicationEventPublisher eventPublisher;
+    private final MarketDataDispatcher marketDataDispatcher;
+    private final SymbolRegistry symbolRegistry;
+    private final PriceTriggerIndex triggerIndex;
+    private final PositionStateTable positions;
+
+    private final AtomicInteger activeTargetCount = new AtomicInteger();
+
+    // 현재가 캐시 (종목 ID → 원)
+    private final AtomicLongArray currentPrices;
 
-    // 실시간 모니터링 중인 종목 (종목코드 → TargetStock)
-    private final Map<String, TargetStock> activeTargets = new ConcurrentHashMap<>();
+    public TradingLoopService(TradeExecutionService executionService,
+            TrailingStopService trailingStopService,
+            ApplicationEventPublisher eventPublisher,
+            MarketDataDispatcher marketDataDispatcher,
+            SymbolRegistry symbolRegistry,
+            PriceTriggerIndex triggerIndex,
+            PositionStateTable positions) {
+        this.executionService = executionService;
+        this.trailingStopService = trailingStopService;
+        this.eventPublisher = eventPublisher;
+        this.marketDataDispatcher = marketDataDispatcher;
+        this.symbolRegistry = symbolRegistry;
+        this.triggerIndex = triggerIndex;
+        this.positions = positions;
+        this.currentPrices = new AtomicLongArray(symbolRegistry.capacity());
 
-    // 현재가 캐시
-    private final Map<String, Long> currentPrices = new ConcurrentHashMap<>();
+        triggerIndex.addListener(this::onPriceTrigger);
+    }
 
     /**
-     * 모니터링 대상 종목 등록.
+     * 시세 디스패처에 핸들러 등록.
+     * 종목별 샤드 스레드에서 순서대로 호출된다.
+     */
+    @PostConstruct
+    public void registerMarketDataHandlers() {
+        marketDataDispatcher.register(MarketDataType.TICK, this::onTick);
+        marketDataDispatcher.register(ViEvent.class, this::onViEvent);
+    }
+
+    /**
+     * 모니터링 대상 종목 등록 (수량 미상 = 전량, 진입가는 원래 목표가/손절가 중간값으로 추정).
      */
     public void registerTarget(TargetStock target) {
-        activeTargets.put(target.getStockCode(), target);
+        long originalTarget = toPrice(target.getOriginalTargetPrice());
+        long originalStop = toPrice(target.getOriginalStopLoss());
+        long entryPrice = originalTarget != NO_PRICE && originalStop != NO_PRICE
+                ? (originalTarget + originalStop) / 2
+                : NO_PRICE;
+        registerTarget(target, entryPrice, 0);
+    }
+
+    /**
+     * 모니터링 대상 종목 등록.
+     *
+     * @param quantity 보유 수량 (0 = 전량)
+     */
+    public void registerTarget(TargetStock target, long entryPrice, int quantity) {
+        int id = symbolRegistry.register(target.getStockCode());
+        long targetPrice = toPrice(target.getCurrentTargetPrice());
+        long stopLoss = toPrice(target.getCurrentStopLoss());
+
+        if (positions.open(id, target.getId() == null ? 0 : target.getId(), target.getStockName(),
+                entryPrice, targetPrice, stopLoss,
+                toPrice(target.getOriginalTargetPrice()), toPrice(target.getOriginalStopLoss()), quantity)) {
+            activeTargetCount.incrementAndGet();
+        }
+        triggerIndex.setBand(id, targetPrice, stopLoss);
+
         log.info("[TradingLoop] 모니터링 등록: {} (목표: {}, 손절: {})",
                 target.getStockName(), target.getCurrentTargetPrice(), target.getCurrentStopLoss());
     }
@@ -48,45 +115,60 @@ public class TradingLoopService {
      * 모니터링 대상 종목 해제.
      */
     public void unregisterTarget(String stockCode) {
-        activeTargets.remove(stockCode);
-        currentPrices.remove(stockCode);
+        int id = symbolRegistry.idOf(stockCode);
+        if (id != SymbolRegistry.NO_SYMBOL) {
+            if (positions.close(id)) {
+                activeTargetCount.decrementAndGet();
+            }
+            triggerIndex.clearBand(id);
+            currentPrices.set(id, NO_PRICE);
+        }
         log.info("[TradingLoop] 모니터링 해제: {}", stockCode);
     }
 
+    /**
+     * 체결 프레임 수신 (핫패스, 이벤트 객체 없음).
+     */
+    public void onTick(MarketDataFrame frame) {
+        onPrice(frame.getSymbolId(), frame.getPrice());
+    }
+
     /**
      * 체결가 이벤트 수신.
      */
-    @EventListener
     public void onTickData(TickDataEvent event) {
-        var stockCode = event.getStockCode();
-        var price = event.getPrice();
-
-        // 현재가 캐시 업데이트
-        currentPrices.put(stockCode, price);
+        onPrice(symbolRegistry.idOf(event.getStockCode()), event.getPrice());
+    }
 
-        // 모니터링 중인 종목인지 확인
-        var target = activeTargets.get(stockCode);
-        if (target == null) {
+    private void onPrice(int id, long price) {
+        // 미등록 종목은 관심 대상이 아님
+        if (id == SymbolRegistry.NO_SYMBOL) {
             return;
         }
 
-        // 가격 체크
-        checkPriceConditions(target, price);
+        // 현재가 캐시 업데이트
+        currentPrices.lazySet(id, price);
+
+        // 목표가/손절가/알림 트리거 (넘지 않았으면 비교 두 번)
+        triggerIndex.onPrice(id, price);
+
+        // 신고가일 때만 트레일링 스탑 재계산
+        if (positions.raiseHighWaterMark(id, price)) {
+            updateTrailingStop(id, price);
+        }
     }
 
     /**
      * VI 이벤트 수신 → Kill Switch 발동.
      */
-    @EventListener
     public void onViEvent(ViEvent event) {
         if (!event.requiresKillSwitch()) {
             return;
         }
 
         var stockCode = event.getStockCode();
-        var target = activeTargets.get(stockCode);
-
-        if (target != null) {
+        int id = symbolRegistry.idOf(stockCode);
+        if (positions.isOpen(id)) {
             log.error("[TradingLoop] 🚨 정적 VI 발동! Kill Switch 실행: {}", event.getStockName());
 
             eventPublisher.publishEvent(new KillSwitchEvent(
@@ -101,53 +183,67 @@ public class TradingLoopService {
     }
 
     /**
-     * 가격 조건 확인 (목표가/손절가 도달).
+     * 가격 트리거 처리 (트리거를 넘긴 체결의 샤드 스레드).
      */
-    private void checkPriceConditions(TargetStock target, long currentPrice) {
-        var targetPrice = target.getCurrentTargetPrice();
-        var stopLoss = target.getCurrentStopLoss();
-
-        // 1. 목표가 도달 → 익절
-        if (targetPrice != null && currentPrice >= targetPrice.longValue()) {
-            log.info("[TradingLoop] 🎯 목표가 도달! {} @ {} (목표: {})",
-                    target.getStockName(), currentPrice, targetPrice);
-
-            var order = ExecutionOrder.profitTake(
-                    target.getStockCode(),
-                    target.getStockName(),
-                    0, // 전량 매도
-                    BigDecimal.valueOf(currentPrice));
-            executionService.submitOrder(order);
-            unregisterTarget(target.getStockCode());
+    private void onPriceTrigger(PriceTriggerEvent event) {
+        int id = event.getSymbolId();
+        if (!positions.isOpen(id)) {
+            // 모니터링 대상이 아닌 종목의 알림
             return;
         }
+        String stockCode = event.getStockCode();
+        String stockName = positions.stockNameOf(id);
+        int quantity = positions.quantityOf(id);
+        long currentPrice = event.getPrice();
 
-        // 2. 손절가 도달 → 손절
-        if (stopLoss != null && currentPrice <= stopLoss.longValue()) {
-            log.warn("[TradingLoop] ⛔ 손절가 도달! {} @ {} (손절: {})",
-                    target.getStockName(), currentPrice, stopLoss);
-
-            var order = ExecutionOrder.killSwitchSell(
-                    target.getStockCode(),
-                    target.getStockName(),
-                    0,
-                    "손절가 도달 @ " + currentPrice);
-            executionService.submitOrder(order);
-            unregisterTarget(target.getStockCode());
-            return;
+        switch (event.getType()) {
+            // 1. 목표가 도달 → 익절
+            case TARGET_PRICE -> {
+                log.info("[TradingLoop] 🎯 목표가 도달! {} @ {} (목표: {})",
+                        stockName, currentPrice, event.getLevel());
+
+                var order = ExecutionOrder.profitTake(
+                        stockCode,
+                        stockName,
+                        quantity, // 0 = 전량 매도
+                        BigDecimal.valueOf(currentPrice));
+                executionService.submitOrder(order);
+                unregisterTarget(stockCode);
+            }
+
+            // 2. 손절가 도달 → 손절
+            case STOP_LOSS -> {
+                log.warn("[TradingLoop] ⛔ 손절가 도달! {} @ {} (손절: {})",
+                        stockName, currentPrice, event.getLevel());
+
+                var order = ExecutionOrder.killSwitchSell(
+                        stockCode,
+                        stockName,
+                        quantity,
+                        "손절가 도달 @ " + currentPrice);
+                executionService.submitOrder(order);
+                unregisterTarget(stockCode);
+            }
+
+            default -> {
+            }
         }
+    }
 
-        // 3. 트레일링 스탑 업데이트
-        if (targetPrice != null) {
-            var newStopLoss = trailingStopService.calculateTrailingStop(
-                    target.getOriginalStopLoss().longValue(),
-                    currentPrice,
-                    target.getOriginalTargetPrice().longValue());
+    /**
+     * 트레일링 스탑 업데이트 (샤드 스레드, 손절가는 올라가기만 한다).
+     */
+    private void updateTrailingStop(int id, long currentPrice) {
+        long newStopLoss = trailingStopService.calculateTrailingStop(
+                positions.originalStopLossOf(id),
+                currentPrice,
+                positions.originalTargetPriceOf(id));
 
-            if (newStopLoss > stopLoss.longValue()) {
-                target.updateTrailingStop(targetPrice, BigDecimal.valueOf(newStopLoss));
+        if (positions.raiseStopLoss(id, newStopLoss)) {
+            triggerIndex.raiseStopLoss(id, newStopLoss);
+            if (log.isDebugEnabled()) {
                 log.debug("[TradingLoop] 트레일링 스탑 업데이트: {} → {}",
-                        target.getStockName(), newStopLoss);
+                        positions.stockNameOf(id), newStopLoss);
             }
         }
     }
@@ -156,13 +252,22 @@ public class TradingLoopService {
      * 모니터링 중인 종목 수.
      */
     public int getActiveTargetCount() {
-        return activeTargets.size();
+        return activeTargetCount.get();
     }
 
     /**
-     * 특정 종목 현재가 조회.
+     * 특정 종목 현재가 조회 (수신 전이면 null).
      */
     public Long getCurrentPrice(String stockCode) {
-        return currentPrices.get(stockCode);
+        int id = symbolRegistry.idOf(stockCode);
+        if (id == SymbolRegistry.NO_SYMBOL) {
+            return null;
+        }
+        long price = currentPrices.get(id);
+        return price == NO_PRICE ? null : price;
+    }
+
+    private static long toPrice(BigDecimal price) {
+        return price == null ? NO_PRICE : price.longValue();
     }
 }
@@ -0,0 +1,66 @@
+package com.kairos.trading.domain.fundamental.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.common.ai.AgentResultStore;
+import com.kairos.trading.domain.fundamental.entity.FundamentalReport;
+import com.kairos.trading.domain.fundamental.repository.FundamentalReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Axiom 결과 DB 계층 (fundamental_reports).
+ */
+@Component
+@RequiredArgsConstructor
+public class AxiomResultStore implements AgentResultStore {
+
+    private static final String AGENT_NAME = "Axiom";
+
+    private final FundamentalReportRepository fundamentalReportRepository;
+
+    @Override
+    public String agentName() {
+        return AGENT_NAME;
+    }
+
+    @Override
+    public Optional<StoredResult> findLatest(String stockCode) {
+        return fundamentalReportRepository.findTopByStockCodeOrderByAnalyzedAtDesc(stockCode)
+                .map(report -> new StoredResult(toResponse(report), report.getAnalyzedAt()));
+    }
+
+    @Override
+    public void save(String stockCode, String stockName, AgentResponse response) {
+        fundamentalReportRepository.save(FundamentalReport.builder()
+                .stockCode(stockCode)
+                .stockName(stockName)
+                .score(response.score())
+                .decision(response.decision())
+                .reason(response.reason())
+                .per(decimal(response.metadata().get("per")))
+                .pbr(decimal(response.metadata().get("pbr")))
+                .build());
+    }
+
+    private static AgentResponse toResponse(FundamentalReport report) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("source", "db");
+        if (report.getPer() != null) {
+            metadata.put("per", report.getPer().doubleValue());
+        }
+        if (report.getPbr() != null) {
+            metadata.put("pbr", report.getPbr().doubleValue());
+        }
+        return new AgentResponse(AGENT_NAME, report.getScore(), report.getDecision(), report.getReason(),
+                Map.copyOf(metadata));
+    }
+
+    private static BigDecimal decimal(Object value) {
+        return value instanceof Number number ? BigDecimal.valueOf(number.doubleValue()) : null;
+    }
+}
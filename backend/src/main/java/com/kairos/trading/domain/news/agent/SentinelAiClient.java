@@ -1,6 +1,7 @@
 package com.kairos.trading.domain.news.agent;
 
 import com.kairos.trading.domain.news.dto.NewsAnalysisDto;
+import com.kairos.trading.domain.news.dto.NewsBatchAnalysisDto;
 import dev.langchain4j.service.SystemMessage;
 import dev.langchain4j.service.UserMessage;
 import dev.langchain4j.service.V;
@@ -27,4 +28,33 @@ public interface SentinelAiClient {
             """)
     @UserMessage("다음 뉴스/공시를 분석하세요: {{content}}")
     NewsAnalysisDto analyze(@V("content") String content);
+
+    /**
+     * 여러 건 일괄 분석 (항목마다 같은 id로 결과 하나).
+     */
+    @SystemMessage("""
+            당신은 뉴스 분석가 'Sentinel'입니다.
+            입력은 [번호]가 붙은 여러 건의 뉴스/공시입니다. 각 항목을 서로 독립적으로 분석하여
+            호재/악재, 재료 강도, Kill Switch 여부를 판단하고, 모든 항목에 대해 같은 번호(id)로 결과를 하나씩 반환하십시오.
+             반드시 아래 JSON 형식으로 응답하세요:
+            {
+                "results": [
+                    {
+                        "id": 항목 번호,
+                        "analysis": {
+                            "stockCode": "종목코드",
+                            "stockName": "종목명",
+                            "keywords": ["키워드1", "키워드2"],
+                            "sentiment": "Positive/Negative/Neutral",
+                            "materialStrength": -100~100,
+                            "urgency": "High/Low",
+                            "killSwitch": true/false,
+                            "summary": "요약"
+                        }
+                    }
+                ]
+            }
+            """)
+    @UserMessage("다음 뉴스/공시 {{count}}건을 분석하세요:\n{{items}}")
+    NewsBatchAnalysisDto analyzeBatch(@V("count") int count, @V("items") String items);
 }
@@ -0,0 +1,19 @@
+package com.kairos.trading.domain.news.dto;
+
+import java.util.List;
+
+/**
+ * 뉴스/공시 배치 분석 결과 DTO.
+ * 프롬프트에 붙인 항목 번호(id)로 입력과 짝을 맞춘다.
+ */
+public record NewsBatchAnalysisDto(List<Item> results) {
+
+    /**
+     * 항목별 분석 결과.
+     *
+     * @param id       입력 항목 번호 (1부터)
+     * @param analysis 분석 결과
+     */
+    public record Item(int id, NewsAnalysisDto analysis) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.kairos.trading.domain.news.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.StringJoiner;
+
+/**
+ * 최근 뉴스/공시 버퍼.
+ *
+ * RSS로 받은 뉴스 본문을 최근 {@code kairos.news.recent-size}건까지 보관하고,
+ * 종목코드나 종목명이 들어간 뉴스를 모아 분석 단계(규칙 계층 Kill Switch 키워드 판정, Sentinel 입력)에 넘긴다.
+ * 자정에 RSS 처리 캐시와 함께 비운다.
+ */
+@Component
+public class RecentNewsBuffer {
+
+    private final int capacity;
+
+    // 최근 뉴스 (오래된 것부터, this로 동기화)
+    private final ArrayDeque<String> items;
+
+    public RecentNewsBuffer(@Value("${kairos.news.recent-size:200}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.items = new ArrayDeque<>(this.capacity);
+    }
+
+    /**
+     * 뉴스 추가 (가득 차면 가장 오래된 뉴스 제거).
+     */
+    public synchronized void add(String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        if (items.size() == capacity) {
+            items.pollFirst();
+        }
+        items.addLast(text);
+    }
+
+    /**
+     * 종목코드 또는 종목명이 들어간 최근 뉴스 (최신순, 줄바꿈으로 연결).
+     *
+     * @return 해당 뉴스가 없으면 null
+     */
+    public synchronized String find(String stockCode, String stockName) {
+        var joiner = new StringJoiner("\n");
+        var it = items.descendingIterator();
+        while (it.hasNext()) {
+            String text = it.next();
+            if (mentions(text, stockCode) || mentions(text, stockName)) {
+                joiner.add(text);
+            }
+        }
+        return joiner.length() == 0 ? null : joiner.toString();
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+
+    public synchronized void clear() {
+        items.clear();
+    }
+
+    private static boolean mentions(String text, String keyword) {
+        return keyword != null && !keyword.isBlank() && text.contains(keyword);
+    }
+}
@@ -35,6 +35,8 @@ public class RssMonitoringService {
 
     private final RssFeedRepository rssFeedRepository;
     private final SentinelService sentinelService;
+    private final SentinelBatchClassifier sentinelBatchClassifier;
+    private final RecentNewsBuffer recentNews;
     private final ApplicationEventPublisher eventPublisher;
 
     // 이미 처리한 뉴스 ID (중복 방지)
@@ -117,6 +119,9 @@ public class RssMonitoringService {
 
         log.debug("[RssMonitor] 뉴스 수신: {}", title);
 
+        // 분석 단계(규칙 계층·Sentinel)에서 종목별로 다시 찾을 수 있도록 보관
+        recentNews.add(fullText);
+
         // 1. Kill Switch 키워드 사전 체크
         if (sentinelService.containsKillSwitchKeyword(fullText)) {
             log.error("[RssMonitor] ⚠️ KILL SWITCH 키워드 감지: {}", title);
@@ -136,19 +141,26 @@ public class RssMonitoringService {
             return;
         }
 
-        // 2. AI 분석 (비동기)
+        // 2. AI 분석 (비동기, 배치 창 동안 모인 공시와 한 번에 분류)
         if ("DISCLOSURE".equals(feed.getCategory())) {
             // DART 공시는 상세 분석
-            NewsAnalysisDto result = sentinelService.analyzeNews(fullText);
+            sentinelBatchClassifier.submit(fullText)
+                    .thenAccept(this::publishKillSwitchIfRequired)
+                    .exceptionally(e -> {
+                        log.error("[RssMonitor] 공시 분석 실패: {} - {}", title, e.getMessage());
+                        return null;
+                    });
+        }
+    }
 
-            if (result.requiresKillSwitch()) {
-                eventPublisher.publishEvent(new KillSwitchEvent(
-                        this,
-                        result.stockCode(),
-                        result.stockName(),
-                        result.summary(),
-                        "Sentinel"));
-            }
+    private void publishKillSwitchIfRequired(NewsAnalysisDto result) {
+        if (result.requiresKillSwitch()) {
+            eventPublisher.publishEvent(new KillSwitchEvent(
+                    this,
+                    result.stockCode(),
+                    result.stockName(),
+                    result.summary(),
+                    "Sentinel"));
         }
     }
 
@@ -177,6 +189,7 @@ public class RssMonitoringService {
     public void cleanupProcessedIds() {
         int beforeSize = processedIds.size();
         processedIds.clear();
+        recentNews.clear();
         log.info("[RssMonitor] 처리 ID 캐시 정리: {} → 0", beforeSize);
     }
 }
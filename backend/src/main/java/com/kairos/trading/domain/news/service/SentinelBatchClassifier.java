@@ -0,0 +1,290 @@
+package com.kairos.trading.domain.news.service;
+
+import com.kairos.trading.domain.news.agent.SentinelAiClient;
+import com.kairos.trading.domain.news.dto.NewsAnalysisDto;
+import com.kairos.trading.domain.news.dto.NewsBatchAnalysisDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sentinel 뉴스 배치 분류기.
+ *
+ * 장전 RSS/공시가 몰릴 때 뉴스 한 건마다 Gemini를 부르지 않고, 여러 건을 번호를 붙여 한 프롬프트로 묶어 분류한다.
+ * - 배치 크기는 토큰 예산({@code kairos.sentinel.batch.token-budget}, 입력 + 예상 출력)과
+ *   최대 건수({@code kairos.sentinel.batch.max-items}) 안에서 정한다.
+ * - 응답에서 빠진 항목이 있거나 배치 호출이 실패하면 배치 한도를 절반으로 줄이고(실패한 배치는 반으로 나눠 재시도),
+ *   온전한 응답이 오면 한 건씩 다시 늘린다.
+ * - {@link #submit}은 첫 건이 들어온 뒤 {@code kairos.sentinel.batch.window-ms}까지 모아서 보내고,
+ *   그 전에 한도가 차면 바로 보낸다.
+ * - 배치 전용 클라이언트({@code SentinelBatch})를 써서 토큰 예산 대기 시 단건 Kill Switch 확인과 분석가 호출보다 뒤에 나간다.
+ */
+@Slf4j
+@Service
+public class SentinelBatchClassifier {
+
+    // 한글 뉴스 기준 대략적인 글자/토큰 비율
+    private static final int CHARS_PER_TOKEN = 2;
+
+    // 항목당 JSON 결과 예상 토큰, 시스템 프롬프트 토큰
+    private static final int OUTPUT_TOKENS_PER_ITEM = 150;
+    private static final int PROMPT_OVERHEAD_TOKENS = 400;
+
+    private final SentinelAiClient sentinelAiClient;
+    private final int tokenBudget;
+    private final int maxItems;
+    private final long windowMillis;
+
+    // 현재 배치 한도 (1 ~ maxItems)
+    private final AtomicInteger batchLimit;
+
+    // 배치 창 타이머 (작업은 모인 항목을 꺼내 넘기는 것뿐이라 스레드 하나로 충분)
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sentinel-batch-window");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 창 안에서 모이는 항목 (this로 동기화)
+    private final List<Pending> pending = new ArrayList<>();
+    private int pendingTokens;
+    private ScheduledFuture<?> windowFlush;
+
+    private final LongAdder llmCalls = new LongAdder();
+    private final LongAdder classified = new LongAdder();
+
+    public SentinelBatchClassifier(@Qualifier("sentinelBatchAiClient") SentinelAiClient sentinelAiClient,
+            @Value("${kairos.sentinel.batch.token-budget:8000}") int tokenBudget,
+            @Value("${kairos.sentinel.batch.max-items:20}") int maxItems,
+            @Value("${kairos.sentinel.batch.window-ms:500}") long windowMillis) {
+        this.sentinelAiClient = sentinelAiClient;
+        this.tokenBudget = tokenBudget;
+        this.maxItems = Math.max(1, maxItems);
+        this.windowMillis = windowMillis;
+        this.batchLimit = new AtomicInteger(this.maxItems);
+    }
+
+    /**
+     * 여러 건 일괄 분류 (호출 스레드에서 블로킹).
+     *
+     * @return 입력과 같은 순서의 분석 결과
+     */
+    public List<NewsAnalysisDto> classifyAll(List<String> texts) {
+        var results = new NewsAnalysisDto[texts.size()];
+        int start = 0;
+        while (start < texts.size()) {
+            int end = nextBatchEnd(texts, start);
+            var batch = classifyBatch(texts.subList(start, end));
+            for (int i = 0; i < batch.size(); i++) {
+                results[start + i] = batch.get(i);
+            }
+            start = end;
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 한 건 제출 (배치 창 동안 모아서 분류).
+     */
+    public CompletableFuture<NewsAnalysisDto> submit(String text) {
+        var item = new Pending(text, estimateTokens(text), new CompletableFuture<>());
+        List<Pending> ready = List.of();
+        List<Pending> full = List.of();
+        synchronized (this) {
+            // 이번 건을 넣으면 예산을 넘는 경우 모인 것부터 보냄
+            if (!pending.isEmpty() && batchTokens(pendingTokens + item.tokens(), pending.size() + 1) > tokenBudget) {
+                ready = drainPending();
+            }
+            pending.add(item);
+            pendingTokens += item.tokens();
+            if (pending.size() >= batchLimit.get()) {
+                full = drainPending();
+            } else if (pending.size() == 1) {
+                windowFlush = timer.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        dispatch(ready);
+        dispatch(full);
+        return item.result();
+    }
+
+    /**
+     * 창이 닫히기 전이라도 모인 항목을 바로 보냄.
+     */
+    public void flush() {
+        List<Pending> ready;
+        synchronized (this) {
+            ready = drainPending();
+        }
+        dispatch(ready);
+    }
+
+    /**
+     * 실제 LLM 호출 수 (배치 + 개별 보충).
+     */
+    public long getLlmCallCount() {
+        return llmCalls.sum();
+    }
+
+    /**
+     * 분류한 뉴스 건수.
+     */
+    public long getClassifiedCount() {
+        return classified.sum();
+    }
+
+    public int getBatchLimit() {
+        return batchLimit.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        timer.shutdownNow();
+    }
+
+    /**
+     * 배치 하나 분류. 빠진 항목은 개별 호출로 보충하고, 호출이 실패하면 반으로 나눠 재시도한다.
+     */
+    List<NewsAnalysisDto> classifyBatch(List<String> texts) {
+        if (texts.size() == 1) {
+            llmCalls.increment();
+            classified.increment();
+            return List.of(sentinelAiClient.analyze(texts.getFirst()));
+        }
+
+        NewsBatchAnalysisDto response;
+        try {
+            llmCalls.increment();
+            response = sentinelAiClient.analyzeBatch(texts.size(), formatItems(texts));
+        } catch (RuntimeException e) {
+            shrink(texts.size());
+            log.warn("[Sentinel] 배치 분류 실패 ({}건) → 나눠서 재시도: {}", texts.size(), e.getMessage());
+            int half = texts.size() / 2;
+            var results = new ArrayList<NewsAnalysisDto>(texts.size());
+            results.addAll(classifyBatch(texts.subList(0, half)));
+            results.addAll(classifyBatch(texts.subList(half, texts.size())));
+            return results;
+        }
+
+        Map<Integer, NewsAnalysisDto> byId = new HashMap<>();
+        if (response != null && response.results() != null) {
+            for (var item : response.results()) {
+                if (item != null && item.analysis() != null) {
+                    byId.putIfAbsent(item.id(), item.analysis());
+                }
+            }
+        }
+
+        var results = new ArrayList<NewsAnalysisDto>(texts.size());
+        int missing = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            var analysis = byId.get(i + 1);
+            if (analysis == null) {
+                missing++;
+                llmCalls.increment();
+                analysis = sentinelAiClient.analyze(texts.get(i));
+            }
+            results.add(analysis);
+        }
+        classified.add(texts.size());
+
+        if (missing > 0) {
+            shrink(texts.size());
+            log.warn("[Sentinel] 배치 응답 누락 {}/{}건 → 개별 보충, 배치 한도 {}",
+                    missing, texts.size(), batchLimit.get());
+        } else {
+            batchLimit.accumulateAndGet(texts.size() + 1, (limit, next) -> Math.min(maxItems, Math.max(limit, next)));
+            log.info("[Sentinel] 배치 분류 {}건 → 호출 1회", texts.size());
+        }
+        return results;
+    }
+
+    private void dispatch(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Thread.ofVirtual().name("sentinel-batch").start(() -> {
+            try {
+                var results = classifyBatch(batch.stream().map(Pending::text).toList());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete(results.get(i));
+                }
+            } catch (RuntimeException e) {
+                log.error("[Sentinel] 배치 분류 실패 ({}건): {}", batch.size(), e.getMessage());
+                batch.forEach(item -> item.result().completeExceptionally(e));
+            }
+        });
+    }
+
+    private List<Pending> drainPending() {
+        if (windowFlush != null) {
+            windowFlush.cancel(false);
+            windowFlush = null;
+        }
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        var drained = List.copyOf(pending);
+        pending.clear();
+        pendingTokens = 0;
+        return drained;
+    }
+
+    /**
+     * start부터 토큰 예산·배치 한도 안에 들어가는 마지막 위치 (최소 한 건).
+     */
+    private int nextBatchEnd(List<String> texts, int start) {
+        int limit = batchLimit.get();
+        int tokens = estimateTokens(texts.get(start));
+        int end = start + 1;
+        while (end < texts.size() && end - start < limit) {
+            int next = tokens + estimateTokens(texts.get(end));
+            if (batchTokens(next, end - start + 1) > tokenBudget) {
+                break;
+            }
+            tokens = next;
+            end++;
+        }
+        return end;
+    }
+
+    private void shrink(int failedSize) {
+        batchLimit.accumulateAndGet(Math.max(1, failedSize / 2), Math::min);
+    }
+
+    private static int batchTokens(int inputTokens, int items) {
+        return PROMPT_OVERHEAD_TOKENS + inputTokens + items * OUTPUT_TOKENS_PER_ITEM;
+    }
+
+    private static int estimateTokens(String text) {
+        return text == null ? 1 : text.length() / CHARS_PER_TOKEN + 1;
+    }
+
+    private static String formatItems(List<String> texts) {
+        var sb = new StringBuilder();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i) == null ? "" : texts.get(i).replaceAll("\\s+", " ").strip();
+            sb.append('[').append(i + 1).append("] ").append(text).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private record Pending(String text, int tokens, CompletableFuture<NewsAnalysisDto> result) {
+    }
+}
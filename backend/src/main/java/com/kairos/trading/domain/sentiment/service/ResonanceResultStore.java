@@ -0,0 +1,48 @@
+package com.kairos.trading.domain.sentiment.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.common.ai.AgentResultStore;
+import com.kairos.trading.domain.sentiment.entity.SentimentAnalysis;
+import com.kairos.trading.domain.sentiment.repository.SentimentAnalysisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resonance 결과 DB 계층 (sentiment_analyses, 시장 전체는 target = MARKET).
+ */
+@Component
+@RequiredArgsConstructor
+public class ResonanceResultStore implements AgentResultStore {
+
+    private static final String AGENT_NAME = "Resonance";
+
+    private final SentimentAnalysisRepository sentimentAnalysisRepository;
+
+    @Override
+    public String agentName() {
+        return AGENT_NAME;
+    }
+
+    @Override
+    public Optional<StoredResult> findLatest(String target) {
+        return sentimentAnalysisRepository.findTopByTargetOrderByAnalyzedAtDesc(target)
+                .map(analysis -> new StoredResult(
+                        new AgentResponse(AGENT_NAME, analysis.getScore(), analysis.getDecision(),
+                                analysis.getReason(), Map.of("source", "db")),
+                        analysis.getAnalyzedAt()));
+    }
+
+    @Override
+    public void save(String target, String stockName, AgentResponse response) {
+        sentimentAnalysisRepository.save(SentimentAnalysis.builder()
+                .target(target)
+                .score(response.score())
+                .decision(response.decision())
+                .reason(response.reason())
+                .fearGreedIndex(response.score()) // Market Heat (0=공포, 100=탐욕)
+                .build());
+    }
+}
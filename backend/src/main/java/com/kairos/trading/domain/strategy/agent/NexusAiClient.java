@@ -2,6 +2,7 @@ package com.kairos.trading.domain.strategy.agent;
 
 import com.kairos.trading.domain.strategy.dto.StrategyDecisionDto;
 import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.UserMessage;
 import dev.langchain4j.service.V;
 
@@ -15,12 +16,14 @@ import dev.langchain4j.service.V;
  * - 5인 분석가 리포트 종합
  * - 사용자 성향(Aggressive/Neutral/Stable) 반영
  * - 최종 의사결정 및 ExecutionOrder 생성
+ * - 스트리밍 의사결정 ({@link #decideStreaming})
  * 
  * @see PROJECT-Specification.md §4.2
  */
 public interface NexusAiClient {
 
-   @SystemMessage("""
+   /** 시스템 프롬프트 (동기·스트리밍 공용) */
+   String SYSTEM_PROMPT = """
          당신은 KAIROS 헤지펀드의 수석 포트폴리오 매니저 'Nexus'입니다.
 
          5인의 분석가(Sentinel, Axiom, Vector, Resonance, Sonar)가 제출한 보고서를
@@ -75,8 +78,10 @@ public interface NexusAiClient {
              "reasoning": "의사결정 근거 3줄 이내",
              "dissent": "반대 의견 에이전트 및 사유 (없으면 null)"
          }
-         """)
-   @UserMessage("""
+         """;
+
+   /** 사용자 프롬프트 (동기·스트리밍 공용) */
+   String USER_PROMPT = """
          투자 성향: {{strategyMode}}
          종목: {{stockCode}} ({{stockName}})
 
@@ -84,10 +89,25 @@ public interface NexusAiClient {
          {{agentReports}}
 
          위 리포트를 종합하여 최종 의사결정을 내리세요.
-         """)
+         """;
+
+   @SystemMessage(SYSTEM_PROMPT)
+   @UserMessage(USER_PROMPT)
    StrategyDecisionDto decide(
          @V("strategyMode") String strategyMode,
          @V("stockCode") String stockCode,
          @V("stockName") String stockName,
          @V("agentReports") String agentReports);
+
+   /**
+    * 스트리밍 의사결정 (JSON 토큰을 생성되는 대로 전달).
+    * 응답 필드 순서상 decision·targetPrice·stopLossPrice가 reasoning·dissent보다 먼저 생성된다.
+    */
+   @SystemMessage(SYSTEM_PROMPT)
+   @UserMessage(USER_PROMPT)
+   TokenStream decideStreaming(
+         @V("strategyMode") String strategyMode,
+         @V("stockCode") String stockCode,
+         @V("stockName") String stockName,
+         @V("agentReports") String agentReports);
 }
@@ -2,10 +2,13 @@ package com.kairos.trading.domain.strategy.repository;
 
 import com.kairos.trading.domain.strategy.entity.TargetStock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -37,4 +40,14 @@ public interface TargetStockRepository extends JpaRepository<TargetStock, Long>
      */
     @Query("SELECT t FROM TargetStock t WHERE t.baseDate = :date AND t.status = 'WATCHING'")
     List<TargetStock> findWatchingTargets(@Param("date") LocalDate date);
+
+    /**
+     * 현재 목표가/손절가 갱신 (포지션 write-behind).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE TargetStock t SET t.currentTargetPrice = :targetPrice, t.currentStopLoss = :stopLoss WHERE t.id = :id")
+    int updateCurrentPrices(@Param("id") Long id,
+            @Param("targetPrice") BigDecimal targetPrice,
+            @Param("stopLoss") BigDecimal stopLoss);
 }
@@ -0,0 +1,224 @@
+package com.kairos.trading.domain.strategy.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.common.marketdata.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 분석가 팬아웃 조정자.
+ *
+ * 5인 분석가(Sentinel/Axiom/Vector/Sonar/Resonance) 호출을 가상 스레드로 동시에 보내고,
+ * 전체 의사결정 기한({@code kairos.fanout.deadline-ms})까지 도착한 리포트만 모아 Nexus에 넘긴다.
+ * - 에이전트별 타임아웃({@code kairos.fanout.agent-timeout-ms}, {@code kairos.fanout.agents.<이름>.timeout-ms})이
+ *   지나면 해당 호출 스레드를 인터럽트한다.
+ * - 기한이 지나면 남은 호출을 모두 인터럽트(scope shutdown)하고, 빠진 에이전트는
+ *   {@link AgentResponse#missing} 리포트로 표시한다.
+ * - 에이전트별 지연시간 히스토그램과 타임아웃/실패 건수로 병목 분석가를 확인할 수 있다.
+ */
+@Slf4j
+@Component
+public class AnalystFanOutCoordinator {
+
+    // 호출 상태 (에이전트 타임아웃 인터럽트와 정상 완료 중 먼저 온 쪽만 반영)
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int EXPIRED = 2;
+
+    private final Environment environment;
+    private final long deadlineMillis;
+    private final long agentTimeoutMillis;
+
+    // 에이전트별 타임아웃 인터럽트 예약용 (작업은 인터럽트 한 번뿐이라 스레드 하나로 충분)
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fanout-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, AgentStats> stats = new ConcurrentHashMap<>();
+
+    public AnalystFanOutCoordinator(Environment environment,
+            @Value("${kairos.fanout.deadline-ms:8000}") long deadlineMillis,
+            @Value("${kairos.fanout.agent-timeout-ms:6000}") long agentTimeoutMillis) {
+        this.environment = environment;
+        this.deadlineMillis = deadlineMillis;
+        this.agentTimeoutMillis = agentTimeoutMillis;
+    }
+
+    /**
+     * 분석가 호출 하나.
+     */
+    public record AnalystCall(String agentName, Callable<AgentResponse> task) {
+    }
+
+    /**
+     * 호출 결과.
+     */
+    public enum Outcome {
+        RECEIVED,
+        /** 에이전트 타임아웃 또는 전체 기한 초과로 중단 */
+        TIMEOUT,
+        /** 예외 */
+        FAILED
+    }
+
+    /**
+     * 팬아웃 결과.
+     *
+     * @param reports      호출 순서대로의 리포트 (빠진 에이전트는 MISSING 리포트)
+     * @param outcomes     에이전트 → 결과
+     * @param elapsedNanos 팬아웃 시작 ~ 결과 확정
+     */
+    public record FanOutResult(List<AgentResponse> reports, Map<String, Outcome> outcomes, long elapsedNanos) {
+
+        public List<String> missingAgents() {
+            return outcomes.entrySet().stream()
+                    .filter(entry -> entry.getValue() != Outcome.RECEIVED)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        public int receivedCount() {
+            return outcomes.size() - missingAgents().size();
+        }
+    }
+
+    /**
+     * 에이전트별 누적 통계.
+     */
+    public record AgentStatsSummary(LatencyHistogram.Summary latency, long timeouts, long failures) {
+    }
+
+    /**
+     * 분석가 동시 호출 (전체 기한까지 블로킹).
+     */
+    public FanOutResult fanOut(List<AnalystCall> calls) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        Instant deadline = Instant.now().plusMillis(deadlineMillis);
+        List<Subtask<AgentResponse>> subtasks = new ArrayList<>(calls.size());
+        List<AtomicInteger> states = new ArrayList<>(calls.size());
+
+        try (var scope = new StructuredTaskScope<AgentResponse>()) {
+            for (var call : calls) {
+                var state = new AtomicInteger(RUNNING);
+                states.add(state);
+                subtasks.add(scope.fork(() -> invoke(call, startNanos, state)));
+            }
+            try {
+                scope.joinUntil(deadline);
+            } catch (TimeoutException e) {
+                log.warn("[FanOut] 의사결정 기한 {}ms 초과 → 남은 분석가 호출 중단", deadlineMillis);
+            }
+            // 기한 내 끝나지 않은 호출 인터럽트 (종료된 scope의 join은 바로 반환)
+            scope.shutdown();
+            scope.join();
+        }
+
+        List<AgentResponse> reports = new ArrayList<>(calls.size());
+        Map<String, Outcome> outcomes = new LinkedHashMap<>();
+        for (int i = 0; i < calls.size(); i++) {
+            String agentName = calls.get(i).agentName();
+            var subtask = subtasks.get(i);
+            // 에이전트는 예외를 삼키고 대체 리포트를 돌려줄 수 있으므로 타임아웃 인터럽트 여부를 먼저 본다
+            Outcome outcome = states.get(i).get() == EXPIRED ? Outcome.TIMEOUT : switch (subtask.state()) {
+                case SUCCESS -> subtask.get() == null ? Outcome.FAILED : Outcome.RECEIVED;
+                case FAILED -> Outcome.FAILED;
+                case UNAVAILABLE -> Outcome.TIMEOUT;
+            };
+            outcomes.put(agentName, outcome);
+
+            if (outcome == Outcome.RECEIVED) {
+                reports.add(subtask.get());
+                continue;
+            }
+            var agentStats = statsOf(agentName);
+            if (outcome == Outcome.TIMEOUT) {
+                agentStats.timeouts.incrementAndGet();
+            } else {
+                agentStats.failures.incrementAndGet();
+                if (subtask.state() == Subtask.State.FAILED) {
+                    log.warn("[FanOut] {} 분석 실패: {}", agentName, subtask.exception().getMessage());
+                }
+            }
+            reports.add(AgentResponse.missing(agentName, outcome.name()));
+        }
+
+        var result = new FanOutResult(List.copyOf(reports), outcomes, System.nanoTime() - startNanos);
+        if (!result.missingAgents().isEmpty()) {
+            log.warn("[FanOut] 리포트 누락: {} ({}ms)", result.missingAgents(),
+                    TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()));
+        }
+        return result;
+    }
+
+    /**
+     * 에이전트 타임아웃 (ms).
+     */
+    public long timeoutOf(String agentName) {
+        return environment.getProperty(
+                "kairos.fanout.agents." + agentName.toLowerCase(Locale.ROOT) + ".timeout-ms",
+                Long.class, agentTimeoutMillis);
+    }
+
+    /**
+     * 에이전트별 지연시간/타임아웃/실패 요약.
+     */
+    public Map<String, AgentStatsSummary> getAgentStats() {
+        Map<String, AgentStatsSummary> summary = new LinkedHashMap<>();
+        stats.forEach((agentName, agentStats) -> summary.put(agentName, new AgentStatsSummary(
+                agentStats.latency.summary(), agentStats.timeouts.get(), agentStats.failures.get())));
+        return summary;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private AgentResponse invoke(AnalystCall call, long startNanos, AtomicInteger state) throws Exception {
+        Thread caller = Thread.currentThread();
+        var interrupt = timer.schedule(() -> {
+            if (state.compareAndSet(RUNNING, EXPIRED)) {
+                caller.interrupt();
+            }
+        }, timeoutOf(call.agentName()), TimeUnit.MILLISECONDS);
+        try {
+            return call.task().call();
+        } finally {
+            state.compareAndSet(RUNNING, DONE);
+            interrupt.cancel(false);
+            statsOf(call.agentName()).latency.recordConcurrent(System.nanoTime() - startNanos);
+        }
+    }
+
+    private AgentStats statsOf(String agentName) {
+        return stats.computeIfAbsent(agentName, name -> new AgentStats());
+    }
+
+    private static final class AgentStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+    }
+}
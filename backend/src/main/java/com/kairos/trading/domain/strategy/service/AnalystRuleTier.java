@@ -0,0 +1,299 @@
+package com.kairos.trading.domain.strategy.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.common.ai.AgentResultCache;
+import com.kairos.trading.common.marketdata.LatencyHistogram;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.flow.service.SonarService;
+import com.kairos.trading.domain.news.service.SentinelService;
+import com.kairos.trading.domain.sentiment.service.ResonanceService;
+import com.kairos.trading.domain.technical.service.NanoBananaCalculator;
+import com.kairos.trading.domain.technical.service.RollingIndicators;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분석가 규칙 계층 (Gemini 호출 전 순수 Java 판단).
+ *
+ * 분석가마다 이미 있는 Java 로직(키워드, 정배열·NanoBanana, 설거지·양매수, 진입 Veto)과 캐시된 결과로
+ * 확신도가 붙은 {@link AgentResponse}를 먼저 만든다.
+ * - 확신도가 {@code kairos.tier.min-confidence} 이상인 분석가는 Gemini를 부르지 않는다.
+ * - ALERT, 또는 확신도 {@code kairos.tier.veto-confidence} 이상인 REJECT가 있으면 Nexus 없이 바로 결정한다.
+ * - BUY는 목표가·손절가 산출이 필요하므로 항상 Nexus(LLM)를 거친다.
+ * - 임계값 근처(설거지 금액, 진입 허용 점수 등)이거나 입력이 없으면 확신도를 낮춰 LLM에 넘긴다.
+ */
+@Slf4j
+@Component
+public class AnalystRuleTier {
+
+    /** 리포트 순서 (Nexus 프롬프트 순서와 동일) */
+    public static final List<String> ANALYSTS = List.of("Sentinel", "Axiom", "Vector", "Sonar", "Resonance");
+
+    // 설거지 판정 기준 금액 (SonarService와 동일, 100억)
+    private static final long DISTRIBUTION_AMOUNT = 10_000_000_000L;
+
+    // Resonance 진입 허용 임계값 근처로 보는 점수 폭
+    private static final int HEAT_MARGIN = 5;
+
+    // 프로그램 순매수 미수신 표시
+    private static final long NO_PROGRAM = Long.MIN_VALUE;
+
+    private final SentinelService sentinelService;
+    private final SonarService sonarService;
+    private final ResonanceService resonanceService;
+    private final NanoBananaCalculator nanoBananaCalculator;
+    private final AgentResultCache agentResultCache;
+    private final SymbolRegistry symbolRegistry;
+    private final boolean enabled;
+    private final double minConfidence;
+    private final double vetoConfidence;
+
+    // 종목별 최근 프로그램 순매수 (쓰기: 샤드 스레드, 읽기: 분석 스레드)
+    private final AtomicLongArray programNet;
+
+    private final LongAdder fastDecisions = new LongAdder();
+    private final LongAdder llmDecisions = new LongAdder();
+    private final LongAdder ruleServed = new LongAdder();
+    private final LongAdder llmServed = new LongAdder();
+    private final LatencyHistogram fastLatency = new LatencyHistogram();
+    private final LatencyHistogram llmLatency = new LatencyHistogram();
+
+    public AnalystRuleTier(SentinelService sentinelService, SonarService sonarService,
+            ResonanceService resonanceService, NanoBananaCalculator nanoBananaCalculator,
+            AgentResultCache agentResultCache, SymbolRegistry symbolRegistry, MeterRegistry meterRegistry,
+            @Value("${kairos.tier.enabled:true}") boolean enabled,
+            @Value("${kairos.tier.min-confidence:0.8}") double minConfidence,
+            @Value("${kairos.tier.veto-confidence:0.9}") double vetoConfidence) {
+        this.sentinelService = sentinelService;
+        this.sonarService = sonarService;
+        this.resonanceService = resonanceService;
+        this.nanoBananaCalculator = nanoBananaCalculator;
+        this.agentResultCache = agentResultCache;
+        this.symbolRegistry = symbolRegistry;
+        this.enabled = enabled;
+        this.minConfidence = minConfidence;
+        this.vetoConfidence = vetoConfidence;
+        this.programNet = new AtomicLongArray(symbolRegistry.capacity());
+        for (int i = 0; i < programNet.length(); i++) {
+            programNet.set(i, NO_PROGRAM);
+        }
+
+        for (var tier : List.of("rule", "llm")) {
+            FunctionCounter.builder("kairos.tier.decisions", this,
+                            t -> (tier.equals("rule") ? t.fastDecisions : t.llmDecisions).sum())
+                    .description("계층별 의사결정 건수")
+                    .tag("tier", tier)
+                    .register(meterRegistry);
+            FunctionCounter.builder("kairos.tier.analyst.reports", this,
+                            t -> (tier.equals("rule") ? t.ruleServed : t.llmServed).sum())
+                    .description("계층별 분석가 리포트 건수")
+                    .tag("tier", tier)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 규칙 계층 입력.
+     *
+     * @param indicators     종목 지표 (시드 전이면 null)
+     * @param newsText       분석할 뉴스 본문 (없으면 null)
+     * @param foreignNet     외인 순매수 (미수신이면 null)
+     * @param institutionNet 기관 순매수 (미수신이면 null)
+     * @param strategyMode   STABLE / NEUTRAL / AGGRESSIVE
+     */
+    public record Inputs(String stockCode, String stockName, long price, RollingIndicators indicators,
+            String newsText, Long foreignNet, Long institutionNet, String strategyMode) {
+    }
+
+    /**
+     * 규칙 계층 결정 (Nexus 생략).
+     */
+    public record RuleDecision(String decision, int score, String reasoning) {
+    }
+
+    /**
+     * 계층별 통계.
+     */
+    public record TierStats(long fastDecisions, long llmDecisions, long ruleReports, long llmReports,
+            LatencyHistogram.Summary fastLatency, LatencyHistogram.Summary llmLatency) {
+    }
+
+    /**
+     * 프로그램 매매 순매수 기록 (샤드 스레드).
+     */
+    public void recordProgramTrade(int symbolId, long net) {
+        if (symbolId >= 0 && symbolId < programNet.length()) {
+            programNet.set(symbolId, net);
+        }
+    }
+
+    /**
+     * 분석가별 규칙 리포트 ({@link #ANALYSTS} 순서).
+     */
+    public Map<String, AgentResponse> evaluate(Inputs inputs) {
+        Map<String, AgentResponse> reports = new LinkedHashMap<>();
+        if (!enabled) {
+            ANALYSTS.forEach(name -> reports.put(name, AgentResponse.inconclusive(name, "규칙 계층 비활성")));
+            return reports;
+        }
+        reports.put("Sentinel", sentinel(inputs));
+        reports.put("Axiom", axiom(inputs));
+        reports.put("Vector", vector(inputs));
+        reports.put("Sonar", sonar(inputs));
+        reports.put("Resonance", resonance(inputs));
+        return reports;
+    }
+
+    /**
+     * LLM 분석 없이 규칙 리포트를 그대로 쓸 수 있는지.
+     */
+    public boolean isConclusive(AgentResponse report) {
+        return report.confidence() >= minConfidence;
+    }
+
+    /**
+     * 규칙 리포트만으로 결정할 수 있으면 결정 반환 (ALERT, 확신도 높은 REJECT).
+     */
+    public Optional<RuleDecision> decide(Map<String, AgentResponse> reports) {
+        for (var report : reports.values()) {
+            if (report.isAlert() && isConclusive(report)) {
+                return Optional.of(new RuleDecision("ALERT", 0,
+                        "[" + report.agentName() + "] " + report.reason()));
+            }
+        }
+        for (var report : reports.values()) {
+            if (report.isNegative() && report.confidence() >= vetoConfidence) {
+                return Optional.of(new RuleDecision("REJECT", report.score(),
+                        "[" + report.agentName() + "] " + report.reason()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 한 건 처리 결과 기록.
+     *
+     * @param fast        규칙 계층에서 결정했는지
+     * @param ruleReports LLM 대신 규칙 리포트를 쓴 분석가 수
+     */
+    public void recordDecision(boolean fast, int ruleReports, long elapsedNanos) {
+        ruleServed.add(ruleReports);
+        if (fast) {
+            fastDecisions.increment();
+            fastLatency.recordConcurrent(elapsedNanos);
+        } else {
+            llmDecisions.increment();
+            llmServed.add(ANALYSTS.size() - ruleReports);
+            llmLatency.recordConcurrent(elapsedNanos);
+        }
+    }
+
+    public TierStats getStats() {
+        return new TierStats(fastDecisions.sum(), llmDecisions.sum(), ruleServed.sum(), llmServed.sum(),
+                fastLatency.snapshot().summary(), llmLatency.snapshot().summary());
+    }
+
+    private AgentResponse sentinel(Inputs inputs) {
+        String text = inputs.newsText();
+        if (text == null || text.isBlank()) {
+            // 뉴스가 없다는 것만으로 중립이라 단정할 수 없음 → LLM(Sentinel)이 직접 확인
+            return AgentResponse.inconclusive("Sentinel", "규칙 판단용 뉴스 없음");
+        }
+        if (sentinelService.containsKillSwitchKeyword(text)) {
+            return AgentResponse.ruleBased("Sentinel", 0, "ALERT", "Kill Switch 키워드 포함", 1.0);
+        }
+        return AgentResponse.inconclusive("Sentinel", "뉴스 내용 분석 필요");
+    }
+
+    private AgentResponse axiom(Inputs inputs) {
+        var cached = agentResultCache.peek("Axiom", inputs.stockCode());
+        if (cached == null) {
+            return AgentResponse.inconclusive("Axiom", "캐시된 펀더멘털 분석 없음");
+        }
+        return cached.withConfidence("CACHE", 0.9);
+    }
+
+    private AgentResponse vector(Inputs inputs) {
+        var indicators = inputs.indicators();
+        if (indicators == null) {
+            return AgentResponse.inconclusive("Vector", "이평선 미시드");
+        }
+        double ma5 = indicators.ma5();
+        double ma20 = indicators.ma20();
+        double ma60 = indicators.ma60();
+
+        if (nanoBananaCalculator.isBearishAlignment(ma5, ma20, ma60)) {
+            return AgentResponse.ruleBased("Vector", 25, "REJECT", "역배열 (MA5 < MA20 < MA60)", 0.85);
+        }
+
+        double convergence = nanoBananaCalculator.calculateConvergence(ma5, ma20, ma60);
+        double volumeRatio = nanoBananaCalculator.calculateVolumeRatio(indicators.accVolume(),
+                indicators.avgVolume());
+        boolean bullish = nanoBananaCalculator.isBullishAlignment(ma5, ma20, ma60);
+        if (nanoBananaCalculator.isNanoBananaPattern(convergence, volumeRatio, bullish)) {
+            // 임계값(수렴도 0.7, 거래량 2배)에서 멀수록 확신도 상승
+            double margin = Math.min((convergence - 0.7) / 0.3, (volumeRatio - 2.0) / 2.0);
+            double confidence = 0.7 + 0.3 * Math.clamp(margin, 0.0, 1.0);
+            return AgentResponse.ruleBased("Vector", 85, "BUY",
+                    String.format("NanoBanana 패턴 (수렴도 %.2f, 거래량 %.1f배)", convergence, volumeRatio),
+                    confidence);
+        }
+        return AgentResponse.inconclusive("Vector", "패턴 불명확");
+    }
+
+    private AgentResponse sonar(Inputs inputs) {
+        int symbolId = symbolRegistry.idOf(inputs.stockCode());
+        long net = symbolId == SymbolRegistry.NO_SYMBOL ? NO_PROGRAM : programNet.get(symbolId);
+        boolean hasProgram = net != NO_PROGRAM;
+        boolean hasInvestors = inputs.foreignNet() != null && inputs.institutionNet() != null;
+
+        if (hasProgram) {
+            var indicators = inputs.indicators();
+            long previousClose = indicators == null ? 0L : indicators.previousClose();
+            double priceChange = previousClose <= 0 ? 0.0
+                    : (inputs.price() - previousClose) * 100.0 / previousClose;
+            if (sonarService.isDistributionPattern(net, priceChange)) {
+                // 기준 금액의 2배 이상 매도면 최대 확신도
+                double excess = (double) -net / DISTRIBUTION_AMOUNT - 1.0;
+                double confidence = 0.8 + 0.2 * Math.clamp(excess, 0.0, 1.0);
+                return AgentResponse.ruleBased("Sonar", 20, "REJECT",
+                        String.format("설거지 패턴 (상승 %.1f%% 중 프로그램 순매도 %d억)",
+                                priceChange, -net / 100_000_000),
+                        confidence);
+            }
+        }
+        if (hasInvestors && sonarService.isDoubleBuy(inputs.foreignNet(), inputs.institutionNet())) {
+            return AgentResponse.ruleBased("Sonar", 90, "BUY", "외인·기관 양매수", 0.85);
+        }
+        // 수급 데이터가 없으면 중립이라 단정하지 않고 LLM(Sonar)에 넘김
+        return AgentResponse.inconclusive("Sonar",
+                hasProgram || hasInvestors ? "수급 방향 불명확" : "규칙 판단용 수급 데이터 없음");
+    }
+
+    private AgentResponse resonance(Inputs inputs) {
+        var cached = agentResultCache.peek("Resonance", AgentResultCache.MARKET);
+        if (cached == null) {
+            return AgentResponse.inconclusive("Resonance", "캐시된 시장 심리 없음");
+        }
+        int heat = cached.score();
+        String mode = inputs.strategyMode();
+        boolean allowed = resonanceService.isEntryAllowed(heat, mode);
+        boolean nearThreshold = resonanceService.isEntryAllowed(heat - HEAT_MARGIN, mode)
+                != resonanceService.isEntryAllowed(heat + HEAT_MARGIN, mode);
+        if (!allowed) {
+            return AgentResponse.ruleBased("Resonance", heat, "REJECT",
+                    "Market Heat " + heat + " → 신규 진입 차단 (" + mode + ")", nearThreshold ? 0.6 : 0.95);
+        }
+        return cached.withConfidence("CACHE", nearThreshold ? 0.6 : 0.9);
+    }
+}
@@ -105,9 +105,15 @@ public class NexusService {
         return targetStockRepository.findBuyTargets(LocalDate.now());
     }
 
-    private String formatAgentReports(List<AgentResponse> reports) {
+    String formatAgentReports(List<AgentResponse> reports) {
         StringBuilder sb = new StringBuilder();
         for (var report : reports) {
+            if (report.isMissing()) {
+                // 기한 내 도착하지 않은 분석가는 판단 근거에서 제외하도록 명시
+                sb.append(String.format("[%s] %s - 이 분석가의 의견 없이 판단\n",
+                        report.agentName(), report.reason()));
+                continue;
+            }
             sb.append(String.format(
                     "[%s] 점수: %d, 판정: %s, 사유: %s\n",
                     report.agentName(),
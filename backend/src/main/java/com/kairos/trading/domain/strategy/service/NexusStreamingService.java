@@ -0,0 +1,208 @@
+package com.kairos.trading.domain.strategy.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.common.ai.StreamingJsonFieldExtractor;
+import com.kairos.trading.domain.strategy.agent.NexusAiClient;
+import com.kairos.trading.domain.strategy.dto.StrategyDecisionDto;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Nexus 스트리밍 의사결정 서비스.
+ *
+ * Nexus(gemini-2.5-pro)의 JSON 응답을 스트리밍으로 받아 {@link StreamingJsonFieldExtractor}로 필드를 점진 추출한다.
+ * - 주문에 필요한 필드(decision, BUY면 0보다 큰 targetPrice·stopLossPrice까지)가 끝나는 즉시 {@code actionable}을 완료한다.
+ * - reasoning·dissent 등 서술 필드는 계속 스트리밍되어 응답이 끝나면 {@code complete}로 전달된다.
+ * - 스트림이 실패하거나 유효한 결정 필드 없이 끝나면 동기 {@link NexusService#decide}로 대체한다.
+ * - 첫 실행 가능 필드까지의 시간과 전체 응답 시간을 {@code kairos.nexus.decision.latency}(stage)로 노출한다.
+ * - {@code kairos.nexus.streaming.enabled=false}이거나 Kill Switch 리포트가 있으면 동기 경로를 그대로 쓴다.
+ */
+@Slf4j
+@Service
+public class NexusStreamingService {
+
+    private static final List<String> ORDER_FIELDS = List.of("targetPrice", "stopLossPrice");
+
+    private final NexusAiClient nexusAiClient;
+    private final NexusService nexusService;
+    private final boolean enabled;
+    private final long actionableTimeoutMillis;
+    private final Timer actionableLatency;
+    private final Timer completeLatency;
+
+    public NexusStreamingService(NexusAiClient nexusAiClient, NexusService nexusService,
+            MeterRegistry meterRegistry,
+            @Value("${kairos.nexus.streaming.enabled:true}") boolean enabled,
+            @Value("${kairos.nexus.streaming.actionable-timeout-ms:30000}") long actionableTimeoutMillis) {
+        this.nexusAiClient = nexusAiClient;
+        this.nexusService = nexusService;
+        this.enabled = enabled;
+        this.actionableTimeoutMillis = actionableTimeoutMillis;
+        this.actionableLatency = Timer.builder("kairos.nexus.decision.latency")
+                .description("Nexus 의사결정 지연시간 (actionable: 첫 실행 가능 필드, complete: 전체 응답)")
+                .tag("stage", "actionable")
+                .register(meterRegistry);
+        this.completeLatency = Timer.builder("kairos.nexus.decision.latency")
+                .description("Nexus 의사결정 지연시간 (actionable: 첫 실행 가능 필드, complete: 전체 응답)")
+                .tag("stage", "complete")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 진행 중인 스트리밍 의사결정.
+     *
+     * @param actionable 주문 판단에 필요한 필드만 채워진 결정 (서술 필드는 비어 있을 수 있음)
+     * @param complete   서술 필드까지 모두 받은 결정
+     */
+    public record StreamingDecision(CompletableFuture<StrategyDecisionDto> actionable,
+            CompletableFuture<StrategyDecisionDto> complete) {
+
+        static StreamingDecision completed(StrategyDecisionDto decision) {
+            return new StreamingDecision(CompletableFuture.completedFuture(decision),
+                    CompletableFuture.completedFuture(decision));
+        }
+    }
+
+    /**
+     * 스트리밍 의사결정 시작.
+     */
+    public StreamingDecision decide(List<AgentResponse> agentReports, String strategyMode,
+            String stockCode, String stockName) {
+        boolean hasKillSwitch = agentReports.stream().anyMatch(AgentResponse::isAlert);
+        if (!enabled || hasKillSwitch) {
+            return StreamingDecision.completed(nexusService.decide(agentReports, strategyMode, stockCode, stockName));
+        }
+
+        log.info("[Nexus] 스트리밍 의사결정 시작: {} ({}) - 성향: {}", stockName, stockCode, strategyMode);
+        var decision = new StreamingDecision(new CompletableFuture<>(), new CompletableFuture<>());
+        var extractor = new StreamingJsonFieldExtractor();
+        long startNanos = System.nanoTime();
+        Runnable fallback = () -> fallback(decision, agentReports, strategyMode, stockCode, stockName);
+
+        try {
+            nexusAiClient.decideStreaming(strategyMode, stockCode, stockName,
+                            nexusService.formatAgentReports(agentReports))
+                    .onNext(token -> {
+                        extractor.feed(token);
+                        if (!decision.actionable().isDone() && isActionable(extractor)) {
+                            long elapsed = System.nanoTime() - startNanos;
+                            actionableLatency.record(elapsed, TimeUnit.NANOSECONDS);
+                            decision.actionable().complete(toDecision(extractor));
+                            log.info("[Nexus] 실행 가능 필드 수신: {} {} ({}ms)", stockCode,
+                                    extractor.text("decision"), TimeUnit.NANOSECONDS.toMillis(elapsed));
+                        }
+                    })
+                    .onComplete(response -> complete(decision, extractor, response, startNanos, stockCode, fallback))
+                    .onError(error -> {
+                        log.warn("[Nexus] 스트리밍 실패 ({}): {}", stockCode, error.getMessage());
+                        if (decision.actionable().isDone()) {
+                            // 주문 판단은 끝났으므로 받은 데까지만 기록
+                            decision.complete().complete(decision.actionable().join());
+                        } else {
+                            fallback.run();
+                        }
+                    })
+                    .start();
+        } catch (RuntimeException e) {
+            log.warn("[Nexus] 스트리밍 시작 실패 ({}): {}", stockCode, e.getMessage());
+            fallback.run();
+        }
+        return decision;
+    }
+
+    /**
+     * 실행 가능한 결정을 기다림.
+     *
+     * @return 기한({@code kairos.nexus.streaming.actionable-timeout-ms}) 안에 받지 못하거나 실패하면 null
+     */
+    public StrategyDecisionDto awaitActionable(StreamingDecision decision) throws InterruptedException {
+        try {
+            return decision.actionable().get(actionableTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("[Nexus] 실행 가능 필드 대기 시간 초과 ({}ms)", actionableTimeoutMillis);
+            return null;
+        } catch (ExecutionException e) {
+            log.error("[Nexus] 의사결정 실패: {}", e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 주문 판단에 필요한 필드가 모두 끝났는지 (BUY가 아니면 decision만으로 충분).
+     * BUY는 목표가·손절가가 모두 0보다 큰 숫자로 해석될 때만 실행 가능하다.
+     */
+    static boolean isActionable(StreamingJsonFieldExtractor extractor) {
+        String decision = extractor.text("decision");
+        if (decision == null) {
+            return false;
+        }
+        if (!"BUY".equals(decision.toUpperCase(Locale.ROOT))) {
+            return true;
+        }
+        return ORDER_FIELDS.stream().allMatch(field -> extractor.longValue(field, 0L) > 0);
+    }
+
+    static StrategyDecisionDto toDecision(StreamingJsonFieldExtractor extractor) {
+        String decision = extractor.text("decision");
+        return new StrategyDecisionDto(
+                decision == null ? null : decision.toUpperCase(Locale.ROOT),
+                (int) extractor.longValue("finalScore", 0),
+                extractor.text("riskLevel"),
+                extractor.doubleValue("positionSize", 0.0),
+                extractor.longValue("targetPrice", 0L),
+                extractor.longValue("stopLossPrice", 0L),
+                extractor.text("reasoning"),
+                extractor.text("dissent"));
+    }
+
+    private void complete(StreamingDecision decision, StreamingJsonFieldExtractor extractor,
+            Response<AiMessage> response, long startNanos, String stockCode, Runnable fallback) {
+        var source = extractor;
+        if (!isActionable(source) && response != null && response.content() != null) {
+            // 토큰 콜백 없이 끝난 경우 전체 응답에서 다시 추출
+            source = new StreamingJsonFieldExtractor();
+            source.feed(response.content().text());
+        }
+        if (!isActionable(source)) {
+            log.warn("[Nexus] 스트리밍 응답에 유효한 결정 필드 없음 → 동기 호출로 대체: {}", stockCode);
+            fallback.run();
+            return;
+        }
+
+        long elapsed = System.nanoTime() - startNanos;
+        completeLatency.record(elapsed, TimeUnit.NANOSECONDS);
+        var full = toDecision(source);
+        if (decision.actionable().complete(full)) {
+            actionableLatency.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+        decision.complete().complete(full);
+        log.info("[Nexus] 의사결정 완료: {} (점수: {}, 리스크: {}, 전체 {}ms)",
+                full.decision(), full.finalScore(), full.riskLevel(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private void fallback(StreamingDecision decision, List<AgentResponse> agentReports, String strategyMode,
+            String stockCode, String stockName) {
+        Thread.ofVirtual().name("nexus-fallback").start(() -> {
+            try {
+                var result = nexusService.decide(agentReports, strategyMode, stockCode, stockName);
+                decision.actionable().complete(result);
+                decision.complete().complete(result);
+            } catch (RuntimeException e) {
+                decision.actionable().completeExceptionally(e);
+                decision.complete().completeExceptionally(e);
+            }
+        });
+    }
+}
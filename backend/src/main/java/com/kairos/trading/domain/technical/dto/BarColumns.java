@@ -0,0 +1,20 @@
+package com.kairos.trading.domain.technical.dto;
+
+/**
+ * 봉 데이터 컬럼 스냅샷 (오래된 순서).
+ *
+ * 시작 시각은 분봉이면 HHmmss, 일봉이면 yyyyMMdd.
+ * 마지막 봉은 아직 마감되지 않은 진행 중 봉이다.
+ */
+public record BarColumns(
+        long[] start,
+        long[] open,
+        long[] high,
+        long[] low,
+        long[] close,
+        long[] volume) {
+
+    public int size() {
+        return start.length;
+    }
+}
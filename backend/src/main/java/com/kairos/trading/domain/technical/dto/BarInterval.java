@@ -0,0 +1,48 @@
+package com.kairos.trading.domain.technical.dto;
+
+/**
+ * 봉 주기.
+ */
+public enum BarInterval {
+    MINUTE_1(1, 512),
+    MINUTE_3(3, 256),
+    MINUTE_5(5, 128),
+    MINUTE_15(15, 64),
+    DAY(0, 64);
+
+    private final int minutes;
+    private final int capacity;
+
+    BarInterval(int minutes, int capacity) {
+        this.minutes = minutes;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 분 단위 주기 (일봉은 0).
+     */
+    public int minutes() {
+        return minutes;
+    }
+
+    /**
+     * 종목별 보관 봉 수 (2의 거듭제곱, 분봉은 하루 장중 전체).
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 키움 분봉 틱범위(1/3/5/15)에 해당하는 주기.
+     *
+     * @return 주기, 지원하지 않는 틱범위면 null
+     */
+    public static BarInterval ofMinutes(int minutes) {
+        for (BarInterval interval : values()) {
+            if (interval.minutes == minutes && minutes > 0) {
+                return interval;
+            }
+        }
+        return null;
+    }
+}
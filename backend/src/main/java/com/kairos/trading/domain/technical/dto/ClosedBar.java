@@ -0,0 +1,17 @@
+package com.kairos.trading.domain.technical.dto;
+
+/**
+ * 마감된 봉.
+ *
+ * @param start 시작 시각 (분봉 HHmmss, 일봉 yyyyMMdd)
+ */
+public record ClosedBar(
+        String stockCode,
+        BarInterval interval,
+        long start,
+        long open,
+        long high,
+        long low,
+        long close,
+        long volume) {
+}
@@ -0,0 +1,13 @@
+package com.kairos.trading.domain.technical.dto;
+
+/**
+ * NanoBanana 스크리닝 결과 (점수 내림차순).
+ *
+ * @param score 수렴도 × 거래량 비율
+ */
+public record ScreenerHit(
+        String stockCode,
+        double convergence,
+        double volumeRatio,
+        double score) {
+}
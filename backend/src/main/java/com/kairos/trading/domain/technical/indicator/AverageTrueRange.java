@@ -0,0 +1,64 @@
+package com.kairos.trading.domain.technical.indicator;
+
+/**
+ * ATR (Average True Range, Wilder 평활).
+ *
+ * 첫 period개 봉은 True Range 단순 평균, 이후 ATR = (직전 ATR × (n-1) + TR) / n.
+ */
+public final class AverageTrueRange implements BarIndicator {
+
+    private final int period;
+    private long prevClose;
+    private int count;
+    private double sum;
+    private double atr;
+
+    public AverageTrueRange(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("ATR 기간은 양수여야 합니다: " + period);
+        }
+        this.period = period;
+    }
+
+    @Override
+    public void onBar(long high, long low, long close, long volume) {
+        double tr = trueRange(high, low);
+        if (count < period) {
+            sum += tr;
+            if (count + 1 == period) {
+                atr = sum / period;
+            }
+        } else {
+            atr = (atr * (period - 1) + tr) / period;
+        }
+        count++;
+        prevClose = close;
+    }
+
+    @Override
+    public boolean isReady() {
+        return count >= period;
+    }
+
+    /**
+     * 확정 ATR (준비 전이면 0).
+     */
+    public double value() {
+        return isReady() ? atr : 0.0;
+    }
+
+    /**
+     * 진행 중 봉(고가/저가)을 포함한 ATR (상태 변경 없음, 준비 전이면 0).
+     */
+    public double valueAt(long high, long low) {
+        return isReady() ? (atr * (period - 1) + trueRange(high, low)) / period : 0.0;
+    }
+
+    private double trueRange(long high, long low) {
+        long range = high - low;
+        if (count == 0) {
+            return range;
+        }
+        return Math.max(range, Math.max(Math.abs(high - prevClose), Math.abs(low - prevClose)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.kairos.trading.domain.technical.indicator;
+
+import com.kairos.trading.domain.technical.dto.DailyChartResponse;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 증분 기술 지표 (원시 타입 상태, 갱신 시 할당 없음).
+ *
+ * 완료된 봉마다 {@link #onBar}로 상태를 확정하고, 장중에는 지표별 {@code ...At(price)} 메서드로
+ * 진행 중 봉을 포함한 값을 상태 변경 없이 계산한다.
+ * 종목별 인스턴스는 {@link com.kairos.trading.domain.technical.service.RollingIndicators}가 보관한다.
+ */
+public interface BarIndicator {
+
+    /**
+     * 완료된 봉 반영.
+     */
+    void onBar(long high, long low, long close, long volume);
+
+    /**
+     * 지표 계산에 필요한 봉 수가 채워졌는지 여부.
+     */
+    boolean isReady();
+
+    /**
+     * 일봉으로 일괄 초기화 (응답 순서와 무관하게 오래된 일자부터 반영).
+     */
+    default void initialize(List<DailyChartResponse.DailyCandle> candles) {
+        candles.stream()
+                .sorted(Comparator.comparing(DailyChartResponse.DailyCandle::date))
+                .forEach(c -> onBar(c.highPrice(), c.lowPrice(), c.closePrice(), c.volume()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.kairos.trading.domain.technical.indicator;
+
+/**
+ * 볼린저 밴드 (단순 이동평균 ± k × 모표준편차).
+ *
+ * 최근 period개 종가를 링 버퍼로 유지하고 합계/제곱합으로 O(1) 갱신한다.
+ */
+public final class BollingerBands implements BarIndicator {
+
+    private final int period;
+    private final double width;
+    private final long[] closes;
+    private int count;
+    private int head;
+    private double sum;
+    private double sumSquares;
+
+    public BollingerBands(int period, double width) {
+        if (period <= 1) {
+            throw new IllegalArgumentException("볼린저 밴드 기간은 2 이상이어야 합니다: " + period);
+        }
+        this.period = period;
+        this.width = width;
+        this.closes = new long[period];
+    }
+
+    @Override
+    public void onBar(long high, long low, long close, long volume) {
+        if (count == period) {
+            long evicted = closes[head];
+            sum -= evicted;
+            sumSquares -= (double) evicted * evicted;
+        } else {
+            count++;
+        }
+        closes[head] = close;
+        head = (head + 1) % period;
+        sum += close;
+        sumSquares += (double) close * close;
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    public double middle() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public double upper() {
+        return middle() + width * standardDeviation();
+    }
+
+    public double lower() {
+        return middle() - width * standardDeviation();
+    }
+
+    /**
+     * %B (0 = 하단, 1 = 상단, 밴드 폭이 0이면 0.5).
+     */
+    public double percentB(long price) {
+        double range = upper() - lower();
+        return range <= 0 ? 0.5 : (price - lower()) / range;
+    }
+
+    /**
+     * 상단 밴드 이탈(과열) 여부. 진입 거부 조건용 (준비 전이면 false).
+     */
+    public boolean isOverextended(long price) {
+        return isReady() && price > upper();
+    }
+
+    private double standardDeviation() {
+        if (count == 0) {
+            return 0.0;
+        }
+        double mean = sum / count;
+        return Math.sqrt(Math.max(0.0, sumSquares / count - mean * mean));
+    }
+}
@@ -0,0 +1,46 @@
+package com.kairos.trading.domain.technical.indicator;
+
+/**
+ * OBV (On-Balance Volume).
+ *
+ * 종가가 직전보다 오르면 거래량을 더하고, 내리면 뺀다.
+ */
+public final class OnBalanceVolume implements BarIndicator {
+
+    private long prevClose;
+    private boolean started;
+    private long obv;
+
+    @Override
+    public void onBar(long high, long low, long close, long volume) {
+        obv += direction(close) * volume;
+        prevClose = close;
+        started = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return started;
+    }
+
+    /**
+     * 확정 OBV.
+     */
+    public long value() {
+        return obv;
+    }
+
+    /**
+     * 진행 중 봉(현재가, 당일 누적 거래량)을 포함한 OBV (상태 변경 없음).
+     */
+    public long valueAt(long price, long volume) {
+        return obv + direction(price) * volume;
+    }
+
+    private long direction(long close) {
+        if (!started) {
+            return 0L;
+        }
+        return Long.signum(close - prevClose);
+    }
+}
@@ -0,0 +1,88 @@
+package com.kairos.trading.domain.technical.indicator;
+
+/**
+ * RSI (Wilder 평활).
+ *
+ * 직전 확정값을 함께 보관해 기준선 돌파({@link #crossedAbove}, {@link #crossedBelow})를 판정한다.
+ */
+public final class RelativeStrengthIndex implements BarIndicator {
+
+    private final int period;
+    private long prevClose;
+    private int count;
+    private double avgGain;
+    private double avgLoss;
+    private double previous = Double.NaN;
+
+    public RelativeStrengthIndex(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("RSI 기간은 양수여야 합니다: " + period);
+        }
+        this.period = period;
+    }
+
+    @Override
+    public void onBar(long high, long low, long close, long volume) {
+        if (count > 0) {
+            previous = isReady() ? value() : Double.NaN;
+            long change = close - prevClose;
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            if (count <= period) {
+                avgGain += gain / period;
+                avgLoss += loss / period;
+            } else {
+                avgGain = (avgGain * (period - 1) + gain) / period;
+                avgLoss = (avgLoss * (period - 1) + loss) / period;
+            }
+        }
+        count++;
+        prevClose = close;
+    }
+
+    @Override
+    public boolean isReady() {
+        return count > period;
+    }
+
+    /**
+     * 확정 RSI (0 ~ 100, 준비 전이면 NaN).
+     */
+    public double value() {
+        return isReady() ? rsi(avgGain, avgLoss) : Double.NaN;
+    }
+
+    /**
+     * 현재가를 진행 중 봉 종가로 본 RSI (상태 변경 없음, 준비 전이면 NaN).
+     */
+    public double valueAt(long price) {
+        if (!isReady()) {
+            return Double.NaN;
+        }
+        long change = price - prevClose;
+        double gain = (avgGain * (period - 1) + Math.max(change, 0)) / period;
+        double loss = (avgLoss * (period - 1) + Math.max(-change, 0)) / period;
+        return rsi(gain, loss);
+    }
+
+    /**
+     * 직전 봉에서 기준선을 상향 돌파했는지 여부.
+     */
+    public boolean crossedAbove(double level) {
+        return previous < level && value() >= level;
+    }
+
+    /**
+     * 직전 봉에서 기준선을 하향 돌파했는지 여부.
+     */
+    public boolean crossedBelow(double level) {
+        return previous > level && value() <= level;
+    }
+
+    private static double rsi(double gain, double loss) {
+        if (loss == 0) {
+            return gain == 0 ? 50.0 : 100.0;
+        }
+        return 100.0 - 100.0 / (1.0 + gain / loss);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kairos.trading.domain.technical.indicator;
+
+/**
+ * VWAP (세션 누적 거래량 가중 평균가).
+ *
+ * 체결 단위({@link #onTrade}) 또는 봉 단위(대표가 (고+저+종)/3)로 누적하고, 세션이 바뀌면 {@link #reset()}한다.
+ */
+public final class VolumeWeightedAveragePrice implements BarIndicator {
+
+    private double priceVolume;
+    private long volume;
+
+    /**
+     * 체결 반영.
+     */
+    public void onTrade(long price, long tradeVolume) {
+        if (tradeVolume <= 0) {
+            return;
+        }
+        priceVolume += (double) price * tradeVolume;
+        volume += tradeVolume;
+    }
+
+    @Override
+    public void onBar(long high, long low, long close, long barVolume) {
+        if (barVolume <= 0) {
+            return;
+        }
+        priceVolume += (high + low + close) / 3.0 * barVolume;
+        volume += barVolume;
+    }
+
+    @Override
+    public boolean isReady() {
+        return volume > 0;
+    }
+
+    /**
+     * VWAP (거래가 없으면 0).
+     */
+    public double value() {
+        return volume == 0 ? 0.0 : priceVolume / volume;
+    }
+
+    public void reset() {
+        priceVolume = 0;
+        volume = 0;
+    }
+}
@@ -0,0 +1,209 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataType;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.technical.dto.BarColumns;
+import com.kairos.trading.domain.technical.dto.BarInterval;
+import com.kairos.trading.domain.technical.dto.ClosedBar;
+import com.kairos.trading.domain.technical.dto.MinuteChartResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 체결 → OHLCV 봉 집계기.
+ *
+ * 체결(00)·체결 상세(0B) 프레임으로 1/3/5/15분봉과 일봉을 직접 만든다.
+ * - 종목·주기별 {@link BarSeries} 컬럼형 링 버퍼에 저장 (봉 객체 없음)
+ * - 거래량은 누적 거래량 차분으로 계산해 두 스트림을 함께 구독해도 중복 집계되지 않는다
+ * - 다음 주기의 첫 체결이 들어오는 순간 직전 봉이 마감되어 리스너에 통지된다
+ *
+ * 장중 분봉 조회에 ka10080 호출(키움 API 예산)이 필요 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BarAggregator {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final BarInterval[] INTERVALS = BarInterval.values();
+
+    private final MarketDataDispatcher dispatcher;
+    private final SymbolRegistry symbolRegistry;
+
+    // 종목 ID → 주기별 봉 (첫 체결 시 생성)
+    private AtomicReferenceArray<SymbolBars> bars;
+
+    // 봉 마감 리스너 (샤드 스레드에서 호출)
+    private final List<Consumer<ClosedBar>> listeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        bars = new AtomicReferenceArray<>(symbolRegistry.capacity());
+        dispatcher.register(MarketDataType.TICK, this::onTrade);
+        dispatcher.register(MarketDataType.STOCK_TRADE, this::onTrade);
+    }
+
+    /**
+     * 봉 마감 리스너 등록.
+     * 종목의 샤드 스레드에서 호출되므로 블로킹 작업을 하면 안 된다.
+     */
+    public void addListener(Consumer<ClosedBar> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 체결 프레임 반영 (샤드 스레드, 핫패스).
+     */
+    public void onTrade(MarketDataFrame frame) {
+        int symbolId = frame.getSymbolId();
+        if (symbolId == SymbolRegistry.NO_SYMBOL || frame.getPrice() <= 0) {
+            return;
+        }
+        SymbolBars symbol = bars.get(symbolId);
+        if (symbol == null) {
+            SymbolBars created = new SymbolBars(frame.getStockCode());
+            symbol = bars.compareAndExchange(symbolId, null, created);
+            if (symbol == null) {
+                symbol = created;
+            }
+        }
+        symbol.onTrade(frame.getExchangeTime(), frame.getPrice(), frame.getVolume(), frame.getAccVolume());
+    }
+
+    /**
+     * 최근 봉 조회 (진행 중 봉 포함, 오래된 순서).
+     *
+     * @return 봉, 체결이 없었던 종목이면 null
+     */
+    public BarColumns bars(String stockCode, BarInterval interval, int maxBars) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        SymbolBars symbol = symbolId == SymbolRegistry.NO_SYMBOL ? null : bars.get(symbolId);
+        return symbol == null ? null : symbol.series[interval.ordinal()].snapshot(maxBars);
+    }
+
+    /**
+     * ka10080 형식 분봉 (최신순). 에이전트가 API 응답 대신 그대로 사용할 수 있다.
+     *
+     * @param tickScope 틱범위 (1/3/5/15분)
+     * @return 분봉, 지원하지 않는 틱범위거나 체결이 없었으면 빈 목록
+     */
+    public MinuteChartResponse minuteChart(String stockCode, int tickScope, int maxBars) {
+        BarInterval interval = BarInterval.ofMinutes(tickScope);
+        BarColumns columns = interval == null ? null : bars(stockCode, interval, maxBars);
+        if (columns == null) {
+            return new MinuteChartResponse(stockCode, List.of());
+        }
+        var candles = new ArrayList<MinuteChartResponse.MinuteCandle>(columns.size());
+        long accumulated = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            accumulated += columns.volume()[i];
+            candles.add(new MinuteChartResponse.MinuteCandle(
+                    String.format("%06d", columns.start()[i]),
+                    columns.close()[i], columns.open()[i], columns.high()[i], columns.low()[i],
+                    columns.volume()[i], accumulated, 0L, ""));
+        }
+        return new MinuteChartResponse(stockCode, candles.reversed());
+    }
+
+    private void notifyClosed(String stockCode, BarInterval interval, BarSeries series) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        int i = series.indexOf(1);
+        var bar = new ClosedBar(stockCode, interval, series.start(i),
+                series.open(i), series.high(i), series.low(i), series.close(i), series.volume(i));
+        for (Consumer<ClosedBar> listener : listeners) {
+            try {
+                listener.accept(bar);
+            } catch (Exception e) {
+                log.error("[Bar] 봉 마감 리스너 실패: {} {}", stockCode, interval, e);
+            }
+        }
+    }
+
+    /**
+     * 체결 시각 → 분 (HHmmss가 없으면 현재 시각).
+     */
+    private static int minuteOf(int exchangeTime) {
+        if (exchangeTime <= 0) {
+            LocalTime now = LocalTime.now(KST);
+            return now.getHour() * 60 + now.getMinute();
+        }
+        return exchangeTime / 10000 * 60 + exchangeTime / 100 % 100;
+    }
+
+    private static long today() {
+        LocalDate date = LocalDate.now(KST);
+        return date.getYear() * 10_000L + date.getMonthValue() * 100L + date.getDayOfMonth();
+    }
+
+    /**
+     * 종목별 주기 봉 묶음 (샤드 스레드 단일 쓰기).
+     */
+    private final class SymbolBars {
+
+        private final String stockCode;
+        private final BarSeries[] series = new BarSeries[INTERVALS.length];
+        private long lastAccVolume;
+        private int lastMinute = -1;
+        private long day;
+
+        SymbolBars(String stockCode) {
+            this.stockCode = stockCode;
+            for (BarInterval interval : INTERVALS) {
+                series[interval.ordinal()] = new BarSeries(interval.capacity());
+            }
+        }
+
+        void onTrade(int exchangeTime, long price, long volume, long accVolume) {
+            int minute = minuteOf(exchangeTime);
+            if (minute < lastMinute || lastMinute < 0) {
+                // 시각 역행: 날짜가 바뀌었으면 새 거래일, 아니면 스트림 간 지연 체결이므로 현재 봉에 합산
+                long date = today();
+                if (date != day) {
+                    day = date;
+                    lastAccVolume = 0;
+                } else {
+                    minute = lastMinute;
+                }
+            }
+            lastMinute = minute;
+
+            long tradeVolume;
+            if (accVolume > 0) {
+                // 누적 거래량이 늘지 않은 체결은 다른 스트림에서 이미 반영된 체결
+                tradeVolume = Math.max(0L, accVolume - lastAccVolume);
+                lastAccVolume = Math.max(lastAccVolume, accVolume);
+            } else {
+                tradeVolume = Math.abs(volume);
+            }
+
+            for (BarInterval interval : INTERVALS) {
+                long bucket;
+                if (interval == BarInterval.DAY) {
+                    bucket = day;
+                } else {
+                    int start = minute - minute % interval.minutes();
+                    bucket = start / 60 * 10_000L + start % 60 * 100L;
+                }
+                BarSeries target = series[interval.ordinal()];
+                if (target.update(bucket, price, tradeVolume)) {
+                    notifyClosed(stockCode, interval, target);
+                }
+            }
+        }
+    }
+}
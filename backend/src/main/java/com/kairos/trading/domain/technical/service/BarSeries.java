@@ -0,0 +1,140 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.domain.technical.dto.BarColumns;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * 종목·주기별 OHLCV 링 버퍼 (컬럼형 원시 배열, 봉 객체 없음).
+ *
+ * 쓰기는 종목이 배정된 샤드 스레드 하나만 한다.
+ * 조회 스레드는 버전(seqlock)으로 쓰기 도중의 값을 걸러내고 다시 읽는다.
+ */
+final class BarSeries {
+
+    private final int mask;
+    private final long[] start;
+    private final long[] open;
+    private final long[] high;
+    private final long[] low;
+    private final long[] close;
+    private final long[] volume;
+
+    // 누적 생성 봉 수 (현재 봉 = total - 1)
+    private long total;
+
+    // 짝수: 안정, 홀수: 쓰기 중
+    private volatile int version;
+
+    BarSeries(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("봉 보관 수는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.start = new long[capacity];
+        this.open = new long[capacity];
+        this.high = new long[capacity];
+        this.low = new long[capacity];
+        this.close = new long[capacity];
+        this.volume = new long[capacity];
+    }
+
+    /**
+     * 체결 반영 (샤드 스레드).
+     *
+     * @param bucket 봉 시작 시각
+     * @return 새 봉이 열려 직전 봉이 마감되었으면 true
+     */
+    boolean update(long bucket, long price, long tradeVolume) {
+        int v = version;
+        version = v + 1;
+        VarHandle.storeStoreFence();
+
+        boolean opened = total == 0 || start[(int) ((total - 1) & mask)] != bucket;
+        int i;
+        if (opened) {
+            i = (int) (total & mask);
+            total++;
+            start[i] = bucket;
+            open[i] = price;
+            high[i] = price;
+            low[i] = price;
+            volume[i] = 0;
+        } else {
+            i = (int) ((total - 1) & mask);
+            if (price > high[i]) {
+                high[i] = price;
+            }
+            if (price < low[i]) {
+                low[i] = price;
+            }
+        }
+        close[i] = price;
+        volume[i] += tradeVolume;
+
+        version = v + 2;
+        return opened && total > 1;
+    }
+
+    /**
+     * 뒤에서 ago번째 봉 (0 = 현재 봉, 샤드 스레드). 마감 봉 통지용.
+     */
+    int indexOf(int ago) {
+        return (int) ((total - 1 - ago) & mask);
+    }
+
+    long start(int index) {
+        return start[index];
+    }
+
+    long open(int index) {
+        return open[index];
+    }
+
+    long high(int index) {
+        return high[index];
+    }
+
+    long low(int index) {
+        return low[index];
+    }
+
+    long close(int index) {
+        return close[index];
+    }
+
+    long volume(int index) {
+        return volume[index];
+    }
+
+    /**
+     * 최근 봉 스냅샷 (임의 스레드).
+     *
+     * @param maxBars 최대 봉 수 (진행 중 봉 포함)
+     */
+    BarColumns snapshot(int maxBars) {
+        while (true) {
+            int before = version;
+            if ((before & 1) == 0) {
+                long bars = Math.min(total, Math.min(maxBars, mask + 1L));
+                var columns = new BarColumns(new long[(int) bars], new long[(int) bars], new long[(int) bars],
+                        new long[(int) bars], new long[(int) bars], new long[(int) bars]);
+                long first = total - bars;
+                for (int k = 0; k < bars; k++) {
+                    int i = (int) ((first + k) & mask);
+                    columns.start()[k] = start[i];
+                    columns.open()[k] = open[i];
+                    columns.high()[k] = high[i];
+                    columns.low()[k] = low[i];
+                    columns.close()[k] = close[i];
+                    columns.volume()[k] = volume[i];
+                }
+                VarHandle.loadLoadFence();
+                if (version == before) {
+                    return columns;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.technical.dto.DailyChartResponse;
+import com.kairos.trading.domain.technical.store.CandleFile;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 장중 증분 이평선 엔진.
+ *
+ * 장전에 종목별 일봉 종가로 한 번 시드하고, 이후에는 체결마다 {@link RollingIndicators}를 O(1)로 갱신한다.
+ * 체결 처리 경로에서는 REST 호출 없이 오늘 미완성 봉을 포함한 MA5/20/60, EMA, 평균 거래량을 조회한다.
+ *
+ * 상태는 종목 ID로 인덱싱하며, 체결 갱신은 종목이 배정된 디스패처 샤드 스레드에서만 일어난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntradayIndicatorEngine {
+
+    // 로컬 일봉으로 시드할 때 반영할 최근 일수 (EMA/RSI 수렴에 충분한 약 1년)
+    private static final int SEED_DAYS = 250;
+
+    private final SymbolRegistry symbolRegistry;
+
+    // 종목 ID → 지표 상태 (시드 시 레코드 단위로 교체)
+    private AtomicReferenceArray<RollingIndicators> indicators;
+
+    @PostConstruct
+    public void init() {
+        indicators = new AtomicReferenceArray<>(symbolRegistry.capacity());
+    }
+
+    /**
+     * 일봉 차트로 시드 (오늘 일자 봉은 미완성이므로 제외).
+     *
+     * @param today 오늘 일자 (YYYYMMDD)
+     */
+    public RollingIndicators seed(String stockCode, String stockName,
+            List<DailyChartResponse.DailyCandle> candles, String today) {
+        var state = new RollingIndicators(stockName);
+        candles.stream()
+                .filter(candle -> candle.date().compareTo(today) < 0)
+                .sorted(Comparator.comparing(DailyChartResponse.DailyCandle::date))
+                .forEach(candle -> state.closeDay(candle.highPrice(), candle.lowPrice(),
+                        candle.closePrice(), candle.volume()));
+        indicators.set(symbolRegistry.register(stockCode), state);
+        log.debug("[Indicator] 시드 완료: {} ({}일, MA5={}, MA20={}, MA60={})",
+                stockCode, state.closeCount(), state.ma5(), state.ma20(), state.ma60());
+        return state;
+    }
+
+    /**
+     * 로컬 일봉 저장소로 시드 (매핑된 컬럼을 바로 읽음, API 호출 없음).
+     */
+    public RollingIndicators seed(String stockCode, String stockName, CandleFile candles) {
+        var state = new RollingIndicators(stockName);
+        int size = candles.size();
+        for (int i = Math.max(0, size - SEED_DAYS); i < size; i++) {
+            state.closeDay(candles.high(i), candles.low(i), candles.close(i), candles.volume(i));
+        }
+        indicators.set(symbolRegistry.register(stockCode), state);
+        return state;
+    }
+
+    /**
+     * 이평선 값으로 시드 (일봉이 없을 때).
+     * 완료된 5/20/60일 평균이 주어진 이평선과 일치하도록 구간별 평균 종가로 채운다.
+     */
+    public RollingIndicators seedAverages(String stockCode, String stockName,
+            double ma5, double ma20, double ma60, long avgVolume) {
+        var state = new RollingIndicators(stockName);
+        long recent = Math.round(ma5);
+        long middle = Math.round((20 * ma20 - 5 * ma5) / 15);
+        long oldest = Math.round((60 * ma60 - 20 * ma20) / 40);
+        for (int day = 60; day > 0; day--) {
+            long close = day > 20 ? oldest : day > 5 ? middle : recent;
+            state.closeDay(close, avgVolume);
+        }
+        state.resetEma(ma5, ma20, ma60);
+        indicators.set(symbolRegistry.register(stockCode), state);
+        return state;
+    }
+
+    /**
+     * 체결 반영 (샤드 스레드).
+     *
+     * @return 갱신된 지표, 시드되지 않은 종목이면 null
+     */
+    public RollingIndicators onTick(int symbolId, long price, long accVolume) {
+        if (symbolId == SymbolRegistry.NO_SYMBOL) {
+            return null;
+        }
+        var state = indicators.get(symbolId);
+        if (state != null) {
+            state.onTick(price, accVolume);
+        }
+        return state;
+    }
+
+    /**
+     * 종목 지표 조회.
+     *
+     * @return 지표, 시드되지 않은 종목이면 null
+     */
+    public RollingIndicators get(String stockCode) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        return symbolId == SymbolRegistry.NO_SYMBOL ? null : indicators.get(symbolId);
+    }
+
+    /**
+     * 장 마감: 모든 종목의 오늘 봉을 완료된 일봉으로 편입.
+     * 시세 수신이 끝난 뒤 호출한다.
+     */
+    public void rollover() {
+        int rolled = 0;
+        for (int i = 0; i < indicators.length(); i++) {
+            var state = indicators.get(i);
+            if (state != null) {
+                state.rollover();
+                rolled++;
+            }
+        }
+        log.info("[Indicator] 일봉 편입 완료: {}종목", rolled);
+    }
+}
@@ -39,8 +39,11 @@ public class NanoBananaCalculator {
         // 편차가 작을수록 수렴도가 높음 (5% 이내면 완전 수렴)
         double convergence = Math.max(0, 1 - (avgDeviation * 20));
 
-        log.debug("[NanoBanana] 수렴도 계산: MA5={}, MA20={}, MA60={} → {}",
-                ma5, ma20, ma60, convergence);
+        // 체결마다 호출되므로 박싱/varargs 생성을 피하도록 레벨 확인 후 로깅
+        if (log.isDebugEnabled()) {
+            log.debug("[NanoBanana] 수렴도 계산: MA5={}, MA20={}, MA60={} → {}",
+                    ma5, ma20, ma60, convergence);
+        }
 
         return convergence;
     }
@@ -0,0 +1,34 @@
+package com.kairos.trading.domain.technical.service;
+
+/**
+ * NanoBanana 스크리닝 입력/출력 컬럼 (struct-of-arrays, 종목 ID 인덱스).
+ */
+final class NanoBananaColumns {
+
+    // 입력
+    final double[] ma5;
+    final double[] ma20;
+    final double[] ma60;
+    final double[] todayVolume;
+    final double[] avgVolume;
+
+    // 출력 (스캔 스레드 전용)
+    final double[] convergence;
+    final double[] volumeRatio;
+    final double[] score;
+
+    NanoBananaColumns(int capacity) {
+        ma5 = new double[capacity];
+        ma20 = new double[capacity];
+        ma60 = new double[capacity];
+        todayVolume = new double[capacity];
+        avgVolume = new double[capacity];
+        convergence = new double[capacity];
+        volumeRatio = new double[capacity];
+        score = new double[capacity];
+    }
+
+    int capacity() {
+        return ma5.length;
+    }
+}
@@ -0,0 +1,42 @@
+package com.kairos.trading.domain.technical.service;
+
+/**
+ * NanoBanana 일괄 점수 계산 커널.
+ *
+ * 종목마다 {@link NanoBananaCalculator}와 같은 조건(수렴도 0.7 이상, 거래량 2배 이상, 정배열)을 판정하고
+ * 통과 종목의 점수(수렴도 × 거래량 비율)를, 미통과 종목은 0을 기록한다.
+ */
+interface NanoBananaKernel {
+
+    double MIN_CONVERGENCE = 0.7;
+    double MIN_VOLUME_RATIO = 2.0;
+
+    /**
+     * [from, to) 구간 점수 계산.
+     */
+    void score(NanoBananaColumns columns, int from, int to);
+
+    /**
+     * 스칼라 구현 (Vector API가 없을 때, 벡터 구현의 나머지 구간).
+     */
+    NanoBananaKernel SCALAR = (c, from, to) -> {
+        for (int i = from; i < to; i++) {
+            double ma5 = c.ma5[i];
+            double ma20 = c.ma20[i];
+            double ma60 = c.ma60[i];
+            double convergence = 0.0;
+            if (ma60 > 0) {
+                double avg = (ma5 + ma20 + ma60) / 3.0;
+                double deviation = (Math.abs(ma5 - avg) + Math.abs(ma20 - avg) + Math.abs(ma60 - avg)) / (3.0 * avg);
+                convergence = Math.max(0.0, 1.0 - deviation * 20);
+            }
+            double avgVolume = c.avgVolume[i];
+            double ratio = avgVolume > 0 ? c.todayVolume[i] / avgVolume : 0.0;
+            boolean pass = ma5 > ma20 && ma20 > ma60
+                    && convergence >= MIN_CONVERGENCE && ratio >= MIN_VOLUME_RATIO;
+            c.convergence[i] = convergence;
+            c.volumeRatio[i] = ratio;
+            c.score[i] = pass ? convergence * ratio : 0.0;
+        }
+    };
+}
@@ -0,0 +1,260 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.technical.dto.ScreenerHit;
+import com.kairos.trading.domain.technical.store.CandleFile;
+import com.kairos.trading.domain.technical.store.DailyCandleStore;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전 종목 NanoBanana 일괄 스크리너.
+ *
+ * KOSPI+KOSDAQ 전 종목의 MA5/20/60, 당일 거래량, 평균 거래량을 종목 ID 인덱스의 컬럼 배열로 보관하고,
+ * 매 스캔마다 전 종목을 한 번에 점수화해 상위 N개를 고른다.
+ * - Vector API(jdk.incubator.vector) 모듈이 있으면 SIMD 커널, 없으면 스칼라 커널을 ForkJoin으로 코어 분할
+ * - 입력 갱신은 종목별 샤드 스레드, 스캔은 스케줄러 스레드 (한 종목 값이 섞여 읽혀도 다음 스캔에서 바로잡힌다)
+ * - 장전에는 로컬 일봉 저장소({@link DailyCandleStore})의 전 종목을 등록해 직전 거래일 기준 값을 채워 두고,
+ *   장중 체결이 들어오는 종목은 실시간 값으로 덮어쓴다.
+ */
+@Slf4j
+@Component
+public class NanoBananaScreener {
+
+    // 코어당 최소 분할 크기 (이보다 작으면 분할 비용이 더 크다)
+    private static final int SPLIT_THRESHOLD = 1024;
+
+    // 일봉 시드 기준 (MA60 계산에 필요한 최소 일봉 수, 평균 거래량 일수)
+    private static final int SEED_MIN_DAYS = 60;
+    private static final int VOLUME_DAYS = 20;
+
+    private final SymbolRegistry symbolRegistry;
+    private final DailyCandleStore candleStore;
+    private final int topN;
+    private final NanoBananaKernel kernel;
+    private final boolean vectorized;
+
+    private NanoBananaColumns columns;
+
+    // 직전 스캔 결과 (스캔마다 교체)
+    private volatile List<ScreenerHit> latest = List.of();
+
+    public NanoBananaScreener(SymbolRegistry symbolRegistry, DailyCandleStore candleStore,
+            @Value("${kairos.screener.top-n:20}") int topN) {
+        this.symbolRegistry = symbolRegistry;
+        this.candleStore = candleStore;
+        this.topN = topN;
+        this.kernel = VectorKernelHolder.create();
+        this.vectorized = kernel != NanoBananaKernel.SCALAR;
+    }
+
+    @PostConstruct
+    public void init() {
+        columns = new NanoBananaColumns(symbolRegistry.capacity());
+        log.info("[Screener] NanoBanana 스크리너 초기화 ({}종목, {})",
+                columns.capacity(), vectorized ? "Vector API" : "ForkJoin 스칼라");
+    }
+
+    /**
+     * 종목 지표 갱신 (샤드 스레드, 할당 없음).
+     */
+    public void update(int symbolId, double ma5, double ma20, double ma60, long todayVolume, long avgVolume) {
+        if (symbolId == SymbolRegistry.NO_SYMBOL) {
+            return;
+        }
+        var c = columns;
+        c.ma5[symbolId] = ma5;
+        c.ma20[symbolId] = ma20;
+        c.ma60[symbolId] = ma60;
+        c.todayVolume[symbolId] = todayVolume;
+        c.avgVolume[symbolId] = avgVolume;
+    }
+
+    /**
+     * 일봉 저장소의 전 종목을 등록하고 직전 거래일 기준 값으로 시드 (장전).
+     * 레지스트리가 가득 차면 거기서 멈춘다.
+     *
+     * @return 시드한 종목 수
+     */
+    public int seedUniverse() {
+        var stockCodes = candleStore.stockCodes();
+        int seeded = 0;
+        for (String stockCode : stockCodes) {
+            int symbolId;
+            try {
+                symbolId = symbolRegistry.register(stockCode);
+            } catch (IllegalStateException e) {
+                log.warn("[Screener] 종목 레지스트리 상한 도달 → 시드 중단: {}", e.getMessage());
+                break;
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            var candles = candleStore.get(stockCode);
+            if (candles != null && seed(symbolId, candles)) {
+                seeded++;
+            }
+        }
+        log.info("[Screener] 일봉 저장소 시드 완료: {}/{}종목", seeded, stockCodes.size());
+        return seeded;
+    }
+
+    /**
+     * 로컬 일봉으로 종목 지표 시드 (장전).
+     * 마지막 완료 일봉을 당일로 보고 MA5/20/60은 마지막 일봉까지, 평균 거래량은 그 전 {@value #VOLUME_DAYS}일로 계산한다.
+     *
+     * @return 일봉이 {@value #SEED_MIN_DAYS}일 미만이라 시드하지 못하면 false
+     */
+    public boolean seed(int symbolId, CandleFile candles) {
+        if (symbolId == SymbolRegistry.NO_SYMBOL) {
+            return false;
+        }
+        LongBuffer closes = candles.closes();
+        LongBuffer volumes = candles.volumes();
+        int size = Math.min(closes.limit(), volumes.limit());
+        if (size < SEED_MIN_DAYS) {
+            return false;
+        }
+        int last = size - 1;
+        int days = Math.min(VOLUME_DAYS, last);
+        long volumeSum = 0;
+        for (int i = last - days; i < last; i++) {
+            volumeSum += volumes.get(i);
+        }
+        update(symbolId, average(closes, size, 5), average(closes, size, 20), average(closes, size, SEED_MIN_DAYS),
+                volumes.get(last), volumeSum / days);
+        return true;
+    }
+
+    /**
+     * 주기적 전 종목 스캔.
+     */
+    @Scheduled(fixedDelayString = "${kairos.screener.interval-ms:1000}")
+    public void scheduledScan() {
+        long start = System.nanoTime();
+        var hits = scan(topN);
+        if (!hits.isEmpty() && log.isDebugEnabled()) {
+            log.debug("[Screener] 스캔 완료: {}종목 중 {}개 감지 ({}µs), 1위 {}",
+                    symbolRegistry.size(), hits.size(),
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), hits.getFirst());
+        }
+    }
+
+    /**
+     * 전 종목 점수화 후 상위 N개 (점수 내림차순).
+     */
+    public synchronized List<ScreenerHit> scan(int n) {
+        var c = columns;
+        int size = symbolRegistry.size();
+        if (size >= 2 * SPLIT_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new ScoreTask(c, 0, size));
+        } else {
+            kernel.score(c, 0, size);
+        }
+        var hits = rank(c, size, n);
+        latest = hits;
+        return hits;
+    }
+
+    /**
+     * 직전 스캔 결과.
+     */
+    public List<ScreenerHit> getLatest() {
+        return latest;
+    }
+
+    private static double average(LongBuffer closes, int size, int days) {
+        long sum = 0;
+        for (int i = size - days; i < size; i++) {
+            sum += closes.get(i);
+        }
+        return (double) sum / days;
+    }
+
+    /**
+     * 점수 상위 N개 선택 (통과 종목만, 삽입 정렬 - N은 작다). N이 0 이하면 빈 목록.
+     */
+    private List<ScreenerHit> rank(NanoBananaColumns c, int size, int n) {
+        if (n <= 0) {
+            return List.of();
+        }
+        int[] top = new int[n];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double score = c.score[i];
+            if (score <= 0 || (count == n && score <= c.score[top[count - 1]])) {
+                continue;
+            }
+            int pos = count < n ? count++ : n - 1;
+            while (pos > 0 && c.score[top[pos - 1]] < score) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = i;
+        }
+        var hits = new ArrayList<ScreenerHit>(count);
+        for (int k = 0; k < count; k++) {
+            int i = top[k];
+            hits.add(new ScreenerHit(symbolRegistry.codeOf(i), c.convergence[i], c.volumeRatio[i], c.score[i]));
+        }
+        return List.copyOf(hits);
+    }
+
+    /**
+     * 구간을 반으로 나눠 코어별로 점수 계산.
+     */
+    private final class ScoreTask extends RecursiveAction {
+        private final NanoBananaColumns c;
+        private final int from;
+        private final int to;
+
+        ScoreTask(NanoBananaColumns c, int from, int to) {
+            this.c = c;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                kernel.score(c, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(c, from, mid), new ScoreTask(c, mid, to));
+        }
+    }
+
+    /**
+     * Vector API 커널 생성.
+     *
+     * 커널은 incubator 모듈로 따로 컴파일되는 vector 소스셋(src/vector/java)에 있어 이름으로 로드하고,
+     * 런타임에 모듈이나 클래스가 없으면 스칼라 커널을 쓴다.
+     */
+    private static final class VectorKernelHolder {
+        private static final String VECTOR_KERNEL =
+                "com.kairos.trading.domain.technical.service.VectorizedNanoBananaKernel";
+
+        static NanoBananaKernel create() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+                return NanoBananaKernel.SCALAR;
+            }
+            try {
+                var constructor = Class.forName(VECTOR_KERNEL).getDeclaredConstructor();
+                return (NanoBananaKernel) constructor.newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("[Screener] Vector API 커널 로드 실패 → 스칼라 커널 사용: {}", e.toString());
+                return NanoBananaKernel.SCALAR;
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.domain.technical.indicator.AverageTrueRange;
+import com.kairos.trading.domain.technical.indicator.BollingerBands;
+import com.kairos.trading.domain.technical.indicator.OnBalanceVolume;
+import com.kairos.trading.domain.technical.indicator.RelativeStrengthIndex;
+import com.kairos.trading.domain.technical.indicator.VolumeWeightedAveragePrice;
+
+/**
+ * 종목별 증분 이평선 상태.
+ *
+ * 완료된 일봉 종가/거래량을 링 버퍼에 보관하고 구간 합계를 유지한다.
+ * 장중 지표는 오늘의 미완성 봉(현재가)을 포함해 조회 시점에 O(1)로 계산한다 (첫 체결 전에는 완료된 일봉 기준).
+ * - MA(n) = (직전 n-1일 종가 합 + 현재가) / n
+ * - EMA(n) = 전일 EMA + α × (현재가 - 전일 EMA)
+ * - 평균 거래량 = 직전 20일 거래량 평균 (오늘 누적 거래량과 비교용이므로 오늘은 제외)
+ * - ATR(14), RSI(14), 볼린저(20, 2σ), OBV는 일봉 단위, VWAP은 당일 체결 단위
+ *
+ * 쓰기는 종목이 배정된 샤드 스레드 하나만 한다. 다른 스레드의 조회는 직전 체결 기준 근사값이다.
+ */
+public final class RollingIndicators {
+
+    private static final int CLOSE_WINDOW = 64;
+    private static final int VOLUME_WINDOW = 20;
+
+    private final String stockName;
+
+    // 완료된 일봉 종가 (최근 CLOSE_WINDOW일)
+    private final long[] closes = new long[CLOSE_WINDOW];
+    private int closeCount;
+    private int closeHead;
+
+    // 직전 4/19/59일 종가 합 (오늘 봉과 합쳐 MA5/20/60)
+    private long sum4;
+    private long sum19;
+    private long sum59;
+
+    // 전일까지의 EMA
+    private double ema5;
+    private double ema20;
+    private double ema60;
+
+    // 완료된 일봉 거래량 (최근 VOLUME_WINDOW일)
+    private final long[] volumes = new long[VOLUME_WINDOW];
+    private int volumeCount;
+    private int volumeHead;
+    private long volumeSum;
+
+    // 일봉 보조 지표
+    private final AverageTrueRange atr = new AverageTrueRange(14);
+    private final RelativeStrengthIndex rsi = new RelativeStrengthIndex(14);
+    private final BollingerBands bollinger = new BollingerBands(20, 2.0);
+    private final OnBalanceVolume obv = new OnBalanceVolume();
+    private final VolumeWeightedAveragePrice vwap = new VolumeWeightedAveragePrice();
+
+    // 오늘 미완성 봉 (체결 전에는 전일 종가)
+    private long price;
+    private long high;
+    private long low;
+    private long accVolume;
+    private boolean ticked;
+
+    RollingIndicators(String stockName) {
+        this.stockName = stockName;
+    }
+
+    /**
+     * 완료된 일봉 추가 (오래된 순서로 호출, 고가/저가 없음).
+     */
+    void closeDay(long close, long volume) {
+        closeDay(close, close, close, volume);
+    }
+
+    /**
+     * 완료된 일봉 추가 (오래된 순서로 호출).
+     */
+    void closeDay(long high, long low, long close, long volume) {
+        atr.onBar(high, low, close, volume);
+        rsi.onBar(high, low, close, volume);
+        bollinger.onBar(high, low, close, volume);
+        obv.onBar(high, low, close, volume);
+        vwap.reset();
+
+        sum4 += close - evicted(4);
+        sum19 += close - evicted(19);
+        sum59 += close - evicted(59);
+        closeHead = (closeHead + 1) % CLOSE_WINDOW;
+        closes[closeHead] = close;
+
+        if (closeCount == 0) {
+            ema5 = close;
+            ema20 = close;
+            ema60 = close;
+        } else {
+            ema5 = ema(ema5, close, 5);
+            ema20 = ema(ema20, close, 20);
+            ema60 = ema(ema60, close, 60);
+        }
+        closeCount = Math.min(closeCount + 1, CLOSE_WINDOW);
+
+        if (volumeCount == VOLUME_WINDOW) {
+            volumeSum -= volumes[(volumeHead + 1) % VOLUME_WINDOW];
+        } else {
+            volumeCount++;
+        }
+        volumeHead = (volumeHead + 1) % VOLUME_WINDOW;
+        volumes[volumeHead] = volume;
+        volumeSum += volume;
+
+        price = close;
+        accVolume = 0;
+        ticked = false;
+    }
+
+    /**
+     * 전일 EMA 덮어쓰기 (이평선 값으로 시드한 경우).
+     */
+    void resetEma(double ema5, double ema20, double ema60) {
+        this.ema5 = ema5;
+        this.ema20 = ema20;
+        this.ema60 = ema60;
+    }
+
+    /**
+     * 체결 반영 (오늘 봉 갱신).
+     */
+    void onTick(long price, long accVolume) {
+        if (!ticked) {
+            high = price;
+            low = price;
+        } else if (price > high) {
+            high = price;
+        } else if (price < low) {
+            low = price;
+        }
+        if (accVolume > this.accVolume) {
+            vwap.onTrade(price, accVolume - this.accVolume);
+            this.accVolume = accVolume;
+        }
+        this.price = price;
+        this.ticked = true;
+    }
+
+    /**
+     * 장 마감: 오늘 봉을 완료된 일봉으로 편입.
+     */
+    void rollover() {
+        if (ticked) {
+            closeDay(high, low, price, accVolume);
+        } else {
+            closeDay(price, 0L);
+        }
+    }
+
+    public String stockName() {
+        return stockName;
+    }
+
+    public long price() {
+        return price;
+    }
+
+    public long accVolume() {
+        return accVolume;
+    }
+
+    public double ma5() {
+        return average(sum4, 4);
+    }
+
+    public double ma20() {
+        return average(sum19, 19);
+    }
+
+    public double ma60() {
+        return average(sum59, 59);
+    }
+
+    public double ema5() {
+        return liveEma(ema5, 5);
+    }
+
+    public double ema20() {
+        return liveEma(ema20, 20);
+    }
+
+    public double ema60() {
+        return liveEma(ema60, 60);
+    }
+
+    public AverageTrueRange atr() {
+        return atr;
+    }
+
+    public RelativeStrengthIndex rsi() {
+        return rsi;
+    }
+
+    public BollingerBands bollinger() {
+        return bollinger;
+    }
+
+    public OnBalanceVolume obv() {
+        return obv;
+    }
+
+    /**
+     * 당일 VWAP (체결 단위 누적).
+     */
+    public VolumeWeightedAveragePrice vwap() {
+        return vwap;
+    }
+
+    /**
+     * 진행 중 봉을 포함한 ATR (체결 전이면 확정값).
+     */
+    public double liveAtr() {
+        return ticked ? atr.valueAt(high, low) : atr.value();
+    }
+
+    /**
+     * 진행 중 봉을 포함한 RSI (체결 전이면 확정값).
+     */
+    public double liveRsi() {
+        return ticked ? rsi.valueAt(price) : rsi.value();
+    }
+
+    /**
+     * 직전 20일 평균 거래량.
+     */
+    public long avgVolume() {
+        return volumeCount == 0 ? 0L : volumeSum / volumeCount;
+    }
+
+    /**
+     * 전일 종가 (시드 전이면 0).
+     */
+    public long previousClose() {
+        return closeCount == 0 ? 0L : closeAt(0);
+    }
+
+    /**
+     * 시드된 완료 일봉 수 (최대 {@value #CLOSE_WINDOW}).
+     */
+    public int closeCount() {
+        return closeCount;
+    }
+
+    private double average(long priorSum, int priorDays) {
+        if (ticked) {
+            return (double) (priorSum + price) / (Math.min(priorDays, closeCount) + 1);
+        }
+        if (closeCount == 0) {
+            return 0.0;
+        }
+        // 체결 전: 완료된 일봉 n일 평균 (직전 n-1일 합 + n일 전 종가)
+        long oldest = closeCount > priorDays ? closeAt(priorDays) : 0L;
+        return (double) (priorSum + oldest) / Math.min(priorDays + 1, closeCount);
+    }
+
+    private double liveEma(double previous, int period) {
+        if (!ticked) {
+            return previous;
+        }
+        return closeCount == 0 ? price : ema(previous, price, period);
+    }
+
+    /**
+     * 최근 종가 (0 = 가장 최근 완료 일봉).
+     */
+    private long closeAt(int daysAgo) {
+        return closes[Math.floorMod(closeHead - daysAgo, CLOSE_WINDOW)];
+    }
+
+    /**
+     * 새 종가 추가 시 window일 구간에서 빠지는 종가 (구간이 아직 차지 않았으면 0).
+     */
+    private long evicted(int window) {
+        if (closeCount < window) {
+            return 0L;
+        }
+        return closeAt(window - 1);
+    }
+
+    private static double ema(double previous, double value, int period) {
+        return previous + 2.0 / (period + 1) * (value - previous);
+    }
+}
@@ -0,0 +1,162 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 종목별 NanoBanana 신호 상태 머신 (상승 에지 1회 발화 + 쿨다운).
+ *
+ * 패턴 조건은 돌파 구간 동안 체결마다 참이므로, 조건이 거짓 → 참으로 바뀌는 순간에만 한 번 발화한다.
+ * - IDLE/ARMED: 조건 참 → FIRED (발화)
+ * - FIRED: 조건 유지 중에는 억제, 조건 해제 → 쿨다운 남았으면 COOLDOWN, 지났으면 ARMED
+ * - COOLDOWN: 조건 참이면 억제, 쿨다운이 지난 뒤 조건이 거짓이면 ARMED (재무장)
+ *
+ * 상태는 종목 ID로 인덱싱하며, 평가는 종목이 배정된 디스패처 샤드 스레드에서만 일어난다 (종목당 쓰기 스레드 하나).
+ */
+@Slf4j
+@Component
+public class SignalStateMachine {
+
+    public enum State {
+        /** 장 시작 후 아직 발화 이력 없음 */
+        IDLE,
+        /** 쿨다운 후 조건이 해제되어 다시 발화 가능 */
+        ARMED,
+        /** 발화 후 조건 유지 중 */
+        FIRED,
+        /** 조건 해제 후 쿨다운 대기 */
+        COOLDOWN
+    }
+
+    private static final State[] STATES = State.values();
+
+    private final SymbolRegistry symbolRegistry;
+    private final long cooldownNanos;
+
+    // 종목 ID → 상태 (ordinal), 쿨다운 만료 시각 (nanoTime), 발화/억제 건수
+    private AtomicIntegerArray states;
+    private AtomicLongArray cooldownUntil;
+    private AtomicLongArray firedBySymbol;
+    private AtomicLongArray suppressedBySymbol;
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    public SignalStateMachine(SymbolRegistry symbolRegistry,
+            @Value("${kairos.signal.cooldown-seconds:300}") long cooldownSeconds) {
+        this.symbolRegistry = symbolRegistry;
+        this.cooldownNanos = TimeUnit.SECONDS.toNanos(cooldownSeconds);
+    }
+
+    @PostConstruct
+    public void init() {
+        int capacity = symbolRegistry.capacity();
+        states = new AtomicIntegerArray(capacity);
+        cooldownUntil = new AtomicLongArray(capacity);
+        firedBySymbol = new AtomicLongArray(capacity);
+        suppressedBySymbol = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * 조건 평가 결과 반영 (체결마다 호출, 할당 없음).
+     *
+     * @param condition 현재 체결 기준 패턴 조건
+     * @param nowNanos  {@link System#nanoTime()}
+     * @return 이번 체결에서 신호를 발화해야 하면 true
+     */
+    public boolean evaluate(int symbolId, boolean condition, long nowNanos) {
+        if (symbolId < 0) {
+            return false;
+        }
+        State state = STATES[states.get(symbolId)];
+        switch (state) {
+            case IDLE, ARMED -> {
+                if (condition) {
+                    cooldownUntil.lazySet(symbolId, nowNanos + cooldownNanos);
+                    transition(symbolId, State.FIRED);
+                    firedBySymbol.lazySet(symbolId, firedBySymbol.get(symbolId) + 1);
+                    fired.increment();
+                    return true;
+                }
+            }
+            case FIRED -> {
+                if (condition) {
+                    suppress(symbolId);
+                } else {
+                    transition(symbolId, cooldownElapsed(symbolId, nowNanos) ? State.ARMED : State.COOLDOWN);
+                }
+            }
+            case COOLDOWN -> {
+                if (condition) {
+                    suppress(symbolId);
+                } else if (cooldownElapsed(symbolId, nowNanos)) {
+                    transition(symbolId, State.ARMED);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 전 종목 IDLE로 초기화 (장 마감 후 다음 거래일 준비).
+     */
+    public void reset() {
+        for (int i = 0; i < states.length(); i++) {
+            states.set(i, State.IDLE.ordinal());
+            cooldownUntil.set(i, 0);
+        }
+    }
+
+    public State stateOf(String stockCode) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        return symbolId < 0 ? State.IDLE : STATES[states.get(symbolId)];
+    }
+
+    /**
+     * 발화 건수 합계.
+     */
+    public long firedCount() {
+        return fired.sum();
+    }
+
+    /**
+     * 억제 건수 합계 (발화 이후 조건 유지·쿨다운 중 반복 감지).
+     */
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    public long firedCount(String stockCode) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        return symbolId < 0 ? 0 : firedBySymbol.get(symbolId);
+    }
+
+    public long suppressedCount(String stockCode) {
+        int symbolId = symbolRegistry.idOf(stockCode);
+        return symbolId < 0 ? 0 : suppressedBySymbol.get(symbolId);
+    }
+
+    private boolean cooldownElapsed(int symbolId, long nowNanos) {
+        return nowNanos - cooldownUntil.get(symbolId) >= 0;
+    }
+
+    private void suppress(int symbolId) {
+        suppressedBySymbol.lazySet(symbolId, suppressedBySymbol.get(symbolId) + 1);
+        suppressed.increment();
+    }
+
+    private void transition(int symbolId, State next) {
+        states.lazySet(symbolId, next.ordinal());
+        if (log.isDebugEnabled()) {
+            log.debug("[Signal] {} → {}", symbolRegistry.codeOf(symbolId), next);
+        }
+    }
+}
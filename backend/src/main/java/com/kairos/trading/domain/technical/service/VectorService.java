@@ -2,14 +2,19 @@ package com.kairos.trading.domain.technical.service;
 
 import com.kairos.trading.common.ai.AgentResponse;
 import com.kairos.trading.common.client.KiwoomClient;
+import com.kairos.trading.domain.technical.dto.BarColumns;
+import com.kairos.trading.domain.technical.dto.BarInterval;
+import com.kairos.trading.domain.technical.dto.MinuteChartResponse;
 import com.kairos.trading.domain.technical.dto.MovingAverage;
 import com.kairos.trading.domain.technical.dto.PriceTimeSeriesResponse;
 import com.kairos.trading.domain.technical.dto.TechnicalAnalysisDto;
 import com.kairos.trading.domain.technical.agent.VectorAiClient;
+import com.kairos.trading.domain.technical.store.DailyCandleStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.LongBuffer;
 import java.util.Map;
 
 /**
@@ -20,6 +25,7 @@ import java.util.Map;
  * 2. 호가창 분석 (허매수벽 감지)
  * 3. 정밀 진입가/목표가 산출
  * 4. 이동평균선(SMA) 데이터 계산 (Kiwoom API 연동)
+ * 5. 장중 분봉/일봉 조회 (실시간 체결 집계, API 호출 없음)
  */
 @Slf4j
 @Service
@@ -29,6 +35,8 @@ public class VectorService {
     private final VectorAiClient vectorAiClient;
     private final NanoBananaCalculator nanoBananaCalculator;
     private final KiwoomClient kiwoomClient;
+    private final BarAggregator barAggregator;
+    private final DailyCandleStore candleStore;
 
     /**
      * 차트 및 호가창을 AI로 분석한다.
@@ -111,9 +119,14 @@ public class VectorService {
 
     /**
      * 종목의 5일, 20일, 60일 단순이동평균(SMA)을 계산한다.
-     * Kiwoom API (ka10005)를 사용한다.
+     * 로컬 일봉 저장소에 60일 이상 있으면 API 호출 없이 계산하고, 없으면 Kiwoom API (ka10005)를 사용한다.
      */
     public MovingAverage calculateMovingAverages(String stockCode) {
+        var candles = candleStore.get(stockCode);
+        if (candles != null && candles.size() >= 60) {
+            var closes = candles.closes();
+            return new MovingAverage(averageOfLast(closes, 5), averageOfLast(closes, 20), averageOfLast(closes, 60));
+        }
         try {
             // TODO: 실제 토큰 관리 로직 적용 필요. 현재는 더미 토큰 사용.
             String dummyToken = "vector-agent-token";
@@ -137,6 +150,33 @@ public class VectorService {
         }
     }
 
+    /**
+     * 장중 분봉 조회 (ka10080 형식, 최신순).
+     * 실시간 체결로 집계한 봉이라 키움 API 호출 예산을 쓰지 않는다.
+     *
+     * @param tickScope 틱범위 (1/3/5/15분)
+     */
+    public MinuteChartResponse getIntradayChart(String stockCode, int tickScope, int maxBars) {
+        return barAggregator.minuteChart(stockCode, tickScope, maxBars);
+    }
+
+    /**
+     * 장중 봉 컬럼 조회 (오래된 순서, 진행 중 봉 포함).
+     *
+     * @return 봉, 체결이 없었던 종목이면 null
+     */
+    public BarColumns getBars(String stockCode, BarInterval interval, int maxBars) {
+        return barAggregator.bars(stockCode, interval, maxBars);
+    }
+
+    private static double averageOfLast(LongBuffer closes, int period) {
+        double sum = 0;
+        for (int i = closes.limit() - period; i < closes.limit(); i++) {
+            sum += closes.get(i);
+        }
+        return sum / period;
+    }
+
     private double calculateSma(java.util.List<PriceTimeSeriesResponse.TimeSeriesData> data, int period) {
         if (data.size() < period) {
             return 0.0;
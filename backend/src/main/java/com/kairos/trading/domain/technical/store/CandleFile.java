@@ -0,0 +1,265 @@
+package com.kairos.trading.domain.technical.store;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 종목 하나의 일봉 컬럼 파일 (메모리 매핑).
+ *
+ * 파일 구조 (little-endian):
+ * - 헤더 {@value #HEADER_SIZE}B: magic, version, capacity, count
+ * - 컬럼: date(int × capacity), open/high/low/close/volume(long × capacity) 순서로 연속 배치
+ *
+ * 일봉은 오래된 일자부터 이어 붙이며, 조회는 매핑된 버퍼를 그대로 읽는다 (복사 없음).
+ * count는 컬럼 값을 모두 쓴 뒤 마지막에 release로 기록하므로 읽는 쪽은 쓰다 만 봉을 보지 않는다.
+ * 쓰기 스레드는 하나(장전 동기화)를 전제로 하며, 용량이 차면 같은 파일을 두 배로 늘려 컬럼을 제자리에서 옮긴 뒤 다시 매핑한다.
+ * (매핑이 살아 있는 파일은 Windows에서 이동·교체할 수 없으므로 새 파일로 바꾸지 않는다.)
+ * 확장 중에는 count를 0으로 내려 두므로 읽는 쪽과 중간에 멈춘 파일은 빈 이력으로 보이며, 다음 동기화에서 다시 채운다.
+ * 컬럼 뷰는 매핑을 공유하므로 확장 전에 받은 뷰는 확장 후 다시 받아야 한다.
+ */
+public final class CandleFile implements AutoCloseable {
+
+    static final int MAGIC = 0x4C44434B; // "KCDL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int ROW_SIZE = Integer.BYTES + 5 * Long.BYTES;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** 컬럼 번호 (date 다음부터 long 컬럼) */
+    private static final int OPEN = 0;
+    private static final int HIGH = 1;
+    private static final int LOW = 2;
+    private static final int CLOSE = 3;
+    private static final int VOLUME = 4;
+
+    private final Path file;
+
+    // 현재 매핑 (용량 확장 시 통째로 교체되어 읽는 쪽은 버퍼와 용량을 함께 본다, 채널은 계속 같은 파일)
+    private volatile Mapping mapping;
+
+    private CandleFile(Path file, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.file = file;
+        this.mapping = new Mapping(channel, buffer, capacity);
+    }
+
+    /**
+     * 파일 열기. 없으면 초기 용량으로 생성한다.
+     */
+    public static CandleFile open(Path file, int initialCapacity) throws IOException {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("일봉 파일 용량은 양수여야 합니다: " + initialCapacity);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        boolean exists = Files.exists(file);
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (!exists || channel.size() == 0) {
+                MappedByteBuffer buffer = map(channel, initialCapacity);
+                buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(CAPACITY_OFFSET, initialCapacity);
+                INT.setRelease(buffer, COUNT_OFFSET, 0);
+                return new CandleFile(file, channel, buffer, initialCapacity);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("일봉 파일 형식이 아닙니다: " + file);
+            }
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            return new CandleFile(file, channel, map(channel, capacity), capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 일봉 수.
+     */
+    public int size() {
+        return snapshot().count();
+    }
+
+    /**
+     * 마지막 일자 (yyyyMMdd, 비어 있으면 0).
+     */
+    public int lastDate() {
+        int size = size();
+        return size == 0 ? 0 : date(size - 1);
+    }
+
+    public int date(int index) {
+        return snapshot().buffer().getInt(HEADER_SIZE + index * Integer.BYTES);
+    }
+
+    public long open(int index) {
+        return column(OPEN, index);
+    }
+
+    public long high(int index) {
+        return column(HIGH, index);
+    }
+
+    public long low(int index) {
+        return column(LOW, index);
+    }
+
+    public long close(int index) {
+        return column(CLOSE, index);
+    }
+
+    public long volume(int index) {
+        return column(VOLUME, index);
+    }
+
+    /**
+     * 일자 컬럼 읽기 전용 뷰 (매핑 버퍼 공유, 복사 없음).
+     */
+    public IntBuffer dates() {
+        Snapshot s = snapshot();
+        return slice(s.buffer(), HEADER_SIZE, s.count() * Integer.BYTES).asIntBuffer();
+    }
+
+    /**
+     * 종가 컬럼 읽기 전용 뷰 (매핑 버퍼 공유, 복사 없음).
+     */
+    public LongBuffer closes() {
+        return longColumn(CLOSE);
+    }
+
+    /**
+     * 거래량 컬럼 읽기 전용 뷰 (매핑 버퍼 공유, 복사 없음).
+     */
+    public LongBuffer volumes() {
+        return longColumn(VOLUME);
+    }
+
+    /**
+     * 일봉 추가 (쓰기 스레드). 마지막 일자 이하는 무시한다.
+     *
+     * @return 추가했으면 true
+     */
+    public synchronized boolean append(int date, long open, long high, long low, long close, long volume)
+            throws IOException {
+        Mapping m = mapping;
+        int size = (int) INT.getAcquire(m.buffer(), COUNT_OFFSET);
+        if (size > 0 && date <= m.buffer().getInt(HEADER_SIZE + (size - 1) * Integer.BYTES)) {
+            return false;
+        }
+        if (size == m.capacity()) {
+            m = grow(m, size, m.capacity() * 2);
+        }
+        MappedByteBuffer buffer = m.buffer();
+        buffer.putInt(HEADER_SIZE + size * Integer.BYTES, date);
+        buffer.putLong(offset(OPEN, size, m.capacity()), open);
+        buffer.putLong(offset(HIGH, size, m.capacity()), high);
+        buffer.putLong(offset(LOW, size, m.capacity()), low);
+        buffer.putLong(offset(CLOSE, size, m.capacity()), close);
+        buffer.putLong(offset(VOLUME, size, m.capacity()), volume);
+        INT.setRelease(buffer, COUNT_OFFSET, size + 1);
+        return true;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 디스크 반영.
+     */
+    public void force() {
+        mapping.buffer().force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        Mapping m = mapping;
+        try {
+            m.buffer().force();
+        } finally {
+            m.channel().close();
+        }
+    }
+
+    /**
+     * 같은 파일을 새 용량으로 늘려 다시 매핑하고, 컬럼을 새 위치로 옮긴다 (date 컬럼은 위치 그대로).
+     * 새 위치는 항상 기존 위치 이상이고 뒤 컬럼일수록 멀리 가므로 뒤 컬럼부터 옮기면 아직 안 옮긴 컬럼을 덮지 않는다.
+     */
+    private Mapping grow(Mapping current, int size, int newCapacity) throws IOException {
+        INT.setRelease(current.buffer(), COUNT_OFFSET, 0);
+
+        MappedByteBuffer buffer = map(current.channel(), newCapacity);
+        byte[] column = new byte[size * Long.BYTES];
+        for (int c = VOLUME; c >= OPEN; c--) {
+            buffer.get(offset(c, 0, current.capacity()), column);
+            buffer.put(offset(c, 0, newCapacity), column);
+        }
+        INT.setRelease(buffer, CAPACITY_OFFSET, newCapacity);
+        Mapping grown = new Mapping(current.channel(), buffer, newCapacity);
+        mapping = grown;
+
+        INT.setRelease(buffer, COUNT_OFFSET, size);
+        buffer.force();
+        return grown;
+    }
+
+    /**
+     * 읽기용 매핑과 count를 함께 확보한다. 헤더 용량이 매핑과 다르면 확장 직후이므로 새 매핑으로 다시 읽는다.
+     */
+    private Snapshot snapshot() {
+        while (true) {
+            Mapping m = mapping;
+            int count = (int) INT.getAcquire(m.buffer(), COUNT_OFFSET);
+            if ((int) INT.getAcquire(m.buffer(), CAPACITY_OFFSET) == m.capacity()) {
+                return new Snapshot(m.buffer(), m.capacity(), count);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private long column(int column, int index) {
+        Snapshot s = snapshot();
+        return s.buffer().getLong(offset(column, index, s.capacity()));
+    }
+
+    private LongBuffer longColumn(int column) {
+        Snapshot s = snapshot();
+        return slice(s.buffer(), offset(column, 0, s.capacity()), s.count() * Long.BYTES).asLongBuffer();
+    }
+
+    private static ByteBuffer slice(MappedByteBuffer buffer, int offset, int length) {
+        return buffer.slice(offset, length).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int offset(int column, int index, int capacity) {
+        return HEADER_SIZE + capacity * Integer.BYTES + (column * capacity + index) * Long.BYTES;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, int capacity) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + (long) capacity * ROW_SIZE);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private record Mapping(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+    }
+
+    private record Snapshot(MappedByteBuffer buffer, int capacity, int count) {
+    }
+}
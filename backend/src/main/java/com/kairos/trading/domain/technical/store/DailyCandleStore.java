@@ -0,0 +1,136 @@
+package com.kairos.trading.domain.technical.store;
+
+import com.kairos.trading.domain.technical.dto.DailyChartResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 일봉 저장소.
+ *
+ * 종목마다 {@code <directory>/<종목코드>.candles} 컬럼 파일({@link CandleFile})을 메모리 매핑해 보관한다.
+ * 재시작 시에는 파일을 다시 매핑하기만 하므로 API 호출 없이 전체 이력을 바로 조회할 수 있다.
+ */
+@Slf4j
+@Component
+public class DailyCandleStore {
+
+    private static final String SUFFIX = ".candles";
+
+    private final Path directory;
+    private final int initialCapacity;
+
+    // 종목코드 → 열린 파일 (처음 조회/기록할 때 매핑)
+    private final Map<String, CandleFile> files = new ConcurrentHashMap<>();
+
+    public DailyCandleStore(
+            @Value("${kairos.candles.directory:data/candles}") String directory,
+            @Value("${kairos.candles.initial-capacity:1024}") int initialCapacity) {
+        this.directory = Path.of(directory);
+        this.initialCapacity = initialCapacity;
+    }
+
+    /**
+     * 종목 일봉 조회.
+     *
+     * @return 일봉 파일, 저장된 이력이 없으면 null
+     */
+    public CandleFile get(String stockCode) {
+        CandleFile file = files.get(stockCode);
+        if (file != null || !Files.exists(pathOf(stockCode))) {
+            return file;
+        }
+        return open(stockCode);
+    }
+
+    /**
+     * 일봉 파일이 있는 전 종목코드 (오름차순).
+     */
+    public List<String> stockCodes() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (var paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .map(name -> name.substring(0, name.length() - SUFFIX.length()))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("일봉 디렉터리 조회 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 마지막 저장 일자 (yyyyMMdd, 이력이 없으면 0).
+     */
+    public int lastDate(String stockCode) {
+        CandleFile file = get(stockCode);
+        return file == null ? 0 : file.lastDate();
+    }
+
+    /**
+     * 완료된 일봉 추가. 마지막 저장 일자 이후, before 이전 일자만 오래된 순서로 이어 붙인다.
+     *
+     * @param before 제외 기준 일자 (yyyyMMdd, 보통 오늘 - 미완성 봉)
+     * @return 추가된 일봉 수
+     */
+    public int append(String stockCode, List<DailyChartResponse.DailyCandle> candles, int before) throws IOException {
+        CandleFile file = open(stockCode);
+        int last = file.lastDate();
+        var missing = candles.stream()
+                .filter(c -> {
+                    int date = Integer.parseInt(c.date());
+                    return date > last && date < before;
+                })
+                .sorted(Comparator.comparing(DailyChartResponse.DailyCandle::date))
+                .toList();
+        int appended = 0;
+        for (var c : missing) {
+            if (file.append(Integer.parseInt(c.date()),
+                    c.openPrice(), c.highPrice(), c.lowPrice(), c.closePrice(), c.volume())) {
+                appended++;
+            }
+        }
+        if (appended > 0) {
+            file.force();
+        }
+        return appended;
+    }
+
+    @PreDestroy
+    public void close() {
+        files.forEach((stockCode, file) -> {
+            try {
+                file.close();
+            } catch (IOException e) {
+                log.warn("[CandleStore] 일봉 파일 닫기 실패: {}", file.getFile(), e);
+            }
+        });
+        files.clear();
+    }
+
+    private CandleFile open(String stockCode) {
+        return files.computeIfAbsent(stockCode, code -> {
+            try {
+                return CandleFile.open(pathOf(code), initialCapacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException("일봉 파일 열기 실패: " + code, e);
+            }
+        });
+    }
+
+    private Path pathOf(String stockCode) {
+        return directory.resolve(stockCode + SUFFIX);
+    }
+}
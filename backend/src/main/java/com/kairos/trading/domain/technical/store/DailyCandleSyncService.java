@@ -0,0 +1,78 @@
+package com.kairos.trading.domain.technical.store;
+
+import com.kairos.trading.common.client.KiwoomClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+
+/**
+ * 장전 일봉 증분 동기화.
+ *
+ * 저장소의 마지막 일자가 직전 거래일 이상인 종목은 API를 호출하지 않고,
+ * 부족한 종목만 ka10081을 한 번 조회해 빠진 일자만 이어 붙인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyCandleSyncService {
+
+    private final KiwoomClient kiwoomClient;
+    private final DailyCandleStore candleStore;
+
+    /**
+     * 종목 일봉 동기화. 실패한 종목은 건너뛴다.
+     */
+    public SyncReport sync(Collection<String> stockCodes, LocalDate today, String token) {
+        String baseDate = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        int before = Integer.parseInt(baseDate);
+        int previousTradingDay = Integer.parseInt(previousWeekday(today).format(DateTimeFormatter.BASIC_ISO_DATE));
+
+        int fetched = 0;
+        int appended = 0;
+        int failed = 0;
+        for (String stockCode : stockCodes) {
+            if (candleStore.lastDate(stockCode) >= previousTradingDay) {
+                continue;
+            }
+            try {
+                var chart = kiwoomClient.getDailyChart(stockCode, baseDate, true, token);
+                fetched++;
+                appended += candleStore.append(stockCode, chart.candles(), before);
+            } catch (Exception e) {
+                failed++;
+                log.warn("[CandleSync] 일봉 동기화 실패: {} - {}", stockCode, e.getMessage());
+            }
+        }
+        var report = new SyncReport(stockCodes.size(), fetched, appended, failed);
+        log.info("[CandleSync] 일봉 동기화 완료: {}종목 중 {}종목 조회, {}일봉 추가, 실패 {}",
+                report.symbols(), report.fetched(), report.appended(), report.failed());
+        return report;
+    }
+
+    /**
+     * 직전 평일 (공휴일은 고려하지 않으므로 연휴 다음 날에는 한 번 더 조회될 수 있다).
+     */
+    static LocalDate previousWeekday(LocalDate today) {
+        LocalDate day = today.minusDays(1);
+        while (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            day = day.minusDays(1);
+        }
+        return day;
+    }
+
+    /**
+     * 동기화 결과.
+     *
+     * @param symbols  대상 종목 수
+     * @param fetched  API를 조회한 종목 수 (나머지는 최신 상태)
+     * @param appended 추가된 일봉 수
+     * @param failed   실패한 종목 수
+     */
+    public record SyncReport(int symbols, int fetched, int appended, int failed) {
+    }
+}
@@ -0,0 +1,198 @@
+package com.kairos.trading.common.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AgentResultCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-02T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private AgentResultStore axiomStore;
+    private AgentResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        axiomStore = mock(AgentResultStore.class);
+        when(axiomStore.agentName()).thenReturn("Axiom");
+        when(axiomStore.findLatest(any())).thenReturn(Optional.empty());
+        cache = newCache(100);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 에이전트를 다시 호출하지 않고, TTL이 지나면 다시 호출한다")
+    void getOrCompute_reusesUntilTtl() {
+        var first = cache.getOrCompute("Axiom", "005930", "삼성전자", () -> report("Axiom", 80));
+        var second = cache.getOrCompute("Axiom", "005930", "삼성전자", () -> report("Axiom", 10));
+
+        assertThat(second).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+        verify(axiomStore).save(eq("005930"), eq("삼성전자"), eq(first));
+
+        clock.advance(Duration.ofMinutes(61));
+        var third = cache.getOrCompute("Axiom", "005930", "삼성전자", () -> report("Axiom", 10));
+
+        assertThat(third.score()).isEqualTo(10);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 TTL 안의 DB 결과를 재사용하고 메모리에 올린다")
+    void getOrCompute_usesStoreTier() {
+        var stored = new AgentResponse("Axiom", 75, "BUY", "저장된 결과", Map.of("source", "db"));
+        when(axiomStore.findLatest("000660")).thenReturn(Optional.of(new AgentResultStore.StoredResult(
+                stored, LocalDateTime.now(clock).minusMinutes(30))));
+
+        var result = cache.getOrCompute("Axiom", "000660", "SK하이닉스", () -> report("Axiom", 10));
+        cache.getOrCompute("Axiom", "000660", "SK하이닉스", () -> report("Axiom", 10));
+
+        assertThat(result).isSameAs(stored);
+        assertThat(calls.get()).isZero();
+        var stats = cache.getStats().get("Axiom");
+        assertThat(stats.storeHits()).isEqualTo(1);
+        assertThat(stats.memoryHits()).isEqualTo(1);
+
+        // 남은 TTL(30분)이 지나면 다시 호출
+        clock.advance(Duration.ofMinutes(31));
+        when(axiomStore.findLatest("000660")).thenReturn(Optional.empty());
+        cache.getOrCompute("Axiom", "000660", "SK하이닉스", () -> report("Axiom", 10));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 DB 결과는 쓰지 않는다")
+    void getOrCompute_ignoresStaleStoreResult() {
+        when(axiomStore.findLatest("000660")).thenReturn(Optional.of(new AgentResultStore.StoredResult(
+                new AgentResponse("Axiom", 75, "BUY", "저장된 결과", Map.of()),
+                LocalDateTime.now(clock).minusHours(2))));
+
+        var result = cache.getOrCompute("Axiom", "000660", "SK하이닉스", () -> report("Axiom", 10));
+
+        assertThat(result.score()).isEqualTo(10);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오류 대체 응답은 캐시하거나 DB에 기록하지 않는다")
+    void getOrCompute_skipsErrorResponses() {
+        var error = new AgentResponse("Axiom", 50, "WATCH", "분석 오류", Map.of("error", "timeout"));
+
+        cache.getOrCompute("Axiom", "005930", "삼성전자", () -> count(error));
+        cache.getOrCompute("Axiom", "005930", "삼성전자", () -> count(error));
+
+        assertThat(calls.get()).isEqualTo(2);
+        verify(axiomStore, never()).save(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("TTL이 없는 에이전트는 캐시하지 않는다")
+    void getOrCompute_bypassesAgentsWithoutTtl() {
+        cache.getOrCompute("Sonar", "005930", "삼성전자", () -> report("Sonar", 60));
+        cache.getOrCompute("Sonar", "005930", "삼성전자", () -> report("Sonar", 60));
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.getStats()).doesNotContainKey("Sonar");
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 안 쓴 항목을 제거한다")
+    void getOrCompute_evictsLeastRecentlyUsed() {
+        cache = newCache(2);
+        cache.getOrCompute("Axiom", "A", "A", () -> report("Axiom", 1));
+        cache.getOrCompute("Axiom", "B", "B", () -> report("Axiom", 2));
+        cache.getOrCompute("Axiom", "A", "A", () -> report("Axiom", 1)); // A 최근 사용
+        cache.getOrCompute("Axiom", "C", "C", () -> report("Axiom", 3)); // B 제거
+
+        assertThat(cache.size()).isEqualTo(2);
+        calls.set(0);
+        cache.getOrCompute("Axiom", "A", "A", () -> report("Axiom", 1));
+        cache.getOrCompute("Axiom", "B", "B", () -> report("Axiom", 2));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적중률과 절약 호출 비용을 메트릭으로 노출한다")
+    void metrics_exposeHitRatioAndSavings() {
+        cache.getOrCompute("Resonance", AgentResultCache.MARKET, AgentResultCache.MARKET,
+                () -> report("Resonance", 55));
+        cache.getOrCompute("Resonance", AgentResultCache.MARKET, AgentResultCache.MARKET,
+                () -> report("Resonance", 55));
+        cache.getOrCompute("Resonance", AgentResultCache.MARKET, AgentResultCache.MARKET,
+                () -> report("Resonance", 55));
+
+        assertThat(meterRegistry.get("kairos.agent.cache.hit.ratio").tag("agent", "Resonance").gauge().value())
+                .isCloseTo(2.0 / 3, offset(1e-9));
+        assertThat(meterRegistry.get("kairos.agent.cache.hits")
+                .tags("agent", "Resonance", "tier", "memory").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("kairos.agent.cache.saved.cost").tag("agent", "Resonance")
+                .functionCounter().count()).isEqualTo(2 * 3.5);
+        assertThat(meterRegistry.get("kairos.agent.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    private AgentResultCache newCache(int maxEntries) {
+        var environment = new MockEnvironment()
+                .withProperty("kairos.agent-cache.agents.axiom.ttl-minutes", "60")
+                .withProperty("kairos.agent-cache.agents.resonance.ttl-minutes", "30");
+        return new AgentResultCache(environment, meterRegistry, List.of(axiomStore), maxEntries, 3.5, clock);
+    }
+
+    private AgentResponse report(String agentName, int score) {
+        return count(new AgentResponse(agentName, score, "BUY", "테스트", Map.of()));
+    }
+
+    private AgentResponse count(AgentResponse response) {
+        calls.incrementAndGet();
+        return response;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
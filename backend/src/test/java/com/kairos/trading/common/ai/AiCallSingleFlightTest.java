@@ -0,0 +1,172 @@
+package com.kairos.trading.common.ai;
+
+import com.kairos.trading.domain.news.agent.SentinelAiClient;
+import com.kairos.trading.domain.news.dto.NewsAnalysisDto;
+import com.kairos.trading.domain.news.dto.NewsBatchAnalysisDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiCallSingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger llmCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private AiCallSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new AiCallSingleFlight(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 입력의 동시 호출은 LLM을 한 번만 부르고 모두 같은 결과를 받는다")
+    void concurrentIdenticalCalls_areCoalesced() throws Exception {
+        SentinelAiClient client = singleFlight.wrap(SentinelAiClient.class, sentinel(content -> {
+            llmCalls.incrementAndGet();
+            await();
+            return news(content);
+        }));
+
+        List<Future<NewsAnalysisDto>> results = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> client.analyze("삼성전자 수주 공시")));
+            waitUntil(() -> llmCalls.get() == 1);
+            results.add(executor.submit(() -> client.analyze("  삼성전자   수주 공시 ")));
+            results.add(executor.submit(() -> client.analyze("삼성전자 수주 공시")));
+            waitUntil(() -> singleFlight.coalescedCount() == 2);
+            release.countDown();
+        }
+
+        assertThat(llmCalls.get()).isEqualTo(1);
+        var first = results.get(0).get();
+        for (var result : results) {
+            assertThat(result.get()).isSameAs(first);
+        }
+        assertThat(singleFlight.getStats().get("Sentinel"))
+                .isEqualTo(new AiCallSingleFlight.CallStats(1, 2));
+        assertThat(meterRegistry.get("kairos.ai.singleflight.coalesced").tag("agent", "Sentinel")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("입력이 다르거나 이전 호출이 끝났으면 다시 LLM을 부른다")
+    void distinctOrSequentialCalls_areNotCoalesced() {
+        release.countDown();
+        SentinelAiClient client = singleFlight.wrap(SentinelAiClient.class, sentinel(content -> {
+            llmCalls.incrementAndGet();
+            return news(content);
+        }));
+
+        client.analyze("삼성전자 수주");
+        client.analyze("삼성전자 수주");
+        client.analyze("SK하이닉스 수주");
+
+        assertThat(llmCalls.get()).isEqualTo(3);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중인 호출이 실패하면 합류한 호출도 같은 예외를 받는다")
+    void failure_isSharedWithWaiters() throws Exception {
+        SentinelAiClient client = singleFlight.wrap(SentinelAiClient.class, sentinel(content -> {
+            llmCalls.incrementAndGet();
+            await();
+            throw new IllegalStateException("Gemini 429");
+        }));
+
+        Future<NewsAnalysisDto> leader;
+        Future<NewsAnalysisDto> waiter;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            leader = executor.submit(() -> client.analyze("공시"));
+            waitUntil(() -> llmCalls.get() == 1);
+            waiter = executor.submit(() -> client.analyze("공시"));
+            waitUntil(() -> singleFlight.coalescedCount() == 1);
+            release.countDown();
+        }
+
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(waiter::get).hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Gemini 429");
+        assertThat(llmCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 호출자가 인터럽트되면 합류한 호출은 실패를 받지 않고 다시 LLM을 부른다")
+    void leaderInterrupt_isNotSharedWithWaiters() throws Exception {
+        SentinelAiClient client = singleFlight.wrap(SentinelAiClient.class, sentinel(content -> {
+            if (llmCalls.incrementAndGet() == 1) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    // LangChain4j처럼 인터럽트를 런타임 예외로 감싸 던짐
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            return news(content);
+        }));
+
+        Future<NewsAnalysisDto> leader;
+        Future<NewsAnalysisDto> waiter;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            leader = executor.submit(() -> client.analyze("공시"));
+            waitUntil(() -> llmCalls.get() == 1);
+            waiter = executor.submit(() -> client.analyze("공시"));
+            waitUntil(() -> singleFlight.coalescedCount() == 1);
+            leader.cancel(true);
+        }
+
+        assertThat(waiter.get()).isNotNull();
+        assertThat(llmCalls.get()).isEqualTo(2);
+        assertThat(singleFlight.getStats().get("Sentinel").calls()).isEqualTo(2);
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static SentinelAiClient sentinel(Function<String, NewsAnalysisDto> analyze) {
+        return new SentinelAiClient() {
+            @Override
+            public NewsAnalysisDto analyze(String content) {
+                return analyze.apply(content);
+            }
+
+            @Override
+            public NewsBatchAnalysisDto analyzeBatch(int count, String items) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static NewsAnalysisDto news(String content) {
+        return new NewsAnalysisDto("005930", "삼성전자", List.of("수주"), "Positive", 80, "High", false, content);
+    }
+}
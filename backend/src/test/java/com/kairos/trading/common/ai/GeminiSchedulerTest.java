@@ -0,0 +1,201 @@
+package com.kairos.trading.common.ai;
+
+import com.kairos.trading.common.gateway.ApiGatekeeper;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiSchedulerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-02T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+    private ApiGatekeeper apiGatekeeper;
+
+    @BeforeEach
+    void setUp() {
+        apiGatekeeper = new ApiGatekeeper();
+        apiGatekeeper.initBuckets();
+    }
+
+    @Test
+    @DisplayName("응답 사용량의 입력/출력 토큰을 집계하고 예약분을 실제 사용량으로 정산한다")
+    void generate_metersTokenUsage() {
+        var scheduler = newScheduler(new MockEnvironment(), 100_000, 1_000_000);
+        var model = scheduler.wrap("Axiom", model("Axiom", 1200, 300));
+
+        model.generate(UserMessage.from("재무 분석"));
+
+        var status = scheduler.getBudgetStatus();
+        assertThat(status.minuteUsed()).isEqualTo(1500);
+        assertThat(status.dayUsed()).isEqualTo(1500);
+        assertThat(meterRegistry.get("kairos.gemini.tokens").tags("agent", "Axiom", "direction", "input")
+                .functionCounter().count()).isEqualTo(1200);
+        assertThat(meterRegistry.get("kairos.gemini.tokens").tags("agent", "Axiom", "direction", "output")
+                .functionCounter().count()).isEqualTo(300);
+        assertThat(meterRegistry.get("kairos.gemini.queue.wait").tag("agent", "Axiom").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("분당 예산이 소진되면 다음 분에 우선순위 순(Nexus > Sentinel > 분석가 > Aegis)으로 내보낸다")
+    void exhaustedBudget_releasesByPriority() throws Exception {
+        // 분당 1000 토큰, 호출마다 1000 토큰 → 분마다 한 건
+        var scheduler = newScheduler(new MockEnvironment(), 1000, 0);
+        scheduler.wrap("Vector", model("Vector", 800, 200)).generate(UserMessage.from("차트"));
+        calls.clear();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var agent : List.of("AegisReview", "Resonance", "Sentinel", "Nexus")) {
+                var model = scheduler.wrap(agent, model(agent, 800, 200));
+                executor.submit(() -> model.generate(UserMessage.from(agent)));
+            }
+            waitUntil(() -> scheduler.getBudgetStatus().waiting() == 4);
+            assertThat(calls).isEmpty();
+
+            for (int released = 1; released <= 4; released++) {
+                clock.advance(Duration.ofMinutes(1));
+                int expected = released;
+                waitUntil(() -> calls.size() == expected);
+                Thread.sleep(150); // 같은 분에 두 건이 나가지 않는지 확인
+                assertThat(calls).hasSize(released);
+            }
+        }
+
+        assertThat(calls).containsExactly("Nexus", "Sentinel", "Resonance", "AegisReview");
+    }
+
+    @Test
+    @DisplayName("에이전트 자체 예산에 걸린 호출은 건너뛰고 다른 에이전트를 먼저 내보낸다")
+    void agentBudget_doesNotBlockOthers() throws Exception {
+        var environment = new MockEnvironment()
+                .withProperty("kairos.gemini.agents.resonance.tokens-per-minute", "1000");
+        var scheduler = newScheduler(environment, 100_000, 0);
+        var resonance = scheduler.wrap("Resonance", model("Resonance", 800, 200));
+        var sonar = scheduler.wrap("Sonar", model("Sonar", 800, 200));
+
+        resonance.generate(UserMessage.from("심리"));
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var blocked = executor.submit(() -> resonance.generate(UserMessage.from("심리 2")));
+            waitUntil(() -> scheduler.getBudgetStatus().waiting() == 1);
+
+            sonar.generate(UserMessage.from("수급"));
+            assertThat(blocked.isDone()).isFalse();
+
+            clock.advance(Duration.ofMinutes(1));
+            blocked.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(calls).containsExactly("Resonance", "Sonar", "Resonance");
+    }
+
+    @Test
+    @DisplayName("스트리밍 호출은 완료 콜백의 사용량으로 정산하고 토큰은 그대로 전달한다")
+    void wrapStreaming_settlesOnComplete() {
+        var scheduler = newScheduler(new MockEnvironment(), 100_000, 1_000_000);
+        StreamingChatLanguageModel streaming = (messages, handler) -> {
+            handler.onNext("{\"decision\"");
+            handler.onComplete(new Response<>(AiMessage.from("{\"decision\": \"BUY\"}"),
+                    new TokenUsage(2000, 500), FinishReason.STOP));
+        };
+        var tokens = new ArrayList<String>();
+
+        scheduler.wrapStreaming("Nexus", streaming).generate(UserMessage.from("의사결정"),
+                new StreamingResponseHandler<>() {
+                    @Override
+                    public void onNext(String token) {
+                        tokens.add(token);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                    }
+                });
+
+        assertThat(tokens).containsExactly("{\"decision\"");
+        assertThat(scheduler.getBudgetStatus().minuteUsed()).isEqualTo(2500);
+        assertThat(meterRegistry.get("kairos.gemini.tokens").tags("agent", "Nexus", "direction", "output")
+                .functionCounter().count()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("에이전트 이름으로 우선순위를 정한다")
+    void priorityOf_mapsAgents() {
+        assertThat(GeminiScheduler.priorityOf("Nexus")).isEqualTo(GeminiScheduler.Priority.DECISION);
+        assertThat(GeminiScheduler.priorityOf("Sentinel")).isEqualTo(GeminiScheduler.Priority.KILL_SWITCH);
+        assertThat(GeminiScheduler.priorityOf("SentinelBatch")).isEqualTo(GeminiScheduler.Priority.TRIAGE);
+        assertThat(GeminiScheduler.priorityOf("Axiom")).isEqualTo(GeminiScheduler.Priority.ANALYST);
+        assertThat(GeminiScheduler.priorityOf("AegisReview")).isEqualTo(GeminiScheduler.Priority.REVIEW);
+    }
+
+    private GeminiScheduler newScheduler(MockEnvironment environment, long perMinute, long perDay) {
+        return new GeminiScheduler(environment, meterRegistry, apiGatekeeper, perMinute, perDay, 1000, clock);
+    }
+
+    private ChatLanguageModel model(String agentName, int inputTokens, int outputTokens) {
+        return messages -> {
+            calls.add(agentName);
+            return new Response<>(AiMessage.from("{}"), new TokenUsage(inputTokens, outputTokens),
+                    FinishReason.STOP);
+        };
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
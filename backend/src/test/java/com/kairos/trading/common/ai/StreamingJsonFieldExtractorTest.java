@@ -0,0 +1,63 @@
+package com.kairos.trading.common.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonFieldExtractorTest {
+
+    @Test
+    @DisplayName("필드 값은 다음 쉼표가 들어오는 즉시 읽을 수 있다")
+    void feed_emitsFieldWhenValueEnds() {
+        var extractor = new StreamingJsonFieldExtractor();
+
+        extractor.feed("```json\n{\"decision\": \"BU");
+        assertThat(extractor.has("decision")).isFalse();
+
+        extractor.feed("Y\", \"targetPrice\": 5200");
+        assertThat(extractor.text("decision")).isEqualTo("BUY");
+        assertThat(extractor.has("targetPrice")).isFalse();
+
+        extractor.feed("0, \"stopLossPrice\": 49000,");
+        assertThat(extractor.longValue("targetPrice", 0)).isEqualTo(52000);
+        assertThat(extractor.hasAll(List.of("targetPrice", "stopLossPrice"))).isTrue();
+        assertThat(extractor.isComplete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("문자열 숫자는 숫자로 변환하고, 숫자가 아니면 기본값을 돌려준다")
+    void longValue_parsesNumericStrings() {
+        var extractor = new StreamingJsonFieldExtractor();
+
+        extractor.feed("{\"a\": \"75000\", \"b\": \"71,500\", \"c\": \"미정\", \"d\": 0.35}");
+
+        assertThat(extractor.longValue("a", 0)).isEqualTo(75000);
+        assertThat(extractor.longValue("b", 0)).isEqualTo(71500);
+        assertThat(extractor.longValue("c", -1)).isEqualTo(-1);
+        assertThat(extractor.doubleValue("d", 0)).isEqualTo(0.35);
+    }
+
+    @Test
+    @DisplayName("문자열 안의 쉼표·괄호·이스케이프와 중첩 값, null을 올바르게 처리한다")
+    void feed_handlesStringsNestingAndNull() {
+        var extractor = new StreamingJsonFieldExtractor();
+        String json = "{\"reasoning\": \"수급 양호, \\\"정배열\\\" {돌파}\", \"tags\": [1, {\"a\": 2}],"
+                + " \"positionSize\": 0.3, \"dissent\": null}\n```";
+
+        // 한 글자씩 흘려보내도 같은 결과
+        for (char c : json.toCharArray()) {
+            extractor.feed(String.valueOf(c));
+        }
+
+        assertThat(extractor.text("reasoning")).isEqualTo("수급 양호, \"정배열\" {돌파}");
+        assertThat(extractor.get("tags")).isEqualTo(List.of(1, java.util.Map.of("a", 2)));
+        assertThat(extractor.doubleValue("positionSize", 0)).isEqualTo(0.3);
+        assertThat(extractor.has("dissent")).isTrue();
+        assertThat(extractor.text("dissent")).isNull();
+        assertThat(extractor.isComplete()).isTrue();
+        assertThat(extractor.fields().keySet()).containsExactly("reasoning", "tags", "positionSize", "dissent");
+    }
+}
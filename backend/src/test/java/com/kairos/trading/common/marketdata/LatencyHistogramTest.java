@@ -0,0 +1,56 @@
+package com.kairos.trading.common.marketdata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * LatencyHistogram 테스트.
+ */
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위는 상대 오차 7% 이내로 계산된다")
+    void percentilesWithinRelativeError() {
+        var histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v * 10);
+        }
+
+        assertThat(histogram.count()).isEqualTo(100_000);
+        assertThat((double) histogram.percentile(50)).isCloseTo(500_000, within(35_000.0));
+        assertThat((double) histogram.percentile(99)).isCloseTo(990_000, within(70_000.0));
+        assertThat(histogram.percentile(100)).isGreaterThanOrEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("스냅샷 차이로 구간 기록분만 계산한다")
+    void deltaBetweenSnapshots() {
+        var histogram = new LatencyHistogram();
+        histogram.record(5);
+        var before = histogram.snapshot();
+        histogram.record(1_000);
+        histogram.record(2_000);
+
+        var delta = histogram.snapshot().minus(before);
+
+        assertThat(delta.count()).isEqualTo(2);
+        assertThat(delta.percentile(0)).isGreaterThanOrEqualTo(1_000);
+        assertThat(new LatencyHistogram().summary().p99()).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 상한은 값 이상이고 인접 구간과 겹치지 않는다")
+    void bucketBounds() {
+        for (long v : new long[] { 0, 15, 16, 31, 32, 1_000, 123_456_789L, Long.MAX_VALUE / 2 }) {
+            int index = LatencyHistogram.indexOf(v);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(v);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(v);
+            }
+        }
+    }
+}
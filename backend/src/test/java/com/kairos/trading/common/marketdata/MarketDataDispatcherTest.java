@@ -0,0 +1,363 @@
+package com.kairos.trading.common.marketdata;
+
+import com.kairos.trading.common.event.AnalysisCompleteEvent;
+import com.kairos.trading.common.event.TickDataEvent;
+import com.kairos.trading.common.event.ViEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * MarketDataDispatcher 테스트.
+ */
+@DisplayName("MarketDataDispatcher 테스트")
+class MarketDataDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SymbolRegistry symbolRegistry;
+    private MarketDataDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        symbolRegistry = new SymbolRegistry(64);
+        dispatcher = new MarketDataDispatcher(4, 64, symbolRegistry, meterRegistry);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("같은 종목 이벤트는 발행 순서대로 같은 샤드 스레드에서 처리된다")
+    void preservesPerSymbolOrder() {
+        Map<String, List<Long>> received = new ConcurrentHashMap<>();
+        Map<String, Set<String>> threads = new ConcurrentHashMap<>();
+        dispatcher.register(TickDataEvent.class, e -> {
+            received.computeIfAbsent(e.getStockCode(), k -> Collections.synchronizedList(new ArrayList<>())).add(e.getPrice());
+            threads.computeIfAbsent(e.getStockCode(), k -> ConcurrentHashMap.newKeySet())
+                    .add(Thread.currentThread().getName());
+        });
+
+        List<String> codes = List.of("005930", "000660", "035720", "051910", "207940");
+        for (int i = 0; i < 1_000; i++) {
+            for (String code : codes) {
+                dispatcher.publish(new TickDataEvent(this, code, i, 1, i, 0.0));
+            }
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.values().stream().mapToInt(List::size).sum() == 5_000);
+        for (String code : codes) {
+            assertThat(received.get(code)).hasSize(1_000).isSorted();
+            assertThat(threads.get(code)).containsExactly("md-shard-" + dispatcher.shardOf(code));
+        }
+    }
+
+    @Test
+    @DisplayName("등록된 타입의 핸들러만 호출된다")
+    void dispatchesByEventType() {
+        AtomicInteger ticks = new AtomicInteger();
+        AtomicInteger vis = new AtomicInteger();
+        dispatcher.register(TickDataEvent.class, e -> ticks.incrementAndGet());
+        dispatcher.register(ViEvent.class, e -> vis.incrementAndGet());
+        dispatcher.register(ViEvent.class, e -> vis.incrementAndGet());
+
+        dispatcher.publish(new TickDataEvent(this, "005930", 70000, 1, 1, 0.0));
+        dispatcher.publish(new ViEvent(this, "005930", "삼성전자", "STATIC", 70000));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ticks.get() == 1 && vis.get() == 2);
+    }
+
+    @Test
+    @DisplayName("프레임은 링 슬롯으로 복사되어 발행 측 프레임을 바로 재사용할 수 있다")
+    void copiesFrameIntoPreallocatedSlot() {
+        List<Long> prices = Collections.synchronizedList(new ArrayList<>());
+        List<Long> receiveNanos = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.register(MarketDataType.TICK, f -> {
+            prices.add(f.getPrice());
+            receiveNanos.add(f.getReceiveNanos());
+        });
+
+        MarketDataFrame scratch = new MarketDataFrame();
+        for (int i = 1; i <= 3; i++) {
+            scratch.clear();
+            scratch.setType(MarketDataType.TICK);
+            scratch.setStockCode("005930");
+            scratch.setPrice(70_000 + i);
+            scratch.setReceiveNanos(i);
+            dispatcher.publish(scratch);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> prices.size() == 3);
+        assertThat(prices).containsExactly(70_001L, 70_002L, 70_003L);
+        assertThat(receiveNanos).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("이벤트 핸들러에는 프레임을 복사한 불변 이벤트가 전달된다")
+    void adaptsFrameToImmutableEvent() {
+        List<TickDataEvent> events = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.register(TickDataEvent.class, events::add);
+
+        MarketDataFrame scratch = new MarketDataFrame();
+        scratch.clear();
+        scratch.setType(MarketDataType.TICK);
+        scratch.setStockCode("005930");
+        scratch.setPrice(71_000);
+        scratch.setAccVolume(12_345);
+        scratch.setChangeRate(1.5);
+        dispatcher.publish(scratch);
+        scratch.setPrice(0);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> events.size() == 1);
+        TickDataEvent event = events.get(0);
+        assertThat(event.getStockCode()).isEqualTo("005930");
+        assertThat(event.getPrice()).isEqualTo(71_000);
+        assertThat(event.getAccVolume()).isEqualTo(12_345);
+        assertThat(event.getChangeRate()).isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("시세 이벤트가 아닌 타입은 등록할 수 없다")
+    void rejectsNonMarketDataEventType() {
+        assertThatThrownBy(() -> dispatcher.register(AnalysisCompleteEvent.class, e -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("핸들러 예외가 발생해도 샤드는 다음 이벤트를 계속 처리한다")
+    void survivesHandlerFailure() {
+        AtomicInteger handled = new AtomicInteger();
+        dispatcher.register(TickDataEvent.class, e -> {
+            if (handled.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        dispatcher.publish(new TickDataEvent(this, "005930", 1, 1, 1, 0.0));
+        dispatcher.publish(new TickDataEvent(this, "005930", 2, 1, 2, 0.0));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.get() == 2);
+    }
+
+    @Test
+    @DisplayName("링이 가득 차면 생산자가 대기하고 유실 없이 처리한다")
+    void backpressureWithoutLoss() {
+        AtomicInteger handled = new AtomicInteger();
+        dispatcher.register(TickDataEvent.class, e -> {
+            handled.incrementAndGet();
+            if (e.getPrice() % 50 == 0) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        for (int i = 0; i < 1_000; i++) {
+            dispatcher.publish(new TickDataEvent(this, "005930", i, 1, i, 0.0));
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.get() == 1_000);
+        int shard = dispatcher.shardOf("005930");
+        assertThat(dispatcher.getProcessedCount(shard)).isEqualTo(1_000);
+        assertThat(meterRegistry.get("kairos.marketdata.full.waits").tag("shard", String.valueOf(shard))
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("샤드별 적재/처리/대기열 메트릭을 노출한다")
+    void exposesShardMetrics() {
+        dispatcher.register(TickDataEvent.class, e -> {
+        });
+        dispatcher.publish(new TickDataEvent(this, "005930", 1, 1, 1, 0.0));
+        String shard = String.valueOf(dispatcher.shardOf("005930"));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> meterRegistry.get("kairos.marketdata.processed")
+                .tag("shard", shard).functionCounter().count() == 1.0);
+        assertThat(meterRegistry.get("kairos.marketdata.published").tag("shard", shard)
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("kairos.marketdata.queue.depth").tag("shard", shard)
+                .gauge().value()).isZero();
+        assertThat(meterRegistry.get("kairos.marketdata.queue.depth").gauges()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("소비가 밀리면 호가는 종목별 최신값만 전달되고 체결은 모두 전달된다")
+    void conflatesOrderBookButNotTicks() throws Exception {
+        symbolRegistry.register("005930");
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> ticks = Collections.synchronizedList(new ArrayList<>());
+        List<Long> asks = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.register(MarketDataType.TICK, f -> {
+            ticks.add(f.getPrice());
+            awaitQuietly(release);
+        });
+        dispatcher.register(MarketDataType.ORDER_BOOK, f -> asks.add(f.getAskPrice1()));
+
+        // 첫 체결로 샤드를 붙잡아 둔 채 호가 100건 + 체결 3건 발행
+        dispatcher.publish(frame(MarketDataType.TICK, "005930", 0));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ticks.size() == 1);
+        for (int i = 0; i < 100; i++) {
+            MarketDataFrame orderBook = frame(MarketDataType.ORDER_BOOK, "005930", 0);
+            orderBook.setAskPrice1(70_000 + i);
+            dispatcher.publish(orderBook);
+        }
+        for (int i = 1; i <= 3; i++) {
+            dispatcher.publish(frame(MarketDataType.TICK, "005930", i));
+        }
+        release.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ticks.size() == 4 && asks.size() == 1);
+        assertThat(ticks).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(asks).containsExactly(70_099L);
+        assertThat(dispatcher.getConflatedCount("005930")).isEqualTo(99);
+        assertThat(meterRegistry.get("kairos.marketdata.conflated").tag("type", "0D")
+                .functionCounter().count()).isEqualTo(99.0);
+
+        // 소비된 뒤의 호가는 다시 바로 전달된다
+        MarketDataFrame next = frame(MarketDataType.ORDER_BOOK, "005930", 0);
+        next.setAskPrice1(71_000);
+        dispatcher.publish(next);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> asks.size() == 2);
+        assertThat(asks.get(1)).isEqualTo(71_000L);
+    }
+
+    @Test
+    @DisplayName("미등록 종목 시세는 병합하지 않는다")
+    void doesNotConflateUnregisteredSymbol() {
+        AtomicInteger quotes = new AtomicInteger();
+        dispatcher.register(MarketDataType.STOCK_QUOTE, f -> quotes.incrementAndGet());
+
+        for (int i = 0; i < 3; i++) {
+            dispatcher.publish(frame(MarketDataType.STOCK_QUOTE, "999999", i));
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> quotes.get() == 3);
+        assertThat(dispatcher.getConflatedCount("999999")).isZero();
+    }
+
+    @Test
+    @DisplayName("샤드가 밀려 있으면 VI가 먼저 들어온 체결·호가보다 먼저 처리된다")
+    void criticalLaneFirst() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.register(MarketDataType.TICK, f -> {
+            order.add("TICK-" + f.getPrice());
+            if (f.getPrice() == 0) {
+                awaitQuietly(release);
+            }
+        });
+        dispatcher.register(MarketDataType.ORDER_BOOK, f -> order.add("ORDER_BOOK"));
+        dispatcher.register(MarketDataType.VI, f -> order.add("VI"));
+
+        dispatcher.publish(frame(MarketDataType.TICK, "005930", 0));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> order.size() == 1);
+        dispatcher.publish(frame(MarketDataType.ORDER_BOOK, "005930", 0));
+        dispatcher.publish(frame(MarketDataType.TICK, "005930", 1));
+        dispatcher.publish(frame(MarketDataType.TICK, "005930", 2));
+        dispatcher.publish(frame(MarketDataType.VI, "005930", 0));
+        assertThat(dispatcher.getQueueDepth(MarketDataLane.CRITICAL)).isEqualTo(1);
+        release.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> order.size() == 5);
+        assertThat(order).containsExactly("TICK-0", "VI", "TICK-1", "TICK-2", "ORDER_BOOK");
+    }
+
+    @Test
+    @DisplayName("BULK 레인이 가득 차면 대기하지 않고 버리며, 체결은 유실되지 않는다")
+    void shedsBulkLaneUnderStorm() {
+        symbolRegistry.register("005930");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger ticks = new AtomicInteger();
+        List<Long> registeredAsks = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger orderBooks = new AtomicInteger();
+        dispatcher.register(MarketDataType.TICK, f -> {
+            if (ticks.getAndIncrement() == 0) {
+                awaitQuietly(release);
+            }
+        });
+        dispatcher.register(MarketDataType.ORDER_BOOK, f -> {
+            orderBooks.incrementAndGet();
+            if ("005930".equals(f.getStockCode())) {
+                registeredAsks.add(f.getAskPrice1());
+            }
+        });
+
+        // 샤드를 붙잡고 같은 샤드의 미등록 종목 호가로 BULK 링(64)을 넘치게 한다
+        dispatcher.publish(frame(MarketDataType.TICK, "005930", 0));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ticks.get() == 1);
+        List<String> sameShard = codesOnShardOf("005930", 100);
+        for (String code : sameShard) {
+            dispatcher.publish(frame(MarketDataType.ORDER_BOOK, code, 0));
+        }
+        MarketDataFrame registered = frame(MarketDataType.ORDER_BOOK, "005930", 0);
+        registered.setAskPrice1(70_000);
+        dispatcher.publish(registered);
+        for (int i = 1; i <= 10; i++) {
+            dispatcher.publish(frame(MarketDataType.TICK, "005930", i));
+        }
+        release.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> ticks.get() == 11 && orderBooks.get() == 64);
+        assertThat(dispatcher.getDroppedCount(MarketDataLane.BULK)).isEqualTo(37);
+        assertThat(dispatcher.getDroppedCount(MarketDataLane.TICK)).isZero();
+        assertThat(meterRegistry.get("kairos.marketdata.lane.dropped").tag("lane", "BULK")
+                .functionCounter().count()).isEqualTo(37.0);
+
+        // 버려진 스냅샷이 대기 상태로 남지 않아 다음 호가는 다시 전달된다
+        MarketDataFrame next = frame(MarketDataType.ORDER_BOOK, "005930", 0);
+        next.setAskPrice1(71_000);
+        dispatcher.publish(next);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> registeredAsks.contains(71_000L));
+        assertThat(dispatcher.getLagNanos(MarketDataLane.BULK)).isZero();
+    }
+
+    private List<String> codesOnShardOf(String stockCode, int count) {
+        int shard = dispatcher.shardOf(stockCode);
+        List<String> codes = new ArrayList<>();
+        for (int i = 100_000; codes.size() < count; i++) {
+            String code = String.valueOf(i);
+            if (dispatcher.shardOf(code) == shard) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+
+    private static MarketDataFrame frame(MarketDataType type, String stockCode, long price) {
+        MarketDataFrame frame = new MarketDataFrame();
+        frame.clear();
+        frame.setType(type);
+        frame.setStockCode(stockCode);
+        frame.setPrice(price);
+        return frame;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.kairos.trading.common.marketdata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MarketDataJournal / MarketDataJournalReader 테스트.
+ */
+@DisplayName("MarketDataJournal 테스트")
+class MarketDataJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("기록한 프레임을 수신 시각·TR 코드·원본 그대로 순서대로 읽는다")
+    void roundTrip() throws IOException {
+        Path file = dir.resolve("20260105/session.journal");
+        try (var journal = MarketDataJournal.create(file, 64 * 1024)) {
+            journal.append(100L, "00", utf8("{\"trnm\":\"REAL\",\"data\":[{\"type\":\"00\"}]}"));
+            journal.append(200L, MarketDataJournal.UNKNOWN_TR,
+                    DefaultDataBufferFactory.sharedInstance.wrap("{\"trnm\":\"PING\"}".getBytes(StandardCharsets.UTF_8)));
+            assertThat(journal.getRecordCount()).isEqualTo(2);
+        }
+
+        try (var reader = MarketDataJournalReader.open(file)) {
+            assertThat(reader.createdAtMillis()).isPositive();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.receiveNanos()).isEqualTo(100L);
+            assertThat(reader.type()).isEqualTo(MarketDataType.TICK);
+            assertThat(text(reader.payload())).isEqualTo("{\"trnm\":\"REAL\",\"data\":[{\"type\":\"00\"}]}");
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.trCode()).isEqualTo("--");
+            assertThat(reader.type()).isNull();
+            assertThat(text(reader.payload())).isEqualTo("{\"trnm\":\"PING\"}");
+
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트 경계를 넘어가며 기록해도 순서와 내용이 유지된다")
+    void spansSegments() throws IOException {
+        Path file = dir.resolve("session.journal");
+        int segmentSize = 1024;
+        try (var journal = MarketDataJournal.create(file, segmentSize)) {
+            for (int i = 0; i < 500; i++) {
+                journal.append(i, i % 2 == 0 ? "0D" : "00", utf8("frame-" + i + "-" + "x".repeat(i % 37)));
+            }
+        }
+        assertThat(Files.size(file)).isGreaterThan(segmentSize * 10L);
+
+        List<String> payloads = new ArrayList<>();
+        try (var reader = MarketDataJournalReader.open(file)) {
+            while (reader.next()) {
+                assertThat(reader.receiveNanos()).isEqualTo(payloads.size());
+                payloads.add(text(reader.payload()));
+            }
+        }
+        assertThat(payloads).hasSize(500);
+        assertThat(payloads.get(499)).isEqualTo("frame-499-" + "x".repeat(499 % 37));
+    }
+
+    @Test
+    @DisplayName("세그먼트보다 큰 프레임은 건너뛰고 다음 프레임을 계속 기록한다")
+    void dropsOversizedRecord() throws IOException {
+        Path file = dir.resolve("session.journal");
+        try (var journal = MarketDataJournal.create(file, 256)) {
+            journal.append(1L, "00", utf8("x".repeat(1024)));
+            journal.append(2L, "00", utf8("ok"));
+            assertThat(journal.getDroppedCount()).isEqualTo(1);
+        }
+
+        try (var reader = MarketDataJournalReader.open(file)) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.receiveNanos()).isEqualTo(2L);
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 파일에 두 번 열 수 없고, 저널이 아닌 파일은 읽지 않는다")
+    void rejectsExistingAndForeignFiles() throws IOException {
+        Path file = dir.resolve("session.journal");
+        MarketDataJournal.create(file, 4096).close();
+        assertThatThrownBy(() -> MarketDataJournal.create(file, 4096)).isInstanceOf(IOException.class);
+
+        Path foreign = Files.writeString(dir.resolve("foreign.journal"), "not a journal".repeat(10));
+        assertThatThrownBy(() -> MarketDataJournalReader.open(foreign)).isInstanceOf(IOException.class);
+    }
+
+    private static ByteBuffer utf8(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(ByteBuffer payload) {
+        return StandardCharsets.UTF_8.decode(payload.duplicate()).toString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.kairos.trading.common.marketdata;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MarketReplayService 테스트.
+ */
+@DisplayName("MarketReplayService 테스트")
+class MarketReplayServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private MarketDataDispatcher dispatcher;
+    private MarketReplayService replayService;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new MarketDataDispatcher(4, 64, new SymbolRegistry(64), new SimpleMeterRegistry());
+        dispatcher.start();
+        replayService = new MarketReplayService(dispatcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("최대 속도 재생은 모든 시세를 순서대로 핸들러까지 전달하고 구간별 지연을 보고한다")
+    void replaysAtMaxSpeed() throws IOException {
+        Map<String, List<Long>> received = new ConcurrentHashMap<>();
+        dispatcher.register(MarketDataType.TICK, f -> received
+                .computeIfAbsent(f.getStockCode(), k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(f.getPrice()));
+
+        List<String> codes = List.of("005930", "000660", "035720");
+        Path file = dir.resolve("session.journal");
+        try (var journal = MarketDataJournal.create(file, 1024 * 1024)) {
+            journal.append(0L, MarketDataJournal.UNKNOWN_TR, utf8("{\"trnm\":\"LOGIN\",\"return_code\":0}"));
+            for (int i = 1; i <= 3_000; i++) {
+                journal.append(i * 1_000L, "00", utf8(tick(codes.get(i % 3), 10_000 + i)));
+            }
+        }
+
+        var report = replayService.replay(file, MarketReplayService.MAX_SPEED);
+
+        assertThat(report.records()).isEqualTo(3_001);
+        assertThat(report.published()).isEqualTo(3_000);
+        assertThat(report.throughputPerSecond()).isPositive();
+        assertThat(report.decode().count()).isEqualTo(3_000);
+        assertThat(report.queue().count()).isEqualTo(3_000);
+        assertThat(report.service().count()).isEqualTo(3_000);
+        assertThat(report.queue().p99()).isLessThanOrEqualTo(report.queue().max());
+        for (String code : codes) {
+            assertThat(received.get(code)).hasSize(1_000).isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("배속 재생은 원래 수신 간격을 배속만큼 줄여 유지한다")
+    void pacesBySpeed() throws IOException {
+        Path file = dir.resolve("paced.journal");
+        long interval = TimeUnit.MILLISECONDS.toNanos(50);
+        try (var journal = MarketDataJournal.create(file, 64 * 1024)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(i * interval, "00", utf8(tick("005930", 70_000 + i)));
+            }
+        }
+
+        var report = replayService.replay(file, 2.0);
+
+        // 원래 200ms 구간 → 2배속 100ms
+        assertThat(report.published()).isEqualTo(5);
+        assertThat(report.elapsedNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    private static String tick(String stockCode, long price) {
+        return "{\"tr_cd\":\"00\",\"stk_cd\":\"" + stockCode + "\",\"cur_prc\":\"" + price
+                + "\",\"trd_vol\":\"10\",\"acc_vol\":\"1000\",\"chg_rate\":\"+0.50\"}";
+    }
+
+    private static ByteBuffer utf8(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
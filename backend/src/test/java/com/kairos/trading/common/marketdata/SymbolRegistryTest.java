@@ -0,0 +1,79 @@
+package com.kairos.trading.common.marketdata;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SymbolRegistry 테스트.
+ */
+@DisplayName("SymbolRegistry 테스트")
+class SymbolRegistryTest {
+
+    private SymbolRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SymbolRegistry(3);
+    }
+
+    @Test
+    @DisplayName("등록 순서대로 0부터 dense ID를 부여하고 중복 등록은 같은 ID를 반환한다")
+    void assignsDenseIds() {
+        assertThat(registry.register("005930")).isZero();
+        assertThat(registry.register("000660")).isEqualTo(1);
+        assertThat(registry.register("005930")).isZero();
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.idOf("000660")).isEqualTo(1);
+        assertThat(registry.codeOf(1)).isEqualTo("000660");
+    }
+
+    @Test
+    @DisplayName("미등록/형식 오류 종목코드는 NO_SYMBOL을 반환한다")
+    void unknownCodes() {
+        registry.register("005930");
+
+        assertThat(registry.idOf("035720")).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(registry.idOf("")).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(registry.idOf((String) null)).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(registry.idOf("123456789")).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThatThrownBy(() -> registry.register("삼성전자")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("문자 배열 구간으로도 할당 없이 조회할 수 있다")
+    void lookupByChars() {
+        registry.register("035720");
+        char[] buf = "xx035720yy".toCharArray();
+
+        assertThat(registry.idOf(buf, 2, 6)).isZero();
+        assertThat(registry.idOf(buf, 1, 6)).isEqualTo(SymbolRegistry.NO_SYMBOL);
+    }
+
+    @Test
+    @DisplayName("상한을 넘어 등록하면 예외가 발생한다")
+    void capacityExceeded() {
+        registry.registerAll(List.of("005930", "000660", "035720"));
+
+        assertThatThrownBy(() -> registry.register("051910")).isInstanceOf(IllegalStateException.class);
+        assertThat(registry.register("035720")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("2,500개 종목을 충돌 없이 등록/조회한다")
+    void fullUniverse() {
+        var universe = new SymbolRegistry(2_500);
+        for (int i = 0; i < 2_500; i++) {
+            assertThat(universe.register(String.format("%06d", i * 37))).isEqualTo(i);
+        }
+        for (int i = 0; i < 2_500; i++) {
+            assertThat(universe.idOf(String.format("%06d", i * 37))).isEqualTo(i);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.kairos.trading.common.websocket;
+
+import com.kairos.trading.common.event.BalanceUpdateEvent;
+import com.kairos.trading.common.event.OrderBookEvent;
+import com.kairos.trading.common.event.StockQuoteEvent;
+import com.kairos.trading.common.event.StockTradeEvent;
+import com.kairos.trading.common.event.TickDataEvent;
+import com.kairos.trading.common.event.ViEvent;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KiwoomRealtimeDecoder 테스트.
+ */
+@DisplayName("KiwoomRealtimeDecoder 테스트")
+class KiwoomRealtimeDecoderTest {
+
+    private KiwoomRealtimeDecoder decoder;
+    private MarketDataFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new KiwoomRealtimeDecoder();
+        frame = new MarketDataFrame();
+    }
+
+    private DataBuffer heap(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("체결(00) 프레임: 부호가 붙은 숫자 문자열을 primitive로 파싱한다")
+    void decode_tick_signedNumericStrings() throws Exception {
+        String json = """
+                {"tr_cd":"00","stk_cd":"005930","cur_prc":"-71200","trd_vol":"152","acc_vol":8123456,"chg_rate":"-1.42"}""";
+
+        assertThat(decoder.decode(heap(json), frame)).isTrue();
+
+        assertThat(frame.getType()).isEqualTo(MarketDataType.TICK);
+        var event = (TickDataEvent) frame.toEvent(this);
+        assertThat(event.getStockCode()).isEqualTo("005930");
+        assertThat(event.getPrice()).isEqualTo(-71200);
+        assertThat(event.getVolume()).isEqualTo(152);
+        assertThat(event.getAccVolume()).isEqualTo(8123456);
+        assertThat(event.getChangeRate()).isEqualTo(-1.42);
+    }
+
+    @Test
+    @DisplayName("tr_cd가 마지막에 와도 타입을 식별한다")
+    void decode_trCodeLast() throws Exception {
+        String json = """
+                {"stk_cd":"005930","stk_nm":"삼성전자","sell_hoga1":"71300","sell_qty1":"100",\
+                "buy_hoga1":"71200","buy_qty1":"300","tot_sell_qty":"1000","tot_buy_qty":"2000","tr_cd":"0D"}""";
+
+        assertThat(decoder.decode(heap(json), frame)).isTrue();
+
+        var event = (OrderBookEvent) frame.toEvent(this);
+        assertThat(event.getStockName()).isEqualTo("삼성전자");
+        assertThat(event.getAskPrice1()).isEqualTo(71300);
+        assertThat(event.getBidQty1()).isEqualTo(300);
+        assertThat(event.getBidAskRatio()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("기세(0A)/체결상세(0B)/VI(1h)/잔고(04) 프레임을 각 이벤트로 변환한다")
+    void decode_otherTypes() throws Exception {
+        decoder.decode(heap("""
+                {"tr_cd":"0A","stk_cd":"000660","stk_nm":"SK하이닉스","open_prc":"105000","hgh_prc":"110000",\
+                "low_prc":"104000","cur_prc":"110000","base_prc":"100000","flu_rt":"+10.00"}"""), frame);
+        var quote = (StockQuoteEvent) frame.toEvent(this);
+        assertThat(quote.isGapUp()).isTrue();
+        assertThat(quote.isNewHigh()).isTrue();
+
+        decoder.decode(heap("""
+                {"tr_cd":"0B","stk_cd":"000660","stk_nm":"SK하이닉스","cntr_prc":"110000","cntr_qty":"1000",\
+                "acc_trde_qty":"50000","acc_trde_amt":"5500000000","cntr_tm":"090105","trde_tp":"B"}"""), frame);
+        var trade = (StockTradeEvent) frame.toEvent(this);
+        assertThat(trade.isLargeTrade()).isTrue();
+        assertThat(trade.isBuySide()).isTrue();
+        assertThat(trade.getTradeTime()).isEqualTo("090105");
+        assertThat(frame.getExchangeTime()).isEqualTo(90105);
+
+        decoder.decode(heap("""
+                {"tr_cd":"1h","stk_cd":"035720","stk_nm":"카카오","vi_tp":"STATIC","trig_prc":"52000"}"""), frame);
+        var vi = (ViEvent) frame.toEvent(this);
+        assertThat(vi.requiresKillSwitch()).isTrue();
+        assertThat(vi.getTriggerPrice()).isEqualTo(52000);
+
+        decoder.decode(heap("""
+                {"tr_cd":"04","acnt_no":"1234","stk_cd":"035720","stk_nm":"카카오","hold_qty":"10",\
+                "avg_prc":"50000","cur_prc":"52000","eval_amt":"520000","pnl_amt":"20000","pnl_rt":"4.0"}"""), frame);
+        var balance = (BalanceUpdateEvent) frame.toEvent(this);
+        assertThat(balance.getHoldQty()).isEqualTo(10);
+        assertThat(balance.getCurrentPrice()).isEqualTo(52000);
+        assertThat(balance.getPnlRate()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 TR 코드와 중첩 필드는 무시한다")
+    void decode_unknownTrCode_andNestedFields() throws Exception {
+        assertThat(decoder.decode(heap("""
+                {"tr_cd":"ZZ","stk_cd":"005930"}"""), frame)).isFalse();
+
+        assertThat(decoder.decode(heap("""
+                {"tr_cd":"00","meta":{"a":[1,{"b":2}]},"stk_cd":"005930","cur_prc":"100"}"""), frame)).isTrue();
+        assertThat(frame.getPrice()).isEqualTo(100);
+        assertThat(frame.getStockCode()).isEqualTo("005930");
+    }
+
+    @Test
+    @DisplayName("이전 프레임 값이 다음 프레임에 남지 않는다")
+    void decode_clearsPreviousFrame() throws Exception {
+        decoder.decode(heap("""
+                {"tr_cd":"0A","stk_cd":"000660","stk_nm":"SK하이닉스","open_prc":"105000"}"""), frame);
+        decoder.decode(heap("""
+                {"tr_cd":"00","stk_cd":"005930"}"""), frame);
+
+        assertThat(frame.getOpenPrice()).isZero();
+        assertThat(frame.getStockName()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("깨진 프레임은 예외를 던지고, 다음 프레임은 정상 디코딩한다")
+    void decode_recoversAfterMalformedFrame() throws Exception {
+        assertThatThrownBy(() -> decoder.decode(heap("{\"tr_cd\":\"00\",\"cur_prc\":"), frame))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> decoder.decode(heap("[1,2]"), frame))
+                .isInstanceOf(IOException.class);
+
+        assertThat(decoder.decode(heap("{\"tr_cd\":\"00\",\"cur_prc\":\"500\"}\n"), frame)).isTrue();
+        assertThat(decoder.decode(heap("{\"tr_cd\":\"00\",\"cur_prc\":\"600\"}"), frame)).isTrue();
+        assertThat(frame.getPrice()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("Netty 복합(다이렉트) 버퍼도 경계를 넘어 디코딩한다")
+    void decode_compositeDirectBuffer() throws Exception {
+        byte[] bytes = """
+                {"tr_cd":"00","stk_cd":"005930","cur_prc":"+71200","chg_rate":"0.55"}"""
+                .getBytes(StandardCharsets.UTF_8);
+        int split = 30; // "cur_prc" 값 중간에서 분할
+        ByteBuf first = Unpooled.directBuffer().writeBytes(bytes, 0, split);
+        ByteBuf second = Unpooled.directBuffer().writeBytes(bytes, split, bytes.length - split);
+        CompositeByteBuf composite = Unpooled.compositeBuffer().addComponents(true, first, second);
+        DataBuffer buffer = new NettyDataBufferFactory(Unpooled.directBuffer().alloc()).wrap(composite);
+
+        try {
+            assertThat(decoder.decode(buffer, frame)).isTrue();
+            assertThat(frame.getPrice()).isEqualTo(71200);
+            assertThat(frame.getChangeRate()).isEqualTo(0.55);
+            assertThat(buffer.readableByteCount()).isEqualTo(bytes.length); // 읽기 위치 불변
+        } finally {
+            composite.release();
+        }
+    }
+
+    @Test
+    @DisplayName("반복되는 종목코드/종목명은 같은 String 인스턴스를 재사용한다")
+    void decode_internsRepeatedText() throws Exception {
+        decoder.decode(heap("""
+                {"tr_cd":"0D","stk_cd":"005930","stk_nm":"삼성전자","sell_hoga1":"71300"}"""), frame);
+        String code = frame.getStockCode();
+        String name = frame.getStockName();
+
+        decoder.decode(heap("""
+                {"tr_cd":"0D","stk_cd":"005930","stk_nm":"삼성전자","sell_hoga1":"71400"}"""), frame);
+
+        assertThat(frame.getStockCode()).isSameAs(code).isEqualTo("005930");
+        assertThat(frame.getStockName()).isSameAs(name).isEqualTo("삼성전자");
+        assertThat(frame.getAskPrice1()).isEqualTo(71400);
+    }
+
+    @Test
+    @DisplayName("숫자 문자열 파싱: 공백/부호/소수점/잘못된 형식")
+    void parseNumbers() {
+        assertThat(parse("+1000")).isEqualTo(1000);
+        assertThat(parse(" -250 ")).isEqualTo(-250);
+        assertThat(parse("12.9")).isEqualTo(12);
+        assertThat(parse("")).isZero();
+        assertThat(parse("1,000")).isZero();
+        assertThat(parseD("-0.35")).isEqualTo(-0.35);
+        assertThat(parseD("abc")).isZero();
+    }
+
+    private long parse(String s) {
+        return KiwoomRealtimeDecoder.parseLong(s.toCharArray(), 0, s.length());
+    }
+
+    private double parseD(String s) {
+        return KiwoomRealtimeDecoder.parseDouble(s.toCharArray(), 0, s.length());
+    }
+}
@@ -0,0 +1,139 @@
+package com.kairos.trading.common.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KiwoomSubscriptionManager 테스트.
+ */
+@DisplayName("KiwoomSubscriptionManager 테스트")
+class KiwoomSubscriptionManagerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private KiwoomSubscriptionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new KiwoomSubscriptionManager(objectMapper, 100);
+    }
+
+    @Test
+    @DisplayName("300종목 구독은 그룹 1~4에 분산되어 그룹당 하나의 REG 메시지로 묶인다")
+    void batchesAcrossGroups() throws Exception {
+        List<String> codes = codes(300);
+        codes.forEach(code -> manager.subscribe(code, List.of("00", "0w")));
+
+        List<String> messages = manager.drainChanges();
+
+        assertThat(messages).hasSize(4);
+        Set<String> registered = new HashSet<>();
+        Set<String> groups = new HashSet<>();
+        for (String message : messages) {
+            JsonNode json = objectMapper.readTree(message);
+            assertThat(json.path("trnm").asText()).isEqualTo("REG");
+            assertThat(json.path("refresh").asText()).isEqualTo("1");
+            groups.add(json.path("grp_no").asText());
+            JsonNode data = json.path("data").get(0);
+            assertThat(data.path("item")).hasSize(75);
+            assertThat(data.path("type").toString()).isEqualTo("[\"00\",\"0w\"]");
+            data.path("item").forEach(item -> registered.add(item.asText()));
+        }
+        assertThat(groups).containsExactlyInAnyOrder("1", "2", "3", "4");
+        assertThat(registered).containsExactlyInAnyOrderElementsOf(codes);
+        assertThat(manager.drainChanges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("그룹 내 종목이 상한을 넘으면 여러 메시지로 나눈다")
+    void splitsByItemLimit() throws Exception {
+        manager = new KiwoomSubscriptionManager(objectMapper, 10);
+        codes(100).forEach(code -> manager.subscribe(code, List.of("00")));
+
+        List<String> messages = manager.drainChanges();
+
+        assertThat(messages).hasSize(12); // 그룹당 25종목 → 10+10+5
+        for (String message : messages) {
+            int items = 0;
+            for (JsonNode data : objectMapper.readTree(message).path("data")) {
+                items += data.path("item").size();
+            }
+            assertThat(items).isLessThanOrEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("감시 목록이 바뀌면 차이만 REMOVE/REG로 보낸다")
+    void sendsOnlyDiff() throws Exception {
+        manager.replaceAll(Map.of("005930", List.of("00"), "000660", List.of("00", "0w")));
+        manager.drainChanges();
+        int group = manager.getGroup("005930");
+
+        manager.replaceAll(Map.of("005930", List.of("00", "0D"), "035720", List.of("00")));
+        List<JsonNode> messages = parse(manager.drainChanges());
+
+        // REMOVE가 먼저
+        assertThat(messages.get(0).path("trnm").asText()).isEqualTo("REMOVE");
+        assertThat(messages.get(0).path("data").get(0).path("item").toString()).isEqualTo("[\"000660\"]");
+        assertThat(messages.get(0).path("data").get(0).path("type").toString()).isEqualTo("[\"00\",\"0w\"]");
+
+        List<String> regs = messages.stream()
+                .filter(m -> m.path("trnm").asText().equals("REG"))
+                .flatMap(m -> m.path("data").valueStream())
+                .map(d -> d.path("item").toString() + d.path("type").toString())
+                .toList();
+        assertThat(regs).containsExactlyInAnyOrder("[\"005930\"][\"0D\"]", "[\"035720\"][\"00\"]");
+        assertThat(manager.getGroup("005930")).isEqualTo(group);
+    }
+
+    @Test
+    @DisplayName("해제 시 실제로 등록한 타입만 REMOVE 한다")
+    void unsubscribeRemovesRegisteredTypes() throws Exception {
+        manager.subscribe("005930", List.of("00", "0D"));
+        manager.drainChanges();
+
+        manager.unsubscribe("005930");
+        List<JsonNode> messages = parse(manager.drainChanges());
+
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).path("trnm").asText()).isEqualTo("REMOVE");
+        assertThat(messages.get(0).path("data").get(0).path("type").toString()).isEqualTo("[\"00\",\"0D\"]");
+        assertThat(manager.getSubscribedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재연결 시 원하는 상태 전체를 다시 REG 한다")
+    void resyncReplaysDesiredState() throws Exception {
+        codes(8).forEach(code -> manager.subscribe(code, List.of("00")));
+        manager.drainChanges();
+
+        List<JsonNode> replay = parse(manager.resync());
+
+        assertThat(replay).hasSize(4);
+        assertThat(replay).allSatisfy(m -> assertThat(m.path("trnm").asText()).isEqualTo("REG"));
+        assertThat(replay.stream().mapToInt(m -> m.path("data").get(0).path("item").size()).sum()).isEqualTo(8);
+    }
+
+    private List<String> codes(int count) {
+        return IntStream.range(0, count).mapToObj(i -> String.format("%06d", 100 + i)).toList();
+    }
+
+    private List<JsonNode> parse(List<String> messages) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String message : messages) {
+            nodes.add(objectMapper.readTree(message));
+        }
+        return nodes;
+    }
+}
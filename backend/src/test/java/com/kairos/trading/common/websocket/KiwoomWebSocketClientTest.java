@@ -2,6 +2,9 @@ package com.kairos.trading.common.websocket;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kairos.trading.common.marketdata.MarketDataCapture;
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,9 +12,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,14 +30,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 class KiwoomWebSocketClientTest {
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private MarketDataDispatcher dispatcher;
 
     private KiwoomWebSocketClient client;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        client = new KiwoomWebSocketClient(eventPublisher);
+        client = new KiwoomWebSocketClient(dispatcher, new SymbolRegistry(1024), new MarketDataCapture(false, "data/journal", 64));
         objectMapper = new ObjectMapper();
     }
 
@@ -138,4 +144,56 @@ class KiwoomWebSocketClientTest {
             assertThat(KiwoomWebSocketClient.RealType.VI_EVENT).isEqualTo("1h");
         }
     }
+
+    @Nested
+    @DisplayName("세션 분할 구독 테스트")
+    class SessionPartitionTest {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(client, "sessionCount", 4);
+            client.init();
+        }
+
+        @Test
+        @DisplayName("종목은 한 세션에만 배정되고 세션별 구독 수 합이 전체와 같다")
+        void subscribeAll_partitionsBySymbol() {
+            // Given
+            List<String> codes = IntStream.range(0, 200)
+                    .mapToObj(i -> String.format("%06d", i))
+                    .toList();
+
+            // When
+            client.subscribeAll(codes, List.of(KiwoomWebSocketClient.RealType.TICK_DATA));
+
+            // Then
+            var health = client.getSessionHealth();
+            assertThat(health).hasSize(4);
+            assertThat(health).allSatisfy(h -> {
+                assertThat(h.subscribedCount()).isPositive();
+                assertThat(h.state()).isEqualTo("DISCONNECTED");
+                assertThat(h.idleMillis()).isEqualTo(-1L);
+            });
+            assertThat(health.stream().mapToInt(KiwoomWebSocketClient.SessionHealth::subscribedCount).sum())
+                    .isEqualTo(200);
+            assertThat(client.getSubscribedCount()).isEqualTo(200);
+            assertThat(client.sessionOf("005930")).isEqualTo(client.sessionOf("005930"));
+        }
+
+        @Test
+        @DisplayName("감시 목록 교체 시 빠진 종목은 배정된 세션에서 해제된다")
+        void updateWatchList_removesFromOwningSession() {
+            // Given
+            Map<String, List<String>> watchList = new HashMap<>();
+            IntStream.range(0, 50).forEach(i -> watchList.put(String.format("%06d", i), List.of("00")));
+            client.updateWatchList(watchList);
+
+            // When
+            client.updateWatchList(Map.of("000001", List.of("00")));
+
+            // Then
+            assertThat(client.getSubscribedCount()).isEqualTo(1);
+            assertThat(client.getSessionHealth().get(client.sessionOf("000001")).subscribedCount()).isEqualTo(1);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.kairos.trading.domain.execution.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PositionStateTableTest {
+
+    private final SymbolRegistry symbolRegistry = new SymbolRegistry(16);
+    private final PositionStateTable positions = new PositionStateTable(symbolRegistry);
+
+    @Test
+    @DisplayName("해제된 종목은 고점이 갱신되지 않고, 재등록하면 고점이 초기화된다")
+    void close_stopsHighWaterMarkUntilReopened() {
+        int id = symbolRegistry.register("005930");
+        positions.open(id, 1L, "삼성전자", 70_000, 80_000, 60_000, 80_000, 60_000, 10);
+        assertThat(positions.raiseHighWaterMark(id, 75_000)).isTrue();
+
+        assertThat(positions.close(id)).isTrue();
+        assertThat(positions.raiseHighWaterMark(id, 76_000)).isFalse();
+        assertThat(positions.highWaterMarkOf(id)).isZero();
+
+        positions.open(id, 1L, "삼성전자", 70_000, 80_000, 60_000, 80_000, 60_000, 10);
+        assertThat(positions.highWaterMarkOf(id)).isZero();
+        assertThat(positions.raiseHighWaterMark(id, 71_000)).isTrue();
+        assertThat(positions.highWaterMarkOf(id)).isEqualTo(71_000);
+    }
+}
@@ -0,0 +1,87 @@
+package com.kairos.trading.domain.execution.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.strategy.repository.TargetStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PositionWriteBehindTest {
+
+    @Mock
+    private TargetStockRepository targetStockRepository;
+
+    private SymbolRegistry symbolRegistry;
+    private PositionStateTable positions;
+    private PositionWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        symbolRegistry = new SymbolRegistry(16);
+        positions = new PositionStateTable(symbolRegistry);
+        writeBehind = new PositionWriteBehind(positions, targetStockRepository);
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 연속된 손절가 상향은 마지막 값 한 번만 저장한다")
+    void flush_coalescesStopMoves() {
+        int id = open("005930", 7L);
+        positions.raiseStopLoss(id, 61_000);
+        positions.raiseStopLoss(id, 62_000);
+        positions.raiseStopLoss(id, 63_000);
+        given(targetStockRepository.updateCurrentPrices(any(), any(), any())).willReturn(1);
+
+        assertThat(writeBehind.flush()).isEqualTo(1);
+        assertThat(writeBehind.flush()).isZero();
+
+        verify(targetStockRepository, times(1)).updateCurrentPrices(7L,
+                BigDecimal.valueOf(80_000), BigDecimal.valueOf(63_000));
+    }
+
+    @Test
+    @DisplayName("손절가가 올라가지 않으면 저장하지 않는다")
+    void flush_skipsUnchanged() {
+        int id = open("000660", 8L);
+        assertThat(positions.raiseStopLoss(id, 59_000)).isFalse();
+
+        assertThat(writeBehind.flush()).isZero();
+        verify(targetStockRepository, never()).updateCurrentPrices(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 다음 주기에 최신 값으로 재시도한다")
+    void flush_retriesWithLatestValue() {
+        int id = open("035720", 9L);
+        positions.raiseStopLoss(id, 61_000);
+        willThrow(new IllegalStateException("DB down"))
+                .given(targetStockRepository).updateCurrentPrices(eq(9L), any(), eq(BigDecimal.valueOf(61_000)));
+
+        assertThat(writeBehind.flush()).isZero();
+        positions.raiseStopLoss(id, 64_000);
+        assertThat(writeBehind.flush()).isEqualTo(1);
+
+        verify(targetStockRepository).updateCurrentPrices(9L, BigDecimal.valueOf(80_000), BigDecimal.valueOf(64_000));
+    }
+
+    private int open(String stockCode, long entityId) {
+        int id = symbolRegistry.register(stockCode);
+        positions.open(id, entityId, stockCode, 70_000, 80_000, 60_000, 80_000, 60_000, 10);
+        return id;
+    }
+}
@@ -0,0 +1,140 @@
+package com.kairos.trading.domain.execution.service;
+
+import com.kairos.trading.common.event.PriceTriggerEvent;
+import com.kairos.trading.common.event.PriceTriggerEvent.Type;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTriggerIndexTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SymbolRegistry symbolRegistry;
+    private PriceTriggerIndex index;
+    private final List<PriceTriggerEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        symbolRegistry = new SymbolRegistry(1024);
+        index = new PriceTriggerIndex(symbolRegistry, eventPublisher);
+        index.addListener(events::add);
+    }
+
+    @Test
+    @DisplayName("상단/하단은 목표가·손절가·가장 가까운 알림가 중 가까운 값이다")
+    void band_foldsNearestLevels() {
+        int id = symbolRegistry.register("005930");
+        index.setBand(id, 70_000, 60_000);
+        index.addAlertAbove("005930", 68_000);
+        index.addAlertAbove("005930", 72_000);
+        index.addAlertBelow("005930", 62_000);
+
+        assertThat(index.upperOf("005930")).isEqualTo(68_000);
+        assertThat(index.lowerOf("005930")).isEqualTo(62_000);
+
+        // 구간 안 체결은 아무 것도 발행하지 않는다
+        for (long price = 62_100; price < 68_000; price += 100) {
+            index.onPrice(id, price);
+        }
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격이 한 번에 여러 알림을 넘으면 모두 한 번씩 발화하고 다음 레벨로 밴드가 이동한다")
+    void alerts_fireOnceAndAdvance() {
+        int id = symbolRegistry.register("000660");
+        long first = index.addAlertAbove("000660", 100_000);
+        long second = index.addAlertAbove("000660", 101_000);
+        index.addAlertAbove("000660", 105_000);
+
+        index.onPrice(id, 102_000);
+        index.onPrice(id, 102_500);
+
+        assertThat(events).extracting(PriceTriggerEvent::getAlertId).containsExactly(first, second);
+        assertThat(events).extracting(PriceTriggerEvent::getType).containsOnly(Type.ALERT_ABOVE);
+        assertThat(index.upperOf("000660")).isEqualTo(105_000);
+        assertThat(index.getAlertCount()).isEqualTo(1);
+        verify(eventPublisher, times(2)).publishEvent(any(PriceTriggerEvent.class));
+    }
+
+    @Test
+    @DisplayName("목표가 도달 시 밴드를 해제하고 하향 알림은 유지한다")
+    void target_clearsBand() {
+        int id = symbolRegistry.register("035720");
+        index.setBand(id, 50_000, 40_000);
+        index.addAlertBelow("035720", 45_000);
+
+        index.onPrice(id, 48_000);
+        index.onPrice(id, 51_000);
+
+        assertThat(events).extracting(PriceTriggerEvent::getType).containsExactly(Type.TARGET_PRICE);
+        assertThat(index.upperOf("035720")).isEqualTo(Long.MAX_VALUE);
+        assertThat(index.lowerOf("035720")).isEqualTo(45_000);
+    }
+
+    @Test
+    @DisplayName("손절가 상향은 하단만 끌어올리고, 이후 알림 재계산에도 손절가 아래로 내려가지 않는다")
+    void raiseStopLoss_keepsLowerAtStop() {
+        int id = symbolRegistry.register("068270");
+        index.setBand(id, 200_000, 150_000);
+
+        index.raiseStopLoss(id, 170_000);
+        index.addAlertBelow("068270", 160_000);
+
+        assertThat(index.lowerOf("068270")).isEqualTo(170_000);
+        index.onPrice(id, 169_000);
+        assertThat(events).extracting(PriceTriggerEvent::getType).containsExactly(Type.STOP_LOSS);
+        assertThat(events.get(0).getLevel()).isEqualTo(170_000);
+        assertThat(index.lowerOf("068270")).isEqualTo(160_000);
+    }
+
+    @Test
+    @DisplayName("해제한 알림은 발화하지 않는다")
+    void removeAlert_preventsFire() {
+        int id = symbolRegistry.register("005380");
+        long alertId = index.addAlertBelow("005380", 200_000);
+
+        assertThat(index.removeAlert(alertId)).isTrue();
+        assertThat(index.removeAlert(alertId)).isFalse();
+        index.onPrice(id, 190_000);
+
+        assertThat(events).isEmpty();
+        assertThat(index.lowerOf("005380")).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("수백 종목·수천 개 알림에서도 넘어선 알림만 정확히 발화한다")
+    void manyAlerts() {
+        for (int s = 0; s < 300; s++) {
+            String code = String.format("%06d", s);
+            for (int a = 1; a <= 10; a++) {
+                index.addAlertAbove(code, 10_000 + a * 100);
+            }
+        }
+        assertThat(index.getAlertCount()).isEqualTo(3_000);
+
+        for (int s = 0; s < 300; s++) {
+            index.onPrice(symbolRegistry.idOf(String.format("%06d", s)), 10_350);
+        }
+
+        assertThat(events).hasSize(900);
+        assertThat(index.getAlertCount()).isEqualTo(2_100);
+        assertThat(index.upperOf("000042")).isEqualTo(10_400);
+    }
+}
@@ -3,14 +3,18 @@ package com.kairos.trading.domain.execution.service;
 import com.kairos.trading.common.event.KillSwitchEvent;
 import com.kairos.trading.common.event.TickDataEvent;
 import com.kairos.trading.common.event.ViEvent;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataType;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
 import com.kairos.trading.domain.strategy.dto.ExecutionOrder;
 import com.kairos.trading.domain.strategy.entity.TargetStock;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -33,9 +37,19 @@ class TradingLoopServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
-    @InjectMocks
+    @Spy
+    private SymbolRegistry symbolRegistry = new SymbolRegistry(64);
+
+    private PositionStateTable positions;
     private TradingLoopService tradingLoopService;
 
+    @BeforeEach
+    void setUp() {
+        positions = new PositionStateTable(symbolRegistry);
+        tradingLoopService = new TradingLoopService(executionService, trailingStopService, eventPublisher,
+                null, symbolRegistry, new PriceTriggerIndex(symbolRegistry, eventPublisher), positions);
+    }
+
     @Test
     @DisplayName("registerTarget: 종목 등록 시 모니터링 목록에 추가되어야 한다")
     void registerTarget_ShouldAddToActiveTargets() {
@@ -158,10 +172,89 @@ class TradingLoopServiceTest {
         tradingLoopService.onTickData(event);
 
         // Then
-        // target 객체의 상태가 변경되었는지 확인 (손절가가 65000으로 올랐는지)
-        assertThat(target.getCurrentStopLoss()).isEqualByComparingTo(new BigDecimal(newStopLoss));
+        // 포지션 테이블의 손절가가 65000으로 올랐는지 확인 (엔티티는 체결 경로에서 건드리지 않음)
+        assertThat(positions.stopLossOf("005930")).isEqualTo(newStopLoss);
+        assertThat(target.getCurrentStopLoss()).isEqualByComparingTo(new BigDecimal("60000"));
 
         // 주문은 발생하지 않아야 함
         verify(executionService, never()).submitOrder(any());
     }
+
+    @Test
+    @DisplayName("onTickData: 신고가가 아닌 체결에서는 트레일링 스탑을 다시 계산하지 않아야 한다")
+    void onTickData_ShouldSkipTrailingStop_WhenNoNewHigh() {
+        // Given
+        TargetStock target = TargetStock.builder()
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .originalTargetPrice(new BigDecimal("80000"))
+                .originalStopLoss(new BigDecimal("60000"))
+                .currentTargetPrice(new BigDecimal("80000"))
+                .currentStopLoss(new BigDecimal("60000"))
+                .build();
+        tradingLoopService.registerTarget(target);
+        when(trailingStopService.calculateTrailingStop(anyLong(), anyLong(), anyLong())).thenReturn(60000L);
+
+        // When: 고점 75000 이후 그 아래에서만 체결
+        tradingLoopService.onTickData(new TickDataEvent(this, "005930", 75000, 100, 1000, 5.0));
+        for (long price = 74900; price > 70000; price -= 100) {
+            tradingLoopService.onTickData(new TickDataEvent(this, "005930", price, 100, 1000, 4.0));
+        }
+
+        // Then
+        verify(trailingStopService, times(1)).calculateTrailingStop(60000L, 75000L, 80000L);
+        verify(executionService, never()).submitOrder(any());
+    }
+
+    @Test
+    @DisplayName("onTickData: 트레일링으로 올라간 손절가 아래로 내려오면 손절 주문을 생성해야 한다")
+    void onTickData_ShouldSubmitStopLossOrder_WhenTrailingStopReached() {
+        // Given
+        TargetStock target = TargetStock.builder()
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .originalTargetPrice(new BigDecimal("80000"))
+                .originalStopLoss(new BigDecimal("60000"))
+                .currentTargetPrice(new BigDecimal("80000"))
+                .currentStopLoss(new BigDecimal("60000"))
+                .build();
+        tradingLoopService.registerTarget(target);
+        when(trailingStopService.calculateTrailingStop(anyLong(), anyLong(), anyLong())).thenReturn(70000L);
+
+        // When: 76000 신고가로 손절가 70000 → 69900 체결
+        tradingLoopService.onTickData(new TickDataEvent(this, "005930", 76000, 100, 1000, 6.0));
+        tradingLoopService.onTickData(new TickDataEvent(this, "005930", 69900, 100, 1000, -1.0));
+
+        // Then
+        verify(executionService).submitOrder(argThat(order -> order.reason().contains("손절가 도달")));
+        assertThat(tradingLoopService.getActiveTargetCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("onTick: 체결 프레임(종목 ID)으로도 손절 주문을 생성하고 현재가를 기록해야 한다")
+    void onTick_ShouldSubmitStopLossOrder_WhenStopLossReached() {
+        // Given
+        TargetStock target = TargetStock.builder()
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .currentTargetPrice(new BigDecimal("70000"))
+                .currentStopLoss(new BigDecimal("60000"))
+                .build();
+        tradingLoopService.registerTarget(target);
+
+        MarketDataFrame frame = new MarketDataFrame();
+        frame.clear();
+        frame.setType(MarketDataType.TICK);
+        frame.setStockCode("005930");
+        frame.setSymbolId(symbolRegistry.idOf("005930"));
+        frame.setPrice(59000);
+
+        // When
+        tradingLoopService.onTick(frame);
+
+        // Then
+        verify(executionService).submitOrder(argThat(order -> order.reason().contains("손절가 도달")));
+        assertThat(tradingLoopService.getActiveTargetCount()).isZero();
+        assertThat(tradingLoopService.getCurrentPrice("005930")).isNull(); // 해제 시 현재가도 정리
+    }
 }
@@ -0,0 +1,37 @@
+package com.kairos.trading.domain.news.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentNewsBufferTest {
+
+    @Test
+    @DisplayName("종목코드나 종목명이 들어간 뉴스만 최신순으로 돌려준다")
+    void find_matchesCodeOrNameNewestFirst() {
+        var buffer = new RecentNewsBuffer(10);
+        buffer.add("[카카오] 신규 서비스 출시");
+        buffer.add("삼성전자 실적 발표");
+        buffer.add("035720 전 대표 횡령 혐의");
+
+        assertThat(buffer.find("035720", "카카오")).isEqualTo("035720 전 대표 횡령 혐의\n[카카오] 신규 서비스 출시");
+        assertThat(buffer.find("000660", "SK하이닉스")).isNull();
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래된 뉴스부터 버리고, 빈 본문은 무시한다")
+    void add_evictsOldestWhenFull() {
+        var buffer = new RecentNewsBuffer(2);
+        buffer.add("카카오 A");
+        buffer.add(" ");
+        buffer.add("카카오 B");
+        buffer.add("카카오 C");
+
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.find("035720", "카카오")).isEqualTo("카카오 C\n카카오 B");
+
+        buffer.clear();
+        assertThat(buffer.find("035720", "카카오")).isNull();
+    }
+}
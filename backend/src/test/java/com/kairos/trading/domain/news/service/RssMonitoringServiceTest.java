@@ -34,9 +34,15 @@ class RssMonitoringServiceTest {
     @Mock
     private SentinelService sentinelService;
 
+    @Mock
+    private SentinelBatchClassifier sentinelBatchClassifier;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private RecentNewsBuffer recentNews;
+
     @InjectMocks
     private RssMonitoringService rssMonitoringService;
 
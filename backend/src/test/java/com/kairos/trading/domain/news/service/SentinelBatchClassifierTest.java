@@ -0,0 +1,157 @@
+package com.kairos.trading.domain.news.service;
+
+import com.kairos.trading.domain.news.agent.SentinelAiClient;
+import com.kairos.trading.domain.news.dto.NewsAnalysisDto;
+import com.kairos.trading.domain.news.dto.NewsBatchAnalysisDto;
+import com.kairos.trading.domain.news.dto.NewsBatchAnalysisDto.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SentinelBatchClassifierTest {
+
+    private final SentinelAiClient client = mock(SentinelAiClient.class);
+    private SentinelBatchClassifier classifier;
+
+    @AfterEach
+    void tearDown() {
+        classifier.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 건을 번호로 묶어 한 번에 분류하고 입력 순서대로 돌려준다")
+    void classifyAll_packsItemsIntoOneCall() {
+        classifier = new SentinelBatchClassifier(client, 8000, 20, 500);
+        when(client.analyzeBatch(anyInt(), anyString())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            // 순서를 뒤집어 반환해도 id로 짝을 맞춘다
+            var items = new ArrayList<Item>();
+            for (int id = count; id >= 1; id--) {
+                items.add(new Item(id, news("뉴스" + id)));
+            }
+            return new NewsBatchAnalysisDto(items);
+        });
+
+        var results = classifier.classifyAll(texts(5));
+
+        assertThat(results).extracting(NewsAnalysisDto::summary)
+                .containsExactly("뉴스1", "뉴스2", "뉴스3", "뉴스4", "뉴스5");
+        verify(client, times(1)).analyzeBatch(5, "[1] 뉴스1\n[2] 뉴스2\n[3] 뉴스3\n[4] 뉴스4\n[5] 뉴스5\n");
+        verify(client, never()).analyze(anyString());
+        assertThat(classifier.getLlmCallCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 예산과 배치 한도를 넘으면 여러 배치로 나눈다")
+    void classifyAll_splitsByBudget() {
+        // 오버헤드 400 + 항목당 (입력 2 + 출력 150) → 예산 1000이면 배치당 3건
+        classifier = new SentinelBatchClassifier(client, 1000, 20, 500);
+        when(client.analyzeBatch(anyInt(), anyString())).thenAnswer(invocation -> echo(invocation.getArgument(1)));
+        when(client.analyze("뉴스7")).thenReturn(news("뉴스7"));
+
+        var results = classifier.classifyAll(texts(7));
+
+        assertThat(results).extracting(NewsAnalysisDto::summary).containsExactlyElementsOf(texts(7));
+        verify(client, times(2)).analyzeBatch(eq(3), anyString());
+        verify(client, never()).analyzeBatch(eq(1), anyString());
+        verify(client).analyze("뉴스7");
+    }
+
+    @Test
+    @DisplayName("응답에서 빠진 항목은 개별 호출로 보충하고 배치 한도를 줄인다")
+    void classifyBatch_fillsMissingItemsAndShrinks() {
+        classifier = new SentinelBatchClassifier(client, 8000, 20, 500);
+        when(client.analyzeBatch(anyInt(), anyString())).thenReturn(new NewsBatchAnalysisDto(List.of(
+                new Item(1, news("뉴스1")), new Item(3, news("뉴스3")))));
+        when(client.analyze("뉴스2")).thenReturn(news("뉴스2"));
+        when(client.analyze("뉴스4")).thenReturn(news("뉴스4"));
+
+        var results = classifier.classifyAll(texts(4));
+
+        assertThat(results).extracting(NewsAnalysisDto::summary)
+                .containsExactly("뉴스1", "뉴스2", "뉴스3", "뉴스4");
+        assertThat(classifier.getBatchLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 호출이 실패하면 반으로 나눠 재시도한다")
+    void classifyBatch_splitsOnFailure() {
+        classifier = new SentinelBatchClassifier(client, 8000, 20, 500);
+        when(client.analyzeBatch(anyInt(), anyString())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            if (count > 2) {
+                throw new IllegalStateException("응답 JSON 잘림");
+            }
+            return echo(invocation.getArgument(1));
+        });
+
+        var results = classifier.classifyAll(texts(4));
+
+        assertThat(results).extracting(NewsAnalysisDto::summary)
+                .containsExactly("뉴스1", "뉴스2", "뉴스3", "뉴스4");
+        assertThat(classifier.getBatchLimit()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 창 동안 제출된 뉴스를 한 번에 분류한다")
+    void submit_batchesWithinWindow() throws Exception {
+        classifier = new SentinelBatchClassifier(client, 8000, 20, 100);
+        when(client.analyzeBatch(anyInt(), anyString())).thenAnswer(invocation -> echo(invocation.getArgument(1)));
+
+        List<CompletableFuture<NewsAnalysisDto>> futures = texts(3).stream().map(classifier::submit).toList();
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).summary()).isEqualTo("뉴스" + (i + 1));
+        }
+        verify(client, times(1)).analyzeBatch(3, "[1] 뉴스1\n[2] 뉴스2\n[3] 뉴스3\n");
+    }
+
+    @Test
+    @DisplayName("배치 한도가 차면 창을 기다리지 않고 바로 보낸다")
+    void submit_flushesWhenFull() throws Exception {
+        classifier = new SentinelBatchClassifier(client, 8000, 2, 60_000);
+        when(client.analyzeBatch(anyInt(), anyString())).thenAnswer(invocation -> echo(invocation.getArgument(1)));
+
+        var first = classifier.submit("뉴스1");
+        var second = classifier.submit("뉴스2");
+
+        assertThat(first.get(5, TimeUnit.SECONDS).summary()).isEqualTo("뉴스1");
+        assertThat(second.get(5, TimeUnit.SECONDS).summary()).isEqualTo("뉴스2");
+    }
+
+    /**
+     * 프롬프트 항목을 그대로 요약으로 돌려주는 배치 응답.
+     */
+    private static NewsBatchAnalysisDto echo(String items) {
+        var results = new ArrayList<Item>();
+        for (var line : items.split("\n")) {
+            int close = line.indexOf(']');
+            results.add(new Item(Integer.parseInt(line.substring(1, close)), news(line.substring(close + 2))));
+        }
+        return new NewsBatchAnalysisDto(results);
+    }
+
+    private static List<String> texts(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> "뉴스" + i).toList();
+    }
+
+    private static NewsAnalysisDto news(String summary) {
+        return new NewsAnalysisDto("005930", "삼성전자", List.of(), "Neutral", 0, "Low", false, summary);
+    }
+}
@@ -0,0 +1,106 @@
+package com.kairos.trading.domain.strategy.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.domain.strategy.service.AnalystFanOutCoordinator.AnalystCall;
+import com.kairos.trading.domain.strategy.service.AnalystFanOutCoordinator.Outcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalystFanOutCoordinatorTest {
+
+    private AnalystFanOutCoordinator coordinator;
+
+    @AfterEach
+    void tearDown() {
+        coordinator.shutdown();
+    }
+
+    @Test
+    @DisplayName("기한 내 도착한 리포트만 넘기고 멈춘 분석가는 MISSING으로 표시하며 중단시킨다")
+    void fanOut_returnsPartialResultsAtDeadline() throws Exception {
+        coordinator = new AnalystFanOutCoordinator(new MockEnvironment(), 300, 10_000);
+        var interrupted = new AtomicBoolean();
+
+        long start = System.nanoTime();
+        var result = coordinator.fanOut(List.of(
+                new AnalystCall("Sentinel", () -> report("Sentinel")),
+                new AnalystCall("Sonar", () -> {
+                    try {
+                        new CountDownLatch(1).await(); // 응답 없는 Gemini 호출
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                        throw e;
+                    }
+                    return report("Sonar");
+                })));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isLessThan(5_000);
+        assertThat(result.outcomes()).containsEntry("Sentinel", Outcome.RECEIVED).containsEntry("Sonar", Outcome.TIMEOUT);
+        assertThat(result.missingAgents()).containsExactly("Sonar");
+        assertThat(result.receivedCount()).isEqualTo(1);
+        assertThat(result.reports()).extracting(AgentResponse::agentName).containsExactly("Sentinel", "Sonar");
+        assertThat(result.reports().get(1).isMissing()).isTrue();
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("분석가별 타임아웃은 전체 기한보다 먼저 해당 호출만 중단한다")
+    void fanOut_appliesPerAgentTimeout() throws Exception {
+        var environment = new MockEnvironment().withProperty("kairos.fanout.agents.axiom.timeout-ms", "100");
+        coordinator = new AnalystFanOutCoordinator(environment, 5_000, 5_000);
+
+        long start = System.nanoTime();
+        var result = coordinator.fanOut(List.of(
+                new AnalystCall("Vector", () -> {
+                    Thread.sleep(200);
+                    return report("Vector");
+                }),
+                new AnalystCall("Axiom", () -> {
+                    // 예외를 삼키고 대체 리포트를 돌려주는 에이전트
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        return new AgentResponse("Axiom", 0, "WATCH", "분석 실패", Map.of());
+                    }
+                    return report("Axiom");
+                })));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(4_000);
+        assertThat(result.outcomes()).containsEntry("Vector", Outcome.RECEIVED).containsEntry("Axiom", Outcome.TIMEOUT);
+        assertThat(coordinator.timeoutOf("Axiom")).isEqualTo(100);
+        assertThat(coordinator.timeoutOf("Vector")).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("실패한 분석가는 FAILED로 표시하고 에이전트별 지연시간/건수를 집계한다")
+    void fanOut_recordsFailuresAndLatency() throws Exception {
+        coordinator = new AnalystFanOutCoordinator(new MockEnvironment(), 2_000, 2_000);
+
+        var result = coordinator.fanOut(List.of(
+                new AnalystCall("Resonance", () -> {
+                    throw new IllegalStateException("quota exceeded");
+                }),
+                new AnalystCall("Sentinel", () -> report("Sentinel"))));
+
+        assertThat(result.outcomes()).containsEntry("Resonance", Outcome.FAILED);
+        var stats = coordinator.getAgentStats();
+        assertThat(stats.get("Resonance").failures()).isEqualTo(1);
+        assertThat(stats.get("Sentinel").latency().count()).isEqualTo(1);
+        assertThat(stats.get("Sentinel").timeouts()).isZero();
+    }
+
+    private static AgentResponse report(String agentName) {
+        return new AgentResponse(agentName, 80, "BUY", "ok", Map.of());
+    }
+}
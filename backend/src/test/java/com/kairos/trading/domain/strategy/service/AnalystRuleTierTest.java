@@ -0,0 +1,159 @@
+package com.kairos.trading.domain.strategy.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.common.ai.AgentResultCache;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.flow.service.SonarService;
+import com.kairos.trading.domain.news.service.SentinelService;
+import com.kairos.trading.domain.sentiment.service.ResonanceService;
+import com.kairos.trading.domain.technical.service.IntradayIndicatorEngine;
+import com.kairos.trading.domain.technical.service.NanoBananaCalculator;
+import com.kairos.trading.domain.technical.service.RollingIndicators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalystRuleTierTest {
+
+    private static final String CODE = "005930";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SymbolRegistry symbolRegistry = new SymbolRegistry(64);
+    private final IntradayIndicatorEngine indicatorEngine = new IntradayIndicatorEngine(symbolRegistry);
+
+    private AgentResultCache cache;
+    private AnalystRuleTier tier;
+
+    @BeforeEach
+    void setUp() {
+        indicatorEngine.init();
+        var environment = new MockEnvironment()
+                .withProperty("kairos.agent-cache.agents.axiom.ttl-minutes", "60")
+                .withProperty("kairos.agent-cache.agents.resonance.ttl-minutes", "30");
+        cache = new AgentResultCache(environment, meterRegistry, List.of(), 100, 0);
+        tier = newTier(true);
+    }
+
+    @Test
+    @DisplayName("Kill Switch 키워드가 있으면 Nexus 없이 ALERT로 결정한다")
+    void killSwitchKeyword_decidesAlert() {
+        var reports = tier.evaluate(inputs(null, "삼성전자 대표 횡령 혐의 기소"));
+
+        assertThat(reports.get("Sentinel").decision()).isEqualTo("ALERT");
+        assertThat(tier.decide(reports)).hasValueSatisfying(decision -> {
+            assertThat(decision.decision()).isEqualTo("ALERT");
+            assertThat(decision.reasoning()).contains("Sentinel");
+        });
+    }
+
+    @Test
+    @DisplayName("뉴스·수급·지표·캐시 등 입력이 없는 분석가는 확정하지 않고 모두 LLM에 넘긴다")
+    void missingInputs_inconclusive() {
+        var reports = tier.evaluate(inputs(null, null));
+
+        assertThat(reports.keySet()).containsExactlyElementsOf(AnalystRuleTier.ANALYSTS);
+        assertThat(reports.values()).allSatisfy(report -> {
+            assertThat(tier.isConclusive(report)).isFalse();
+            assertThat(report.confidence()).isZero();
+        });
+        assertThat(tier.decide(reports)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상승 중 대량 프로그램 순매도는 금액이 클수록 확신도가 높고, 기준 근처면 Veto하지 않는다")
+    void distribution_confidenceScalesWithAmount() {
+        var indicators = seedBullish(10_500);
+
+        tier.recordProgramTrade(symbolRegistry.idOf(CODE), -20_000_000_000L);
+        var heavy = tier.evaluate(inputs(indicators, null));
+        assertThat(heavy.get("Sonar").decision()).isEqualTo("REJECT");
+        assertThat(heavy.get("Sonar").confidence()).isEqualTo(1.0);
+        assertThat(tier.decide(heavy)).hasValueSatisfying(
+                decision -> assertThat(decision.decision()).isEqualTo("REJECT"));
+
+        tier.recordProgramTrade(symbolRegistry.idOf(CODE), -11_000_000_000L);
+        var marginal = tier.evaluate(inputs(indicators, null));
+        assertThat(marginal.get("Sonar").decision()).isEqualTo("REJECT");
+        assertThat(marginal.get("Sonar").confidence()).isBetween(0.8, 0.9);
+        assertThat(tier.decide(marginal)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NanoBanana 정배열은 규칙 BUY로 채우지만 BUY는 항상 Nexus를 거친다")
+    void bullishPattern_neverFastPathsBuy() {
+        var indicators = seedBullish(10_200);
+
+        var reports = tier.evaluate(inputs(indicators, null));
+
+        assertThat(reports.get("Vector").decision()).isEqualTo("BUY");
+        assertThat(tier.isConclusive(reports.get("Vector"))).isTrue();
+        assertThat(tier.decide(reports)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시된 시장 심리가 진입 기준보다 확실히 낮으면 Veto하고, 기준 근처면 LLM에 넘긴다")
+    void cachedHeat_vetoUnlessNearThreshold() {
+        cacheResonance(20);
+        var cold = tier.evaluate(inputs(null, null));
+        assertThat(cold.get("Resonance").decision()).isEqualTo("REJECT");
+        assertThat(tier.decide(cold)).isPresent();
+
+        cache.invalidate("Resonance", AgentResultCache.MARKET);
+        cacheResonance(32);
+        var near = tier.evaluate(inputs(null, null));
+        assertThat(tier.isConclusive(near.get("Resonance"))).isFalse();
+        assertThat(tier.decide(near)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 모든 분석가를 LLM에 넘기고, 계층별 결정 수를 집계한다")
+    void disabled_andStats() {
+        var disabled = newTier(false);
+        var reports = disabled.evaluate(inputs(null, "횡령"));
+        assertThat(reports.values()).noneMatch(disabled::isConclusive);
+        assertThat(disabled.decide(reports)).isEmpty();
+
+        tier.recordDecision(true, 5, 50_000);
+        tier.recordDecision(false, 2, 3_000_000_000L);
+
+        var stats = tier.getStats();
+        assertThat(stats.fastDecisions()).isEqualTo(1);
+        assertThat(stats.llmDecisions()).isEqualTo(1);
+        assertThat(stats.ruleReports()).isEqualTo(7);
+        assertThat(stats.llmReports()).isEqualTo(3);
+        assertThat(stats.fastLatency().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("kairos.tier.decisions").tag("tier", "rule").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    private AnalystRuleTier newTier(boolean enabled) {
+        return new AnalystRuleTier(new SentinelService(null, null), new SonarService(null, null),
+                new ResonanceService(null), new NanoBananaCalculator(), cache, symbolRegistry,
+                enabled ? meterRegistry : new SimpleMeterRegistry(), enabled, 0.8, 0.9);
+    }
+
+    /**
+     * 정배열·수렴(MA5 10200 > MA20 10100 > MA60 10000), 전일 종가 10200, 평균 거래량의 5배 체결.
+     */
+    private RollingIndicators seedBullish(long price) {
+        var indicators = indicatorEngine.seedAverages(CODE, "삼성전자", 10_200, 10_100, 10_000, 1_000);
+        indicatorEngine.onTick(symbolRegistry.idOf(CODE), price, 5_000);
+        return indicators;
+    }
+
+    private void cacheResonance(int heat) {
+        cache.getOrCompute("Resonance", AgentResultCache.MARKET, AgentResultCache.MARKET,
+                () -> new AgentResponse("Resonance", heat, "WATCH", "시장 심리", Map.of()));
+    }
+
+    private static AnalystRuleTier.Inputs inputs(RollingIndicators indicators, String newsText) {
+        return new AnalystRuleTier.Inputs(CODE, "삼성전자", 10_500, indicators, newsText, null, null, "AGGRESSIVE");
+    }
+}
@@ -0,0 +1,201 @@
+package com.kairos.trading.domain.strategy.service;
+
+import com.kairos.trading.common.ai.AgentResponse;
+import com.kairos.trading.domain.strategy.agent.NexusAiClient;
+import com.kairos.trading.domain.strategy.dto.StrategyDecisionDto;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.TokenStream;
+import dev.langchain4j.service.tool.ToolExecution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NexusStreamingServiceTest {
+
+    private static final List<AgentResponse> REPORTS = List.of(
+            new AgentResponse("Vector", 85, "BUY", "정배열", Map.of()));
+
+    private final NexusAiClient client = mock(NexusAiClient.class);
+    private final NexusService nexusService = new NexusService(client, null);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("결정·목표가·손절가가 끝나면 서술 필드를 기다리지 않고 실행 가능한 결정을 낸다")
+    void decide_completesActionableBeforeNarrative() {
+        var stream = new FakeTokenStream();
+        when(client.decideStreaming(anyString(), anyString(), anyString(), anyString())).thenReturn(stream);
+        var service = newService(true);
+
+        var decision = service.decide(REPORTS, "AGGRESSIVE", "005930", "삼성전자");
+        stream.emit("{\"decision\": \"BUY\", \"finalScore\": 88, \"riskLevel\": \"MEDIUM\", ");
+        stream.emit("\"positionSize\": 0.2, \"targetPrice\": 52000, \"stopLossPrice\": 49000");
+        assertThat(decision.actionable()).isNotDone();
+
+        stream.emit(", \"reasoning\": \"모멘텀");
+        assertThat(decision.actionable()).isCompletedWithValueMatching(d ->
+                d.isBuyApproved() && d.targetPrice() == 52000 && d.stopLossPrice() == 49000
+                        && d.reasoning() == null);
+        assertThat(decision.complete()).isNotDone();
+
+        stream.emit(" 우세\", \"dissent\": null}");
+        stream.finish();
+        assertThat(decision.complete()).isCompletedWithValueMatching(d -> "모멘텀 우세".equals(d.reasoning()));
+        assertThat(meterRegistry.get("kairos.nexus.decision.latency").tag("stage", "actionable").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("kairos.nexus.decision.latency").tag("stage", "complete").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문자열로 온 목표가·손절가도 숫자로 해석해 실행 가능한 결정을 낸다")
+    void decide_parsesStringPrices() {
+        var stream = new FakeTokenStream();
+        when(client.decideStreaming(anyString(), anyString(), anyString(), anyString())).thenReturn(stream);
+
+        var decision = newService(true).decide(REPORTS, "AGGRESSIVE", "005930", "삼성전자");
+        stream.emit("{\"decision\": \"BUY\", \"targetPrice\": \"75000\", \"stopLossPrice\": \"71,500\", ");
+
+        assertThat(decision.actionable()).isCompletedWithValueMatching(d ->
+                d.isBuyApproved() && d.targetPrice() == 75000 && d.stopLossPrice() == 71500);
+    }
+
+    @Test
+    @DisplayName("BUY의 가격이 숫자가 아니거나 0이면 실행하지 않고 끝까지 받은 뒤 동기 호출로 대체한다")
+    void decide_invalidPricesFallBack() throws Exception {
+        var stream = new FakeTokenStream();
+        when(client.decideStreaming(anyString(), anyString(), anyString(), anyString())).thenReturn(stream);
+        var expected = new StrategyDecisionDto("BUY", 85, "MEDIUM", 0.2, 75000, 71000, "모멘텀", null);
+        when(client.decide(anyString(), anyString(), anyString(), anyString())).thenReturn(expected);
+
+        var decision = newService(true).decide(REPORTS, "AGGRESSIVE", "005930", "삼성전자");
+        stream.emit("{\"decision\": \"BUY\", \"targetPrice\": \"미정\", \"stopLossPrice\": 0, ");
+        assertThat(decision.actionable()).isNotDone();
+
+        stream.emit("\"reasoning\": \"가격 산출 불가\"}");
+        stream.finish();
+
+        assertThat(decision.actionable().get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("BUY가 아니면 decision만으로 실행 가능하다")
+    void decide_nonBuyNeedsDecisionOnly() {
+        var stream = new FakeTokenStream();
+        when(client.decideStreaming(anyString(), anyString(), anyString(), anyString())).thenReturn(stream);
+
+        var decision = newService(true).decide(REPORTS, "STABLE", "005930", "삼성전자");
+        stream.emit("{\"decision\": \"reject\", \"finalScore\"");
+
+        assertThat(decision.actionable()).isCompletedWithValueMatching(StrategyDecisionDto::isRejected);
+    }
+
+    @Test
+    @DisplayName("스트림이 결정 전에 실패하면 동기 호출로 대체한다")
+    void decide_fallsBackOnStreamError() throws Exception {
+        var stream = new FakeTokenStream();
+        when(client.decideStreaming(anyString(), anyString(), anyString(), anyString())).thenReturn(stream);
+        var expected = new StrategyDecisionDto("WATCH", 60, "LOW", 0.0, 0, 0, "관망", null);
+        when(client.decide(anyString(), anyString(), anyString(), anyString())).thenReturn(expected);
+
+        var decision = newService(true).decide(REPORTS, "NEUTRAL", "005930", "삼성전자");
+        stream.emit("{\"finalSc");
+        stream.fail(new IllegalStateException("연결 끊김"));
+
+        assertThat(decision.actionable().get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+        assertThat(decision.complete().get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 동기 의사결정을 그대로 쓴다")
+    void decide_disabledUsesSyncPath() {
+        var expected = new StrategyDecisionDto("BUY", 90, "HIGH", 0.1, 52000, 49000, "만장일치", null);
+        when(client.decide(anyString(), anyString(), anyString(), anyString())).thenReturn(expected);
+
+        var decision = newService(false).decide(REPORTS, "AGGRESSIVE", "005930", "삼성전자");
+
+        assertThat(decision.actionable()).isCompletedWithValue(expected);
+        assertThat(decision.complete()).isCompletedWithValue(expected);
+        verify(client, never()).decideStreaming(anyString(), anyString(), anyString(), anyString());
+    }
+
+    private NexusStreamingService newService(boolean enabled) {
+        return new NexusStreamingService(client, nexusService, meterRegistry, enabled, 1000);
+    }
+
+    /**
+     * 테스트가 토큰을 직접 흘려보내는 스트림.
+     */
+    private static final class FakeTokenStream implements TokenStream {
+        private final StringBuilder text = new StringBuilder();
+        private Consumer<String> onNext = token -> {
+        };
+        private Consumer<Response<AiMessage>> onComplete = response -> {
+        };
+        private Consumer<Throwable> onError = error -> {
+        };
+
+        void emit(String token) {
+            text.append(token);
+            onNext.accept(token);
+        }
+
+        void finish() {
+            onComplete.accept(Response.from(AiMessage.from(text.toString())));
+        }
+
+        void fail(Throwable error) {
+            onError.accept(error);
+        }
+
+        @Override
+        public TokenStream onNext(Consumer<String> tokenHandler) {
+            this.onNext = tokenHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream onRetrieved(Consumer<List<Content>> contentHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onToolExecuted(Consumer<ToolExecution> toolExecuteHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onComplete(Consumer<Response<AiMessage>> completionHandler) {
+            this.onComplete = completionHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream onError(Consumer<Throwable> errorHandler) {
+            this.onError = errorHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream ignoreErrors() {
+            return this;
+        }
+
+        @Override
+        public void start() {
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.kairos.trading.domain.technical.indicator;
+
+import com.kairos.trading.domain.technical.dto.DailyChartResponse.DailyCandle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 증분 지표 테스트 (전체 재계산 결과와 비교).
+ */
+class BarIndicatorTest {
+
+    private static final int BARS = 120;
+
+    private final long[] high = new long[BARS];
+    private final long[] low = new long[BARS];
+    private final long[] close = new long[BARS];
+    private final long[] volume = new long[BARS];
+
+    {
+        var random = new Random(7);
+        long price = 50_000;
+        for (int i = 0; i < BARS; i++) {
+            price += random.nextInt(2_001) - 1_000;
+            close[i] = price;
+            high[i] = price + random.nextInt(800);
+            low[i] = price - random.nextInt(800);
+            volume[i] = 10_000 + random.nextInt(90_000);
+        }
+    }
+
+    private void feed(BarIndicator indicator, int bars) {
+        for (int i = 0; i < bars; i++) {
+            indicator.onBar(high[i], low[i], close[i], volume[i]);
+        }
+    }
+
+    @Nested
+    @DisplayName("ATR")
+    class AtrTest {
+
+        @Test
+        @DisplayName("Wilder 평활 ATR이 전체 재계산과 같다")
+        void matchesWilder() {
+            var atr = new AverageTrueRange(14);
+            feed(atr, 13);
+            assertThat(atr.isReady()).isFalse();
+            assertThat(atr.value()).isZero();
+
+            for (int i = 13; i < BARS; i++) {
+                atr.onBar(high[i], low[i], close[i], volume[i]);
+            }
+
+            double expected = 0;
+            for (int i = 0; i < BARS; i++) {
+                double tr = i == 0 ? high[i] - low[i]
+                        : Math.max(high[i] - low[i],
+                                Math.max(Math.abs(high[i] - close[i - 1]), Math.abs(low[i] - close[i - 1])));
+                expected = i < 14 ? expected + tr / 14 : (expected * 13 + tr) / 14;
+            }
+            assertThat(atr.value()).isCloseTo(expected, within(1e-6));
+            assertThat(atr.valueAt(close[BARS - 1] + 5_000, close[BARS - 1] - 5_000)).isGreaterThan(atr.value());
+        }
+    }
+
+    @Nested
+    @DisplayName("RSI")
+    class RsiTest {
+
+        @Test
+        @DisplayName("Wilder RSI가 전체 재계산과 같고 진행 중 봉 값은 상태를 바꾸지 않는다")
+        void matchesWilder() {
+            var rsi = new RelativeStrengthIndex(14);
+            feed(rsi, BARS);
+
+            double gain = 0;
+            double loss = 0;
+            for (int i = 1; i < BARS; i++) {
+                long change = close[i] - close[i - 1];
+                if (i <= 14) {
+                    gain += Math.max(change, 0) / 14.0;
+                    loss += Math.max(-change, 0) / 14.0;
+                } else {
+                    gain = (gain * 13 + Math.max(change, 0)) / 14;
+                    loss = (loss * 13 + Math.max(-change, 0)) / 14;
+                }
+            }
+            double expected = 100 - 100 / (1 + gain / loss);
+            assertThat(rsi.value()).isCloseTo(expected, within(1e-9));
+
+            double live = rsi.valueAt(close[BARS - 1] + 10_000);
+            assertThat(live).isGreaterThan(rsi.value());
+            assertThat(rsi.value()).isCloseTo(expected, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("과매도 구간에서 30을 상향 돌파하면 crossedAbove")
+        void crossedAbove() {
+            var rsi = new RelativeStrengthIndex(14);
+            long price = 10_000;
+            for (int i = 0; i < 20; i++) {
+                price -= 100;
+                rsi.onBar(price, price, price, 1);
+            }
+            assertThat(rsi.value()).isLessThan(30);
+
+            for (int i = 0; i < 10 && !rsi.crossedAbove(30); i++) {
+                price += 300;
+                rsi.onBar(price, price, price, 1);
+            }
+            assertThat(rsi.crossedAbove(30)).isTrue();
+            assertThat(rsi.crossedBelow(30)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("볼린저 밴드")
+    class BollingerTest {
+
+        @Test
+        @DisplayName("최근 20봉 평균 ± 2σ와 같고 상단 이탈 시 과열로 판정한다")
+        void matchesWindow() {
+            var bands = new BollingerBands(20, 2.0);
+            feed(bands, BARS);
+
+            double mean = 0;
+            for (int i = BARS - 20; i < BARS; i++) {
+                mean += close[i] / 20.0;
+            }
+            double variance = 0;
+            for (int i = BARS - 20; i < BARS; i++) {
+                variance += (close[i] - mean) * (close[i] - mean) / 20.0;
+            }
+            assertThat(bands.middle()).isCloseTo(mean, within(1e-6));
+            assertThat(bands.upper()).isCloseTo(mean + 2 * Math.sqrt(variance), within(1e-4));
+            assertThat(bands.isOverextended((long) bands.upper() + 1)).isTrue();
+            assertThat(bands.isOverextended((long) bands.middle())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("VWAP / OBV")
+    class VolumeTest {
+
+        @Test
+        @DisplayName("VWAP은 체결 거래량 가중 평균, 초기화 후 다시 누적한다")
+        void vwap() {
+            var vwap = new VolumeWeightedAveragePrice();
+            vwap.onTrade(10_000, 100);
+            vwap.onTrade(10_200, 300);
+            vwap.onTrade(10_100, 0);
+            assertThat(vwap.value()).isCloseTo((10_000 * 100 + 10_200 * 300) / 400.0, within(1e-9));
+
+            vwap.reset();
+            assertThat(vwap.isReady()).isFalse();
+            assertThat(vwap.value()).isZero();
+        }
+
+        @Test
+        @DisplayName("OBV는 종가 상승 시 거래량을 더하고 하락 시 뺀다")
+        void obv() {
+            var obv = new OnBalanceVolume();
+            feed(obv, BARS);
+
+            long expected = 0;
+            for (int i = 1; i < BARS; i++) {
+                expected += Long.signum(close[i] - close[i - 1]) * volume[i];
+            }
+            assertThat(obv.value()).isEqualTo(expected);
+            assertThat(obv.valueAt(close[BARS - 1] + 1, 500)).isEqualTo(expected + 500);
+        }
+    }
+
+    @Test
+    @DisplayName("일봉 일괄 초기화는 응답 순서와 무관하게 오래된 일자부터 반영한다")
+    void initialize_fromCandles() {
+        List<DailyCandle> candles = new ArrayList<>();
+        for (int i = BARS - 1; i >= 0; i--) {
+            candles.add(new DailyCandle(String.format("2025%04d", 101 + i), close[i], close[i],
+                    high[i], low[i], volume[i], 0, 0, 0, "3"));
+        }
+        var initialized = new AverageTrueRange(14);
+        initialized.initialize(candles);
+
+        var streamed = new AverageTrueRange(14);
+        feed(streamed, BARS);
+
+        assertThat(initialized.value()).isEqualTo(streamed.value());
+    }
+}
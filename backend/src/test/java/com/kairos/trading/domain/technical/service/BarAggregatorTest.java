@@ -0,0 +1,120 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.MarketDataFrame;
+import com.kairos.trading.common.marketdata.MarketDataType;
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.technical.dto.BarInterval;
+import com.kairos.trading.domain.technical.dto.ClosedBar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class BarAggregatorTest {
+
+    @Mock
+    private MarketDataDispatcher dispatcher;
+
+    private SymbolRegistry symbolRegistry;
+    private BarAggregator aggregator;
+    private final List<ClosedBar> closed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        symbolRegistry = new SymbolRegistry(16);
+        aggregator = new BarAggregator(dispatcher, symbolRegistry);
+        aggregator.init();
+        aggregator.addListener(closed::add);
+    }
+
+    @Test
+    @DisplayName("체결로 1분봉 OHLCV를 만들고 다음 분 첫 체결에 직전 봉을 마감한다")
+    void onTrade_buildsMinuteBars() {
+        trade("005930", 90_000, 10_000, 100);
+        trade("005930", 90_020, 10_300, 250);
+        trade("005930", 90_059, 9_900, 400);
+        assertThat(closed).isEmpty();
+
+        trade("005930", 90_100, 10_100, 450);
+
+        var bars = aggregator.bars("005930", BarInterval.MINUTE_1, 10);
+        assertThat(bars.size()).isEqualTo(2);
+        assertThat(bars.start()).containsExactly(90_000, 90_100);
+        assertThat(bars.open()[0]).isEqualTo(10_000);
+        assertThat(bars.high()[0]).isEqualTo(10_300);
+        assertThat(bars.low()[0]).isEqualTo(9_900);
+        assertThat(bars.close()[0]).isEqualTo(9_900);
+        assertThat(bars.volume()).containsExactly(400, 50);
+
+        assertThat(closed).singleElement().satisfies(bar -> {
+            assertThat(bar.interval()).isEqualTo(BarInterval.MINUTE_1);
+            assertThat(bar.start()).isEqualTo(90_000);
+            assertThat(bar.close()).isEqualTo(9_900);
+        });
+    }
+
+    @Test
+    @DisplayName("3/5/15분봉은 주기 시작 시각으로 묶이고 일봉은 하루 전체를 담는다")
+    void onTrade_alignsIntervals() {
+        trade("000660", 90_000, 100, 10);
+        trade("000660", 90_200, 110, 20);
+        trade("000660", 90_300, 120, 30);
+        trade("000660", 91_400, 90, 40);
+        trade("000660", 91_500, 130, 50);
+
+        assertThat(aggregator.bars("000660", BarInterval.MINUTE_3, 10).start())
+                .containsExactly(90_000, 90_300, 91_200, 91_500);
+        assertThat(aggregator.bars("000660", BarInterval.MINUTE_15, 10).start())
+                .containsExactly(90_000, 91_500);
+        var day = aggregator.bars("000660", BarInterval.DAY, 10);
+        assertThat(day.size()).isEqualTo(1);
+        assertThat(day.high()[0]).isEqualTo(130);
+        assertThat(day.low()[0]).isEqualTo(90);
+        assertThat(day.volume()[0]).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("체결·체결 상세 두 스트림의 같은 체결은 거래량이 중복 집계되지 않는다")
+    void onTrade_deduplicatesByAccumulatedVolume() {
+        trade("035720", 90_000, 500, 100);
+        trade("035720", 90_000, 500, 100);
+        trade("035720", 90_001, 510, 180);
+        trade("035720", 90_001, 510, 180);
+
+        assertThat(aggregator.bars("035720", BarInterval.MINUTE_1, 10).volume()).containsExactly(180);
+    }
+
+    @Test
+    @DisplayName("집계 봉을 ka10080 형식(최신순)으로 변환한다")
+    void minuteChart_newestFirst() {
+        trade("005930", 90_000, 10_000, 100);
+        trade("005930", 90_100, 10_100, 300);
+
+        var chart = aggregator.minuteChart("005930", 1, 30);
+
+        assertThat(chart.candles()).extracting(c -> c.time()).containsExactly("090100", "090000");
+        assertThat(chart.candles().getFirst().accumulatedVolume()).isEqualTo(300);
+        assertThat(aggregator.minuteChart("005930", 7, 30).candles()).isEmpty();
+        assertThat(aggregator.minuteChart("999999", 1, 30).candles()).isEmpty();
+    }
+
+    private void trade(String stockCode, int time, long price, long accVolume) {
+        var frame = new MarketDataFrame();
+        frame.setType(MarketDataType.TICK);
+        frame.setStockCode(stockCode);
+        frame.setSymbolId(symbolRegistry.register(stockCode));
+        frame.setExchangeTime(time);
+        frame.setPrice(price);
+        frame.setAccVolume(accVolume);
+        aggregator.onTrade(frame);
+    }
+}
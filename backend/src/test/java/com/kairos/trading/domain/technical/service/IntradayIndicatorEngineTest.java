@@ -0,0 +1,118 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.technical.dto.DailyChartResponse.DailyCandle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class IntradayIndicatorEngineTest {
+
+    private SymbolRegistry symbolRegistry;
+    private IntradayIndicatorEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        symbolRegistry = new SymbolRegistry(16);
+        engine = new IntradayIndicatorEngine(symbolRegistry);
+        engine.init();
+    }
+
+    @Test
+    @DisplayName("체결마다 오늘 봉을 포함한 이평선이 전체 재계산 값과 같다")
+    void onTick_matchesFullRecompute() {
+        // Given: 100일치 일봉 (최신순 응답), 오늘 봉은 시드에서 제외
+        List<DailyCandle> candles = new ArrayList<>();
+        List<Long> closes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            long close = 10_000 + (i * 37) % 500;
+            closes.add(close);
+            candles.add(0, candle(String.format("2025%04d", 101 + i), close, 1_000 + i));
+        }
+        candles.add(0, candle("20260101", 99_999, 1));
+        engine.seed("005930", "삼성전자", candles, "20260101");
+        int symbolId = symbolRegistry.idOf("005930");
+
+        // When
+        var indicators = engine.onTick(symbolId, 10_800, 50_000);
+
+        // Then
+        closes.add(10_800L);
+        assertThat(indicators.ma5()).isCloseTo(sma(closes, 5), within(1e-9));
+        assertThat(indicators.ma20()).isCloseTo(sma(closes, 20), within(1e-9));
+        assertThat(indicators.ma60()).isCloseTo(sma(closes, 60), within(1e-9));
+        assertThat(indicators.ema20()).isCloseTo(ema(closes, 20), within(1e-6));
+        assertThat(indicators.avgVolume()).isEqualTo((1_080 + 1_099) * 20 / 2 / 20);
+        assertThat(indicators.accVolume()).isEqualTo(50_000);
+    }
+
+    @Test
+    @DisplayName("장 마감 편입 후 다음 날 이평선이 창을 밀어 계산된다")
+    void rollover_slidesWindow() {
+        List<DailyCandle> candles = new ArrayList<>();
+        List<Long> closes = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            closes.add(20_000L + i * 10);
+            candles.add(candle(String.format("2025%04d", 101 + i), 20_000L + i * 10, 500));
+        }
+        engine.seed("000660", "SK하이닉스", candles, "20260101");
+        int symbolId = symbolRegistry.idOf("000660");
+
+        engine.onTick(symbolId, 30_000, 9_000);
+        engine.rollover();
+        closes.add(30_000L);
+
+        var indicators = engine.get("000660");
+        assertThat(indicators.price()).isEqualTo(30_000);
+        assertThat(indicators.ma5()).isCloseTo(sma(closes, 5), within(1e-9));
+        assertThat(indicators.ma60()).isCloseTo(sma(closes, 60), within(1e-9));
+        assertThat(indicators.avgVolume()).isEqualTo((19 * 500 + 9_000) / 20);
+    }
+
+    @Test
+    @DisplayName("이평선 값으로 시드하면 체결 전 이평선이 주어진 값과 일치한다")
+    void seedAverages_reproducesAverages() {
+        var indicators = engine.seedAverages("035720", "카카오", 10_100, 10_050, 10_000, 100_000);
+
+        assertThat(indicators.ma5()).isCloseTo(10_100, within(1.0));
+        assertThat(indicators.ma20()).isCloseTo(10_050, within(1.0));
+        assertThat(indicators.ma60()).isCloseTo(10_000, within(1.0));
+        assertThat(indicators.ema20()).isEqualTo(10_050);
+        assertThat(indicators.avgVolume()).isEqualTo(100_000);
+
+        engine.onTick(symbolRegistry.idOf("035720"), 10_200, 300_000);
+        assertThat(indicators.ma5()).isCloseTo((4 * 10_100 + 10_200) / 5.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("시드되지 않은 종목은 null")
+    void onTick_unseeded_returnsNull() {
+        assertThat(engine.onTick(symbolRegistry.register("999999"), 1_000, 1)).isNull();
+        assertThat(engine.onTick(SymbolRegistry.NO_SYMBOL, 1_000, 1)).isNull();
+        assertThat(engine.get("888888")).isNull();
+    }
+
+    private static DailyCandle candle(String date, long close, long volume) {
+        return new DailyCandle(date, close, close, close, close, volume, 0, 0, 0, "3");
+    }
+
+    private static double sma(List<Long> closes, int period) {
+        return closes.subList(closes.size() - period, closes.size()).stream()
+                .mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    private static double ema(List<Long> closes, int period) {
+        double alpha = 2.0 / (period + 1);
+        double ema = closes.get(0);
+        for (int i = 1; i < closes.size(); i++) {
+            ema += alpha * (closes.get(i) - ema);
+        }
+        return ema;
+    }
+}
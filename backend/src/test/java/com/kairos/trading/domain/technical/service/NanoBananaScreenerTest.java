@@ -0,0 +1,150 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.technical.dto.DailyChartResponse;
+import com.kairos.trading.domain.technical.dto.ScreenerHit;
+import com.kairos.trading.domain.technical.store.CandleFile;
+import com.kairos.trading.domain.technical.store.DailyCandleStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class NanoBananaScreenerTest {
+
+    private SymbolRegistry symbolRegistry;
+    private DailyCandleStore candleStore;
+    private NanoBananaScreener screener;
+    private final NanoBananaCalculator calculator = new NanoBananaCalculator();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        symbolRegistry = new SymbolRegistry(4096);
+        candleStore = new DailyCandleStore(tempDir.resolve("candles").toString(), 64);
+        screener = new NanoBananaScreener(symbolRegistry, candleStore, 20);
+        screener.init();
+    }
+
+    @Test
+    @DisplayName("전 종목 일괄 점수가 종목별 계산기 판정과 일치하고 점수 내림차순으로 반환된다")
+    void scan_matchesScalarCalculator() {
+        // Given: 3,000종목 (일부만 패턴 조건 충족)
+        var random = new Random(42);
+        int n = 3_000;
+        double[][] inputs = new double[n][];
+        for (int i = 0; i < n; i++) {
+            double base = 10_000 + random.nextInt(50_000);
+            double ma60 = base;
+            double ma20 = base * (1 + random.nextDouble() * 0.04 - 0.01);
+            double ma5 = ma20 * (1 + random.nextDouble() * 0.04 - 0.01);
+            long avgVolume = 100_000;
+            long todayVolume = (long) (avgVolume * random.nextDouble() * 4);
+            int id = symbolRegistry.register(String.format("%06d", i));
+            screener.update(id, ma5, ma20, ma60, todayVolume, avgVolume);
+            inputs[id] = new double[] { ma5, ma20, ma60, todayVolume, avgVolume };
+        }
+
+        // When
+        var hits = screener.scan(20);
+
+        // Then
+        long expectedCount = 0;
+        for (double[] in : inputs) {
+            if (isPattern(in)) {
+                expectedCount++;
+            }
+        }
+        assertThat(hits).hasSize((int) Math.min(20, expectedCount));
+        assertThat(hits).isSortedAccordingTo((a, b) -> Double.compare(b.score(), a.score()));
+        for (ScreenerHit hit : hits) {
+            double[] in = inputs[symbolRegistry.idOf(hit.stockCode())];
+            assertThat(isPattern(in)).isTrue();
+            assertThat(hit.convergence()).isCloseTo(calculator.calculateConvergence(in[0], in[1], in[2]), within(1e-9));
+            assertThat(hit.volumeRatio()).isCloseTo(in[3] / in[4], within(1e-9));
+        }
+        assertThat(screener.getLatest()).isEqualTo(hits);
+    }
+
+    @Test
+    @DisplayName("지표가 없는 종목과 역배열 종목은 결과에서 제외된다")
+    void scan_excludesUnseededAndBearish() {
+        int bullish = symbolRegistry.register("005930");
+        int bearish = symbolRegistry.register("000660");
+        symbolRegistry.register("035720");
+
+        screener.update(bullish, 10_100, 10_050, 10_000, 300_000, 100_000);
+        screener.update(bearish, 10_000, 10_050, 10_100, 300_000, 100_000);
+
+        assertThat(screener.scan(10)).extracting(ScreenerHit::stockCode).containsExactly("005930");
+    }
+
+    @Test
+    @DisplayName("상위 개수가 0 이하면 통과 종목이 있어도 빈 목록을 돌려준다")
+    void scan_nonPositiveTopNReturnsEmpty() {
+        int bullish = symbolRegistry.register("005930");
+        screener.update(bullish, 10_100, 10_050, 10_000, 300_000, 100_000);
+
+        assertThat(screener.scan(0)).isEmpty();
+        assertThat(screener.scan(-1)).isEmpty();
+        assertThat(screener.getLatest()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로컬 일봉으로 시드하면 마지막 일봉을 당일로 보고 점수화하고, 60일 미만이면 시드하지 않는다")
+    void seed_fromCandleFile() throws Exception {
+        int rising = symbolRegistry.register("005930");
+        int shortHistory = symbolRegistry.register("000660");
+        try (var full = CandleFile.open(tempDir.resolve("005930.candles"), 64);
+                var partial = CandleFile.open(tempDir.resolve("000660.candles"), 64)) {
+            for (int i = 0; i < 60; i++) {
+                long close = 10_000 + i * 2L;
+                full.append(20250101 + i, close, close, close, close, i == 59 ? 300_000 : 100_000);
+                if (i < 30) {
+                    partial.append(20250101 + i, close, close, close, close, 300_000);
+                }
+            }
+
+            assertThat(screener.seed(rising, full)).isTrue();
+            assertThat(screener.seed(shortHistory, partial)).isFalse();
+        }
+
+        var hits = screener.scan(10);
+        assertThat(hits).extracting(ScreenerHit::stockCode).containsExactly("005930");
+        assertThat(hits.getFirst().volumeRatio()).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("일봉 저장소의 전 종목을 레지스트리에 등록하고 시드해 스캔 대상에 올린다")
+    void seedUniverse_registersStoredSymbols() throws Exception {
+        var candles = new ArrayList<DailyChartResponse.DailyCandle>();
+        for (int i = 0; i < 60; i++) {
+            long close = 10_000 + i * 2L;
+            candles.add(new DailyChartResponse.DailyCandle(String.valueOf(20250101 + i),
+                    close, close, close, close, i == 59 ? 300_000 : 100_000, 0, 0, 0, "3"));
+        }
+        candleStore.append("035720", candles, 20260101);
+        candleStore.append("000660", candles.subList(0, 30), 20260101);
+
+        assertThat(screener.seedUniverse()).isEqualTo(1);
+
+        assertThat(symbolRegistry.idOf("000660")).isNotEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(screener.scan(10)).extracting(ScreenerHit::stockCode).containsExactly("035720");
+        candleStore.close();
+    }
+
+    private boolean isPattern(double[] in) {
+        double convergence = calculator.calculateConvergence(in[0], in[1], in[2]);
+        double ratio = calculator.calculateVolumeRatio((long) in[3], (long) in[4]);
+        return convergence >= 0.7 && ratio >= 2.0 && calculator.isBullishAlignment(in[0], in[1], in[2]);
+    }
+}
@@ -0,0 +1,90 @@
+package com.kairos.trading.domain.technical.service;
+
+import com.kairos.trading.common.marketdata.SymbolRegistry;
+import com.kairos.trading.domain.technical.service.SignalStateMachine.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalStateMachineTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private SymbolRegistry symbolRegistry;
+    private SignalStateMachine machine;
+    private int symbolId;
+
+    @BeforeEach
+    void setUp() {
+        symbolRegistry = new SymbolRegistry(16);
+        machine = new SignalStateMachine(symbolRegistry, 60);
+        machine.init();
+        symbolId = symbolRegistry.register("005930");
+    }
+
+    @Test
+    @DisplayName("조건이 유지되는 동안에는 처음 한 번만 발화하고 나머지는 억제한다")
+    void fireOnceOnRisingEdge() {
+        assertThat(machine.evaluate(symbolId, false, 0)).isFalse();
+
+        assertThat(machine.evaluate(symbolId, true, SECOND)).isTrue();
+        for (int i = 2; i < 102; i++) {
+            assertThat(machine.evaluate(symbolId, true, i * SECOND)).isFalse();
+        }
+
+        assertThat(machine.stateOf("005930")).isEqualTo(State.FIRED);
+        assertThat(machine.firedCount("005930")).isEqualTo(1);
+        assertThat(machine.suppressedCount("005930")).isEqualTo(100);
+        assertThat(machine.firedCount()).isEqualTo(1);
+        assertThat(machine.suppressedCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("쿨다운 중에는 조건이 다시 참이 되어도 발화하지 않고, 쿨다운 후 조건 해제를 거쳐야 재무장한다")
+    void cooldownThenRearm() {
+        machine.evaluate(symbolId, true, 0);
+        machine.evaluate(symbolId, false, 10 * SECOND);
+        assertThat(machine.stateOf("005930")).isEqualTo(State.COOLDOWN);
+
+        // 쿨다운 중 재돌파 → 억제
+        assertThat(machine.evaluate(symbolId, true, 20 * SECOND)).isFalse();
+        // 쿨다운이 지나도 조건이 유지되면 억제
+        assertThat(machine.evaluate(symbolId, true, 70 * SECOND)).isFalse();
+        assertThat(machine.stateOf("005930")).isEqualTo(State.COOLDOWN);
+
+        // 조건 해제 → 재무장 → 다음 상승 에지에서 발화
+        assertThat(machine.evaluate(symbolId, false, 71 * SECOND)).isFalse();
+        assertThat(machine.stateOf("005930")).isEqualTo(State.ARMED);
+        assertThat(machine.evaluate(symbolId, true, 72 * SECOND)).isTrue();
+
+        assertThat(machine.firedCount("005930")).isEqualTo(2);
+        assertThat(machine.suppressedCount("005930")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쿨다운이 지난 뒤 조건이 해제되면 바로 재무장한다")
+    void fired_resetAfterCooldown_arms() {
+        machine.evaluate(symbolId, true, 0);
+        machine.evaluate(symbolId, false, 61 * SECOND);
+
+        assertThat(machine.stateOf("005930")).isEqualTo(State.ARMED);
+    }
+
+    @Test
+    @DisplayName("종목별로 독립적이며 초기화 후에는 다시 발화한다")
+    void independentPerSymbolAndReset() {
+        int other = symbolRegistry.register("000660");
+        machine.evaluate(symbolId, true, 0);
+
+        assertThat(machine.evaluate(other, true, SECOND)).isTrue();
+
+        machine.reset();
+        assertThat(machine.stateOf("005930")).isEqualTo(State.IDLE);
+        assertThat(machine.evaluate(symbolId, true, 2 * SECOND)).isTrue();
+        assertThat(machine.firedCount()).isEqualTo(3);
+    }
+}
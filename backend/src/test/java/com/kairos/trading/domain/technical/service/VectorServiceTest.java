@@ -4,6 +4,7 @@ import com.kairos.trading.common.client.KiwoomClient;
 import com.kairos.trading.domain.technical.agent.VectorAiClient;
 import com.kairos.trading.domain.technical.dto.PriceTimeSeriesResponse;
 import com.kairos.trading.domain.technical.dto.MovingAverage;
+import com.kairos.trading.domain.technical.store.DailyCandleStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +32,9 @@ class VectorServiceTest {
     @Mock
     private NanoBananaCalculator nanoBananaCalculator;
 
+    @Mock
+    private DailyCandleStore candleStore;
+
     @InjectMocks
     private VectorService vectorService;
 
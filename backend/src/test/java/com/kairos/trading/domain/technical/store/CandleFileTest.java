@@ -0,0 +1,86 @@
+package com.kairos.trading.domain.technical.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandleFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("추가한 일봉을 다시 열어도 그대로 읽고, 컬럼 뷰는 복사 없이 같은 값을 보인다")
+    void appendAndReopen() throws Exception {
+        Path path = tempDir.resolve("005930.candles");
+        try (var file = CandleFile.open(path, 8)) {
+            assertThat(file.size()).isZero();
+            assertThat(file.lastDate()).isZero();
+            for (int i = 0; i < 5; i++) {
+                assertThat(file.append(20250101 + i, 100 + i, 110 + i, 90 + i, 105 + i, 1_000 + i)).isTrue();
+            }
+        }
+
+        try (var file = CandleFile.open(path, 8)) {
+            assertThat(file.size()).isEqualTo(5);
+            assertThat(file.lastDate()).isEqualTo(20250105);
+            assertThat(file.high(2)).isEqualTo(112);
+            assertThat(file.low(2)).isEqualTo(92);
+            assertThat(file.open(4)).isEqualTo(104);
+            assertThat(file.volume(4)).isEqualTo(1_004);
+
+            var closes = file.closes();
+            assertThat(closes.isReadOnly()).isTrue();
+            assertThat(closes.limit()).isEqualTo(5);
+            assertThat(closes.get(0)).isEqualTo(105);
+            assertThat(closes.get(4)).isEqualTo(109);
+            assertThat(file.dates().get(4)).isEqualTo(20250105);
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 일자 이하는 무시한다")
+    void append_rejectsOlderDates() throws Exception {
+        try (var file = CandleFile.open(tempDir.resolve("000660.candles"), 8)) {
+            file.append(20250102, 1, 1, 1, 1, 1);
+
+            assertThat(file.append(20250102, 2, 2, 2, 2, 2)).isFalse();
+            assertThat(file.append(20250101, 3, 3, 3, 3, 3)).isFalse();
+            assertThat(file.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("용량이 차면 같은 파일을 두 배로 늘리고 모든 컬럼의 기존 일봉을 유지한다")
+    void append_growsCapacity() throws Exception {
+        Path path = tempDir.resolve("035720.candles");
+        try (var file = CandleFile.open(path, 4)) {
+            for (int i = 0; i < 20; i++) {
+                file.append(20250101 + i, i, i + 10, i - 10, i + 1, i * 100L);
+            }
+            assertThat(file.size()).isEqualTo(20);
+            for (int i = 0; i < 20; i++) {
+                assertThat(file.date(i)).isEqualTo(20250101 + i);
+                assertThat(file.open(i)).isEqualTo(i);
+                assertThat(file.high(i)).isEqualTo(i + 10);
+                assertThat(file.low(i)).isEqualTo(i - 10);
+                assertThat(file.close(i)).isEqualTo(i + 1);
+                assertThat(file.volume(i)).isEqualTo(i * 100L);
+            }
+            assertThat(file.closes().limit()).isEqualTo(20);
+            assertThat(file.dates().limit()).isEqualTo(20);
+            // 4 → 8 → 16 → 32
+            assertThat(path).hasSize(CandleFile.HEADER_SIZE + 32L * (Integer.BYTES + 5 * Long.BYTES));
+        }
+        try (var file = CandleFile.open(path, 4)) {
+            assertThat(file.size()).isEqualTo(20);
+            assertThat(file.closes().get(10)).isEqualTo(11);
+            assertThat(file.dates().get(19)).isEqualTo(20250120);
+        }
+        assertThat(path.resolveSibling("035720.candles.tmp")).doesNotExist();
+    }
+}
@@ -0,0 +1,107 @@
+package com.kairos.trading.domain.technical.store;
+
+import com.kairos.trading.common.client.KiwoomClient;
+import com.kairos.trading.domain.technical.dto.DailyChartResponse;
+import com.kairos.trading.domain.technical.dto.DailyChartResponse.DailyCandle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DailyCandleSyncServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 9); // 월요일
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private KiwoomClient kiwoomClient;
+
+    private DailyCandleStore store;
+    private DailyCandleSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        store = new DailyCandleStore(tempDir.toString(), 16);
+        syncService = new DailyCandleSyncService(kiwoomClient, store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("빠진 일자만 오래된 순서로 추가하고 오늘(미완성) 봉은 제외한다")
+    void sync_appendsOnlyMissingDays() throws Exception {
+        store.append("005930", List.of(candle("20260302", 100), candle("20260303", 101)), 20260309);
+        given(kiwoomClient.getDailyChart(eq("005930"), eq("20260309"), anyBoolean(), anyString()))
+                .willReturn(chart("005930", "20260309", "20260306", "20260305", "20260304", "20260303", "20260302"));
+
+        var report = syncService.sync(List.of("005930"), TODAY, "token");
+
+        assertThat(report.fetched()).isEqualTo(1);
+        assertThat(report.appended()).isEqualTo(3);
+        var file = store.get("005930");
+        assertThat(file.size()).isEqualTo(5);
+        assertThat(file.lastDate()).isEqualTo(20260306);
+    }
+
+    @Test
+    @DisplayName("직전 거래일까지 저장된 종목은 API를 호출하지 않는다")
+    void sync_skipsUpToDateSymbols() throws Exception {
+        store.append("000660", List.of(candle("20260306", 200)), 20260309); // 금요일
+
+        var report = syncService.sync(List.of("000660"), TODAY, "token");
+
+        assertThat(report.fetched()).isZero();
+        verify(kiwoomClient, never()).getDailyChart(anyString(), anyString(), anyBoolean(), anyString());
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 파일을 다시 매핑해 전체 이력을 조회한다")
+    void restart_reopensHistory() throws Exception {
+        store.append("035720", List.of(candle("20260305", 300), candle("20260306", 301)), 20260309);
+        store.close();
+
+        var reopened = new DailyCandleStore(tempDir.toString(), 16);
+        try {
+            assertThat(reopened.lastDate("035720")).isEqualTo(20260306);
+            assertThat(reopened.get("035720").closes().get(1)).isEqualTo(301);
+            assertThat(reopened.get("999999")).isNull();
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private static DailyChartResponse chart(String stockCode, String... dates) {
+        List<DailyCandle> candles = new ArrayList<>();
+        for (String date : dates) {
+            candles.add(candle(date, 100 + Integer.parseInt(date) % 100));
+        }
+        return new DailyChartResponse(stockCode, candles);
+    }
+
+    private static DailyCandle candle(String date, long close) {
+        return new DailyCandle(date, close, close, close + 5, close - 5, 1_000, 0, 0, 0, "3");
+    }
+}
@@ -4,13 +4,18 @@ import com.kairos.trading.common.ai.AgentResponse;
 
 import com.kairos.trading.common.event.TickDataEvent;
 import com.kairos.trading.common.event.TradingEventListener;
+import com.kairos.trading.common.marketdata.MarketDataDispatcher;
+import com.kairos.trading.common.marketdata.MarketDataJournal;
+import com.kairos.trading.common.marketdata.MarketReplayService;
 import com.kairos.trading.domain.execution.service.TradeExecutionService;
 import com.kairos.trading.domain.flow.agent.SonarAgent;
 import com.kairos.trading.domain.fundamental.agent.AxiomAgent;
 import com.kairos.trading.domain.news.agent.SentinelAgent;
+import com.kairos.trading.domain.news.service.RecentNewsBuffer;
 import com.kairos.trading.domain.sentiment.agent.ResonanceAgent;
 import com.kairos.trading.domain.strategy.agent.NexusAiClient;
 import com.kairos.trading.domain.strategy.dto.StrategyDecisionDto;
+import com.kairos.trading.domain.strategy.service.AnalystRuleTier;
 import com.kairos.trading.domain.strategy.service.NexusService;
 import com.kairos.trading.domain.technical.agent.VectorAiClient;
 import com.kairos.trading.domain.technical.dto.TechnicalAnalysisDto;
@@ -18,20 +23,25 @@ import com.kairos.trading.domain.technical.service.VectorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -43,7 +53,19 @@ import static org.mockito.Mockito.verify;
 class MarketSimulatorTest {
 
         @Autowired
-        private ApplicationEventPublisher eventPublisher;
+        private MarketDataDispatcher marketDataDispatcher;
+
+        @Autowired
+        private MarketReplayService marketReplayService;
+
+        @Autowired
+        private RecentNewsBuffer recentNews;
+
+        @Autowired
+        private AnalystRuleTier ruleTier;
+
+        @TempDir
+        Path tempDir;
 
         @MockitoSpyBean
         private TradingEventListener tradingEventListener;
@@ -131,9 +153,9 @@ class MarketSimulatorTest {
                                 2.0 // change rate
                 );
 
-                eventPublisher.publishEvent(tickEvent);
+                marketDataDispatcher.publish(tickEvent);
 
-                // 3. Verification: Wait for Async processing
+                // 3. Verification: Wait for shard / Async processing
                 await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
                         // Debug: Check if VectorService was called (Logic Trigger)
                         verify(vectorService).detectNanoBananaPattern(
@@ -149,4 +171,59 @@ class MarketSimulatorTest {
                 // 4. Final Confirmation
                 verify(executionService).processNextOrder();
         }
+
+        @Test
+        @DisplayName("[Scenario B] Session Replay: 캡처 세션 재생 -> 거래량 폭발 구간에서 주문 실행")
+        void scenario_SessionReplay() throws Exception {
+                String stockCode = "000660";
+                String stockName = "SK하이닉스";
+                tradingEventListener.updateMovingAverageCache(stockCode, stockName, 10100, 10050, 10000, 100000);
+
+                // 1. 세션 기록: 평이한 체결 200건 (거래량 평균 이하) → 거래량 폭발 체결 1건
+                Path session = tempDir.resolve("session.journal");
+                try (var journal = MarketDataJournal.create(session, 1024 * 1024)) {
+                        long accVolume = 0;
+                        for (int i = 0; i < 200; i++) {
+                                accVolume += 100;
+                                journal.append(i * 1_000_000L, "00", tick(stockCode, 10_100 + i % 5, accVolume));
+                        }
+                        journal.append(200 * 1_000_000L, "00", tick(stockCode, 10_200, 300_000));
+                }
+
+                // 2. Action: 실시간과 같은 경로로 최대 속도 재생
+                var report = marketReplayService.replay(session, MarketReplayService.MAX_SPEED);
+
+                // 3. Verification
+                assertThat(report.published()).isEqualTo(201);
+                assertThat(report.service().count()).isGreaterThanOrEqualTo(201);
+                await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+                        verify(nexusService).decide(any(), any(), eq(stockCode), eq(stockName));
+                        verify(executionService).submitOrder(argThat(order -> "BUY".equals(order.action())));
+                });
+        }
+
+        @Test
+        @DisplayName("[Scenario C] Kill Switch 뉴스: RSS 악재 뉴스가 있는 종목 급등 -> 규칙 계층 ALERT, 주문 없음")
+        void scenario_KillSwitchNews() {
+                String stockCode = "035720";
+                String stockName = "카카오";
+                tradingEventListener.updateMovingAverageCache(stockCode, stockName, 10100, 10050, 10000, 100000);
+                recentNews.add("[" + stockName + "] " + stockCode + " 전 대표 횡령 혐의 기소");
+                long fastBefore = ruleTier.getStats().fastDecisions();
+
+                marketDataDispatcher.publish(new TickDataEvent(this, stockCode, 10200, 1000, 300000, 2.0));
+
+                // 리스너가 RSS 버퍼의 뉴스를 규칙 계층에 넘겨 Nexus 없이 ALERT로 끝나야 함
+                await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                                assertThat(ruleTier.getStats().fastDecisions()).isGreaterThan(fastBefore));
+                verify(nexusService, never()).decide(any(), any(), eq(stockCode), any());
+                verify(sentinelAgent, never()).analyze(eq(stockCode), any(), any());
+                verify(executionService, never()).submitOrder(argThat(order -> stockCode.equals(order.stockCode())));
+        }
+
+        private static ByteBuffer tick(String stockCode, long price, long accVolume) {
+                String json = "{\"tr_cd\":\"00\",\"stk_cd\":\"" + stockCode + "\",\"cur_prc\":\"" + price
+                                + "\",\"trd_vol\":\"100\",\"acc_vol\":\"" + accVolume + "\",\"chg_rate\":\"+1.00\"}";
+                return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+        }
 }
@@ -0,0 +1,50 @@
+package com.kairos.trading.domain.technical.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(jdk.incubator.vector) SIMD 구현.
+ *
+ * main 소스셋이 incubator 모듈 없이 컴파일되도록 vector 소스셋에 두고,
+ * 런타임에 모듈이 있을 때만 {@link NanoBananaScreener}가 이름으로 로드한다.
+ */
+final class VectorizedNanoBananaKernel implements NanoBananaKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void score(NanoBananaColumns c, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            var ma5 = DoubleVector.fromArray(SPECIES, c.ma5, i);
+            var ma20 = DoubleVector.fromArray(SPECIES, c.ma20, i);
+            var ma60 = DoubleVector.fromArray(SPECIES, c.ma60, i);
+            var todayVolume = DoubleVector.fromArray(SPECIES, c.todayVolume, i);
+            var avgVolume = DoubleVector.fromArray(SPECIES, c.avgVolume, i);
+
+            var avg = ma5.add(ma20).add(ma60).div(3.0);
+            var deviation = ma5.sub(avg).abs()
+                    .add(ma20.sub(avg).abs())
+                    .add(ma60.sub(avg).abs())
+                    .div(avg.mul(3.0));
+            var convergence = deviation.mul(-20.0).add(1.0).max(0.0)
+                    .blend(0.0, ma60.compare(VectorOperators.LE, 0.0));
+            var ratio = todayVolume.div(avgVolume)
+                    .blend(0.0, avgVolume.compare(VectorOperators.LE, 0.0));
+
+            VectorMask<Double> pass = ma5.compare(VectorOperators.GT, ma20)
+                    .and(ma20.compare(VectorOperators.GT, ma60))
+                    .and(convergence.compare(VectorOperators.GE, MIN_CONVERGENCE))
+                    .and(ratio.compare(VectorOperators.GE, MIN_VOLUME_RATIO));
+
+            convergence.intoArray(c.convergence, i);
+            ratio.intoArray(c.volumeRatio, i);
+            convergence.mul(ratio).blend(0.0, pass.not()).intoArray(c.score, i);
+        }
+        SCALAR.score(c, i, to);
+    }
+}